@@ -0,0 +1,103 @@
+package com.early_express.payment_service.benchmark;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedTopicMapping;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventJsonMessageConverter;
+import com.early_express.payment_service.global.infrastructure.event.codec.TopicEventDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.converter.MessagingMessageConverter;
+import org.springframework.kafka.support.converter.StringJsonMessageConverter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신 경로 refund-requested 값 → RefundRequestedEvent 변환 비교 (Consumer 역직렬화 + 리스너 변환)
+ * - stringConverter: StringDeserializer(UTF-8 디코딩) → StringJsonMessageConverter (이전 기본 경로)
+ * - bytesConverter: ByteArrayDeserializer(fetch 버퍼 복사) → EventJsonMessageConverter
+ * - topicDeserializer: TopicEventDeserializer가 fetch 버퍼 구간에서 바로 파싱 → 변환기는 그대로 전달
+ * fetch 버퍼는 여러 레코드가 이어진 배열의 일부 구간(slice)으로 재현
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ConsumerDeserializationBenchmark
+ * (Throughput = 메시지/초, gc 프로파일러의 gc.alloc.rate.norm = 메시지당 할당 바이트)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConsumerDeserializationBenchmark {
+
+    private static final String TOPIC = "refund-requested";
+
+    private static final String PAYLOAD = """
+            {"eventId":"7b0e1c55-0c4f-4a39-9a57-0f8f6f4b8d21","eventType":"REFUND_REQUESTED",\
+            "timestamp":"2025-01-01T12:00:00","version":"1.0","publisher":"order-service",\
+            "paymentId":"PAY-20250101-0001","orderId":"ORDER-20250101-0001","refundReason":"고객 요청으로 인한 환불",\
+            "refundAmount":15000,"requestedAt":"2025-01-01T12:00:00"}""";
+
+    private ByteBuffer fetchBuffer;
+    private RecordHeaders headers;
+
+    private StringDeserializer stringDeserializer;
+    private StringJsonMessageConverter stringConverter;
+    private ByteArrayDeserializer byteArrayDeserializer;
+    private EventJsonMessageConverter eventConverter;
+    private TopicEventDeserializer topicDeserializer;
+
+    @Setup
+    public void setUp() {
+        byte[] value = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        byte[] fetched = new byte[value.length + 128];
+        System.arraycopy(value, 0, fetched, 64, value.length);
+        fetchBuffer = ByteBuffer.wrap(fetched, 64, value.length).slice();
+        headers = new RecordHeaders();
+
+        ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+        stringDeserializer = new StringDeserializer();
+        stringConverter = new StringJsonMessageConverter(objectMapper);
+        byteArrayDeserializer = new ByteArrayDeserializer();
+        eventConverter = new EventJsonMessageConverter(objectMapper, null);
+        topicDeserializer = new TopicEventDeserializer(objectMapper, null,
+                List.of(new RefundRequestedTopicMapping(TOPIC)));
+    }
+
+    @Benchmark
+    public Object stringConverter() {
+        return convert(stringConverter, stringDeserializer.deserialize(TOPIC, headers, fetchBuffer));
+    }
+
+    @Benchmark
+    public Object bytesConverter() {
+        return convert(eventConverter, byteArrayDeserializer.deserialize(TOPIC, headers, fetchBuffer));
+    }
+
+    @Benchmark
+    public Object topicDeserializer() {
+        return convert(eventConverter, topicDeserializer.deserialize(TOPIC, headers, fetchBuffer));
+    }
+
+    /**
+     * 리스너 어댑터가 @Payload 타입으로 변환하는 단계와 동일 (헤더 매핑 포함)
+     */
+    private Object convert(MessagingMessageConverter converter, Object value) {
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(TOPIC, 0, 0L, 0L,
+                TimestampType.CREATE_TIME, 0, fetchBuffer.remaining(), "ORDER-20250101-0001", value, headers,
+                Optional.empty());
+        return converter.toMessage(record, null, null, RefundRequestedEvent.class).getPayload();
+    }
+}
@@ -0,0 +1,124 @@
+package com.early_express.payment_service.benchmark;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEventAvroMapping;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundFailedEventAvroMapping;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEventAvroMapping;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventSerializer;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventJsonSerializer;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventPayloadReader;
+import com.early_express.payment_service.global.infrastructure.event.codec.FileEventSchemaRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 이벤트 JSON vs Avro 인코딩 비교
+ * - serialize*: 발행 시 직렬화 (헤더 포함, KafkaTemplate에서 호출되는 경로와 동일)
+ * - read*: 수신 시 byte[] → 이벤트 (EventPayloadReader, 헤더로 형식 판별)
+ * - 메시지당 전송 바이트(값 + 헤더)는 시작 시 출력
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=EventEncodingBenchmark (gc 프로파일러로 메시지당 할당량 함께 출력)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventEncodingBenchmark {
+
+    private static final String TOPIC = "payment-refunded";
+
+    private PaymentRefundedEvent event;
+    private EventJsonSerializer jsonSerializer;
+    private AvroEventSerializer avroSerializer;
+    private EventPayloadReader<PaymentRefundedEvent> reader;
+
+    private ConsumerRecord<String, byte[]> jsonRecord;
+    private ConsumerRecord<String, byte[]> avroRecord;
+
+    @Setup
+    public void setUp() throws Exception {
+        FileEventSchemaRegistry registry = new FileEventSchemaRegistry(Files.createTempDirectory("schema-registry"));
+        AvroEventCodec codec = new AvroEventCodec(registry, List.of(
+                new PaymentRefundedEventAvroMapping(),
+                new PaymentRefundFailedEventAvroMapping(),
+                new RefundRequestedEventAvroMapping()));
+
+        event = PaymentRefundedEvent.builder()
+                .eventId("7b0e1c55-0c4f-4a39-9a57-0f8f6f4b8d21")
+                .eventType("PAYMENT_REFUNDED")
+                .timestamp(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .version("1.0")
+                .publisher("payment-service")
+                .paymentId("PAY-20250101-0001")
+                .orderId("ORDER-20250101-0001")
+                .refundAmount(new BigDecimal("15000"))
+                .totalRefundedAmount(new BigDecimal("15000"))
+                .refundReason("고객 요청")
+                .pgRefundId("9C62B18EEF0DE3EB7F4422EB6D14BC6E")
+                .fullRefund(true)
+                .refundedAt(LocalDateTime.of(2025, 1, 1, 12, 0, 5))
+                .build();
+
+        jsonSerializer = new EventJsonSerializer();
+        avroSerializer = new AvroEventSerializer(codec);
+        reader = EventPayloadReader.of(JacksonUtils.enhancedObjectMapper(), codec, PaymentRefundedEvent.class);
+
+        RecordHeaders jsonHeaders = new RecordHeaders();
+        jsonRecord = record(jsonSerializer.serialize(TOPIC, jsonHeaders, event), jsonHeaders);
+        RecordHeaders avroHeaders = new RecordHeaders();
+        avroRecord = record(avroSerializer.serialize(TOPIC, avroHeaders, event), avroHeaders);
+
+        System.out.printf("%n메시지당 전송 바이트 (값 + 헤더) - json: %d, avro: %d%n",
+                wireBytes(jsonRecord), wireBytes(avroRecord));
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] serializeAvro() {
+        return avroSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public PaymentRefundedEvent readJson() throws Exception {
+        return reader.read(jsonRecord);
+    }
+
+    @Benchmark
+    public PaymentRefundedEvent readAvro() throws Exception {
+        return reader.read(avroRecord);
+    }
+
+    private static long wireBytes(ConsumerRecord<String, byte[]> record) {
+        long size = record.value().length;
+        for (Header header : record.headers()) {
+            size += header.key().length() + header.value().length;
+        }
+        return size;
+    }
+
+    private static ConsumerRecord<String, byte[]> record(byte[] value, RecordHeaders headers) {
+        return new ConsumerRecord<>(TOPIC, 0, 0L, 0L, TimestampType.CREATE_TIME, 0, value.length,
+                "ORDER-20250101-0001", value, headers, Optional.empty());
+    }
+}
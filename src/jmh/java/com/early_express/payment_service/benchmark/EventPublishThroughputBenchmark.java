@@ -0,0 +1,143 @@
+package com.early_express.payment_service.benchmark;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher.BoundedKafkaEventSender;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher.PaymentEventOutboxAppender;
+import com.early_express.payment_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventJsonSerializer;
+import com.early_express.payment_service.global.infrastructure.event.header.EventHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 이벤트 발행 처리량 비교 (Embedded Kafka, 브로커 1대 / 파티션 3개)
+ * - producer=baseline: 이전 설정 (linger.ms=0, 압축 없음)
+ * - producer=batched: KafkaConfig 기본값 (linger.ms=5, batch.size=64KB, zstd)
+ * - sender=unbounded: 이전 PaymentEventPublisherImpl처럼 send 후 결과를 기다리지 않음 (전송 중 이벤트 수 제한 없음)
+ * - sender=bounded: BoundedKafkaEventSender (max-in-flight 한도 초과 시 호출 스레드 대기)
+ * - 호출 스레드 4개가 1,000건씩 발행 후 flush로 모든 ack를 기다린 시간 기준 (이벤트/초)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=EventPublishThroughputBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class EventPublishThroughputBenchmark {
+
+    private static final String TOPIC = "bench-payment-refunded";
+    private static final int EVENTS_PER_INVOCATION = 1_000;
+    private static final int MAX_IN_FLIGHT = 1_000;
+
+    @Param({"baseline", "batched"})
+    private String producer;
+
+    @Param({"unbounded", "bounded"})
+    private String sender;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private DefaultKafkaProducerFactory<String, Object> producerFactory;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private BoundedKafkaEventSender boundedSender;
+    private final AtomicLong parked = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        if ("batched".equals(producer)) {
+            props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+            props.put(ProducerConfig.BATCH_SIZE_CONFIG, 65_536);
+            props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd");
+        } else {
+            props.put(ProducerConfig.LINGER_MS_CONFIG, 0);
+            props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "none");
+        }
+        producerFactory = new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new EventJsonSerializer());
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+        // Outbox 보관은 벤치마크에서 발생하면 안 됨 (발생 수만 출력)
+        PaymentEventOutboxAppender countingAppender = new PaymentEventOutboxAppender(null) {
+            @Override
+            public void append(String topic, String aggregateId, String key, BaseEvent event) {
+                parked.incrementAndGet();
+            }
+        };
+        boundedSender = new BoundedKafkaEventSender(kafkaTemplate, countingAppender, new SimpleMeterRegistry(),
+                MAX_IN_FLIGHT, TimeUnit.SECONDS.toMillis(30), 3, 100);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        boundedSender.shutdown();
+        producerFactory.destroy();
+        broker.destroy();
+        System.out.printf("%nOutbox 보관 이벤트 수: %d%n", parked.get());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+    public void publish() {
+        for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+            PaymentRefundedEvent event = event(i);
+            if ("bounded".equals(sender)) {
+                boundedSender.send(TOPIC, event.getPaymentId(), event.getOrderId(), event);
+            } else {
+                ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC, event.getOrderId(), event);
+                EventHeaders.of(event).writeTo(record.headers());
+                kafkaTemplate.send(record);
+            }
+        }
+        kafkaTemplate.flush();
+    }
+
+    private static PaymentRefundedEvent event(int sequence) {
+        String orderId = "ORDER-20250101-" + (sequence % 64);
+        return PaymentRefundedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("PAYMENT_REFUNDED")
+                .timestamp(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .version("1.0")
+                .publisher("payment-service")
+                .paymentId("PAY-20250101-" + sequence)
+                .orderId(orderId)
+                .refundAmount(new BigDecimal("15000"))
+                .totalRefundedAmount(new BigDecimal("15000"))
+                .refundReason("고객 요청")
+                .pgRefundId("9C62B18EEF0DE3EB7F4422EB6D14BC6E")
+                .fullRefund(true)
+                .refundedAt(LocalDateTime.of(2025, 1, 1, 12, 0, 5))
+                .build();
+    }
+}
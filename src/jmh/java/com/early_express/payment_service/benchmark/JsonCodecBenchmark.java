@@ -0,0 +1,110 @@
+package com.early_express.payment_service.benchmark;
+
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossPaymentVerifyResponse;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEvent;
+import com.early_express.payment_service.global.common.utils.JsonCodec;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 범용 ObjectMapper 경로 vs 타입 고정 JsonCodec 비교
+ * - toss*: Toss 결제 조회 응답 파싱 (기존: 응답 문자열 변환 후 readValue, 개선: 바이트에서 미리 만든 ObjectReader)
+ * - event*: Kafka 이벤트 직렬화 (기존: JsonSerializer와 같은 writeValueAsBytes, 개선: 미리 만든 ObjectWriter + 버퍼 재사용)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JsonCodecBenchmark (gc 프로파일러로 메시지당 할당량 함께 출력)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonCodecBenchmark {
+
+    // 실제 Toss 응답처럼 DTO에 없는 필드(card, receipt, easyPay 등)를 다수 포함
+    private static final String TOSS_RESPONSE = """
+            {"mId":"tosspayments","lastTransactionKey":"9C62B18EEF0DE3EB7F4422EB6D14BC6E",
+             "paymentKey":"5EnNZRJGvaBX7zk2yd8ydw26XvwXkLrx9POLqKQjmAw4b0e1","orderId":"ORDER-20250101-0001",
+             "orderName":"물류 배송비","taxExemptionAmount":0,"status":"DONE",
+             "requestedAt":"2025-01-01T12:00:00","approvedAt":"2025-01-01T12:00:05",
+             "useEscrow":false,"cultureExpense":false,
+             "card":{"issuerCode":"71","acquirerCode":"71","number":"12345678****000*","installmentPlanMonths":0,
+                     "isInterestFree":false,"interestPayer":null,"approveNo":"00000000","useCardPoint":false,
+                     "cardType":"신용","ownerType":"개인","acquireStatus":"READY","amount":15000},
+             "virtualAccount":null,"transfer":null,"mobilePhone":null,"giftCertificate":null,
+             "cashReceipt":null,"cashReceipts":null,"discount":null,"cancels":null,"secret":null,
+             "type":"NORMAL","easyPay":null,"country":"KR","failure":null,"isPartialCancelable":true,
+             "receipt":{"url":"https://dashboard.tosspayments.com/receipt/redirection?transactionId=tviva"},
+             "checkout":{"url":"https://api.tosspayments.com/v1/payments/5EnNZRJG/checkout"},
+             "currency":"KRW","totalAmount":15000,"balanceAmount":15000,"suppliedAmount":13636,
+             "vat":1364,"taxFreeAmount":0,"method":"카드","version":"2022-11-16",
+             "transactionKey":"9C62B18EEF0DE3EB7F4422EB6D14BC6E"}
+            """;
+
+    private byte[] tossResponseBytes;
+    private ObjectMapper tossObjectMapper;
+    private JsonCodec<TossPaymentVerifyResponse> tossCodec;
+
+    private PaymentRefundedEvent event;
+    private ObjectMapper eventObjectMapper;
+    private JsonCodec<PaymentRefundedEvent> eventCodec;
+
+    @Setup
+    public void setUp() {
+        tossResponseBytes = TOSS_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        tossObjectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        tossCodec = JsonCodec.of(tossObjectMapper, TossPaymentVerifyResponse.class);
+
+        event = PaymentRefundedEvent.builder()
+                .eventId("7b0e1c55-0c4f-4a39-9a57-0f8f6f4b8d21")
+                .eventType("PAYMENT_REFUNDED")
+                .timestamp(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .version("1.0")
+                .publisher("payment-service")
+                .paymentId("PAY-20250101-0001")
+                .orderId("ORDER-20250101-0001")
+                .refundAmount(new BigDecimal("15000"))
+                .totalRefundedAmount(new BigDecimal("15000"))
+                .refundReason("고객 요청")
+                .pgRefundId("9C62B18EEF0DE3EB7F4422EB6D14BC6E")
+                .fullRefund(true)
+                .refundedAt(LocalDateTime.of(2025, 1, 1, 12, 0, 5))
+                .build();
+        eventObjectMapper = JacksonUtils.enhancedObjectMapper();
+        eventCodec = JsonCodec.of(eventObjectMapper, PaymentRefundedEvent.class);
+    }
+
+    @Benchmark
+    public TossPaymentVerifyResponse tossGenericFromString() throws Exception {
+        String body = new String(tossResponseBytes, StandardCharsets.UTF_8);
+        return tossObjectMapper.readValue(body, TossPaymentVerifyResponse.class);
+    }
+
+    @Benchmark
+    public TossPaymentVerifyResponse tossPrecompiledFromBytes() throws Exception {
+        return tossCodec.read(tossResponseBytes);
+    }
+
+    @Benchmark
+    public byte[] eventGenericWrite() throws Exception {
+        return eventObjectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] eventPrecompiledWrite() throws Exception {
+        return eventCodec.write(event);
+    }
+}
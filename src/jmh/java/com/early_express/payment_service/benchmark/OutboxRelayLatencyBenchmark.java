@@ -0,0 +1,217 @@
+package com.early_express.payment_service.benchmark;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 커밋 → Kafka 발행 완료(ack)까지의 지연 시간 비교
+ * - notify: 커밋 시 pg_notify, Relay는 LISTEN 연결에서 알림을 기다렸다가 바로 발행 (PaymentEventOutboxNotificationListener 방식)
+ * - poll-*: Relay가 고정 주기로 발행 대기 이벤트를 조회 (기존 주기 발행 방식)
+ * - 측정 값은 커밋 직후부터 해당 이벤트의 Kafka ack까지 (SampleTime으로 p50/p99 함께 출력)
+ *
+ * 실행: BENCH_PG_URL=jdbc:postgresql://localhost:5432/payment BENCH_PG_USER=postgres BENCH_PG_PASSWORD=postgres
+ *       BENCH_KAFKA_BOOTSTRAP=localhost:9092 ./gradlew jmh -Pjmh.includes=OutboxRelayLatencyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutboxRelayLatencyBenchmark {
+
+    private static final String TABLE = "bench_outbox_latency";
+    private static final String CHANNEL = "bench_outbox_latency";
+    private static final String TOPIC = "bench-outbox-latency";
+    private static final int BATCH_SIZE = 200;
+
+    @Param({"notify", "poll-500", "poll-5000"})
+    private String wakeUp;
+
+    private final Map<Long, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    private Connection writer;
+    private Connection relayConnection;
+    private KafkaProducer<String, byte[]> producer;
+    private Thread relayThread;
+    private volatile boolean running;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        writer = connect();
+        try (Statement statement = writer.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + TABLE
+                    + " (id BIGSERIAL PRIMARY KEY, payload TEXT NOT NULL, sent BOOLEAN NOT NULL DEFAULT FALSE)");
+            statement.execute("TRUNCATE " + TABLE);
+        }
+        writer.setAutoCommit(false);
+
+        relayConnection = connect();
+        relayConnection.setAutoCommit(false);
+
+        Properties props = new Properties();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, env("BENCH_KAFKA_BOOTSTRAP"));
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        producer = new KafkaProducer<>(props);
+
+        running = true;
+        relayThread = new Thread(this::relayLoop, "bench-outbox-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        running = false;
+        relayThread.interrupt();
+        relayThread.join(TimeUnit.SECONDS.toMillis(10));
+        producer.close();
+        relayConnection.close();
+        writer.close();
+    }
+
+    @Benchmark
+    public void commitToKafka() throws Exception {
+        long id;
+        try (PreparedStatement insert = writer.prepareStatement(
+                "INSERT INTO " + TABLE + " (payload) VALUES (?) RETURNING id")) {
+            insert.setString(1, "{\"orderId\":\"ORDER-BENCH\",\"refundAmount\":10000}");
+            try (ResultSet rs = insert.executeQuery()) {
+                rs.next();
+                id = rs.getLong(1);
+            }
+        }
+        if (isNotify()) {
+            try (PreparedStatement notify = writer.prepareStatement("SELECT pg_notify(?, ?)")) {
+                notify.setString(1, CHANNEL);
+                notify.setString(2, "0");
+                notify.execute();
+            }
+        }
+
+        CompletableFuture<Void> published = new CompletableFuture<>();
+        pending.put(id, published);
+        writer.commit();
+
+        published.get(30, TimeUnit.SECONDS);
+    }
+
+    private void relayLoop() {
+        try {
+            PGConnection pgConnection = relayConnection.unwrap(PGConnection.class);
+            if (isNotify()) {
+                try (Statement statement = relayConnection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                relayConnection.commit();
+            }
+            long pollIntervalMs = isNotify() ? 0 : Long.parseLong(wakeUp.substring("poll-".length()));
+
+            while (running) {
+                if (isNotify()) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications == null) {
+                        continue;
+                    }
+                } else {
+                    Thread.sleep(pollIntervalMs);
+                }
+                relayPending();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            if (running) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * PaymentEventOutboxRelay와 같은 순서: 잠금 조회 → 전송 → ack 대기 → 발행 완료 표시 → 커밋
+     */
+    private void relayPending() throws Exception {
+        int relayed;
+        do {
+            List<Long> ids = new ArrayList<>();
+            List<Future<?>> sends = new ArrayList<>();
+            try (PreparedStatement select = relayConnection.prepareStatement(
+                    "SELECT id, payload FROM " + TABLE + " WHERE sent = FALSE ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED")) {
+                select.setInt(1, BATCH_SIZE);
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        ids.add(rs.getLong(1));
+                        sends.add(producer.send(new ProducerRecord<>(
+                                TOPIC, "ORDER-BENCH", rs.getString(2).getBytes(StandardCharsets.UTF_8))));
+                    }
+                }
+            }
+            for (Future<?> send : sends) {
+                send.get(10, TimeUnit.SECONDS);
+            }
+            if (!ids.isEmpty()) {
+                try (PreparedStatement update = relayConnection.prepareStatement(
+                        "UPDATE " + TABLE + " SET sent = TRUE WHERE id = ANY (?)")) {
+                    update.setArray(1, relayConnection.createArrayOf("bigint", ids.toArray()));
+                    update.executeUpdate();
+                }
+            }
+            relayConnection.commit();
+
+            for (Long id : ids) {
+                CompletableFuture<Void> published = pending.remove(id);
+                if (published != null) {
+                    published.complete(null);
+                }
+            }
+            relayed = ids.size();
+        } while (relayed == BATCH_SIZE);
+    }
+
+    private boolean isNotify() {
+        return "notify".equals(wakeUp);
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                env("BENCH_PG_URL"), env("BENCH_PG_USER"), env("BENCH_PG_PASSWORD"));
+    }
+
+    private static String env(String name) {
+        String value = System.getenv(name);
+        if (value == null) {
+            throw new IllegalStateException(name + " 환경 변수가 필요합니다.");
+        }
+        return value;
+    }
+}
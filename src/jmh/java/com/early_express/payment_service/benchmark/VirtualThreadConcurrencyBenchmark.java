@@ -0,0 +1,123 @@
+package com.early_express.payment_service.benchmark;
+
+import com.early_express.payment_service.global.common.utils.WorkerThreads;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 같은 메모리에서 플랫폼 스레드와 가상 스레드의 동시 처리량 비교
+ * - 작업 1건 = 결제 요청 1건의 블로킹 구간 (DB/PG 왕복을 IO_MS 대기로 대체)
+ * - platform-200: Tomcat 기본 max-threads와 같은 크기의 플랫폼 스레드 풀 (WorkerThreads.newFixedPool, virtual=false)
+ * - virtual: 요청마다 가상 스레드 (spring.threads.virtual.enabled=true 에서의 Tomcat/리스너 실행 방식)
+ * - virtual-pinned: 가상 스레드지만 대기를 synchronized 안에서 수행 → 캐리어 스레드 수만큼만 동시에 대기 (pinning 영향)
+ * - 모든 모드를 같은 힙/스택 크기(-Xmx256m -Xss1m)로 실행
+ * - 결과: 버스트 1회(burst건) 처리 시간과 peakInFlight(동시에 대기 중이던 최대 작업 수), gc 프로파일러로 할당량 함께 확인
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=VirtualThreadConcurrencyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms256m", "-Xmx256m", "-Xss1m"})
+public class VirtualThreadConcurrencyBenchmark {
+
+    private static final int IO_MS = 50;
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform-200", "virtual", "virtual-pinned"})
+    private String mode;
+
+    @Param({"2000", "10000"})
+    private int burst;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "platform-200".equals(mode)
+                ? WorkerThreads.newFixedPool("bench-platform-", PLATFORM_THREADS, false)
+                : Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bench-virtual-", 1).factory());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업별 측정 값 (iteration마다 초기화)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Concurrency {
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+
+        public int peakInFlight;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            inFlight.set(0);
+            peak.set(0);
+            peakInFlight = 0;
+        }
+    }
+
+    @Benchmark
+    public void burst(Concurrency concurrency) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(burst);
+        boolean pinned = "virtual-pinned".equals(mode);
+
+        for (int i = 0; i < burst; i++) {
+            // 작업마다 다른 모니터 → 경합 없이 pinning만 발생 (작업에 넘겨 lock elision 방지)
+            Object monitor = new Object();
+            executor.execute(() -> {
+                concurrency.peak.accumulateAndGet(concurrency.inFlight.incrementAndGet(), Math::max);
+                try {
+                    if (pinned) {
+                        blockPinned(monitor);
+                    } else {
+                        blockIo();
+                    }
+                } finally {
+                    concurrency.inFlight.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        concurrency.peakInFlight = Math.max(concurrency.peakInFlight, concurrency.peak.get());
+    }
+
+    private static void blockIo() {
+        try {
+            Thread.sleep(IO_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void blockPinned(Object monitor) {
+        synchronized (monitor) {
+            blockIo();
+        }
+    }
+}
@@ -3,21 +3,27 @@ package com.early_express.payment_service.domain.payment.application.service;
 import com.early_express.payment_service.domain.payment.domain.messaging.*;
 import com.early_express.payment_service.domain.payment.domain.exception.*;
 import com.early_express.payment_service.domain.payment.domain.model.Payment;
+import com.early_express.payment_service.domain.payment.domain.model.PaymentRefund;
 import com.early_express.payment_service.domain.payment.domain.model.vo.*;
+import com.early_express.payment_service.domain.payment.infrastructure.client.PgGatewayRegistry;
 import com.early_express.payment_service.domain.payment.domain.repository.PaymentRepository;
-import com.early_express.payment_service.domain.payment.infrastructure.client.toss.TossPaymentsClient;
-import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelRequest;
-import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelResponse;
-import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossPaymentVerifyResponse;
+import com.early_express.payment_service.domain.payment.domain.gateway.*;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import com.early_express.payment_service.global.common.deadline.DeadlineExceededException;
+import com.early_express.payment_service.global.config.DeadlineAwareJpaTransactionManager;
+import com.early_express.payment_service.global.presentation.exception.GlobalException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Payment Application Service
@@ -29,9 +35,14 @@ import java.util.UUID;
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
-    private final TossPaymentsClient tossPaymentsClient;
+    private final PgGatewayRegistry pgGatewayRegistry;
     private final PaymentEventPublisher eventPublisher;
 
+    // true면 PG 조회 없이 요청 금액으로 승인된 것으로 간주 (로컬 개발용)
+    // 부하/장애 테스트는 false로 두고 client.toss-payments.url을 TossPaymentsSimulator로 지정
+    @Value("${payment.verification.mock-pg.enabled:false}")
+    private boolean mockPgEnabled;
+
     // ===== 결제 검증 및 등록 (Order Service에서 호출) =====
 
     /**
@@ -40,8 +51,10 @@ public class PaymentService {
      * - Payment 엔티티 생성
      * - 성공 시: PaymentVerifiedEvent 발행
      * - 실패 시: PaymentVerificationFailedEvent 발행
+     * - 요청 처리 기한이 지나면 남은 단계를 진행하지 않음 (트랜잭션 롤백)
      *
      * @throws PaymentVerificationException 검증 실패 시
+     * @throws DeadlineExceededException 요청 처리 기한 초과 시
      */
     @Transactional
     public Payment verifyAndRegisterPayment(
@@ -61,6 +74,8 @@ public class PaymentService {
                 orderId, pgProvider, pgPaymentId);
 
         // 1. 중복 검증 (멱등성 보장)
+        // 다른 인스턴스의 동일 pgPaymentId 검증이 끝날 때까지 대기한 뒤 조회
+        paymentRepository.lockByPgPaymentId(pgPaymentId);
         Optional<Payment> existingPayment = paymentRepository.findByPgPaymentId(pgPaymentId);
         if (existingPayment.isPresent()) {
             log.info("이미 처리된 결제 - paymentId: {}", existingPayment.get().getIdValue());
@@ -68,25 +83,18 @@ public class PaymentService {
         }
 
         // 2. PG사 결제 조회 및 검증
-//        TossPaymentVerifyResponse tossResponse = verifyTossPayment(pgPaymentKey);
-        TossPaymentVerifyResponse tossResponse = TossPaymentVerifyResponse.builder()
-                .paymentKey(pgPaymentKey)
-                .status("DONE")
-                .totalAmount(expectedAmount)
-                .balanceAmount(expectedAmount)
-                .approvedAt(LocalDateTime.now())
-                .requestedAt(LocalDateTime.now().minusMinutes(1))
-                .transactionKey("mock-txn-" + UUID.randomUUID().toString().substring(0, 8))
-                .method("카드")
-                .build();
+        DeadlineContext.checkpoint("PG 결제 조회");
+        PgPaymentResult pgResult = mockPgEnabled
+                ? mockPgPayment(pgPaymentKey, expectedAmount)
+                : verifyPgPayment(pgProvider, pgPaymentKey);
 
         // 3. PG 정보 생성
         PgInfo pgInfo = PgInfo.of(
                 pgProvider,
                 pgPaymentId,
                 pgPaymentKey,
-                tossResponse.getTransactionKey(),
-                tossResponse.getApprovedAt()
+                pgResult.getTransactionKey(),
+                pgResult.getApprovedAt()
         );
 
         // 4. 결제자/수취인 정보 생성
@@ -96,7 +104,7 @@ public class PaymentService {
         // 5. Payment 생성
         Payment payment = Payment.create(
                 orderId,
-                tossResponse.getTotalAmount(),
+                pgResult.getTotalAmount(),
                 pgInfo,
                 payerInfo,
                 payeeInfo
@@ -113,6 +121,7 @@ public class PaymentService {
             payment.verifySuccess();
 
             // 9. 저장
+            DeadlineContext.checkpoint("결제 저장");
             Payment savedPayment = paymentRepository.save(payment);
 
             log.info("결제 검증 완료 - paymentId: {}, amount: {}",
@@ -133,41 +142,42 @@ public class PaymentService {
     }
 
     /**
-     * Toss Payments 검증
+     * PG사 결제 검증
+     * 결제를 처리한 PG사의 Gateway로 조회 (PG사별 장애 격리는 각 Gateway가 담당)
      */
-    private TossPaymentVerifyResponse verifyTossPayment(String pgPaymentKey) {
+    private PgPaymentResult verifyPgPayment(String pgProvider, String pgPaymentKey) {
         try {
-            TossPaymentVerifyResponse response = tossPaymentsClient.getPayment(pgPaymentKey);
+            PgPaymentResult result = pgGatewayRegistry.get(pgProvider).getPayment(pgPaymentKey);
 
             // 결제 상태 확인
-            if (!response.isDone()) {
+            if (!result.isDone()) {
                 throw new PaymentVerificationException(
                         PaymentErrorCode.PG_PAYMENT_NOT_APPROVED,
-                        "결제가 완료되지 않았습니다. 상태: " + response.getStatus()
+                        "결제가 완료되지 않았습니다. 상태: " + result.getRawStatus()
                 );
             }
 
             // 취소/실패 확인
-            if (response.isCanceled()) {
+            if (result.isCanceled()) {
                 throw new PaymentVerificationException(
                         PaymentErrorCode.PAYMENT_ALREADY_PROCESSED,
                         "이미 취소된 결제입니다."
                 );
             }
 
-            if (response.isFailed()) {
+            if (result.isFailed()) {
                 throw new PaymentVerificationException(
                         PaymentErrorCode.PAYMENT_VERIFICATION_FAILED,
                         "실패한 결제입니다."
                 );
             }
 
-            return response;
+            return result;
 
-        } catch (PaymentVerificationException e) {
+        } catch (PaymentVerificationException | PgException | DeadlineExceededException e) {
             throw e;
         } catch (Exception e) {
-            log.error("Toss Payments 조회 실패 - pgPaymentKey: {}", pgPaymentKey, e);
+            log.error("PG 결제 조회 실패 - pgProvider: {}, pgPaymentKey: {}", pgProvider, pgPaymentKey, e);
             throw new PgException(
                     PaymentErrorCode.PG_CONNECTION_FAILED,
                     "PG사 통신 중 오류가 발생했습니다: " + e.getMessage(),
@@ -176,69 +186,163 @@ public class PaymentService {
         }
     }
 
+    /**
+     * PG 조회 대체 결과 (payment.verification.mock-pg.enabled=true)
+     */
+    private PgPaymentResult mockPgPayment(String pgPaymentKey, BigDecimal expectedAmount) {
+        return PgPaymentResult.builder()
+                .paymentKey(pgPaymentKey)
+                .status(PgPaymentStatus.DONE)
+                .rawStatus("DONE")
+                .totalAmount(expectedAmount)
+                .balanceAmount(expectedAmount)
+                .approvedAt(LocalDateTime.now())
+                .requestedAt(LocalDateTime.now().minusMinutes(1))
+                .transactionKey("mock-txn-" + UUID.randomUUID().toString().substring(0, 8))
+                .method("카드")
+                .build();
+    }
+
     // ===== 결제 취소 (보상 트랜잭션) =====
 
     /**
-     * 결제 취소 (전액 환불)
+     * 결제 취소 (남은 금액 전액 환불)
      * - Order Service의 보상 트랜잭션에서 호출
-     * - PG사에 취소 요청
-     * - 성공 시: PaymentRefundedEvent 발행
-     * - 실패 시: PaymentRefundFailedEvent 발행
+     *
+     * @see #refundPayment
      */
-    @Transactional
+    @Transactional(noRollbackFor = RefundException.class, label = DeadlineAwareJpaTransactionManager.PG_SIDE_EFFECT_LABEL)
     public Payment cancelPayment(
             String paymentId,
             String orderId,
             String cancelReason) {
+        return refundPayment(paymentId, orderId, null, cancelReason);
+    }
 
-        log.info("결제 취소 시작 - paymentId: {}, reason: {}", paymentId, cancelReason);
+    /**
+     * 결제 환불 (전액/부분)
+     * - 같은 결제에 여러 번 부분 환불 가능 (환불 가능 금액 한도 내)
+     *
+     * @param refundAmount 환불 금액 (null이면 남은 금액 전액)
+     * @throws RefundException 환불 불가 상태/금액이거나 PG 취소 거절, 동시 환불 충돌 시
+     * @throws PgException PG 취소 결과가 불확실한 일시적 실패 시 (롤백, 재시도 가능)
+     * @see #refundPayments
+     */
+    @Transactional(noRollbackFor = RefundException.class, label = DeadlineAwareJpaTransactionManager.PG_SIDE_EFFECT_LABEL)
+    public Payment refundPayment(
+            String paymentId,
+            String orderId,
+            BigDecimal refundAmount,
+            String refundReason) {
 
-        // 1. Payment 조회
-        Payment payment = findById(paymentId);
+        RefundRequest request = new RefundRequest(orderId, refundAmount, refundReason);
+        Payment payment = refundPayments(paymentId, List.of(request));
 
-        // 2. 주문 ID 검증
-        if (!payment.getOrderId().equals(orderId)) {
-            throw new PaymentException(
-                    PaymentErrorCode.PAYMENT_NOT_FOUND,
-                    "결제 정보가 주문과 일치하지 않습니다."
-            );
+        if (request.isRejected()) {
+            throw request.getRejection();
         }
+        return payment;
+    }
 
-        // 3. 전액 환불 시작
-        BigDecimal refundAmount = payment.getAmount();
-        payment.startRefund(refundAmount, cancelReason);
+    /**
+     * 같은 결제에 대한 환불 요청 여러 건을 한 번의 PG 취소로 처리
+     * - 요청 순서대로 하나씩 환불했을 때와 같은 기준으로 요청별 승인/거절을 판단
+     *   (앞선 요청이 차지한 금액을 제외한 환불 가능 금액 기준, 금액 미지정 요청은 그 시점의 남은 금액 전액)
+     * - 결제 행을 잠근 뒤 처리하므로 같은 결제의 환불은 PG 취소 요청 전부터 직렬화
+     *   (동시 환불이 PG 취소가 끝난 뒤에야 충돌로 드러나 환불 결과를 잃지 않도록)
+     * - 승인된 금액 합계로 PG 취소 1회, 결제의 환불 값만 조건부 갱신하고 환불 이력 1건 추가
+     *   (결제 엔티티를 다시 읽거나 이전 환불 이력을 읽지 않음)
+     * - 성공 시: 승인된 요청마다 PaymentRefundedEvent 발행
+     * - PG 취소 실패 시
+     *   - PG가 취소를 거절(4xx): REFUND_FAILED 상태와 PaymentRefundFailedEvent를 같은 트랜잭션으로 커밋
+     *     (RefundException은 롤백하지 않음)
+     *   - 5xx/시간 초과/서킷 OPEN/요청 한도 등 결과가 불확실하거나 일시적인 실패: 결제 변경을 롤백하고 이벤트도 발행하지 않음
+     *     → 환불 가능 상태가 유지되어 재시도 시 같은 멱등키로 PG에 다시 요청
+     *     (이전 요청이 PG에서 처리됐다면 중복 환불 없이 같은 결과를 받음)
+     *     재시도를 모두 소진하면 Consumer가 recordRefundRetriesExhausted로 실패 이벤트를 한 번만 발행
+     * - 거절된 요청은 RefundRequest#getRejection에 사유를 남기고 나머지 요청은 계속 처리
+     *
+     * @return 환불 후 결제 (승인된 요청이 없으면 조회한 결제 그대로)
+     * @throws RefundException PG 취소 거절, 동시 환불 충돌 시 (승인된 요청 전체 실패)
+     * @throws PgException PG 취소 결과가 불확실한 일시적 실패, 또는 같은 멱등키로 다른 금액이 이미 취소된 경우
+     *                     (승인된 요청 전체 실패, 롤백)
+     */
+    @Transactional(noRollbackFor = RefundException.class, label = DeadlineAwareJpaTransactionManager.PG_SIDE_EFFECT_LABEL)
+    public Payment refundPayments(String paymentId, List<RefundRequest> requests) {
 
-        try {
-            // 4. PG사 취소 요청
-            TossCancelRequest cancelRequest = TossCancelRequest.fullCancel(cancelReason);
-            TossCancelResponse cancelResponse = tossPaymentsClient.cancelPayment(
-                    payment.getPgInfo().getPgPaymentKey(),
-                    cancelRequest
-            );
+        log.info("결제 환불 시작 - paymentId: {}, requests: {}", paymentId, requests.size());
 
-            // 5. 환불 완료
-            String pgRefundId = cancelResponse.getCancels().get(0).getTransactionKey();
-            payment.completeRefund(refundAmount, pgRefundId);
+        // 1. Payment 조회 + 행 잠금 (같은 결제의 다른 환불은 이 트랜잭션이 끝날 때까지 대기)
+        Payment payment = paymentRepository.findByIdForUpdate(PaymentId.from(paymentId))
+                .orElseThrow(() -> new PaymentException(
+                        PaymentErrorCode.PAYMENT_NOT_FOUND,
+                        "결제를 찾을 수 없습니다: " + paymentId
+                ));
 
-            // 6. 저장
-            Payment savedPayment = paymentRepository.save(payment);
+        // 2. 요청별 승인/거절 (주문 ID, 상태, 환불 가능 금액)
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (RefundRequest request : requests) {
+            if (!payment.getOrderId().equals(request.getOrderId())) {
+                request.reject(new PaymentException(
+                        PaymentErrorCode.PAYMENT_NOT_FOUND,
+                        "결제 정보가 주문과 일치하지 않습니다."
+                ));
+                continue;
+            }
 
-            log.info("결제 취소 완료 - paymentId: {}, refundAmount: {}",
-                    savedPayment.getIdValue(), refundAmount);
+            // 금액 미지정 시 남은 금액 전액
+            BigDecimal amount = request.getRefundAmount() != null
+                    ? request.getRefundAmount()
+                    : payment.getRefundableAmount().subtract(totalAmount);
+            try {
+                payment.validateRefund(amount, totalAmount);
+            } catch (RefundException e) {
+                request.reject(e);
+                continue;
+            }
 
-            // 7. 성공 이벤트 발행
-            PaymentRefundedEventData eventData =
-                    PaymentRefundedEventData.from(savedPayment, refundAmount, cancelReason);
-            eventPublisher.publishPaymentRefunded(eventData);
+            request.accept(amount);
+            totalAmount = totalAmount.add(amount);
+        }
 
-            return savedPayment;
+        List<RefundRequest> accepted = requests.stream()
+                .filter(RefundRequest::isAccepted)
+                .toList();
+        if (accepted.isEmpty()) {
+            return payment;
+        }
 
-        } catch (Exception e) {
-            // 환불 실패
+        // 3. 환불 시작
+        String refundReason = joinReasons(accepted);
+        boolean fullCancel = payment.getRefundedAmount().signum() == 0
+                && totalAmount.compareTo(payment.getAmount()) == 0;
+        String idempotencyKey = payment.getRefundIdempotencyKey();
+        payment.startRefund(totalAmount, refundReason);
+
+        // 4. PG사 취소 요청 (결제 ID + 환불 순번 기반 멱등키로 중복 환불 방지)
+        PgCancelResult cancelResult;
+        try {
+            PgGateway pgGateway = pgGatewayRegistry.get(payment.getPgInfo().getPgProvider());
+            cancelResult = pgGateway.cancelPayment(
+                    payment.getPgInfo().getPgPaymentKey(),
+                    idempotencyKey,
+                    fullCancel
+                            ? PgCancelCommand.fullCancel(refundReason)
+                            : PgCancelCommand.partialCancel(refundReason, totalAmount)
+            );
+        } catch (RuntimeException e) {
+            if (!isPgRejection(e)) {
+                // 결과 불확실/일시적 실패: 결제는 환불 전 상태로 롤백, 재시도될 실패이므로 실패 이벤트도 발행하지 않음
+                log.warn("결제 환불 일시 실패 (재시도 가능) - paymentId: {}, error: {}",
+                        payment.getIdValue(), e.getMessage());
+                throw toRetryableFailure(e);
+            }
+
+            // PG 취소 거절 → 환불 실패 확정
             payment.failRefund(e.getMessage());
             Payment savedPayment = paymentRepository.save(payment);
 
-            log.error("결제 취소 실패 - paymentId: {}, error: {}",
+            log.error("결제 환불 실패 - paymentId: {}, error: {}",
                     savedPayment.getIdValue(), e.getMessage(), e);
 
             // 실패 이벤트 발행
@@ -252,6 +356,106 @@ public class PaymentService {
                     e
             );
         }
+
+        // 5. 멱등키 재사용 확인
+        //    결과 불확실로 롤백된 이전 환불 건과 순번이 같으면 키도 같아 PG는 그 건의 결과를 그대로 돌려줌
+        //    → 금액이 다르면 이번 요청은 PG에서 처리되지 않은 것이므로 완료로 기록하지 않고 롤백
+        //      (이전 건이 재시도되어 그 순번을 채운 뒤 다시 요청하면 다음 순번의 새 키로 처리됨)
+        verifyCancelAmount(payment, idempotencyKey, totalAmount, cancelResult);
+
+        // 6. 환불 완료 및 저장 (동시 환불이 먼저 반영됐으면 RefundException)
+        PaymentRefund refund = payment.completeRefund(totalAmount, cancelResult.getRefundTransactionKey());
+        paymentRepository.saveRefund(payment, refund);
+
+        log.info("결제 환불 완료 - paymentId: {}, refundAmount: {}, requests: {}, sequence: {}, totalRefunded: {}",
+                payment.getIdValue(), totalAmount, accepted.size(), refund.getSequence(),
+                refund.getTotalRefundedAmount());
+
+        // 7. 요청별 성공 이벤트 발행
+        for (RefundRequest request : accepted) {
+            PaymentRefundedEventData eventData = PaymentRefundedEventData.from(
+                    payment, request.getAcceptedAmount(), request.getRefundReason());
+            eventPublisher.publishPaymentRefunded(eventData);
+        }
+
+        return payment;
+    }
+
+    /**
+     * PG가 돌려준 취소 금액이 이번 요청 금액과 같은지 확인 (PG가 금액을 주지 않으면 확인하지 않음)
+     *
+     * @throws PgException 같은 멱등키로 다른 금액이 처리된 경우 (PG_IDEMPOTENCY_CONFLICT, 롤백 후 재시도 가능)
+     */
+    private static void verifyCancelAmount(
+            Payment payment, String idempotencyKey, BigDecimal totalAmount, PgCancelResult cancelResult) {
+        BigDecimal cancelAmount = cancelResult.getCancelAmount();
+        if (cancelAmount == null || cancelAmount.compareTo(totalAmount) == 0) {
+            return;
+        }
+
+        log.error("PG 취소 금액 불일치 (같은 멱등키의 이전 취소 결과) - paymentId: {}, idempotencyKey: {}, "
+                        + "requested: {}, canceled: {}",
+                payment.getIdValue(), idempotencyKey, totalAmount, cancelAmount);
+        throw new PgException(
+                PaymentErrorCode.PG_IDEMPOTENCY_CONFLICT,
+                "PG 취소 금액이 요청 금액과 다릅니다. idempotencyKey: " + idempotencyKey
+                        + ", requested: " + totalAmount + ", canceled: " + cancelAmount
+        );
+    }
+
+    /**
+     * 재시도를 모두 소진한 환불 요청의 실패 이벤트 발행
+     * - 일시적/불확실한 PG 취소 실패는 실패 시점에 이벤트를 발행하지 않으므로, Consumer가 재시도를 포기(DLT)할 때 한 번만 호출
+     * - 결제 상태는 바꾸지 않음 (PG 처리 여부가 불확실하므로 환불 가능 상태를 유지해 같은 멱등키로 다시 요청할 수 있게 함)
+     */
+    @Transactional
+    public void recordRefundRetriesExhausted(String paymentId, String failureReason) {
+        Payment payment = findById(paymentId);
+
+        log.error("환불 재시도 소진 - paymentId: {}, error: {}", paymentId, failureReason);
+        eventPublisher.publishPaymentRefundFailed(PaymentRefundFailedEventData.from(payment, failureReason));
+    }
+
+    /**
+     * PG가 취소 요청 자체를 거절한 실패인지 (재시도해도 결과가 같음)
+     * 4xx 도메인 오류 중 인증 실패(401/403), 시간 초과(408), 요청 한도(429)는 제외
+     */
+    private static boolean isPgRejection(RuntimeException e) {
+        if (!(e instanceof GlobalException globalException)) {
+            return false;
+        }
+        int status = globalException.getErrorCode().getStatus();
+        return status >= 400 && status < 500
+                && status != 401 && status != 403 && status != 408 && status != 429;
+    }
+
+    /**
+     * 재시도 가능한 PG 취소 실패를 롤백되는 예외로 변환
+     * RefundException은 noRollbackFor 대상이므로 같은 에러 코드의 PgException으로 감쌈
+     */
+    private static RuntimeException toRetryableFailure(RuntimeException e) {
+        if (e instanceof RefundException refundException) {
+            PaymentErrorCode errorCode = refundException.getErrorCode() instanceof PaymentErrorCode code
+                    ? code
+                    : PaymentErrorCode.PG_CANCELLATION_FAILED;
+            return new PgException(errorCode, "결제 취소 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        if (e instanceof GlobalException) {
+            return e;
+        }
+        return new PgException(
+                PaymentErrorCode.PG_CANCELLATION_FAILED,
+                "결제 취소 중 오류가 발생했습니다: " + e.getMessage(),
+                e
+        );
+    }
+
+    private String joinReasons(List<RefundRequest> requests) {
+        return requests.stream()
+                .map(RefundRequest::getRefundReason)
+                .filter(reason -> reason != null && !reason.isBlank())
+                .distinct()
+                .collect(Collectors.joining(", "));
     }
 
     // ===== 조회 =====
@@ -269,6 +473,14 @@ public class PaymentService {
                 ));
     }
 
+    /**
+     * 결제별 환불 이력 조회
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentRefund> findRefunds(String paymentId) {
+        return paymentRepository.findRefundsByPaymentId(PaymentId.from(paymentId));
+    }
+
     /**
      * Order ID로 조회
      */
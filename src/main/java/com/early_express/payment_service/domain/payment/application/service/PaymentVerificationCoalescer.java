@@ -0,0 +1,70 @@
+package com.early_express.payment_service.domain.payment.application.service;
+
+import com.early_express.payment_service.domain.payment.domain.model.Payment;
+import com.early_express.payment_service.global.common.utils.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제 검증 요청 병합기
+ * - Order Service 재시도로 같은 pgPaymentId 검증이 동시에 들어오면 한 요청만 검증/저장하고
+ *   나머지는 그 결과를 공유 (중복 PG 조회 및 유니크 제약 위반 방지)
+ * - 트랜잭션 바깥에서 병합하므로 공유되는 결과는 항상 커밋이 끝난 결제
+ * - 인스턴스 간 중복은 PaymentService의 Advisory Lock이 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentVerificationCoalescer {
+
+    private final PaymentService paymentService;
+    private final MeterRegistry meterRegistry;
+
+    private final SingleFlight<String, Payment> singleFlight = new SingleFlight<>();
+
+    /**
+     * 결제 검증 및 등록 (pgPaymentId 단위 병합)
+     *
+     * @see PaymentService#verifyAndRegisterPayment
+     */
+    public Payment verifyAndRegisterPayment(
+            String orderId,
+            String pgProvider,
+            String pgPaymentId,
+            String pgPaymentKey,
+            BigDecimal expectedAmount,
+            String payerCompanyId,
+            String payerName,
+            String payerEmail,
+            String payerPhone,
+            String payeeCompanyId,
+            String payeeName) {
+
+        SingleFlight.Result<Payment> result = singleFlight.executeForResult(pgPaymentId, () ->
+                paymentService.verifyAndRegisterPayment(
+                        orderId,
+                        pgProvider,
+                        pgPaymentId,
+                        pgPaymentKey,
+                        expectedAmount,
+                        payerCompanyId,
+                        payerName,
+                        payerEmail,
+                        payerPhone,
+                        payeeCompanyId,
+                        payeeName
+                ));
+
+        if (result.shared()) {
+            meterRegistry.counter("payment.verify.coalesced").increment();
+            log.info("진행 중인 결제 검증 결과 공유 - pgPaymentId: {}, paymentId: {}",
+                    pgPaymentId, result.value().getIdValue());
+        }
+
+        return result.value();
+    }
+}
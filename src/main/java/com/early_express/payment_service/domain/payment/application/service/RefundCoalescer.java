@@ -0,0 +1,211 @@
+package com.early_express.payment_service.domain.payment.application.service;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.domain.model.Payment;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import com.early_express.payment_service.global.common.deadline.DeadlineExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 환불 요청 병합기
+ * - 주문 상품을 하나씩 취소하면 같은 결제의 부분 환불이 몇 초 안에 여러 번 들어옴
+ * - 같은 paymentId 요청을 짧은 시간(window-ms) 모아 PG 취소 1회 + 트랜잭션 1회로 처리하고
+ *   요청별 결과(성공 시 환불 후 결제, 실패 시 각자의 예외)를 돌려줌
+ * - 요청별 승인/거절 기준은 하나씩 처리할 때와 같음 (PaymentService#refundPayments)
+ * - 처음 들어온 요청 스레드가 대표로 기다렸다가 처리하므로 별도 스레드 없음
+ * - 나머지 요청은 요청 기한(없으면 await-timeout-ms)까지만 결과를 기다림
+ * - 기본 비활성화 (payment.refund.coalescing.enabled)
+ */
+@Slf4j
+@Component
+public class RefundCoalescer {
+
+    private final PaymentService paymentService;
+    private final DistributionSummary batchSize;
+
+    private final ConcurrentHashMap<String, Batch> batches = new ConcurrentHashMap<>();
+
+    @Value("${payment.refund.coalescing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${payment.refund.coalescing.window-ms:200}")
+    private long windowMs;
+
+    @Value("${payment.refund.coalescing.max-requests:20}")
+    private int maxRequests;
+
+    @Value("${payment.refund.coalescing.await-timeout-ms:30000}")
+    private long awaitTimeoutMs;
+
+    public RefundCoalescer(PaymentService paymentService, MeterRegistry meterRegistry) {
+        this.paymentService = paymentService;
+        this.batchSize = DistributionSummary.builder("payment.refund.coalesced.batch.size")
+                .description("PG 취소 1회로 처리한 환불 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결제 환불 (paymentId 단위 병합)
+     *
+     * @see PaymentService#refundPayment
+     */
+    public Payment refundPayment(
+            String paymentId,
+            String orderId,
+            BigDecimal refundAmount,
+            String refundReason) {
+
+        if (!enabled) {
+            return paymentService.refundPayment(paymentId, orderId, refundAmount, refundReason);
+        }
+
+        Pending pending = new Pending(new RefundRequest(orderId, refundAmount, refundReason));
+
+        while (true) {
+            Batch created = new Batch();
+            Batch batch = batches.computeIfAbsent(paymentId, key -> created);
+
+            // 대표 요청이 이미 마감한 묶음이면 새 묶음으로 다시 시도
+            if (!batch.add(pending, maxRequests)) {
+                batches.remove(paymentId, batch);
+                continue;
+            }
+
+            if (batch == created) {
+                flushAfterWindow(paymentId, batch);
+            }
+            return await(batch, pending);
+        }
+    }
+
+    /**
+     * 대표 요청: 창 시간 동안(또는 최대 건수까지) 기다린 뒤 묶음을 마감하고 처리
+     */
+    private void flushAfterWindow(String paymentId, Batch batch) {
+        try {
+            batch.full.await(DeadlineContext.capNanos(TimeUnit.MILLISECONDS.toNanos(windowMs)), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        batches.remove(paymentId, batch);
+        List<Pending> pendings = batch.close();
+        List<RefundRequest> requests = pendings.stream().map(Pending::request).toList();
+
+        batchSize.record(pendings.size());
+        if (pendings.size() > 1) {
+            log.info("환불 요청 병합 처리 - paymentId: {}, requests: {}", paymentId, pendings.size());
+        }
+
+        try {
+            Payment payment = paymentService.refundPayments(paymentId, requests);
+            for (Pending p : pendings) {
+                if (p.request().isRejected()) {
+                    p.result().completeExceptionally(p.request().getRejection());
+                } else {
+                    p.result().complete(payment);
+                }
+            }
+        } catch (Throwable e) {
+            // 거절된 요청은 각자의 사유, 승인된 요청은 PG 취소/저장 실패 예외
+            // Error도 받아서 전달 (완료하지 않으면 기다리는 요청이 멈춤, 대표 요청은 await에서 다시 던짐)
+            for (Pending p : pendings) {
+                p.result().completeExceptionally(
+                        p.request().isRejected() ? p.request().getRejection() : e);
+            }
+        }
+    }
+
+    /**
+     * 결과 대기 (요청 기한 이내)
+     * - 시간 초과 시 아직 마감 전이면 묶음에서 빠지고, 이미 처리 중이면 결과를 알 수 없으므로 로그를 남김
+     *
+     * @throws DeadlineExceededException 요청 기한이 지난 경우
+     */
+    private Payment await(Batch batch, Pending pending) {
+        try {
+            return pending.result().get(
+                    DeadlineContext.capNanos(TimeUnit.MILLISECONDS.toNanos(awaitTimeoutMs)), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            giveUp(batch, pending);
+            DeadlineContext.checkpoint("환불 병합 대기");
+            throw new RefundException(PaymentErrorCode.REFUND_PROCESSING_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            giveUp(batch, pending);
+            throw new RefundException(PaymentErrorCode.REFUND_PROCESSING_FAILED);
+        }
+    }
+
+    private void giveUp(Batch batch, Pending pending) {
+        if (!batch.withdraw(pending)) {
+            log.warn("환불 병합 대기 중단 - 이미 처리 중인 요청이라 결과를 알 수 없음, orderId: {}",
+                    pending.request().getOrderId());
+        }
+    }
+
+    private record Pending(RefundRequest request, CompletableFuture<Payment> result) {
+
+        Pending(RefundRequest request) {
+            this(request, new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * paymentId별 병합 중인 요청 묶음
+     */
+    private static final class Batch {
+
+        private final List<Pending> pendings = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private boolean closed;
+
+        synchronized boolean add(Pending pending, int maxRequests) {
+            if (closed) {
+                return false;
+            }
+            pendings.add(pending);
+            if (pendings.size() >= maxRequests) {
+                full.countDown();
+            }
+            return true;
+        }
+
+        /**
+         * 마감 전이면 요청을 묶음에서 제거
+         *
+         * @return 제거 여부 (이미 마감됐으면 false)
+         */
+        synchronized boolean withdraw(Pending pending) {
+            return !closed && pendings.remove(pending);
+        }
+
+        synchronized List<Pending> close() {
+            closed = true;
+            return List.copyOf(pendings);
+        }
+    }
+}
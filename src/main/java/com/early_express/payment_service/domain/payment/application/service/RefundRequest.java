@@ -0,0 +1,43 @@
+package com.early_express.payment_service.domain.payment.application.service;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 환불 요청 1건
+ * - 여러 요청을 한 번의 PG 취소로 묶어 처리할 때 요청별 결과(승인 금액 또는 거절 사유)를 기록
+ * - 결과는 PaymentService#refundPayments 트랜잭션 안에서만 기록됨
+ */
+@Getter
+public class RefundRequest {
+
+    private final String orderId;
+    private final BigDecimal refundAmount; // null이면 남은 금액 전액
+    private final String refundReason;
+
+    private BigDecimal acceptedAmount;
+    private RuntimeException rejection;
+
+    public RefundRequest(String orderId, BigDecimal refundAmount, String refundReason) {
+        this.orderId = orderId;
+        this.refundAmount = refundAmount;
+        this.refundReason = refundReason;
+    }
+
+    void accept(BigDecimal amount) {
+        this.acceptedAmount = amount;
+    }
+
+    void reject(RuntimeException rejection) {
+        this.rejection = rejection;
+    }
+
+    public boolean isAccepted() {
+        return acceptedAmount != null;
+    }
+
+    public boolean isRejected() {
+        return rejection != null;
+    }
+}
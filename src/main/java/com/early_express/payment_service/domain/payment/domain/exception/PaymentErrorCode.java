@@ -43,6 +43,12 @@ public enum PaymentErrorCode implements ErrorCode {
     PG_AUTH_FAILED("PG_109", "PG사 인증에 실패했습니다.", 401),
     PG_SYSTEM_ERROR("PG_110", "PG사 시스템 오류가 발생했습니다.", 500),
     PG_VERIFICATION_FAILED("PG_111", "PG사 결제 검증에 실패했습니다.", 400),
+    PG_CIRCUIT_OPEN("PG_112", "PG사 연동이 일시적으로 차단되었습니다.", 503),
+    PG_BULKHEAD_FULL("PG_113", "PG사 동시 요청 한도를 초과했습니다.", 503),
+    PG_CONCURRENCY_LIMITED("PG_114", "PG사 요청이 많아 잠시 후 다시 시도해주세요.", 503),
+    PG_RATE_LIMITED("PG_115", "PG사 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", 429),
+    PG_THROTTLED("PG_116", "PG사가 요청을 제한하고 있습니다. 잠시 후 다시 시도해주세요.", 503),
+    PG_IDEMPOTENCY_CONFLICT("PG_117", "같은 멱등키로 처리된 이전 PG 취소와 요청 금액이 다릅니다. 잠시 후 다시 시도해주세요.", 503),
 
     // ===== 환불 관련 에러 (REFUND_2xx) =====
     REFUND_CREATION_FAILED("REFUND_201", "환불 생성에 실패했습니다.", 500),
@@ -0,0 +1,41 @@
+package com.early_express.payment_service.domain.payment.domain.gateway;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 결제 취소 요청
+ * - cancelAmount가 없으면 전액 취소
+ */
+@Getter
+@Builder
+public class PgCancelCommand {
+
+    private final String cancelReason;
+    private final BigDecimal cancelAmount;
+
+    /**
+     * 전액 취소 요청 생성
+     */
+    public static PgCancelCommand fullCancel(String cancelReason) {
+        return PgCancelCommand.builder()
+                .cancelReason(cancelReason)
+                .build();
+    }
+
+    /**
+     * 부분 취소 요청 생성
+     */
+    public static PgCancelCommand partialCancel(String cancelReason, BigDecimal cancelAmount) {
+        return PgCancelCommand.builder()
+                .cancelReason(cancelReason)
+                .cancelAmount(cancelAmount)
+                .build();
+    }
+
+    public boolean isFullCancel() {
+        return cancelAmount == null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.early_express.payment_service.domain.payment.domain.gateway;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PG 결제 취소 결과
+ */
+@Getter
+@Builder
+public class PgCancelResult {
+
+    private final String paymentKey;
+    private final String refundTransactionKey; // PG 환불 거래 ID
+    private final BigDecimal cancelAmount;
+    private final BigDecimal balanceAmount; // 취소 후 남은 금액
+    private final LocalDateTime canceledAt;
+    private final boolean fullyCanceled;
+}
@@ -0,0 +1,36 @@
+package com.early_express.payment_service.domain.payment.domain.gateway;
+
+/**
+ * PG Gateway 인터페이스
+ * 도메인 계층의 PG사 연동 계약 (PG사별 구현체를 PgGatewayRegistry에 등록)
+ */
+public interface PgGateway {
+
+    /**
+     * PG사 식별자 (PgInfo.pgProvider와 동일, 예: TOSS)
+     */
+    String provider();
+
+    /**
+     * 결제 조회
+     *
+     * @param pgPaymentKey PG 결제 키
+     * @return PG 결제 조회 결과
+     */
+    PgPaymentResult getPayment(String pgPaymentKey);
+
+    /**
+     * 결제 취소
+     *
+     * @param pgPaymentKey PG 결제 키
+     * @param idempotencyKey 멱등키 (같은 환불 건의 재시도는 같은 키)
+     * @param command 취소 요청
+     * @return PG 취소 결과
+     */
+    PgCancelResult cancelPayment(String pgPaymentKey, String idempotencyKey, PgCancelCommand command);
+
+    /**
+     * 현재 PG사 상태 (헬스체크용)
+     */
+    PgGatewayHealth health();
+}
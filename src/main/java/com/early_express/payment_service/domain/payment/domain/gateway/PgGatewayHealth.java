@@ -0,0 +1,31 @@
+package com.early_express.payment_service.domain.payment.domain.gateway;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * PG사 상태 스냅샷
+ * - status: 서킷 상태 기반 (CLOSED → UP, HALF_OPEN → DEGRADED, OPEN → DOWN)
+ * - latencyMillis: 최근 응답 시간 지수이동평균 (측정 전이면 0)
+ * - failureRate: 최근 실패율 % (측정 전이면 0)
+ */
+@Getter
+@Builder
+public class PgGatewayHealth {
+
+    private final String provider;
+    private final Status status;
+    private final double latencyMillis;
+    private final float failureRate;
+
+    /**
+     * 요청을 보낼 수 있는 상태인지 확인
+     */
+    public boolean isAvailable() {
+        return this.status != Status.DOWN;
+    }
+
+    public enum Status {
+        UP, DEGRADED, DOWN
+    }
+}
@@ -0,0 +1,47 @@
+package com.early_express.payment_service.domain.payment.domain.gateway;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PG 결제 조회 결과
+ * PG사별 응답을 도메인에서 사용하는 공통 형태로 변환한 값 (불변)
+ */
+@Getter
+@Builder
+public class PgPaymentResult {
+
+    private final String paymentKey;
+    private final PgPaymentStatus status;
+    private final String rawStatus; // PG사 원본 상태 값 (로그/에러 메시지용)
+    private final BigDecimal totalAmount;
+    private final BigDecimal balanceAmount;
+    private final String transactionKey;
+    private final String method;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime approvedAt;
+
+    /**
+     * 결제 완료 여부 확인
+     */
+    public boolean isDone() {
+        return this.status == PgPaymentStatus.DONE;
+    }
+
+    /**
+     * 취소된 결제인지 확인 (부분 취소 포함)
+     */
+    public boolean isCanceled() {
+        return this.status == PgPaymentStatus.CANCELED;
+    }
+
+    /**
+     * 실패한 결제인지 확인
+     */
+    public boolean isFailed() {
+        return this.status == PgPaymentStatus.FAILED;
+    }
+}
@@ -0,0 +1,27 @@
+package com.early_express.payment_service.domain.payment.domain.gateway;
+
+/**
+ * PG 결제 상태 (PG사 공통)
+ */
+public enum PgPaymentStatus {
+
+    /**
+     * 결제 진행 중 (대기, 입금 대기 등)
+     */
+    IN_PROGRESS,
+
+    /**
+     * 결제 완료
+     */
+    DONE,
+
+    /**
+     * 결제 취소 (부분 취소 포함)
+     */
+    CANCELED,
+
+    /**
+     * 결제 실패 (승인 실패, 만료 등)
+     */
+    FAILED
+}
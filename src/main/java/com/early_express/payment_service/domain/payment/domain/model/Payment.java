@@ -47,6 +47,7 @@ public class Payment {
     // 환불 정보
     private LocalDateTime refundedAt;
     private String refundReason;
+    private int refundSequence; // 완료된 환불 횟수 (PG 멱등키 산출용)
     
     // 베이스엔티티 매핑용
     private String createdBy;
@@ -70,7 +71,8 @@ public class Payment {
             LocalDateTime createdAt,
             LocalDateTime verifiedAt,
             LocalDateTime refundedAt,
-            String refundReason) {
+            String refundReason,
+            int refundSequence) {
 
         this.id = id;
         this.orderId = orderId;
@@ -85,6 +87,7 @@ public class Payment {
         this.verifiedAt = verifiedAt;
         this.refundedAt = refundedAt;
         this.refundReason = refundReason;
+        this.refundSequence = refundSequence;
     }
 
     /**
@@ -167,9 +170,24 @@ public class Payment {
     // ===== 환불 관련 메서드 =====
 
     /**
-     * 환불 시작
+     * 환불 시작 (전액/부분)
      */
     public void startRefund(BigDecimal refundAmount, String refundReason) {
+        validateRefund(refundAmount, BigDecimal.ZERO);
+
+        this.status = PaymentStatus.REFUNDING;
+        this.refundReason = refundReason;
+    }
+
+    /**
+     * 환불 가능 여부 검증
+     * - 여러 환불 요청을 한 번에 처리할 때 앞선 요청이 차지한 금액(reservedAmount)을 제외하고 검증
+     *
+     * @param refundAmount 환불 금액
+     * @param reservedAmount 이미 환불하기로 한 금액 (단건 환불은 0)
+     * @throws RefundException 환불 금액이 0 이하이거나 환불 불가 상태, 환불 가능 금액 초과 시
+     */
+    public void validateRefund(BigDecimal refundAmount, BigDecimal reservedAmount) {
         // 환불 가능 상태 검증
         if (!this.status.isRefundable()) {
             throw new RefundException(
@@ -178,26 +196,36 @@ public class Payment {
             );
         }
 
+        // 환불 금액 검증
+        if (refundAmount == null || refundAmount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new RefundException(
+                    PaymentErrorCode.INVALID_REFUND_AMOUNT,
+                    "환불 금액은 0보다 커야 합니다: " + refundAmount
+            );
+        }
+
         // 환불 가능 금액 검증
-        if (refundAmount.compareTo(this.amountInfo.getRefundableAmount()) > 0) {
+        BigDecimal refundableAmount = this.amountInfo.getRefundableAmount().subtract(reservedAmount);
+        if (refundAmount.compareTo(refundableAmount) > 0) {
             throw new RefundException(
                     PaymentErrorCode.REFUND_AMOUNT_EXCEEDS_PAYMENT,
                     String.format("환불 금액이 환불 가능 금액을 초과합니다. 요청 금액: %s, 환불 가능 금액: %s",
                             refundAmount,
-                            this.amountInfo.getRefundableAmount())
+                            refundableAmount)
             );
         }
-
-        this.status = PaymentStatus.REFUNDING;
-        this.refundReason = refundReason;
     }
 
     /**
      * 환불 완료
+     *
+     * @return 이번 환불 이력
      */
-    public void completeRefund(BigDecimal refundAmount, String pgRefundId) {
+    public PaymentRefund completeRefund(BigDecimal refundAmount, String pgRefundId) {
         validateStatus(PaymentStatus.REFUNDING, "환불 완료");
 
+        String idempotencyKey = this.id != null ? getRefundIdempotencyKey() : null;
+
         // 금액 정보 업데이트
         this.amountInfo = this.amountInfo.withRefund(refundAmount);
 
@@ -211,7 +239,19 @@ public class Payment {
             this.status = PaymentStatus.PARTIALLY_REFUNDED;
         }
 
+        this.refundSequence++;
         this.refundedAt = LocalDateTime.now();
+
+        return PaymentRefund.builder()
+                .paymentId(this.id)
+                .sequence(this.refundSequence)
+                .amount(refundAmount)
+                .totalRefundedAmount(this.amountInfo.getRefundedAmount())
+                .reason(this.refundReason)
+                .pgRefundId(pgRefundId)
+                .idempotencyKey(idempotencyKey)
+                .refundedAt(this.refundedAt)
+                .build();
     }
 
     /**
@@ -286,6 +326,17 @@ public class Payment {
         return this.status == PaymentStatus.PARTIALLY_REFUNDED;
     }
 
+    /**
+     * 다음 환불 요청의 PG 멱등키
+     * - 결제 ID + 환불 순번으로 구성되어 같은 환불 건의 재시도/재전달에는 항상 같은 키
+     * - 환불이 완료되면 순번이 증가하므로 다음 부분 환불은 새로운 키
+     * - 결과가 불확실해 롤백된 환불 뒤에는 다른 요청도 같은 키를 쓰게 되므로,
+     *   PG가 돌려준 취소 금액을 요청 금액과 비교해 다르면 완료로 기록하지 않음 (PaymentService#refundPayments)
+     */
+    public String getRefundIdempotencyKey() {
+        return this.id.getValue() + "-refund-" + (this.refundSequence + 1);
+    }
+
     /**
      * 결제 ID 문자열 반환
      */
@@ -0,0 +1,35 @@
+package com.early_express.payment_service.domain.payment.domain.model;
+
+import com.early_express.payment_service.domain.payment.domain.model.vo.PaymentId;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 환불 이력 (완료된 환불 1건)
+ * - Payment 집계의 일부지만 Payment에 컬렉션으로 들고 있지 않음
+ *   (누적 환불 금액/순번은 Payment가 관리하므로 새 환불마다 이전 이력을 읽을 필요 없음)
+ * - (paymentId, sequence)는 유일하며 sequence는 PG 멱등키 순번과 같음
+ */
+@Getter
+@Builder
+public class PaymentRefund {
+
+    private final PaymentId paymentId;
+    private final int sequence;
+    private final BigDecimal amount;
+    private final BigDecimal totalRefundedAmount;
+    private final String reason;
+    private final String pgRefundId;
+    private final String idempotencyKey;
+    private final LocalDateTime refundedAt;
+
+    /**
+     * 전액 환불로 결제가 종료되었는지 여부
+     */
+    public boolean isFinalRefund(BigDecimal paymentAmount) {
+        return totalRefundedAmount.compareTo(paymentAmount) == 0;
+    }
+}
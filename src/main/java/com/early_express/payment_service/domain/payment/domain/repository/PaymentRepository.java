@@ -1,6 +1,7 @@
 package com.early_express.payment_service.domain.payment.domain.repository;
 
 import com.early_express.payment_service.domain.payment.domain.model.Payment;
+import com.early_express.payment_service.domain.payment.domain.model.PaymentRefund;
 import com.early_express.payment_service.domain.payment.domain.model.PaymentStatus;
 import com.early_express.payment_service.domain.payment.domain.model.vo.PaymentId;
 import org.springframework.data.domain.Page;
@@ -25,6 +26,25 @@ public interface PaymentRepository {
      */
     Payment save(Payment payment);
 
+    /**
+     * 환불 결과 저장
+     * - 결제의 환불 관련 값만 갱신하고 환불 이력 1건 추가
+     * - 저장된 환불 순번이 refund 직전 순번과 다르면 (동시 환불) 저장하지 않음
+     *
+     * @param payment 환불이 완료된 결제
+     * @param refund 이번 환불 이력
+     * @throws com.early_express.payment_service.domain.payment.domain.exception.RefundException 동시 환불 충돌 시
+     */
+    void saveRefund(Payment payment, PaymentRefund refund);
+
+    /**
+     * 결제별 환불 이력 조회
+     *
+     * @param paymentId 결제 ID
+     * @return 환불 이력 (순번 오름차순)
+     */
+    List<PaymentRefund> findRefundsByPaymentId(PaymentId paymentId);
+
     /**
      * ID로 결제 조회 (삭제되지 않은 것만)
      *
@@ -33,6 +53,15 @@ public interface PaymentRepository {
      */
     Optional<Payment> findById(PaymentId paymentId);
 
+    /**
+     * ID로 결제 조회 후 행 잠금 (현재 트랜잭션 종료 시 해제)
+     * 같은 결제의 환불을 PG 취소 요청 전부터 직렬화 (동시 환불이 PG 취소 후에야 충돌로 드러나지 않도록)
+     *
+     * @param paymentId 결제 ID
+     * @return 결제 Optional
+     */
+    Optional<Payment> findByIdForUpdate(PaymentId paymentId);
+
     /**
      * 주문 ID로 결제 조회
      *
@@ -49,6 +78,14 @@ public interface PaymentRepository {
      */
     Optional<Payment> findByPgPaymentId(String pgPaymentId);
 
+    /**
+     * PG 결제 ID 단위 잠금 (현재 트랜잭션 종료 시 해제)
+     * 여러 인스턴스에서 같은 결제를 동시에 검증/등록하지 않도록 직렬화
+     *
+     * @param pgPaymentId PG 결제 ID
+     */
+    void lockByPgPaymentId(String pgPaymentId);
+
     /**
      * PG 결제 ID 존재 여부 확인
      *
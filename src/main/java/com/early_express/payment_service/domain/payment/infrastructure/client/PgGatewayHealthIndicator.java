@@ -0,0 +1,39 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client;
+
+import com.early_express.payment_service.domain.payment.domain.gateway.PgGateway;
+import com.early_express.payment_service.domain.payment.domain.gateway.PgGatewayHealth;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PG사별 상태 Health Indicator (/actuator/health의 pgGateways)
+ * PG사 장애가 서비스 자체의 장애는 아니므로 상태는 항상 UP으로 두고 상세 정보로만 노출
+ */
+@Component("pgGateways")
+@RequiredArgsConstructor
+public class PgGatewayHealthIndicator implements HealthIndicator {
+
+    private final PgGatewayRegistry registry;
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+
+        for (PgGateway gateway : registry.getAll()) {
+            PgGatewayHealth health = gateway.health();
+
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("status", health.getStatus().name());
+            detail.put("latencyMillis", Math.round(health.getLatencyMillis()));
+            detail.put("failureRate", health.getFailureRate());
+            details.put(health.getProvider(), detail);
+        }
+
+        return Health.up().withDetails(details).build();
+    }
+}
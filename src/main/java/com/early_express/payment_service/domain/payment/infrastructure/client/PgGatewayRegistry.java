@@ -0,0 +1,74 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.domain.payment.domain.gateway.PgGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * PG Gateway 레지스트리
+ * - 등록된 PgGateway 빈을 PG사 식별자(대문자) 기준으로 보관
+ * - 새 PG사는 PgGateway 구현체(+ 전용 Feign Client/ErrorDecoder/장애 격리 설정)를 빈으로 등록하면 자동 추가
+ * - PG사 요청 한도(PgRateLimiter)는 Gateway가 아니라 PG사별 Feign Client의 요청 시도마다 적용 (PgRateLimitInterceptor)
+ */
+@Slf4j
+@Component
+public class PgGatewayRegistry {
+
+    private final Map<String, PgGateway> gateways;
+
+    public PgGatewayRegistry(List<PgGateway> gateways) {
+        Map<String, PgGateway> byProvider = new LinkedHashMap<>();
+        for (PgGateway gateway : gateways) {
+            String provider = normalize(gateway.provider());
+            if (byProvider.putIfAbsent(provider, gateway) != null) {
+                throw new IllegalStateException("PG Gateway가 중복 등록되었습니다: " + provider);
+            }
+        }
+        this.gateways = Collections.unmodifiableMap(byProvider);
+
+        log.info("PG Gateway 등록 완료 - providers: {}", this.gateways.keySet());
+    }
+
+    /**
+     * PG사 Gateway 조회
+     *
+     * @throws PgException 등록되지 않은 PG사 (UNSUPPORTED_PG_PROVIDER)
+     */
+    public PgGateway get(String provider) {
+        PgGateway gateway = provider == null ? null : gateways.get(normalize(provider));
+        if (gateway == null) {
+            throw new PgException(
+                    PaymentErrorCode.UNSUPPORTED_PG_PROVIDER,
+                    "지원하지 않는 PG사입니다: " + provider
+            );
+        }
+        return gateway;
+    }
+
+    /**
+     * PG사 지원 여부
+     */
+    public boolean supports(String provider) {
+        return provider != null && gateways.containsKey(normalize(provider));
+    }
+
+    /**
+     * 등록된 전체 Gateway
+     */
+    public Collection<PgGateway> getAll() {
+        return gateways.values();
+    }
+
+    private static String normalize(String provider) {
+        return provider.trim().toUpperCase(Locale.ROOT);
+    }
+}
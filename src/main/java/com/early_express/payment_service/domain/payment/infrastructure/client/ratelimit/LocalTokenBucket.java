@@ -0,0 +1,61 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스 로컬 토큰 버킷
+ * 초당 requestsPerSecond개씩 채워지며 최대 capacity개까지 누적
+ */
+public class LocalTokenBucket implements TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long nanosPerToken;
+
+    private double tokens;
+    private long refilledAt;
+
+    public LocalTokenBucket(double requestsPerSecond, int capacity) {
+        if (requestsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("요청 한도와 버킷 크기는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanosPerToken = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(int reservedTokens, long maxWaitNanos) {
+        refill();
+
+        if (tokens < 1 + reservedTokens) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    @Override
+    public synchronized void release() {
+        refill();
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    @Override
+    public long nanosPerToken() {
+        return nanosPerToken;
+    }
+
+    synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,17 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.ratelimit;
+
+/**
+ * PG 호출 작업 구분 (요청 한도 우선순위)
+ */
+public enum PgOperation {
+
+    /**
+     * 결제 검증 (Saga 진행 중 동기 호출 - 우선)
+     */
+    VERIFY,
+
+    /**
+     * 결제 취소 (환불 이벤트 비동기 처리 - 대기 가능)
+     */
+    CANCEL
+}
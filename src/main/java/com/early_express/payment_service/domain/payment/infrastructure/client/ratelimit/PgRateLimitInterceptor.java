@@ -0,0 +1,31 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.ratelimit;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * PG 요청 한도 Feign 인터셉터
+ * - Feign은 요청 시도마다 인터셉터를 다시 적용하므로 재시도(429/5xx), 헤징 요청도 각각 토큰을 소비
+ * - 조회(GET)는 VERIFY, 그 외(취소 등 POST)는 CANCEL 한도 사용
+ * - 토큰을 얻지 못하면 PgException(PG_RATE_LIMITED)이 요청 전송 전에 그대로 전파됨 (재시도하지 않음)
+ *
+ * PG사별 Feign Client 설정에 빈으로 등록
+ */
+public class PgRateLimitInterceptor implements RequestInterceptor {
+
+    private final PgRateLimiter rateLimiter;
+    private final String provider;
+
+    public PgRateLimitInterceptor(PgRateLimiter rateLimiter, String provider) {
+        this.rateLimiter = rateLimiter;
+        this.provider = provider;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        PgOperation operation = "GET".equalsIgnoreCase(template.method())
+                ? PgOperation.VERIFY
+                : PgOperation.CANCEL;
+        rateLimiter.acquire(provider, operation);
+    }
+}
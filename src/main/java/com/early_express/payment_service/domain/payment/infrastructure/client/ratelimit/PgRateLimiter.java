@@ -0,0 +1,205 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.ratelimit;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.PgRateLimitBucketJpaRepository;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import com.early_express.payment_service.global.common.utils.WorkerThreads;
+import jakarta.annotation.PreDestroy;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * PG 요청 한도(Quota) 토큰 버킷 제한기
+ * - HTTP 요청 시도마다 토큰 획득 (PgRateLimitInterceptor: Feign 재시도, 헤징 요청, 429 재시도 모두 포함)
+ * - PG사별 버킷: 가맹점 단위 요청 한도 (예: Toss 초당 N건)
+ * - 작업별 버킷(선택): 결제 취소 등 특정 작업의 초당 상한 (환불 폭주가 한도를 독점하지 않도록)
+ * - 검증 우선: 취소는 PG사 버킷에 verify-reserved-ratio만큼 토큰을 남겨둘 수 있을 때만 획득
+ * - 토큰이 없으면 작업별 최대 대기 시간까지 기다리고, 초과 시 PG_RATE_LIMITED(429)
+ * - shared.enabled=true면 PostgreSQL 공유 버킷으로 여러 인스턴스가 한도를 함께 사용
+ *   (버킷 조회는 전용 스레드 1개에서만 실행, 호출 스레드는 트랜잭션을 추가로 열지 않음)
+ *
+ * PG사/작업별 설정 재정의
+ * - client.pg.rate-limit.providers.{provider}.requests-per-second / burst
+ * - client.pg.rate-limit.providers.{provider}.{verify|cancel}.requests-per-second
+ */
+@Slf4j
+@Component
+public class PgRateLimiter {
+
+    private static final String PROPERTY_PREFIX = "client.pg.rate-limit.providers.";
+
+    private final boolean enabled;
+    private final double defaultRequestsPerSecond;
+    private final int defaultBurst;
+    private final double verifyReservedRatio;
+    private final long verifyMaxWaitNanos;
+    private final long cancelMaxWaitNanos;
+    private final boolean shared;
+    private final long sharedPollIntervalNanos;
+    private final Environment environment;
+    private final PgRateLimitBucketJpaRepository bucketRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 공유 버킷 DB 조회 전용 (shared.enabled=true일 때만)
+    private final ExecutorService sharedExecutor;
+
+    private final Map<String, ProviderLimits> limitsByProvider = new ConcurrentHashMap<>();
+
+    public PgRateLimiter(
+            @Value("${client.pg.rate-limit.enabled:false}") boolean enabled,
+            @Value("${client.pg.rate-limit.requests-per-second:10}") double defaultRequestsPerSecond,
+            @Value("${client.pg.rate-limit.burst:20}") int defaultBurst,
+            @Value("${client.pg.rate-limit.verify-reserved-ratio:0.3}") double verifyReservedRatio,
+            @Value("${client.pg.rate-limit.verify-max-wait-ms:200}") long verifyMaxWaitMs,
+            @Value("${client.pg.rate-limit.cancel-max-wait-ms:2000}") long cancelMaxWaitMs,
+            @Value("${client.pg.rate-limit.shared.enabled:false}") boolean shared,
+            @Value("${client.pg.rate-limit.shared.poll-interval-ms:20}") long sharedPollIntervalMs,
+            Environment environment,
+            PgRateLimitBucketJpaRepository bucketRepository,
+            MeterRegistry meterRegistry) {
+
+        this.enabled = enabled;
+        this.defaultRequestsPerSecond = defaultRequestsPerSecond;
+        this.defaultBurst = defaultBurst;
+        this.verifyReservedRatio = verifyReservedRatio;
+        this.verifyMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(verifyMaxWaitMs);
+        this.cancelMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(cancelMaxWaitMs);
+        this.shared = shared;
+        this.sharedPollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sharedPollIntervalMs);
+        this.environment = environment;
+        this.bucketRepository = bucketRepository;
+        this.meterRegistry = meterRegistry;
+        this.sharedExecutor = enabled && shared
+                ? WorkerThreads.newFixedPool("pg-ratelimit-shared-", 1, false)
+                : null;
+    }
+
+    /**
+     * 요청 허가 획득 (필요 시 대기)
+     * PG로 나가는 HTTP 요청 시도마다 호출
+     *
+     * @throws PgException 최대 대기 시간 내에 토큰을 얻지 못한 경우 (PG_RATE_LIMITED)
+     */
+    public void acquire(String provider, PgOperation operation) {
+        if (!enabled) {
+            return;
+        }
+
+        ProviderLimits limits = limitsByProvider.computeIfAbsent(normalize(provider), this::createLimits);
+        // 요청 처리 기한이 더 짧으면 그만큼만 대기
+        long deadline = System.nanoTime() + DeadlineContext.capNanos(maxWaitNanos(operation));
+
+        // 1. 작업별 상한 (설정된 경우) - 토큰을 한 번만 소비하도록 PG사 버킷보다 먼저 획득
+        TokenBucket operationBucket = limits.operationBuckets().get(operation);
+        if (operationBucket != null) {
+            await(operationBucket, 0, deadline, provider, operation);
+        }
+
+        // 2. PG사 한도 - 취소는 검증용 예약분을 남겨둘 수 있을 때만 획득
+        int reserved = operation == PgOperation.VERIFY ? 0 : limits.verifyReservedTokens();
+        try {
+            await(limits.quotaBucket(), reserved, deadline, provider, operation);
+        } catch (RuntimeException e) {
+            // 요청을 보내지 않으므로 먼저 얻은 작업별 토큰은 반환
+            if (operationBucket != null) {
+                operationBucket.release();
+            }
+            throw e;
+        }
+    }
+
+    private void await(TokenBucket bucket, int reserved, long deadline, String provider, PgOperation operation) {
+        long pollNanos = shared ? Math.max(sharedPollIntervalNanos, bucket.nanosPerToken()) : bucket.nanosPerToken();
+
+        while (!bucket.tryAcquire(reserved, Math.max(0, deadline - System.nanoTime()))) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                throw reject(provider, operation);
+            }
+            LockSupport.parkNanos(Math.min(remaining, pollNanos));
+        }
+    }
+
+    private PgException reject(String provider, PgOperation operation) {
+        meterRegistry.counter("pg.ratelimit.rejected",
+                "provider", normalize(provider),
+                "operation", operation.name()).increment();
+        log.warn("PG 요청 한도 초과로 요청 거절 - provider: {}, operation: {}", provider, operation);
+
+        return new PgException(
+                PaymentErrorCode.PG_RATE_LIMITED,
+                "PG사 요청 한도를 초과했습니다. provider: " + provider + ", operation: " + operation
+        );
+    }
+
+    private long maxWaitNanos(PgOperation operation) {
+        return operation == PgOperation.VERIFY ? verifyMaxWaitNanos : cancelMaxWaitNanos;
+    }
+
+    private ProviderLimits createLimits(String provider) {
+        String prefix = PROPERTY_PREFIX + provider.toLowerCase(Locale.ROOT) + ".";
+
+        double requestsPerSecond = environment.getProperty(
+                prefix + "requests-per-second", Double.class, defaultRequestsPerSecond);
+        int burst = environment.getProperty(prefix + "burst", Integer.class, defaultBurst);
+
+        Map<PgOperation, TokenBucket> operationBuckets = new EnumMap<>(PgOperation.class);
+        for (PgOperation operation : PgOperation.values()) {
+            String operationPrefix = prefix + operation.name().toLowerCase(Locale.ROOT) + ".";
+            Double operationRps = environment.getProperty(operationPrefix + "requests-per-second", Double.class);
+            if (operationRps != null && operationRps > 0) {
+                int operationBurst = environment.getProperty(
+                        operationPrefix + "burst", Integer.class, Math.max(1, (int) Math.ceil(operationRps)));
+                operationBuckets.put(operation,
+                        createBucket(provider + ":" + operation.name(), operationRps, operationBurst));
+            }
+        }
+
+        int verifyReservedTokens = (int) Math.ceil(burst * verifyReservedRatio);
+
+        log.info("PG 요청 한도 설정 - provider: {}, requestsPerSecond: {}, burst: {}, verifyReserved: {}, " +
+                        "operationLimits: {}, shared: {}",
+                provider, requestsPerSecond, burst, verifyReservedTokens, operationBuckets.keySet(), shared);
+
+        return new ProviderLimits(
+                createBucket(provider, requestsPerSecond, burst),
+                operationBuckets,
+                verifyReservedTokens
+        );
+    }
+
+    private TokenBucket createBucket(String bucketKey, double requestsPerSecond, int burst) {
+        return shared
+                ? new SharedTokenBucket(bucketRepository, sharedExecutor, bucketKey, requestsPerSecond, burst)
+                : new LocalTokenBucket(requestsPerSecond, burst);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sharedExecutor != null) {
+            sharedExecutor.shutdownNow();
+        }
+    }
+
+    private static String normalize(String provider) {
+        return provider.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record ProviderLimits(
+            TokenBucket quotaBucket,
+            Map<PgOperation, TokenBucket> operationBuckets,
+            int verifyReservedTokens) {
+    }
+}
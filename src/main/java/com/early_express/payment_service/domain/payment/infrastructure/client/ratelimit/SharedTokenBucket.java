@@ -0,0 +1,78 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.ratelimit;
+
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.PgRateLimitBucketJpaRepository;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PostgreSQL 공유 토큰 버킷
+ * 여러 인스턴스가 하나의 버킷 행(p_pg_rate_limit_buckets)을 원자적 UPDATE로 함께 사용
+ * - 채우기와 차감을 한 문장에서 처리하므로 별도 잠금 없이 인스턴스 간 한도 공유
+ * - DB 조회는 PgRateLimiter의 전용 스레드에서만 실행
+ *   → 호출 스레드가 트랜잭션(커넥션)을 쥔 채로 두 번째 트랜잭션을 열지 않고, 인스턴스당 버킷 조회 커넥션은 1개
+ * - 대기 시간 안에 조회 결과를 받지 못하면 획득 실패로 처리 (이미 실행 중인 조회가 차감한 토큰은 사용되지 않음)
+ */
+public class SharedTokenBucket implements TokenBucket {
+
+    private final PgRateLimitBucketJpaRepository repository;
+    private final ExecutorService executor;
+    private final String bucketKey;
+    private final double requestsPerSecond;
+    private final int capacity;
+    private final long nanosPerToken;
+
+    public SharedTokenBucket(
+            PgRateLimitBucketJpaRepository repository,
+            ExecutorService executor,
+            String bucketKey,
+            double requestsPerSecond,
+            int capacity) {
+
+        this.repository = repository;
+        this.executor = executor;
+        this.bucketKey = bucketKey;
+        this.requestsPerSecond = requestsPerSecond;
+        this.capacity = capacity;
+        this.nanosPerToken = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+
+        await(executor.submit(() -> repository.initialize(bucketKey, capacity)), Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean tryAcquire(int reservedTokens, long maxWaitNanos) {
+        Future<Boolean> result = executor.submit(() ->
+                !repository.tryConsume(bucketKey, requestsPerSecond, capacity, reservedTokens).isEmpty());
+        return Boolean.TRUE.equals(await(result, maxWaitNanos));
+    }
+
+    @Override
+    public void release() {
+        executor.execute(() -> repository.release(bucketKey, capacity));
+    }
+
+    @Override
+    public long nanosPerToken() {
+        return nanosPerToken;
+    }
+
+    private static <T> T await(Future<T> result, long maxWaitNanos) {
+        try {
+            return result.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(false);
+            return null;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("PG 요청 한도 공유 버킷 조회 실패", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.ratelimit;
+
+/**
+ * 토큰 버킷
+ */
+public interface TokenBucket {
+
+    /**
+     * 토큰 1개 획득 시도
+     *
+     * @param reservedTokens 획득 후에도 남아 있어야 하는 토큰 수 (우선순위가 높은 작업용 예약분)
+     * @param maxWaitNanos 획득 결과를 기다릴 최대 시간 (공유 버킷의 DB 조회 대기, 로컬 버킷은 대기 없음)
+     * @return 획득 성공 여부
+     */
+    boolean tryAcquire(int reservedTokens, long maxWaitNanos);
+
+    /**
+     * 획득한 토큰 1개 반환 (요청을 보내지 않게 된 경우)
+     */
+    void release();
+
+    /**
+     * 토큰 1개가 채워지는 데 걸리는 시간 (대기 간격 산출용)
+     */
+    long nanosPerToken();
+}
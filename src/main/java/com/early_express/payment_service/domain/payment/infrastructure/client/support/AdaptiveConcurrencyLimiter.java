@@ -0,0 +1,302 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PG 호출 적응형 동시성 제한기 (AIMD + RTT)
+ * - 응답 시간이 최소 RTT 대비 허용 배수(rtt-tolerance) 이내이고 한도를 충분히 사용 중이면 한도 +1
+ *   (RTT는 HTTP 시도 1회 기준 - Feign 재시도 대기와 벌크헤드 대기는 제외, AttemptRttCapability가 기록)
+ * - 지연(RTT 초과) 또는 PG 실패(drop) 시 한도 × backoff-ratio
+ * - 한도 초과 요청은 max-queue-wait-ms 동안 대기, 대기열이 가득 차거나 시간 초과 시
+ *   PG_CONCURRENCY_LIMITED(503, 재시도 가능)로 거절
+ *
+ * PG 브라운아웃 시 대기열이 쌓이지 않도록 하면서 처리량은 최대치 근처로 유지
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    // 최소 RTT 재측정 주기 (샘플 수)
+    private static final int MIN_RTT_PROBE_INTERVAL = 1_000;
+
+    // 현재 스레드에서 PG 호출 중인 허가 (HTTP 시도별 RTT 기록용)
+    private static final ThreadLocal<Permit> CURRENT_PERMIT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double rttTolerance;
+    private final long maxQueueWaitNanos;
+    private final int maxQueueSize;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samplesSinceProbe;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${client.pg.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${client.pg.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${client.pg.concurrency-limit.min-limit:2}") int minLimit,
+            @Value("${client.pg.concurrency-limit.max-limit:100}") int maxLimit,
+            @Value("${client.pg.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${client.pg.concurrency-limit.rtt-tolerance:2.0}") double rttTolerance,
+            @Value("${client.pg.concurrency-limit.max-queue-wait-ms:50}") long maxQueueWaitMs,
+            @Value("${client.pg.concurrency-limit.max-queue-size:50}") int maxQueueSize,
+            MeterRegistry meterRegistry) {
+
+        this.enabled = enabled;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.rttTolerance = rttTolerance;
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMs);
+        this.maxQueueSize = maxQueueSize;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("pg.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("PG 호출 동시성 한도")
+                .register(meterRegistry);
+        Gauge.builder("pg.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("PG 호출 진행 중 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 획득
+     * 반환된 Permit은 호출 결과에 따라 반드시 onSuccess / onDropped / onIgnore 중 하나로 반납
+     *
+     * @throws PgException 한도 초과로 거절된 경우 (PG_CONCURRENCY_LIMITED)
+     */
+    public Permit acquire(String operation) {
+        if (!enabled) {
+            return Permit.NOOP;
+        }
+
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                awaitPermit(operation);
+            }
+            inFlight++;
+            return new Permit(this, System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 스레드에 열린 허가에 HTTP 시도 1회의 RTT 기록
+     * 재시도된 호출은 마지막 시도의 RTT를 샘플로 사용
+     */
+    public static void recordAttempt(long rttNanos) {
+        Permit permit = CURRENT_PERMIT.get();
+        if (permit != null) {
+            permit.attemptRttNanos = rttNanos;
+        }
+    }
+
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lock 보유 상태에서 호출
+     */
+    private void awaitPermit(String operation) {
+        if (waiting >= maxQueueSize) {
+            throw reject(operation);
+        }
+
+        waiting++;
+        try {
+            long remaining = maxQueueWaitNanos;
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    throw reject(operation);
+                }
+                remaining = permitReleased.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(operation);
+        } finally {
+            waiting--;
+        }
+    }
+
+    private PgException reject(String operation) {
+        meterRegistry.counter("pg.concurrency.rejected", "operation", operation).increment();
+        log.warn("PG 동시성 한도 초과로 요청 거절 - operation: {}, limit: {}, inFlight: {}",
+                operation, (int) limit, inFlight);
+
+        return new PgException(
+                PaymentErrorCode.PG_CONCURRENCY_LIMITED,
+                "PG사 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."
+        );
+    }
+
+    private void release(long rttNanos, Outcome outcome) {
+        lock.lock();
+        try {
+            inFlight--;
+
+            switch (outcome) {
+                case SUCCESS -> onSample(rttNanos);
+                case DROPPED -> decrease();
+                case IGNORED -> { }
+            }
+
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSample(long rttNanos) {
+        if (++samplesSinceProbe >= MIN_RTT_PROBE_INTERVAL) {
+            // 기준 RTT가 영구히 고정되지 않도록 주기적으로 재측정
+            samplesSinceProbe = 0;
+            minRttNanos = rttNanos;
+        } else {
+            minRttNanos = Math.min(minRttNanos, rttNanos);
+        }
+
+        if (rttNanos > minRttNanos * rttTolerance) {
+            decrease();
+            return;
+        }
+
+        // 한도를 절반 이상 사용 중일 때만 증가 (유휴 상태에서 한도가 무한정 커지는 것 방지)
+        if (inFlight * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    private void decrease() {
+        long now = System.nanoTime();
+
+        // 같은 혼잡 구간의 연속 실패로 한도가 급락하지 않도록 최소 RTT 간격으로 한 번만 감소
+        long interval = minRttNanos == Long.MAX_VALUE ? 0 : minRttNanos;
+        if (now - lastDecreaseNanos < interval) {
+            return;
+        }
+
+        lastDecreaseNanos = now;
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    private enum Outcome {
+        SUCCESS, DROPPED, IGNORED
+    }
+
+    /**
+     * 동시성 허가
+     */
+    public static class Permit {
+
+        static final Permit NOOP = new Permit(null, 0);
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long startNanos;
+        private long attemptRttNanos = -1;
+        private boolean released;
+
+        private Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+            this.limiter = limiter;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * 호출 동안 현재 스레드에 허가 설정 (try-with-resources로 사용)
+         * 이 범위의 HTTP 시도 RTT가 recordAttempt로 기록됨
+         */
+        public Scope open() {
+            if (limiter == null) {
+                return () -> { };
+            }
+
+            Permit previous = CURRENT_PERMIT.get();
+            CURRENT_PERMIT.set(this);
+            return () -> {
+                if (previous == null) {
+                    CURRENT_PERMIT.remove();
+                } else {
+                    CURRENT_PERMIT.set(previous);
+                }
+            };
+        }
+
+        /**
+         * 정상 응답 - 마지막 HTTP 시도의 RTT를 샘플로 사용 (기록이 없으면 허가 획득 이후 경과 시간)
+         */
+        public void onSuccess() {
+            release(Outcome.SUCCESS);
+        }
+
+        /**
+         * PG 실패(5xx, 타임아웃, 통신 오류) - 한도 감소
+         */
+        public void onDropped() {
+            release(Outcome.DROPPED);
+        }
+
+        /**
+         * PG 상태와 무관한 결과(4xx 등) - 한도 조정 없이 반납
+         */
+        public void onIgnore() {
+            release(Outcome.IGNORED);
+        }
+
+        private void release(Outcome outcome) {
+            if (limiter == null || released) {
+                return;
+            }
+            released = true;
+            long rttNanos = attemptRttNanos >= 0 ? attemptRttNanos : System.nanoTime() - startNanos;
+            limiter.release(rttNanos, outcome);
+        }
+    }
+
+    /**
+     * 허가 설정 범위
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
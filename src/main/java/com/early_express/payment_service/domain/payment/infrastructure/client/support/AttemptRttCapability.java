@@ -0,0 +1,23 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+
+/**
+ * HTTP 시도별 RTT를 적응형 동시성 제한기에 기록
+ * - 응답을 받은 시도만 기록 (IO 오류는 제한기에서 drop으로 처리)
+ * - 재시도 대기(Retryer)와 벌크헤드 대기가 RTT 샘플에 섞이지 않도록 Client 단에서 측정
+ */
+public class AttemptRttCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            long startNanos = System.nanoTime();
+            Response response = client.execute(request, options);
+            AdaptiveConcurrencyLimiter.recordAttempt(System.nanoTime() - startNanos);
+            return response;
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import com.early_express.payment_service.global.common.deadline.Deadline;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 기한을 Feign 호출 타임아웃에 반영
+ * - 시도(재시도 포함)마다 connect/read 타임아웃을 남은 기한 이내로 줄임
+ * - 기한이 이미 지났으면 PG로 요청을 보내지 않고 DeadlineExceededException
+ * - 기한이 없는 호출(Kafka 환불 이벤트 등)은 설정된 타임아웃 그대로 사용
+ */
+public class DeadlineCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Optional<Deadline> current = DeadlineContext.current();
+            if (current.isEmpty()) {
+                return client.execute(request, options);
+            }
+
+            Deadline deadline = current.get();
+            deadline.check("PG 호출 " + request.httpMethod());
+
+            return client.execute(request, capTimeouts(options, deadline.remainingMillis()));
+        };
+    }
+
+    private Request.Options capTimeouts(Request.Options options, long remainingMillis) {
+        long budget = Math.max(1, remainingMillis);
+
+        return new Request.Options(
+                Math.min(options.connectTimeoutMillis(), budget), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), budget), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects()
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 시간 지수이동평균(EWMA) 추적기
+ * - 최근 응답에 가중치 alpha를 주어 PG사 지연 변화를 빠르게 반영
+ * - 값은 double 비트로 AtomicLong에 저장 (락 없이 CAS로 갱신)
+ */
+public class EwmaLatencyTracker {
+
+    private static final long EMPTY = Double.doubleToLongBits(-1.0);
+
+    private final double alpha;
+    private final AtomicLong ewmaBits = new AtomicLong(EMPTY);
+
+    /**
+     * @param alpha 최근 샘플 가중치 (0 < alpha <= 1)
+     */
+    public EwmaLatencyTracker(double alpha) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha는 0 초과 1 이하여야 합니다: " + alpha);
+        }
+        this.alpha = alpha;
+    }
+
+    /**
+     * 응답 시간 기록
+     */
+    public void record(long elapsedNanos) {
+        double sampleMillis = elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+
+        while (true) {
+            long currentBits = ewmaBits.get();
+            double current = Double.longBitsToDouble(currentBits);
+            double next = current < 0 ? sampleMillis : current + alpha * (sampleMillis - current);
+
+            if (ewmaBits.compareAndSet(currentBits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 현재 평균 응답 시간 (ms), 측정 전이면 0
+     */
+    public double getMillis() {
+        double current = Double.longBitsToDouble(ewmaBits.get());
+        return current < 0 ? 0 : current;
+    }
+}
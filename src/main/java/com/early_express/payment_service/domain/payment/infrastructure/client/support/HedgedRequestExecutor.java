@@ -0,0 +1,370 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import com.early_express.payment_service.global.common.utils.WorkerThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 헤지 요청(Hedged Request) 실행기
+ * - 멱등한 조회 요청에만 사용 (결제 취소 등 상태 변경 요청에는 절대 사용 금지)
+ * - 1차 요청은 헤지 풀에서 실행, 지연(고정값 또는 관측 p95)을 넘기면 같은 풀에서 2차 요청 실행
+ * - 호출 스레드는 먼저 성공한 응답을 바로 반환하고 진 쪽은 취소 (진 쪽 응답은 기다리지 않음)
+ * - 추가 부하는 예산(budget-ratio, 기본 5%)과 헤지 풀 크기/대기열(max-threads, queue-capacity)로 제한
+ *   → 풀이 가득 차면 헤지하지 않음 (1차 요청도 제출하지 못하면 호출 스레드에서 실행)
+ * - 요청 처리 기한(DeadlineContext)은 헤지 스레드로 전달
+ *
+ * 메트릭:
+ * - pg.hedge.requests: 1차 요청 수
+ * - pg.hedge.hedged: 2차 요청 발송 수
+ * - pg.hedge.wins: 2차 요청이 먼저 성공한 수
+ * - pg.hedge.budget.exhausted: 예산 부족으로 헤지하지 못한 수
+ * - pg.hedge.rejected: 헤지 풀이 가득 차 헤지하지 못한 수
+ * - pg.hedge.rate / pg.hedge.win.rate: 헤지 비율 / 헤지 승률
+ */
+@Slf4j
+@Component
+public class HedgedRequestExecutor {
+
+    private static final int LATENCY_WINDOW_SIZE = 256;
+    private static final int MIN_SAMPLES_FOR_PERCENTILE = 20;
+    private static final long CREDIT_UNIT = 1_000L;
+
+    private final boolean enabled;
+    private final long fixedDelayMs;
+    private final long initialDelayMs;
+    private final long minDelayMs;
+    private final long creditPerRequest;
+    private final long maxCredit;
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService timer;
+    private final MeterRegistry meterRegistry;
+
+    // 헤지 예산 (1차 요청마다 budget-ratio만큼 적립, 헤지 1회당 1 소모)
+    private final AtomicLong credit = new AtomicLong();
+
+    // 최근 지연 시간 윈도우 (p95 산출용)
+    private final long[] latencies = new long[LATENCY_WINDOW_SIZE];
+    private final ReentrantLock latencyLock = new ReentrantLock();
+    private int latencyCursor;
+    private int latencyCount;
+    private volatile long observedP95Ms;
+
+    private final AtomicLong primaryCount = new AtomicLong();
+    private final AtomicLong hedgedCount = new AtomicLong();
+    private final AtomicLong winCount = new AtomicLong();
+
+    public HedgedRequestExecutor(
+            @Value("${client.pg.hedging.enabled:false}") boolean enabled,
+            @Value("${client.pg.hedging.delay-ms:0}") long fixedDelayMs,
+            @Value("${client.pg.hedging.initial-delay-ms:500}") long initialDelayMs,
+            @Value("${client.pg.hedging.min-delay-ms:50}") long minDelayMs,
+            @Value("${client.pg.hedging.budget-ratio:0.05}") double budgetRatio,
+            @Value("${client.pg.hedging.max-threads:32}") int maxThreads,
+            @Value("${client.pg.hedging.queue-capacity:0}") int queueCapacity,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        this.enabled = enabled;
+        this.fixedDelayMs = fixedDelayMs;
+        this.initialDelayMs = initialDelayMs;
+        this.minDelayMs = minDelayMs;
+        this.creditPerRequest = Math.round(budgetRatio * CREDIT_UNIT);
+        this.maxCredit = CREDIT_UNIT * 10;
+        this.meterRegistry = meterRegistry;
+
+        this.executor = enabled
+                ? WorkerThreads.newBoundedPool("pg-hedge-", maxThreads, queueCapacity, virtualThreads)
+                : null;
+        this.timer = enabled
+                ? Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("pg-hedge-timer").daemon(true).factory())
+                : null;
+
+        Gauge.builder("pg.hedge.rate", this, HedgedRequestExecutor::hedgeRate)
+                .description("1차 요청 대비 헤지 요청 비율")
+                .register(meterRegistry);
+        Gauge.builder("pg.hedge.win.rate", this, HedgedRequestExecutor::winRate)
+                .description("헤지 요청 중 먼저 성공한 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 헤지 적용 실행
+     * - 1차/2차 요청 모두 헤지 풀에서 실행하고 호출 스레드는 먼저 성공한 결과만 기다림
+     *   (HttpURLConnection의 소켓 읽기는 인터럽트로 중단되지 않으므로 호출 스레드가 1차 요청을 직접 실행하면 헤지 효과가 없음)
+     * - 풀이 가득 차 1차 요청을 제출하지 못하면 헤지 없이 호출 스레드에서 실행
+     * - 대기는 요청 처리 기한 이내로 제한
+     *
+     * @param operation 메트릭 태그용 오퍼레이션 이름 (예: getPayment)
+     * @param call 멱등한 호출
+     */
+    public <T> T execute(String operation, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        primaryCount.incrementAndGet();
+        counter("pg.hedge.requests", operation).increment();
+        addCredit();
+
+        Supplier<T> task = DeadlineContext.wrap(call);
+        Race<T> race = new Race<>();
+        long startNanos = System.nanoTime();
+
+        try {
+            race.primary = executor.submit(() -> runPrimary(race, task, startNanos));
+        } catch (RejectedExecutionException e) {
+            counter("pg.hedge.rejected", operation).increment();
+            T result = call.get();
+            recordLatency(startNanos);
+            return result;
+        }
+
+        ScheduledFuture<?> trigger = timer.schedule(
+                () -> startHedge(operation, race, task), currentDelayMs(), TimeUnit.MILLISECONDS);
+        try {
+            return awaitWinner(race);
+        } finally {
+            trigger.cancel(false);
+            race.cancelLoser();
+        }
+    }
+
+    /**
+     * 현재 헤지 지연 시간 (고정값 또는 관측 p95)
+     */
+    public long currentDelayMs() {
+        if (fixedDelayMs > 0) {
+            return fixedDelayMs;
+        }
+
+        long p95 = observedP95Ms;
+        return Math.max(minDelayMs, p95 > 0 ? p95 : initialDelayMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 헤지 지연 시간 경과 시 타이머 스레드에서 2차 요청 발송
+     */
+    private <T> void startHedge(String operation, Race<T> race, Supplier<T> call) {
+        synchronized (race) {
+            if (race.primaryFinished || race.winner.isDone()) {
+                return;
+            }
+            if (!tryConsumeCredit()) {
+                counter("pg.hedge.budget.exhausted", operation).increment();
+                return;
+            }
+
+            try {
+                race.hedge = executor.submit(() -> runHedge(operation, race, call));
+            } catch (RejectedExecutionException e) {
+                refundCredit();
+                counter("pg.hedge.rejected", operation).increment();
+                return;
+            }
+        }
+
+        hedgedCount.incrementAndGet();
+        counter("pg.hedge.hedged", operation).increment();
+        log.debug("헤지 요청 발송 - operation: {}, delayMs: {}", operation, currentDelayMs());
+    }
+
+    private <T> void runPrimary(Race<T> race, Supplier<T> call, long startNanos) {
+        T result;
+        try {
+            result = call.get();
+        } catch (Throwable e) {
+            race.primaryFailed(e);
+            return;
+        }
+
+        // 헤지에 진 1차 요청의 지연은 p95에 반영하지 않음
+        if (race.winner.complete(result)) {
+            recordLatency(startNanos);
+        }
+        race.primaryFinished();
+    }
+
+    private <T> void runHedge(String operation, Race<T> race, Supplier<T> call) {
+        T result;
+        try {
+            result = call.get();
+        } catch (Throwable e) {
+            race.hedgeFailed();
+            return;
+        }
+
+        if (race.winner.complete(result)) {
+            race.hedgeWon = true;
+            winCount.incrementAndGet();
+            counter("pg.hedge.wins", operation).increment();
+        }
+    }
+
+    /**
+     * 먼저 성공한 결과 대기 (둘 다 실패하면 1차 요청 예외)
+     * 기한이 지나거나 호출 스레드가 인터럽트되면 대기를 중단하고 진행 중인 요청을 취소
+     */
+    private <T> T awaitWinner(Race<T> race) {
+        try {
+            return race.winner.get(DeadlineContext.capNanos(Long.MAX_VALUE), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (TimeoutException e) {
+            DeadlineContext.checkpoint("PG 헤지 응답 대기");
+            throw new PgException(PaymentErrorCode.PG_TIMEOUT, "PG 응답 대기 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PgException(PaymentErrorCode.PG_CONNECTION_FAILED, "PG 응답 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+
+    /**
+     * 1차 요청과 2차 요청 사이의 공유 상태
+     * - 1차 요청 종료/헤지 시작/실패 판정은 이 객체의 모니터로 직렬화
+     */
+    private static final class Race<T> {
+
+        private final CompletableFuture<T> winner = new CompletableFuture<>();
+        private volatile Future<?> primary;
+        private Future<?> hedge;
+        private boolean primaryFinished;
+        private boolean hedgeFailed;
+        private Throwable primaryFailure;
+        private volatile boolean hedgeWon;
+
+        private synchronized void primaryFinished() {
+            primaryFinished = true;
+        }
+
+        /**
+         * 1차 요청 실패 → 진행 중인 헤지가 없거나 이미 실패했으면 1차 요청 예외로 종료, 아니면 헤지 결과를 기다림
+         */
+        private synchronized void primaryFailed(Throwable failure) {
+            primaryFinished = true;
+            primaryFailure = failure;
+            if (hedge == null || hedgeFailed) {
+                winner.completeExceptionally(failure);
+            }
+        }
+
+        private synchronized void hedgeFailed() {
+            hedgeFailed = true;
+            if (primaryFailure != null) {
+                winner.completeExceptionally(primaryFailure);
+            }
+        }
+
+        /**
+         * 결과가 정해진 뒤 진행 중인 요청 취소 (블로킹 소켓 읽기는 중단되지 않을 수 있으나 호출자는 기다리지 않음)
+         */
+        private synchronized void cancelLoser() {
+            primaryFinished = true;
+            if (primary != null) {
+                primary.cancel(true);
+            }
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private void addCredit() {
+        credit.accumulateAndGet(creditPerRequest, (current, add) -> Math.min(maxCredit, current + add));
+    }
+
+    private void refundCredit() {
+        credit.accumulateAndGet(CREDIT_UNIT, (current, add) -> Math.min(maxCredit, current + add));
+    }
+
+    private boolean tryConsumeCredit() {
+        while (true) {
+            long current = credit.get();
+            if (current < CREDIT_UNIT) {
+                return false;
+            }
+            if (credit.compareAndSet(current, current - CREDIT_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private void recordLatency(long startNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        latencyLock.lock();
+        try {
+            latencies[latencyCursor] = elapsedMs;
+            latencyCursor = (latencyCursor + 1) % LATENCY_WINDOW_SIZE;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW_SIZE);
+
+            // 16건마다 p95 재계산
+            if (latencyCount >= MIN_SAMPLES_FOR_PERCENTILE && latencyCursor % 16 == 0) {
+                long[] snapshot = Arrays.copyOf(latencies, latencyCount);
+                Arrays.sort(snapshot);
+                observedP95Ms = snapshot[(int) Math.ceil(snapshot.length * 0.95) - 1];
+            }
+        } finally {
+            latencyLock.unlock();
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+
+    private double hedgeRate() {
+        long primaries = primaryCount.get();
+        return primaries == 0 ? 0.0 : (double) hedgedCount.get() / primaries;
+    }
+
+    private double winRate() {
+        long hedged = hedgedCount.get();
+        return hedged == 0 ? 0.0 : (double) winCount.get() / hedged;
+    }
+}
@@ -0,0 +1,36 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * PG 요청/응답 기록 (민감 정보 마스킹, 본문 크기 제한 적용 후)
+ *
+ * @param provider PG사
+ * @param operation Feign 메서드 (예: TossPaymentsClient#getPayment(String))
+ * @param method HTTP 메서드
+ * @param url 요청 URL
+ * @param status 응답 상태 코드 (통신 오류 시 null)
+ * @param elapsedMs 소요 시간
+ * @param failed 실패 여부 (4xx/5xx, 통신 오류)
+ * @param requestHeaders 요청 헤더
+ * @param requestBody 요청 본문
+ * @param responseBody 응답 본문
+ * @param error 통신 오류 메시지
+ * @param occurredAt 응답 시각
+ */
+public record PgExchange(
+        String provider,
+        String operation,
+        String method,
+        String url,
+        Integer status,
+        long elapsedMs,
+        boolean failed,
+        Map<String, String> requestHeaders,
+        String requestBody,
+        String responseBody,
+        String error,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,104 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * PG Feign 클라이언트 로거
+ * - 요청 시점에는 요청 참조만 보관하고, 응답을 받은 뒤 기록 여부를 결정
+ * - 기록하지 않는 호출은 응답 본문을 읽거나 복사하지 않음 (Feign 기본 FULL 로깅 비용 제거)
+ * - 기록은 PgExchangeRecorder 버퍼로 넘기고 출력은 비동기
+ *
+ * Logger.Level이 NONE이 아니어야 Feign이 이 로거를 호출함 (BASIC 권장)
+ */
+public class PgExchangeLogger extends Logger {
+
+    private static final ThreadLocal<Request> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final String provider;
+    private final PgExchangeRecorder recorder;
+
+    public PgExchangeLogger(String provider, PgExchangeRecorder recorder) {
+        this.provider = provider;
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void logRequest(String configKey, Level logLevel, Request request) {
+        CURRENT_REQUEST.set(request);
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(
+            String configKey, Level logLevel, Response response, long elapsedTime) throws IOException {
+
+        Request request = takeRequest(response.request());
+        boolean failed = response.status() >= 400;
+        if (!recorder.shouldRecord(failed)) {
+            return response;
+        }
+
+        byte[] body = response.body() != null ? Util.toByteArray(response.body().asInputStream()) : null;
+        recorder.record(exchange(configKey, request, response.status(), elapsedTime, failed, body, null));
+
+        return body != null ? response.toBuilder().body(body).build() : response;
+    }
+
+    @Override
+    protected IOException logIOException(String configKey, Level logLevel, IOException ioe, long elapsedTime) {
+        Request request = takeRequest(null);
+        if (request != null && recorder.shouldRecord(true)) {
+            recorder.record(exchange(configKey, request, null, elapsedTime, true, null,
+                    ioe.getClass().getSimpleName() + ": " + ioe.getMessage()));
+        }
+        return ioe;
+    }
+
+    @Override
+    protected void logRetry(String configKey, Level logLevel) {
+        // 재시도 로그는 TossPaymentsRetryer가 남김
+    }
+
+    @Override
+    protected void log(String configKey, String format, Object... args) {
+        // 모든 출력은 PgExchangeRecorder로 처리
+    }
+
+    private Request takeRequest(Request fallback) {
+        Request request = CURRENT_REQUEST.get();
+        CURRENT_REQUEST.remove();
+        return request != null ? request : fallback;
+    }
+
+    private PgExchange exchange(
+            String configKey,
+            Request request,
+            Integer status,
+            long elapsedMs,
+            boolean failed,
+            byte[] responseBody,
+            String error) {
+
+        int maxBodyBytes = recorder.maxBodyBytes(failed);
+
+        return new PgExchange(
+                provider,
+                configKey,
+                request != null ? request.httpMethod().name() : null,
+                request != null ? request.url() : null,
+                status,
+                elapsedMs,
+                failed,
+                request != null ? PgExchangeRedactor.redactHeaders(request.headers()) : null,
+                request != null ? PgExchangeRedactor.redactBody(request.body(), maxBodyBytes) : null,
+                PgExchangeRedactor.redactBody(responseBody, maxBodyBytes),
+                error,
+                Instant.now()
+        );
+    }
+}
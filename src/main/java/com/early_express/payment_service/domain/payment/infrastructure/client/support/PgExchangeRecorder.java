@@ -0,0 +1,162 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * PG 요청/응답 기록기
+ * - Logger.Level.FULL 대신 사용: 호출 스레드는 기록을 버퍼에 넣기만 하고, 직렬화/로그 출력은 전용 스레드가 처리
+ * - 성공 호출은 sample-rate 비율만 기록, 실패 호출(4xx/5xx, 통신 오류)은 항상 기록
+ * - 버퍼(buffer-size)가 가득 차면 새 기록을 버리고 pg.exchange.dropped 증가 (PG 호출을 지연시키지 않음)
+ *
+ * 출력: pg.exchange 로거에 한 줄 JSON (로그 수집기에서 별도 라우팅 가능)
+ */
+@Slf4j
+@Component
+public class PgExchangeRecorder {
+
+    private static final Logger EXCHANGE_LOG = LoggerFactory.getLogger("pg.exchange");
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final int maxBodyBytes;
+    private final int failureMaxBodyBytes;
+
+    private final BlockingQueue<PgExchange> buffer;
+    private final Consumer<PgExchange> sink;
+    private final Thread writer;
+    private final Counter droppedCounter;
+
+    private volatile boolean running = true;
+
+    @Autowired
+    public PgExchangeRecorder(
+            @Value("${client.pg.exchange-log.enabled:true}") boolean enabled,
+            @Value("${client.pg.exchange-log.sample-rate:0.01}") double sampleRate,
+            @Value("${client.pg.exchange-log.max-body-bytes:1024}") int maxBodyBytes,
+            @Value("${client.pg.exchange-log.failure-max-body-bytes:8192}") int failureMaxBodyBytes,
+            @Value("${client.pg.exchange-log.buffer-size:1024}") int bufferSize,
+            MeterRegistry meterRegistry) {
+
+        this(enabled, sampleRate, maxBodyBytes, failureMaxBodyBytes, bufferSize, meterRegistry, jsonLineSink());
+    }
+
+    PgExchangeRecorder(
+            boolean enabled,
+            double sampleRate,
+            int maxBodyBytes,
+            int failureMaxBodyBytes,
+            int bufferSize,
+            MeterRegistry meterRegistry,
+            Consumer<PgExchange> sink) {
+
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.maxBodyBytes = maxBodyBytes;
+        this.failureMaxBodyBytes = failureMaxBodyBytes;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.sink = sink;
+        this.droppedCounter = meterRegistry.counter("pg.exchange.dropped");
+
+        Gauge.builder("pg.exchange.buffered", buffer, BlockingQueue::size)
+                .description("출력 대기 중인 PG 요청/응답 기록 수")
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::drain, "pg-exchange-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 이번 호출을 기록할지 결정 (실패는 항상 기록)
+     */
+    public boolean shouldRecord(boolean failed) {
+        if (!enabled) {
+            return false;
+        }
+        return failed || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 본문 기록 상한 (실패 호출은 더 크게 남김)
+     */
+    public int maxBodyBytes(boolean failed) {
+        return failed ? failureMaxBodyBytes : maxBodyBytes;
+    }
+
+    /**
+     * 기록 추가 (대기 없음, 버퍼가 가득 차면 버림)
+     */
+    public void record(PgExchange exchange) {
+        if (!buffer.offer(exchange)) {
+            droppedCounter.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writer.interrupt();
+    }
+
+    private void drain() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                PgExchange exchange = buffer.poll(1, TimeUnit.SECONDS);
+                if (exchange != null) {
+                    sink.accept(exchange);
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    flushRemaining();
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.warn("PG 요청/응답 기록 출력 실패 - {}", e.getMessage());
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        PgExchange exchange;
+        while ((exchange = buffer.poll()) != null) {
+            sink.accept(exchange);
+        }
+    }
+
+    private static Consumer<PgExchange> jsonLineSink() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        return exchange -> {
+            try {
+                String line = objectMapper.writeValueAsString(exchange);
+                if (exchange.failed()) {
+                    EXCHANGE_LOG.warn(line);
+                } else {
+                    EXCHANGE_LOG.info(line);
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * PG 요청/응답 기록 마스킹
+ * - 인증 헤더(Basic 시크릿 키)와 결제자 개인정보/카드·계좌 번호 필드 값을 마스킹
+ * - 본문은 마스킹 후 maxBytes까지만 남김
+ */
+public final class PgExchangeRedactor {
+
+    static final String MASK = "****";
+
+    private static final Set<String> SENSITIVE_HEADERS = Set.of(
+            "authorization", "proxy-authorization", "cookie", "set-cookie"
+    );
+
+    private static final Pattern SENSITIVE_JSON_FIELD = Pattern.compile(
+            "(\"(?:secret|number|cardNumber|accountNumber|bankAccountNumber|customerName"
+                    + "|customerEmail|customerMobilePhone|holderName)\"\\s*:\\s*)\"(?:[^\"\\\\]|\\\\.)*\"",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    private PgExchangeRedactor() {
+    }
+
+    /**
+     * 헤더 마스킹 (여러 값은 쉼표로 연결)
+     */
+    public static Map<String, String> redactHeaders(Map<String, Collection<String>> headers) {
+        Map<String, String> redacted = new LinkedHashMap<>();
+        if (headers == null) {
+            return redacted;
+        }
+
+        headers.forEach((name, values) -> redacted.put(name,
+                SENSITIVE_HEADERS.contains(name.toLowerCase(Locale.ROOT))
+                        ? MASK
+                        : String.join(",", values)));
+        return redacted;
+    }
+
+    /**
+     * 민감 필드 마스킹 후 크기 제한
+     * (먼저 자르면 잘린 위치에 걸친 필드는 닫는 따옴표가 없어 마스킹되지 않으므로 전체 본문을 먼저 마스킹)
+     */
+    public static String redactBody(byte[] body, int maxBytes) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+
+        String text = new String(body, StandardCharsets.UTF_8);
+        byte[] masked = SENSITIVE_JSON_FIELD.matcher(text).replaceAll("$1\"" + MASK + "\"")
+                .getBytes(StandardCharsets.UTF_8);
+
+        return masked.length > maxBytes
+                ? new String(masked, 0, maxBytes, StandardCharsets.UTF_8)
+                        + "...(truncated, " + body.length + " bytes)"
+                : new String(masked, StandardCharsets.UTF_8);
+    }
+}
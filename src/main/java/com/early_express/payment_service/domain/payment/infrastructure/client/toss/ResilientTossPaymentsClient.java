@@ -0,0 +1,172 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.domain.payment.infrastructure.client.support.AdaptiveConcurrencyLimiter;
+import com.early_express.payment_service.domain.payment.infrastructure.client.support.HedgedRequestExecutor;
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelRequest;
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelResponse;
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossPaymentVerifyResponse;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketTimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 장애 격리가 적용된 Toss Payments Client
+ * - 적응형 동시성 제한: RTT 기반 AIMD로 PG 처리 용량에 맞춰 동시 호출 수 조절
+ * - 서킷 브레이커: 실패율/지연 호출 비율 기반 (슬라이딩 윈도우), OPEN 시 즉시 실패
+ * - 벌크헤드: 조회/취소별 세마포어로 동시 호출 수 제한
+ * - 헤지 요청: 멱등한 결제 조회에만 적용 (취소에는 적용하지 않음)
+ *
+ * 설정: application.yaml의 resilience4j.circuitbreaker / resilience4j.bulkhead
+ * 상태 확인: /actuator/health, /actuator/circuitbreakers
+ */
+@Slf4j
+@Component
+public class ResilientTossPaymentsClient {
+
+    public static final String CIRCUIT_BREAKER_NAME = "toss-payments";
+    public static final String VERIFY_BULKHEAD_NAME = "toss-payments-verify";
+    public static final String CANCEL_BULKHEAD_NAME = "toss-payments-cancel";
+
+    private final TossPaymentsClient tossPaymentsClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead verifyBulkhead;
+    private final Bulkhead cancelBulkhead;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final TossPaymentsFailurePredicate failurePredicate = new TossPaymentsFailurePredicate();
+
+    public ResilientTossPaymentsClient(
+            TossPaymentsClient tossPaymentsClient,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            HedgedRequestExecutor hedgedRequestExecutor,
+            AdaptiveConcurrencyLimiter concurrencyLimiter) {
+
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.hedgedRequestExecutor = hedgedRequestExecutor;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        this.verifyBulkhead = bulkheadRegistry.bulkhead(VERIFY_BULKHEAD_NAME);
+        this.cancelBulkhead = bulkheadRegistry.bulkhead(CANCEL_BULKHEAD_NAME);
+    }
+
+    /**
+     * 결제 조회 (검증용)
+     * 멱등한 GET 요청이므로 헤지 적용 (1차/2차 요청 모두 서킷 브레이커·벌크헤드를 거침)
+     */
+    public TossPaymentVerifyResponse getPayment(String paymentKey) {
+        return hedgedRequestExecutor.execute(
+                "getPayment",
+                () -> execute("getPayment", verifyBulkhead,
+                        () -> unwrapRetryable(() -> tossPaymentsClient.getPayment(paymentKey)))
+        );
+    }
+
+    /**
+     * 결제 취소
+     * 상태 변경 요청이므로 헤지 적용 금지
+     * 같은 환불 건은 항상 같은 멱등키로 요청해야 재시도/재전달 시 중복 환불이 발생하지 않음
+     *
+     * @param idempotencyKey 결제 ID + 환불 순번 기반 멱등키 (Payment#getRefundIdempotencyKey)
+     */
+    public TossCancelResponse cancelPayment(String paymentKey, String idempotencyKey, TossCancelRequest request) {
+        return execute("cancelPayment", cancelBulkhead,
+                () -> unwrapRetryable(() -> tossPaymentsClient.cancelPayment(paymentKey, idempotencyKey, request)));
+    }
+
+    /**
+     * 현재 서킷 브레이커 상태
+     */
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 현재 서킷 브레이커 실패율 (%), 최소 호출 수 미만이면 -1
+     */
+    public float getCircuitFailureRate() {
+        return circuitBreaker.getMetrics().getFailureRate();
+    }
+
+    /**
+     * 재시도 소진 후 Feign이 던진 RetryableException을 원인 예외(도메인 예외)로 복원
+     * IO 오류는 PgException으로 변환
+     * 요청 처리 기한 때문에 줄어든 타임아웃은 PG 장애가 아니므로 기한 초과로 변환 (서킷 브레이커 미반영)
+     */
+    private <T> T unwrapRetryable(Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (RetryableException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof SocketTimeoutException) {
+                DeadlineContext.checkpoint("토스페이먼츠 응답 대기");
+                throw new PgException(PaymentErrorCode.PG_TIMEOUT, "토스페이먼츠 응답 시간이 초과되었습니다.", e);
+            }
+            throw new PgException(PaymentErrorCode.PG_CONNECTION_FAILED, "토스페이먼츠 통신에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 동시성 제한기 → 서킷 브레이커 → 벌크헤드 순서로 호출
+     * - 제한기 거절은 서킷 브레이커에 실패로 기록되지 않음
+     * - OPEN 상태에서는 벌크헤드 슬롯도 점유하지 않고 바로 실패
+     * - 허가는 어떤 결과(Error 포함)로 끝나도 반납 (이미 반납된 허가는 무시)
+     */
+    private <T> T execute(String operation, Bulkhead bulkhead, Supplier<T> call) {
+        Supplier<T> decorated = CircuitBreaker.decorateSupplier(
+                circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, call)
+        );
+
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(operation);
+        try (AdaptiveConcurrencyLimiter.Scope ignored = permit.open()) {
+            T result = decorated.get();
+            permit.onSuccess();
+            return result;
+
+        } catch (CallNotPermittedException e) {
+            permit.onIgnore();
+            log.warn("Toss Payments 서킷 OPEN - 호출 차단, state: {}", circuitBreaker.getState());
+            throw new PgException(
+                    PaymentErrorCode.PG_CIRCUIT_OPEN,
+                    "토스페이먼츠 장애로 호출이 일시 차단되었습니다.",
+                    e
+            );
+
+        } catch (BulkheadFullException e) {
+            permit.onIgnore();
+            log.warn("Toss Payments 벌크헤드 포화 - bulkhead: {}", bulkhead.getName());
+            throw new PgException(
+                    PaymentErrorCode.PG_BULKHEAD_FULL,
+                    "토스페이먼츠 동시 요청 한도를 초과했습니다.",
+                    e
+            );
+
+        } catch (RuntimeException e) {
+            // PG 장애로 판정되는 실패만 한도 감소에 반영
+            if (failurePredicate.test(e)) {
+                permit.onDropped();
+            } else {
+                permit.onIgnore();
+            }
+            throw e;
+
+        } finally {
+            permit.onIgnore();
+        }
+    }
+}
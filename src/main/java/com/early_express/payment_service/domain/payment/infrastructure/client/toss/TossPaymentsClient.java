@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 /**
  * Toss Payments Feign Client
@@ -37,12 +38,14 @@ public interface TossPaymentsClient {
      * POST /v1/payments/{paymentKey}/cancel
      *
      * @param paymentKey 토스 결제 키
+     * @param idempotencyKey 멱등키 (같은 키로 재요청 시 Toss가 최초 결과를 반환)
      * @param request 취소 요청
      * @return 취소 결과
      */
     @PostMapping("/v1/payments/{paymentKey}/cancel")
     TossCancelResponse cancelPayment(
             @PathVariable("paymentKey") String paymentKey,
+            @RequestHeader(TossPaymentsRetryClassifier.IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
             @RequestBody TossCancelRequest request
     );
 }
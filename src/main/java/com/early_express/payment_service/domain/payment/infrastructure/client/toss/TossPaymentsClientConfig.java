@@ -1,9 +1,19 @@
 package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
 
+import com.early_express.payment_service.domain.payment.infrastructure.client.ratelimit.PgRateLimitInterceptor;
+import com.early_express.payment_service.domain.payment.infrastructure.client.ratelimit.PgRateLimiter;
+import com.early_express.payment_service.domain.payment.infrastructure.client.support.AttemptRttCapability;
+import com.early_express.payment_service.domain.payment.infrastructure.client.support.DeadlineCapability;
+import com.early_express.payment_service.domain.payment.infrastructure.client.support.PgExchangeLogger;
+import com.early_express.payment_service.domain.payment.infrastructure.client.support.PgExchangeRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Capability;
 import feign.Logger;
 import feign.Request;
 import feign.RequestInterceptor;
 import feign.Retryer;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,6 +32,18 @@ public class TossPaymentsClientConfig {
     @Value("${toss.secret-key}")
     private String tossSecretKey;
 
+    @Value("${client.toss-payments.retry.period-ms:200}")
+    private long retryPeriodMs;
+
+    @Value("${client.toss-payments.retry.max-period-ms:2000}")
+    private long retryMaxPeriodMs;
+
+    @Value("${client.toss-payments.retry.read-max-attempts:3}")
+    private int readMaxAttempts;
+
+    @Value("${client.toss-payments.retry.cancel-max-attempts:5}")
+    private int cancelMaxAttempts;
+
     /**
      * Basic 인증 헤더 추가
      */
@@ -37,9 +59,26 @@ public class TossPaymentsClientConfig {
         };
     }
 
+    /**
+     * PG 요청 한도 - 재시도/헤징을 포함한 HTTP 요청 시도마다 토큰 획득
+     */
+    @Bean
+    public RequestInterceptor tossRateLimitInterceptor(PgRateLimiter pgRateLimiter) {
+        return new PgRateLimitInterceptor(pgRateLimiter, TossPgGateway.PROVIDER);
+    }
+
+    /**
+     * 요청/응답 기록은 PgExchangeLogger가 샘플링/마스킹하여 비동기 출력
+     * (BASIC은 Feign이 로거를 호출하도록 하기 위한 값이며 헤더/본문을 직접 출력하지 않음)
+     */
     @Bean
     public Logger.Level tossClientLoggerLevel() {
-        return Logger.Level.FULL;
+        return Logger.Level.BASIC;
+    }
+
+    @Bean
+    public Logger tossExchangeLogger(PgExchangeRecorder pgExchangeRecorder) {
+        return new PgExchangeLogger(TossPgGateway.PROVIDER, pgExchangeRecorder);
     }
 
     @Bean
@@ -51,12 +90,34 @@ public class TossPaymentsClientConfig {
         );
     }
 
+    /**
+     * 요청 처리 기한이 있으면 시도마다 타임아웃을 남은 기한 이내로 축소
+     */
+    @Bean
+    public Capability tossDeadlineCapability() {
+        return new DeadlineCapability();
+    }
+
+    /**
+     * 동시성 제한기 RTT 샘플은 HTTP 시도 단위로 측정
+     */
+    @Bean
+    public Capability tossAttemptRttCapability() {
+        return new AttemptRttCapability();
+    }
+
+    /**
+     * 재시도 설정
+     * - 조회: 멱등하므로 재시도
+     * - 취소: Idempotency-Key가 있는 경우에만 재시도
+     */
     @Bean
     public Retryer tossRetryer() {
-        return new Retryer.Default(
-                200,   // 재시도 간격
-                2000,  // 최대 재시도 간격
-                3      // 최대 재시도 횟수
+        return new TossPaymentsRetryer(
+                retryPeriodMs,      // 재시도 간격
+                retryMaxPeriodMs,   // 최대 재시도 간격
+                readMaxAttempts,    // 조회 최대 시도 횟수
+                cancelMaxAttempts   // 취소 최대 시도 횟수 (Idempotency-Key 필수)
         );
     }
 
@@ -64,4 +125,17 @@ public class TossPaymentsClientConfig {
     public ErrorDecoder tossErrorDecoder() {
         return new TossPaymentsErrorDecoder();
     }
+
+    /**
+     * 응답/요청 DTO별 ObjectReader/ObjectWriter를 미리 만들어 재사용
+     */
+    @Bean
+    public Decoder tossDecoder(ObjectMapper objectMapper) {
+        return new TossPaymentsJsonDecoder(objectMapper);
+    }
+
+    @Bean
+    public Encoder tossEncoder(ObjectMapper objectMapper) {
+        return new TossPaymentsJsonEncoder(objectMapper);
+    }
 }
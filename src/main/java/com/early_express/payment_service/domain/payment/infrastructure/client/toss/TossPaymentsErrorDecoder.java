@@ -3,17 +3,27 @@ package com.early_express.payment_service.domain.payment.infrastructure.client.t
 import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
 import com.early_express.payment_service.domain.payment.domain.exception.PaymentVerificationException;
 import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.Response;
+import feign.RetryableException;
 import feign.codec.ErrorDecoder;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * Toss Payments Client 에러 디코더
  * Toss Payments API의 HTTP 에러를 도메인 예외로 변환
+ * - 재시도 가능한 에러(TossPaymentsRetryClassifier)는 도메인 예외를 원인으로 하는 RetryableException으로 감싸
+ *   TossPaymentsRetryer가 재시도하도록 함
  */
 @Slf4j
 public class TossPaymentsErrorDecoder implements ErrorDecoder {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final ErrorDecoder defaultErrorDecoder = new Default();
 
     @Override
@@ -21,21 +31,76 @@ public class TossPaymentsErrorDecoder implements ErrorDecoder {
         log.error("Toss Payments API 호출 실패 - Method: {}, Status: {}",
                 methodKey, response.status());
 
+        Exception exception;
+
         // GET /v1/payments/{paymentKey} - 결제 조회 실패
         if (methodKey.contains("getPayment")) {
-            return handleGetPaymentError(response);
+            exception = handleGetPaymentError(response);
         }
-
         // POST /v1/payments/{paymentKey}/cancel - 결제 취소 실패
-        if (methodKey.contains("cancelPayment")) {
-            return handleCancelPaymentError(response);
+        else if (methodKey.contains("cancelPayment")) {
+            exception = handleCancelPaymentError(response);
+        } else {
+            return defaultErrorDecoder.decode(methodKey, response);
         }
 
-        return defaultErrorDecoder.decode(methodKey, response);
+        String tossErrorCode = readTossErrorCode(response);
+        if (TossPaymentsRetryClassifier.isRetryable(
+                methodKey, response.status(), tossErrorCode, response.request())) {
+
+            log.warn("Toss Payments 재시도 가능 에러 - Method: {}, Status: {}, code: {}",
+                    methodKey, response.status(), tossErrorCode);
+
+            return new RetryableException(
+                    response.status(),
+                    exception.getMessage(),
+                    response.request() != null ? response.request().httpMethod() : null,
+                    exception,
+                    (Long) null,
+                    response.request()
+            );
+        }
+
+        return exception;
     }
 
+    /**
+     * Toss 에러 응답 본문의 code 필드 추출 ({"code": "...", "message": "..."})
+     */
+    private String readTossErrorCode(Response response) {
+        if (response.body() == null) {
+            return null;
+        }
+
+        try (InputStream body = response.body().asInputStream()) {
+            JsonNode code = OBJECT_MAPPER.readTree(body).get("code");
+            return code != null && code.isTextual() ? code.asText() : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 결제 조회 실패 변환
+     * - 5xx/429는 PG 장애(5xx 에러 코드)로 변환해 재시도 소진 후에도 서킷 브레이커/동시성 제한기에 실패로 반영
+     *   (429는 우리 쪽 토큰 버킷 거절(PG_RATE_LIMITED)과 구분해 PG_THROTTLED)
+     */
     private Exception handleGetPaymentError(Response response) {
-        return switch (response.status()) {
+        int status = response.status();
+        if (status == 429) {
+            return new PaymentVerificationException(
+                    PaymentErrorCode.PG_THROTTLED,
+                    "토스페이먼츠가 요청을 제한하고 있습니다."
+            );
+        }
+        if (status >= 500) {
+            return new PaymentVerificationException(
+                    PaymentErrorCode.PG_SYSTEM_ERROR,
+                    "토스페이먼츠 시스템 오류가 발생했습니다."
+            );
+        }
+
+        return switch (status) {
             case 400 -> new PaymentVerificationException(
                     PaymentErrorCode.INVALID_PAYMENT_KEY,
                     "올바르지 않은 결제 키입니다."
@@ -48,10 +113,6 @@ public class TossPaymentsErrorDecoder implements ErrorDecoder {
                     PaymentErrorCode.PAYMENT_NOT_FOUND,
                     "결제 정보를 찾을 수 없습니다."
             );
-            case 500 -> new PaymentVerificationException(
-                    PaymentErrorCode.PG_SYSTEM_ERROR,
-                    "토스페이먼츠 시스템 오류가 발생했습니다."
-            );
             default -> new PaymentVerificationException(
                     PaymentErrorCode.PG_VERIFICATION_FAILED,
                     "토스페이먼츠 결제 검증에 실패했습니다."
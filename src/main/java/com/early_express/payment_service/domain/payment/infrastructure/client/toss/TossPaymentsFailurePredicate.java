@@ -0,0 +1,34 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentException;
+import com.early_express.payment_service.global.common.deadline.DeadlineExceededException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+
+import java.util.function.Predicate;
+
+/**
+ * Toss Payments 서킷 브레이커 실패 판정
+ * - PG 장애(5xx, 통신 오류, 타임아웃)만 실패로 기록
+ * - 잘못된 결제 키, 취소 불가 상태 등 4xx 비즈니스 오류는 PG 상태와 무관하므로 제외
+ * - 벌크헤드 거절은 PG 호출 자체가 없었으므로 제외
+ * - 요청 처리 기한 초과는 호출자 사정이므로 제외
+ *
+ * application.yaml의 record-failure-predicate로 등록
+ */
+public class TossPaymentsFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof BulkheadFullException
+                || throwable instanceof DeadlineExceededException) {
+            return false;
+        }
+
+        if (throwable instanceof PaymentException paymentException
+                && paymentException.getErrorCode() != null) {
+            return paymentException.getErrorCode().getStatus() >= 500;
+        }
+
+        return true;
+    }
+}
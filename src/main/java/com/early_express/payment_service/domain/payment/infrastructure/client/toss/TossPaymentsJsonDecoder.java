@@ -0,0 +1,48 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
+
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelResponse;
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossPaymentVerifyResponse;
+import com.early_express.payment_service.global.common.utils.JsonCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Toss Payments 응답 디코더
+ * - 응답 DTO별로 미리 만든 ObjectReader(JsonCodec)로 스트림에서 바로 파싱
+ *   (HttpMessageConverter 탐색, 응답 문자열 변환 생략)
+ * - Toss가 응답에 필드를 추가해도 모르는 필드는 건너뜀
+ * - 그 외 타입은 기본 디코더로 처리
+ */
+public class TossPaymentsJsonDecoder implements Decoder {
+
+    private final Map<Type, JsonCodec<?>> codecs;
+    private final Decoder fallback = new Decoder.Default();
+
+    public TossPaymentsJsonDecoder(ObjectMapper objectMapper) {
+        this.codecs = Map.of(
+                TossPaymentVerifyResponse.class, JsonCodec.of(objectMapper, TossPaymentVerifyResponse.class),
+                TossCancelResponse.class, JsonCodec.of(objectMapper, TossCancelResponse.class)
+        );
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        JsonCodec<?> codec = codecs.get(type);
+        if (codec == null) {
+            return fallback.decode(response, type);
+        }
+        if (response.body() == null) {
+            return null;
+        }
+
+        try (InputStream body = response.body().asInputStream()) {
+            return codec.read(body);
+        }
+    }
+}
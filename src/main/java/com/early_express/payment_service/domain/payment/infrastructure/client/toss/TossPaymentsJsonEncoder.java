@@ -0,0 +1,40 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
+
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelRequest;
+import com.early_express.payment_service.global.common.utils.JsonCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Toss Payments 요청 인코더
+ * - 취소 요청 DTO용 ObjectWriter(JsonCodec)를 미리 만들어 재사용
+ */
+public class TossPaymentsJsonEncoder implements Encoder {
+
+    private final JsonCodec<TossCancelRequest> cancelRequestCodec;
+    private final Encoder fallback = new Encoder.Default();
+
+    public TossPaymentsJsonEncoder(ObjectMapper objectMapper) {
+        this.cancelRequestCodec = JsonCodec.of(objectMapper, TossCancelRequest.class);
+    }
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) {
+        if (!(object instanceof TossCancelRequest request)) {
+            fallback.encode(object, bodyType, template);
+            return;
+        }
+
+        try {
+            template.body(cancelRequestCodec.write(request), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new EncodeException("토스페이먼츠 취소 요청 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
+
+import feign.Request;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Toss Payments 재시도 가능 여부 판정
+ * - 일시적 오류 코드(PROVIDER_ERROR 등)는 상태 코드와 무관하게 재시도 가능
+ * - 429, 5xx는 재시도 가능
+ * - 결제 조회(GET)는 멱등하므로 위 조건만 만족하면 재시도
+ * - 결제 취소(POST)는 Idempotency-Key 헤더가 있을 때만 재시도 (중복 환불 방지)
+ */
+public final class TossPaymentsRetryClassifier {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * 재시도 시 결과가 달라질 수 있는 Toss 일시적 오류 코드
+     */
+    private static final Set<String> TRANSIENT_ERROR_CODES = Set.of(
+            "PROVIDER_ERROR",
+            "FAILED_INTERNAL_SYSTEM_PROCESSING",
+            "FAILED_PAYMENT_INTERNAL_SYSTEM_PROCESSING",
+            "FAILED_REFUND_PROCESS"
+    );
+
+    private TossPaymentsRetryClassifier() {
+    }
+
+    /**
+     * 응답 기반 재시도 가능 여부
+     *
+     * @param methodKey Feign 메서드 키
+     * @param status HTTP 상태 코드
+     * @param tossErrorCode Toss 에러 코드 (없으면 null)
+     * @param request 원 요청
+     */
+    public static boolean isRetryable(String methodKey, int status, String tossErrorCode, Request request) {
+        if (!isTransient(status, tossErrorCode)) {
+            return false;
+        }
+        return isSafeToRepeat(methodKey, request);
+    }
+
+    /**
+     * 같은 요청을 다시 보내도 안전한지 (IO 오류 재시도에도 사용)
+     */
+    public static boolean isSafeToRepeat(String methodKey, Request request) {
+        if (methodKey != null && methodKey.contains("cancelPayment")) {
+            return hasIdempotencyKey(request);
+        }
+        if (methodKey != null && methodKey.contains("getPayment")) {
+            return true;
+        }
+        return request != null
+                && (request.httpMethod() == Request.HttpMethod.GET || hasIdempotencyKey(request));
+    }
+
+    /**
+     * Idempotency-Key 헤더 포함 여부
+     */
+    public static boolean hasIdempotencyKey(Request request) {
+        if (request == null) {
+            return false;
+        }
+
+        for (Map.Entry<String, Collection<String>> header : request.headers().entrySet()) {
+            if (IDEMPOTENCY_KEY_HEADER.equalsIgnoreCase(header.getKey())
+                    && header.getValue() != null
+                    && !header.getValue().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTransient(int status, String tossErrorCode) {
+        if (tossErrorCode != null && TRANSIENT_ERROR_CODES.contains(tossErrorCode)) {
+            return true;
+        }
+        return status == 429 || status >= 500;
+    }
+}
@@ -0,0 +1,87 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
+
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import feign.RetryableException;
+import feign.Retryer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Toss Payments 재시도 정책
+ * - 결제 조회(GET): 멱등하므로 readMaxAttempts까지 재시도
+ * - 결제 취소(POST): Idempotency-Key가 있으면 같은 키로 cancelMaxAttempts까지 적극 재시도,
+ *   키가 없으면 중복 환불 위험이 있으므로 재시도하지 않음
+ * - 지수 백오프 + 지터
+ * - 요청 처리 기한이 있으면 대기 후 남는 시간이 없는 재시도는 하지 않음
+ *
+ * 재시도 대상 여부는 TossPaymentsErrorDecoder(응답 에러)와 Feign(IO 오류)이 만든 RetryableException 기준
+ */
+@Slf4j
+public class TossPaymentsRetryer implements Retryer {
+
+    private final long period;
+    private final long maxPeriod;
+    private final int readMaxAttempts;
+    private final int cancelMaxAttempts;
+
+    private int attempt = 1;
+
+    public TossPaymentsRetryer(long period, long maxPeriod, int readMaxAttempts, int cancelMaxAttempts) {
+        this.period = period;
+        this.maxPeriod = maxPeriod;
+        this.readMaxAttempts = readMaxAttempts;
+        this.cancelMaxAttempts = cancelMaxAttempts;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        int maxAttempts = maxAttemptsFor(e);
+
+        if (attempt >= maxAttempts) {
+            throw e;
+        }
+
+        long interval = nextInterval();
+        if (DeadlineContext.capMillis(interval) < interval) {
+            log.warn("요청 처리 기한 부족으로 Toss Payments 재시도 중단 - attempt: {}/{}, method: {}",
+                    attempt, maxAttempts, e.method());
+            throw e;
+        }
+        attempt++;
+
+        log.warn("Toss Payments 재시도 - attempt: {}/{}, method: {}, status: {}, intervalMs: {}",
+                attempt, maxAttempts, e.method(), e.status(), interval);
+
+        try {
+            Thread.sleep(interval);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @Override
+    public Retryer clone() {
+        return new TossPaymentsRetryer(period, maxPeriod, readMaxAttempts, cancelMaxAttempts);
+    }
+
+    private int maxAttemptsFor(RetryableException e) {
+        if (!TossPaymentsRetryClassifier.isSafeToRepeat(null, e.request())) {
+            return 1;
+        }
+        return TossPaymentsRetryClassifier.hasIdempotencyKey(e.request())
+                ? cancelMaxAttempts
+                : readMaxAttempts;
+    }
+
+    /**
+     * 지수 백오프 (period × 1.5^(attempt-1), 최대 maxPeriod) + 0~20% 지터
+     */
+    private long nextInterval() {
+        long base = (long) (period * Math.pow(1.5, attempt - 1));
+        long capped = Math.min(base, maxPeriod);
+        long jitter = (long) (capped * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return capped + jitter;
+    }
+}
@@ -0,0 +1,130 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.domain.payment.domain.gateway.*;
+import com.early_express.payment_service.domain.payment.infrastructure.client.support.EwmaLatencyTracker;
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelRequest;
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelResponse;
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossPaymentVerifyResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Toss Payments PG Gateway 구현체
+ * - ResilientTossPaymentsClient(서킷 브레이커/벌크헤드/동시성 제한)를 통해 호출
+ * - Toss 응답 DTO를 PG 공통 결과로 변환
+ * - 응답 시간 EWMA와 서킷 상태로 헬스 정보 제공
+ */
+@Component
+public class TossPgGateway implements PgGateway {
+
+    public static final String PROVIDER = "TOSS";
+
+    // 최근 응답 가중치 (약 10건 기준 평균)
+    private static final double LATENCY_EWMA_ALPHA = 0.2;
+
+    private final ResilientTossPaymentsClient tossPaymentsClient;
+    private final EwmaLatencyTracker latencyTracker = new EwmaLatencyTracker(LATENCY_EWMA_ALPHA);
+
+    public TossPgGateway(ResilientTossPaymentsClient tossPaymentsClient) {
+        this.tossPaymentsClient = tossPaymentsClient;
+    }
+
+    @Override
+    public String provider() {
+        return PROVIDER;
+    }
+
+    @Override
+    public PgPaymentResult getPayment(String pgPaymentKey) {
+        TossPaymentVerifyResponse response = timed(() -> tossPaymentsClient.getPayment(pgPaymentKey));
+
+        return PgPaymentResult.builder()
+                .paymentKey(response.getPaymentKey())
+                .status(toPgPaymentStatus(response))
+                .rawStatus(response.getStatus())
+                .totalAmount(response.getTotalAmount())
+                .balanceAmount(response.getBalanceAmount())
+                .transactionKey(response.getTransactionKey())
+                .method(response.getMethod())
+                .requestedAt(response.getRequestedAt())
+                .approvedAt(response.getApprovedAt())
+                .build();
+    }
+
+    @Override
+    public PgCancelResult cancelPayment(String pgPaymentKey, String idempotencyKey, PgCancelCommand command) {
+        TossCancelRequest request = command.isFullCancel()
+                ? TossCancelRequest.fullCancel(command.getCancelReason())
+                : TossCancelRequest.partialCancel(command.getCancelReason(), command.getCancelAmount());
+        TossCancelResponse response = timed(() ->
+                tossPaymentsClient.cancelPayment(pgPaymentKey, idempotencyKey, request));
+
+        List<TossCancelResponse.CancelDetail> cancels = response.getCancels();
+        if (cancels == null || cancels.isEmpty()) {
+            throw new PgException(
+                    PaymentErrorCode.PG_RESPONSE_PARSE_ERROR,
+                    "토스페이먼츠 취소 응답에 취소 내역이 없습니다. paymentKey: " + pgPaymentKey
+            );
+        }
+
+        // 취소 내역은 시간순이므로 마지막 항목이 이번 취소 건
+        TossCancelResponse.CancelDetail cancel = cancels.get(cancels.size() - 1);
+
+        return PgCancelResult.builder()
+                .paymentKey(pgPaymentKey)
+                .refundTransactionKey(cancel.getTransactionKey())
+                .cancelAmount(cancel.getCancelAmount())
+                .balanceAmount(response.getBalanceAmount())
+                .canceledAt(cancel.getCanceledAt())
+                .fullyCanceled(response.isFullyCanceled())
+                .build();
+    }
+
+    @Override
+    public PgGatewayHealth health() {
+        CircuitBreaker.State state = tossPaymentsClient.getCircuitState();
+
+        PgGatewayHealth.Status status = switch (state) {
+            case OPEN, FORCED_OPEN -> PgGatewayHealth.Status.DOWN;
+            case HALF_OPEN -> PgGatewayHealth.Status.DEGRADED;
+            default -> PgGatewayHealth.Status.UP;
+        };
+
+        return PgGatewayHealth.builder()
+                .provider(PROVIDER)
+                .status(status)
+                .latencyMillis(latencyTracker.getMillis())
+                .failureRate(Math.max(0, tossPaymentsClient.getCircuitFailureRate()))
+                .build();
+    }
+
+    /**
+     * PG 응답 시간 기록 (실패 응답도 지연에 포함)
+     */
+    private <T> T timed(Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            latencyTracker.record(System.nanoTime() - start);
+        }
+    }
+
+    private PgPaymentStatus toPgPaymentStatus(TossPaymentVerifyResponse response) {
+        if (response.isDone()) {
+            return PgPaymentStatus.DONE;
+        }
+        if (response.isCanceled()) {
+            return PgPaymentStatus.CANCELED;
+        }
+        if (response.isFailed()) {
+            return PgPaymentStatus.FAILED;
+        }
+        return PgPaymentStatus.IN_PROGRESS;
+    }
+}
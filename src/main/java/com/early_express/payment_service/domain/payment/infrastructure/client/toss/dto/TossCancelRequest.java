@@ -1,9 +1,12 @@
 package com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.math.BigDecimal;
+
 /**
  * Toss Payments 결제 취소 요청 DTO
  * POST /v1/payments/{paymentKey}/cancel
@@ -13,6 +16,7 @@ import lombok.Getter;
  */
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TossCancelRequest {
 
     /**
@@ -21,6 +25,12 @@ public class TossCancelRequest {
     @JsonProperty("cancelReason")
     private String cancelReason;
 
+    /**
+     * 취소 금액 (없으면 남은 금액 전액 취소)
+     */
+    @JsonProperty("cancelAmount")
+    private BigDecimal cancelAmount;
+
     /**
      * 전액 취소 요청 생성
      */
@@ -29,4 +39,14 @@ public class TossCancelRequest {
                 .cancelReason(cancelReason)
                 .build();
     }
+
+    /**
+     * 부분 취소 요청 생성
+     */
+    public static TossCancelRequest partialCancel(String cancelReason, BigDecimal cancelAmount) {
+        return TossCancelRequest.builder()
+                .cancelReason(cancelReason)
+                .cancelAmount(cancelAmount)
+                .build();
+    }
 }
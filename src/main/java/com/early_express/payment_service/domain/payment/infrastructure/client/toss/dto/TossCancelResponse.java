@@ -1,5 +1,6 @@
 package com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +19,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class TossCancelResponse {
 
     @JsonProperty("paymentKey")
@@ -67,6 +69,7 @@ public class TossCancelResponse {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class CancelDetail {
 
         @JsonProperty("cancelAmount")
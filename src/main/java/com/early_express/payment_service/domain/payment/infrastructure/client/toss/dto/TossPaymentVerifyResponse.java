@@ -1,5 +1,6 @@
 package com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class TossPaymentVerifyResponse {
 
     /**
@@ -127,6 +129,7 @@ public class TossPaymentVerifyResponse {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class TossFailure {
         @JsonProperty("code")
         private String code;
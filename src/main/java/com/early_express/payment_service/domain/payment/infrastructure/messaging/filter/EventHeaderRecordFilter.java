@@ -0,0 +1,91 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.filter;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.payment_service.global.infrastructure.event.header.EventHeaders;
+import com.early_express.payment_service.global.infrastructure.event.retry.NonRetryableEventException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 헤더 기반 수신 필터 (본문 역직렬화 전에 실행)
+ * - eventType 헤더가 accepted-types에 없으면 버림 (비어 있으면 모든 타입 허용)
+ * - version 헤더의 주 버전이 max-major-version보다 크면 {topic}-dlt로 보내고 버림 (업그레이드 후 재처리)
+ * - eventId 헤더가 최근 처리한 이벤트면 버림 (ProcessedEventStore 메모리 LRU, DB 조회 없음)
+ * - 헤더가 없는 메시지(이전 발행자)는 그대로 통과 → 본문 역직렬화 후 기존 경로로 처리
+ * - 버린 레코드 수: kafka.event.filtered (tag: reason)
+ */
+@Slf4j
+@Component
+public class EventHeaderRecordFilter implements RecordFilterStrategy<String, Object> {
+
+    private final ProcessedEventStore processedEventStore;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> acceptedTypes;
+    private final int maxMajorVersion;
+
+    public EventHeaderRecordFilter(
+            ProcessedEventStore processedEventStore,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${payment.events.filter.accepted-types:}") List<String> acceptedTypes,
+            @Value("${payment.events.filter.max-major-version:1}") int maxMajorVersion) {
+
+        this.processedEventStore = processedEventStore;
+        this.meterRegistry = meterRegistry;
+        this.acceptedTypes = acceptedTypes.stream()
+                .map(String::trim)
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.maxMajorVersion = maxMajorVersion;
+
+        // DLT 파티션 수가 원본과 다를 수 있으므로 파티션은 키로 결정
+        this.deadLetterRecoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + "-dlt", -1));
+    }
+
+    /**
+     * @return 버릴 레코드면 true
+     */
+    @Override
+    public boolean filter(ConsumerRecord<String, Object> record) {
+        EventHeaders headers = EventHeaders.from(record.headers());
+
+        if (headers.eventType() != null
+                && !acceptedTypes.isEmpty()
+                && !acceptedTypes.contains(headers.eventType())) {
+            return discard(record, headers, "type");
+        }
+
+        Integer majorVersion = headers.majorVersion();
+        if (majorVersion != null && majorVersion > maxMajorVersion) {
+            deadLetterRecoverer.accept(record, new NonRetryableEventException(new IllegalStateException(
+                    "지원하지 않는 이벤트 버전 - " + headers.version())));
+            return discard(record, headers, "unsupported-version");
+        }
+
+        if (processedEventStore.isRecentlyProcessed(headers.eventId())) {
+            return discard(record, headers, "duplicate");
+        }
+        return false;
+    }
+
+    private boolean discard(ConsumerRecord<String, Object> record, EventHeaders headers, String reason) {
+        meterRegistry.counter("kafka.event.filtered", "reason", reason).increment();
+        log.debug("이벤트 헤더로 수신 레코드 제외 - {}-{} offset {}, eventId: {}, eventType: {}, version: {}, reason: {}",
+                record.topic(), record.partition(), record.offset(),
+                headers.eventId(), headers.eventType(), headers.version(), reason);
+        return true;
+    }
+}
@@ -0,0 +1,140 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency;
+
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.ProcessedEventJpaRepository;
+import com.early_express.payment_service.global.infrastructure.event.base.BaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 수신 이벤트 처리 기록 (멱등 Consumer)
+ * - BaseEvent.eventId로 이미 처리한 이벤트를 판별해 재전달(리밸런스, 커밋 전 장애)을 비용 없이 건너뜀
+ * - 조회 순서: 인스턴스 메모리 LRU → p_processed_events 테이블
+ * - 처리 기록은 이벤트 처리와 같은 트랜잭션에서 먼저 추가 (같은 이벤트 동시 처리 시 한쪽만 진행)
+ * - 보관 기간(ttl-hours)이 지난 기록은 주기적으로 삭제 → 그보다 늦게 재전달된 이벤트는 다시 처리됨
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+    private final ProcessedEventJpaRepository processedEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long ttlHours;
+
+    // 최근 처리한 eventId (커밋 이후에만 추가)
+    private final Set<String> recentlyProcessed;
+
+    public ProcessedEventStore(
+            ProcessedEventJpaRepository processedEventRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${payment.event-dedupe.cache-size:10000}") int cacheSize,
+            @Value("${payment.event-dedupe.ttl-hours:168}") long ttlHours) {
+
+        this.processedEventRepository = processedEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.ttlHours = ttlHours;
+        this.recentlyProcessed = Collections.newSetFromMap(Collections.synchronizedMap(
+                new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > cacheSize;
+                    }
+                }));
+    }
+
+    /**
+     * 이벤트를 한 번만 처리
+     * - 처리 기록 추가와 handler를 한 트랜잭션으로 실행 (handler의 @Transactional은 이 트랜잭션에 참여)
+     * - noRollbackFor 예외: handler의 변경(실패 상태, 실패 이벤트 등)은 커밋하되 처리 기록은 지워 재전달 시 다시 처리
+     * - 그 밖의 예외: 전체 롤백
+     * - eventId가 없는 이벤트는 판별할 수 없으므로 그대로 처리
+     *
+     * @return 처리했으면 true, 이미 처리된 이벤트라 건너뛰었으면 false
+     */
+    public boolean executeOnce(
+            BaseEvent event,
+            Runnable handler,
+            Class<? extends RuntimeException> noRollbackFor) {
+
+        String eventId = event.getEventId();
+        if (eventId == null) {
+            handler.run();
+            return true;
+        }
+
+        if (recentlyProcessed.contains(eventId)) {
+            return skipDuplicate(event, "cache");
+        }
+        if (processedEventRepository.existsById(eventId)) {
+            recentlyProcessed.add(eventId);
+            return skipDuplicate(event, "db");
+        }
+
+        RuntimeException[] failure = new RuntimeException[1];
+        Boolean processed = transactionTemplate.execute(status -> {
+            if (processedEventRepository.insertIfAbsent(eventId, event.getEventType(), LocalDateTime.now()) == 0) {
+                return false;
+            }
+            try {
+                handler.run();
+            } catch (RuntimeException e) {
+                if (!noRollbackFor.isInstance(e)) {
+                    throw e;
+                }
+                processedEventRepository.deleteByEventId(eventId);
+                failure[0] = e;
+            }
+            return true;
+        });
+
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+
+        recentlyProcessed.add(eventId);
+        if (!Boolean.TRUE.equals(processed)) {
+            return skipDuplicate(event, "db");
+        }
+        return true;
+    }
+
+    /**
+     * 이 인스턴스가 최근 처리한 이벤트인지 (메모리 LRU만 조회, DB 조회 없음)
+     * 본문을 역직렬화하기 전에 헤더의 eventId로 재전달 레코드를 걸러낼 때 사용
+     */
+    public boolean isRecentlyProcessed(String eventId) {
+        return eventId != null && recentlyProcessed.contains(eventId);
+    }
+
+    /**
+     * 보관 기간이 지난 처리 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${payment.event-dedupe.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status ->
+                processedEventRepository.deleteProcessedBefore(LocalDateTime.now().minusHours(ttlHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("보관 기간이 지난 이벤트 처리 기록 삭제 - count: {}", deleted);
+        }
+    }
+
+    private boolean skipDuplicate(BaseEvent event, String source) {
+        meterRegistry.counter("kafka.event.duplicate", "source", source).increment();
+        log.info("이미 처리한 이벤트 건너뜀 - eventId: {}, eventType: {}, source: {}",
+                event.getEventId(), event.getEventType(), source);
+        return false;
+    }
+}
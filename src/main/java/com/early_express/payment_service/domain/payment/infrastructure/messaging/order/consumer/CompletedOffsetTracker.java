@@ -0,0 +1,40 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.consumer;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 파티션 1개의 처리 완료 offset 추적
+ * - 받은 순서대로 register, 처리가 끝나면 (순서와 무관하게) complete
+ * - 커밋 위치는 앞에서부터 연속으로 완료된 offset의 다음 위치 (중간에 미완료가 있으면 그 앞까지만)
+ * - register/nextCommitOffset은 Consumer 스레드, complete는 작업 스레드에서 호출
+ */
+class CompletedOffsetTracker {
+
+    // 받았지만 커밋 위치에 반영되지 않은 offset
+    private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+
+    // 처리가 끝났지만 앞선 offset이 미완료라 커밋하지 못한 offset
+    private final ConcurrentSkipListSet<Long> completed = new ConcurrentSkipListSet<>();
+
+    void register(long offset) {
+        pending.add(offset);
+    }
+
+    void complete(long offset) {
+        completed.add(offset);
+    }
+
+    /**
+     * 새로 커밋할 위치
+     *
+     * @return 다음에 읽을 offset (마지막 커밋 이후 진전이 없으면 -1)
+     */
+    long nextCommitOffset() {
+        long next = -1;
+        while (!pending.isEmpty() && completed.remove(pending.first())) {
+            next = pending.pollFirst() + 1;
+        }
+        return next;
+    }
+
+}
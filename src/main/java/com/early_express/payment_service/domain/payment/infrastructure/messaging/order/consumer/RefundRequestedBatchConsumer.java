@@ -0,0 +1,330 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.consumer;
+
+import com.early_express.payment_service.domain.payment.application.service.PaymentService;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.global.common.utils.WorkerThreads;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventPayloadReader;
+import com.early_express.payment_service.global.infrastructure.event.retry.NonRetryableEventException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 환불 요청 이벤트 배치 Consumer
+ * - poll 한 번에 받은 레코드를 paymentId(레코드 키) 단위로 나눠 병렬 처리, 같은 키는 offset 순서대로 처리
+ * - offset 커밋은 배치당 한 번 (파티션별로 처리가 끝난 위치까지)
+ * - 재시도 가능한 실패는 그 레코드부터 뒤 레코드(같은 키)를 처리하지 않고, 해당 파티션을 가장 앞선 미처리 offset으로 되감음
+ *   되감기 전 backoff만큼 대기 (시도마다 두 배, max-backoff-ms 이내) → PG 장애/서킷 OPEN 중에 재시도 횟수를 바로 소진하지 않음
+ * - 되감은 뒤 다시 받는 레코드 중 이미 처리한 것(다른 키)은 건너뜀
+ *   (이 인스턴스의 offset 기록, 리밸런스 등으로 다른 인스턴스가 처리한 것은 ProcessedEventStore의 eventId 기록)
+ * - 재시도 불가 오류(NonRetryableEventException.classify)와 역직렬화 실패는 바로, 재시도 가능한 실패는 max-attempts번 실패하면
+ *   {topic}-dlt로 보내고 완료 처리 (재시도 가능한 실패로 한도를 넘은 경우에만 환불 실패 이벤트 발행)
+ * - DLT 전달에 실패하면 완료 처리하지 않고 되감아 다시 처리
+ * - payment.refund.batch-listener.enabled=true일 때만 등록 (RefundRequestedEventConsumer 대체)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.refund.batch-listener.enabled", havingValue = "true")
+public class RefundRequestedBatchConsumer {
+
+    private final PaymentService paymentService;
+    private final ProcessedEventStore processedEventStore;
+    private final EventPayloadReader<RefundRequestedEvent> payloadReader;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+
+    // 되감기 이후 다시 받게 될, 이미 처리한 레코드 offset (파티션별)
+    private final Map<TopicPartition, NavigableSet<Long>> completedAhead = new ConcurrentHashMap<>();
+
+    // 레코드별 실패 횟수 ({topic}-{partition}@{offset})
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+
+    public RefundRequestedBatchConsumer(
+            PaymentService paymentService,
+            ProcessedEventStore processedEventStore,
+            ObjectMapper objectMapper,
+            AvroEventCodec avroEventCodec,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${payment.refund.batch-listener.parallelism:8}") int parallelism,
+            @Value("${payment.refund.batch-listener.max-attempts:5}") int maxAttempts,
+            @Value("${payment.refund.batch-listener.backoff-ms:1000}") long backoffMs,
+            @Value("${payment.refund.batch-listener.max-backoff-ms:10000}") long maxBackoffMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        this.paymentService = paymentService;
+        this.processedEventStore = processedEventStore;
+        this.payloadReader = EventPayloadReader.of(objectMapper, avroEventCodec, RefundRequestedEvent.class);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+
+        // DLT 파티션 수가 원본과 다를 수 있으므로 파티션은 키로 결정
+        this.deadLetterRecoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + "-dlt", -1));
+
+        this.executor = WorkerThreads.newFixedPool("refund-batch-", parallelism, virtualThreads);
+    }
+
+    /**
+     * 환불 요청 이벤트 배치 수신
+     * Topic: refund-requested
+     */
+    @KafkaListener(
+            topics = "${spring.kafka.topic.refund-requested:refund-requested}",
+            groupId = "${spring.kafka.consumer.group-id:payment-service-group}",
+            containerFactory = "refundBatchListenerContainerFactory"
+    )
+    public void handleRefundRequestedBatch(
+            List<ConsumerRecord<String, byte[]>> records,
+            Consumer<?, ?> consumer) {
+
+        log.info("환불 요청 이벤트 배치 수신 - records: {}", records.size());
+
+        // 1. 키별 그룹 (그룹 안에서는 수신 순서 유지)
+        Map<String, List<Received>> groups = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            Received received = decode(record);
+            groups.computeIfAbsent(received.orderingKey(), key -> new ArrayList<>()).add(received);
+        }
+
+        // 2. 키별 병렬 처리 (각 그룹은 처리하지 못한 레코드 목록을 반환)
+        List<CompletableFuture<List<Received>>> futures = groups.values().stream()
+                .map(group -> CompletableFuture.supplyAsync(() -> processInOrder(group), executor))
+                .toList();
+
+        List<Received> unprocessed = new ArrayList<>();
+        for (CompletableFuture<List<Received>> future : futures) {
+            unprocessed.addAll(future.join());
+        }
+
+        // 3. 파티션별 커밋 위치 = 가장 앞선 미처리 offset (없으면 마지막 offset + 1)
+        Map<TopicPartition, Long> rewindTo = new HashMap<>();
+        for (Received received : unprocessed) {
+            rewindTo.merge(received.partition(), received.record().offset(), Math::min);
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            Long rewind = rewindTo.get(partition);
+            if (rewind == null) {
+                commits.merge(partition, new OffsetAndMetadata(record.offset() + 1),
+                        (a, b) -> a.offset() >= b.offset() ? a : b);
+            } else {
+                commits.put(partition, new OffsetAndMetadata(rewind));
+            }
+        }
+
+        if (!commits.isEmpty()) {
+            consumer.commitSync(commits);
+        }
+
+        // 커밋 위치 이전의 처리 완료 기록은 더 이상 필요 없음
+        commits.forEach((partition, offset) -> {
+            NavigableSet<Long> completed = completedAhead.get(partition);
+            if (completed != null) {
+                completed.headSet(offset.offset()).clear();
+            }
+        });
+
+        // 4. 실패 파티션 되감기 (다음 poll에서 첫 미처리 레코드부터 다시 수신)
+        rewindTo.forEach((partition, offset) -> {
+            log.warn("환불 요청 배치 부분 실패 - {} offset {}부터 재수신", partition, offset);
+            consumer.seek(partition, offset);
+        });
+        if (!rewindTo.isEmpty()) {
+            backoff(unprocessed);
+        }
+
+        log.info("환불 요청 이벤트 배치 처리 완료 - records: {}, unprocessed: {}",
+                records.size(), unprocessed.size());
+    }
+
+    /**
+     * 같은 키의 레코드를 순서대로 처리
+     * 실패하면 그 레코드와 뒤 레코드는 처리하지 않고 반환 (키 내 순서 유지)
+     */
+    private List<Received> processInOrder(List<Received> group) {
+        for (int i = 0; i < group.size(); i++) {
+            Received received = group.get(i);
+            if (!process(received)) {
+                return group.subList(i, group.size());
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 레코드 1건 처리
+     *
+     * @return 처리 완료(또는 건너뜀) 여부
+     */
+    private boolean process(Received received) {
+        ConsumerRecord<String, byte[]> record = received.record();
+        TopicPartition partition = received.partition();
+
+        NavigableSet<Long> completed = completedAhead.get(partition);
+        if (completed != null && completed.contains(record.offset())) {
+            log.debug("이미 처리한 환불 요청 건너뜀 - {} offset {}", partition, record.offset());
+            return true;
+        }
+
+        RefundRequestedEvent event = received.event();
+        if (event == null) {
+            // 역직렬화 실패는 재시도해도 같은 결과
+            return deadLetter(received, new NonRetryableEventException(
+                    new IllegalArgumentException("환불 요청 이벤트 역직렬화 실패")));
+        }
+
+        try {
+            processedEventStore.executeOnce(event, () -> paymentService.refundPayment(
+                    event.getPaymentId(),
+                    event.getOrderId(),
+                    event.getRefundAmount(),
+                    event.getRefundReason()
+            ), RefundException.class);
+            attempts.remove(attemptKey(record));
+            return markCompleted(partition, record.offset());
+
+        } catch (RuntimeException e) {
+            RuntimeException classified = NonRetryableEventException.classify(e);
+            if (classified instanceof NonRetryableEventException) {
+                log.error("환불 요청 처리 실패 (재시도 불가)로 DLT 전달 - paymentId: {}, {} offset {}, error: {}",
+                        event.getPaymentId(), partition, record.offset(), e.getMessage(), e);
+                return deadLetter(received, classified);
+            }
+
+            int attempt = attempts.merge(attemptKey(record), 1, Integer::sum);
+            if (attempt >= maxAttempts) {
+                log.error("환불 요청 처리 재시도 한도 초과로 DLT 전달 - paymentId: {}, {} offset {}, error: {}",
+                        event.getPaymentId(), partition, record.offset(), e.getMessage(), e);
+                if (!deadLetter(received, classified)) {
+                    return false;
+                }
+                recordRetriesExhausted(event, e);
+                return true;
+            }
+
+            log.warn("환불 요청 처리 실패, 되감아 재시도 - paymentId: {}, orderId: {}, attempt: {}, error: {}",
+                    event.getPaymentId(), event.getOrderId(), attempt, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * DLT 전달 후 완료 처리
+     *
+     * @return 전달 성공 여부 (실패하면 완료 처리하지 않고 되감아 다시 처리)
+     */
+    private boolean deadLetter(Received received, Exception cause) {
+        ConsumerRecord<String, byte[]> record = received.record();
+        try {
+            deadLetterRecoverer.accept(record, cause);
+        } catch (RuntimeException e) {
+            log.error("환불 요청 DLT 전달 실패 - {} offset {}, error: {}",
+                    received.partition(), record.offset(), e.getMessage(), e);
+            return false;
+        }
+
+        attempts.remove(attemptKey(record));
+        meterRegistry.counter("kafka.refund.batch.dead-lettered").increment();
+        return markCompleted(received.partition(), record.offset());
+    }
+
+    /**
+     * 재시도를 소진한 일시적 실패의 환불 실패 이벤트 발행 (기록 실패는 로그만 남김, 레코드는 이미 DLT에 있음)
+     */
+    private void recordRetriesExhausted(RefundRequestedEvent event, RuntimeException failure) {
+        try {
+            paymentService.recordRefundRetriesExhausted(event.getPaymentId(), failure.getMessage());
+        } catch (RuntimeException e) {
+            log.error("환불 재시도 소진 이벤트 기록 실패 - paymentId: {}, error: {}",
+                    event.getPaymentId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 되감기 전 대기 (미처리 레코드 중 가장 많이 실패한 레코드의 시도 횟수 기준)
+     */
+    private void backoff(List<Received> unprocessed) {
+        int attempt = unprocessed.stream()
+                .mapToInt(received -> attempts.getOrDefault(attemptKey(received.record()), 1))
+                .max()
+                .orElse(1);
+        long millis = Math.min(backoffMs << Math.max(0, attempt - 1), maxBackoffMs);
+        if (millis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // 종료 중 → 되감은 위치부터 새 소유자/재기동 후 다시 수신
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean markCompleted(TopicPartition partition, long offset) {
+        completedAhead.computeIfAbsent(partition, p -> new ConcurrentSkipListSet<>()).add(offset);
+        return true;
+    }
+
+    private Received decode(ConsumerRecord<String, byte[]> record) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        RefundRequestedEvent event = null;
+        try {
+            event = payloadReader.read(record);
+        } catch (IOException | RuntimeException e) {
+            log.error("환불 요청 이벤트 역직렬화 실패 - {} offset {}", partition, record.offset(), e);
+        }
+
+        // 키가 없으면 paymentId로 순서 보장, 둘 다 없으면 레코드 단위
+        String orderingKey = record.key() != null ? record.key()
+                : event != null && event.getPaymentId() != null ? event.getPaymentId()
+                : attemptKey(record);
+
+        return new Received(record, partition, event, orderingKey);
+    }
+
+    private static String attemptKey(ConsumerRecord<?, ?> record) {
+        return record.topic() + "-" + record.partition() + "@" + record.offset();
+    }
+
+    private record Received(
+            ConsumerRecord<String, byte[]> record,
+            TopicPartition partition,
+            RefundRequestedEvent event,
+            String orderingKey) {
+    }
+}
@@ -1,9 +1,13 @@
 package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.consumer;
 
 import com.early_express.payment_service.domain.payment.application.service.PaymentService;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency.ProcessedEventStore;
 import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.global.infrastructure.event.retry.NonRetryableEventException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -15,13 +19,29 @@ import org.springframework.stereotype.Component;
  * 환불 요청 이벤트 Consumer
  * Order Service에서 발행한 환불 요청을 수신하여 처리
  * Topic: refund-requested (토픽 분리 패턴)
+ * - eventId 기준 멱등 처리 (이미 처리한 이벤트는 PG 호출 없이 ACK)
+ * - 실패 시 재시도 토픽(refund-requested-retry-N)을 거쳐 DLT로 전달, 재시도 불가 오류는 바로 DLT
+ *   (KafkaConsumerConfig#refundRequestedRetryTopicConfiguration, 재시도 토픽 레코드도 이 메서드가 처리)
+ * - DLT 레코드는 handleRefundRequestedDlt가 받아 재시도를 소진한 일시적 실패만 환불 실패 이벤트로 발행
+ * - payment.refund.batch-listener.enabled=true면 RefundRequestedBatchConsumer가 대신 처리
+ * - payment.refund.key-ordered.enabled=true면 RefundRequestedKeyOrderedConsumer가 대신 처리
+ * - payment.refund.exactly-once.enabled=true면 RefundRequestedTransactionalConsumer가 대신 처리
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(
+        name = {
+                "payment.refund.batch-listener.enabled",
+                "payment.refund.key-ordered.enabled",
+                "payment.refund.exactly-once.enabled"
+        },
+        havingValue = "false",
+        matchIfMissing = true)
 @RequiredArgsConstructor
 public class RefundRequestedEventConsumer {
 
     private final PaymentService paymentService;
+    private final ProcessedEventStore processedEventStore;
 
     /**
      * 환불 요청 이벤트 수신
@@ -38,29 +58,57 @@ public class RefundRequestedEventConsumer {
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment acknowledgment) {
 
-        log.info("환불 요청 이벤트 수신 - paymentId: {}, orderId: {}, partition: {}, offset: {}",
-                event.getPaymentId(), event.getOrderId(), partition, offset);
+        log.info("환불 요청 이벤트 수신 - paymentId: {}, orderId: {}, refundAmount: {}, partition: {}, offset: {}",
+                event.getPaymentId(), event.getOrderId(), event.getRefundAmount(), partition, offset);
 
         try {
-            // PaymentService의 cancelPayment 메서드 호출
-            paymentService.cancelPayment(
+            // 금액이 없으면 남은 금액 전액 환불 (처리 기록과 한 트랜잭션)
+            boolean processed = processedEventStore.executeOnce(event, () -> paymentService.refundPayment(
                     event.getPaymentId(),
                     event.getOrderId(),
+                    event.getRefundAmount(),
                     event.getRefundReason()
-            );
+            ), RefundException.class);
 
             // 수동 커밋
             acknowledgment.acknowledge();
 
-            log.info("환불 요청 처리 완료 - paymentId: {}, orderId: {}",
-                    event.getPaymentId(), event.getOrderId());
+            if (processed) {
+                log.info("환불 요청 처리 완료 - paymentId: {}, orderId: {}",
+                        event.getPaymentId(), event.getOrderId());
+            }
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             log.error("환불 요청 처리 실패 - paymentId: {}, orderId: {}, error: {}",
                     event.getPaymentId(), event.getOrderId(), e.getMessage(), e);
 
-            // 재시도를 위해 ACK 하지 않음
-            throw e;
+            // 재시도 토픽/DLT로 넘김 (에러 핸들러가 전달 후 offset 커밋)
+            throw NonRetryableEventException.classify(e);
         }
     }
+
+    /**
+     * 재시도 토픽을 모두 거쳐 DLT에 도착한 환불 요청 처리
+     * Topic: refund-requested-dlt (KafkaConsumerConfig에서 DLT 핸들러로 등록)
+     * - 재시도 가능한 실패(PG 일시 장애 등)로 재시도를 소진한 경우에만 환불 실패 이벤트 발행
+     * - 재시도 불가 실패(NonRetryableEventException)는 PG 거절이면 처리 중에 실패 이벤트가 이미 커밋되었고,
+     *   그 밖에는 환불 대상이 아니므로 로그만 남김
+     */
+    public void handleRefundRequestedDlt(
+            @Payload RefundRequestedEvent event,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_FQCN, required = false) String exceptionClass,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN, required = false) String causeClass,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String exceptionMessage,
+            Acknowledgment acknowledgment) {
+
+        String nonRetryable = NonRetryableEventException.class.getName();
+        if (nonRetryable.equals(exceptionClass) || nonRetryable.equals(causeClass)) {
+            log.error("환불 요청 재시도 불가로 DLT 도착 - paymentId: {}, orderId: {}, error: {}",
+                    event.getPaymentId(), event.getOrderId(), exceptionMessage);
+        } else {
+            paymentService.recordRefundRetriesExhausted(event.getPaymentId(), exceptionMessage);
+        }
+
+        acknowledgment.acknowledge();
+    }
 }
\ No newline at end of file
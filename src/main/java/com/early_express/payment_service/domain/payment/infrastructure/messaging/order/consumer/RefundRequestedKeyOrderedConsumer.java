@@ -0,0 +1,285 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.consumer;
+
+import com.early_express.payment_service.domain.payment.application.service.PaymentService;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.global.common.utils.KeyOrderedExecutor;
+import com.early_express.payment_service.global.common.utils.WorkerThreads;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventPayloadReader;
+import com.early_express.payment_service.global.infrastructure.event.retry.NonRetryableEventException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 환불 요청 이벤트 키 순서 병렬 Consumer
+ * - 파티션 수와 관계없이 받은 레코드를 작업 스레드 풀에 나눠 처리 (파티션 1개에서도 수백 건 동시 처리)
+ * - 같은 키(레코드 키 → paymentId → orderId)는 받은 순서대로 하나씩 처리
+ * - 다음 poll을 기다리지 않고 계속 받아 분배, 동시 처리 건수가 max-in-flight에 이르면 분배를 멈춤 (back-pressure)
+ * - 파티션별로 앞에서부터 연속으로 처리가 끝난 offset까지만 커밋 (배치 수신 시, 수신이 없으면 commit-interval-ms마다)
+ * - 실패한 레코드는 그 키만 backoff 후 재시도, 재시도 불가 오류이거나 max-attempts를 넘으면 {topic}-dlt로 보내고 완료 처리
+ *   (재시도 가능한 실패로 max-attempts를 넘은 경우에만 환불 실패 이벤트 발행)
+ * - 리밸런스로 회수된 파티션의 미커밋 레코드는 새 소유자가 다시 받고, ProcessedEventStore가 중복 처리를 막음
+ * - payment.refund.key-ordered.enabled=true일 때만 등록 (RefundRequestedEventConsumer 대체)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.refund.key-ordered.enabled", havingValue = "true")
+public class RefundRequestedKeyOrderedConsumer implements ConsumerSeekAware {
+
+    static final String LISTENER_ID = "refund-key-ordered";
+
+    private final PaymentService paymentService;
+    private final ProcessedEventStore processedEventStore;
+    private final EventPayloadReader<RefundRequestedEvent> payloadReader;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+    private final MeterRegistry meterRegistry;
+    private final KeyOrderedExecutor<String> keyOrderedExecutor;
+    private final Semaphore inFlight;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+
+    // 할당된 파티션별 처리 완료 offset
+    private final Map<TopicPartition, CompletedOffsetTracker> trackers = new ConcurrentHashMap<>();
+
+    public RefundRequestedKeyOrderedConsumer(
+            PaymentService paymentService,
+            ProcessedEventStore processedEventStore,
+            ObjectMapper objectMapper,
+            AvroEventCodec avroEventCodec,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${payment.refund.key-ordered.workers:64}") int workers,
+            @Value("${payment.refund.key-ordered.max-in-flight:500}") int maxInFlight,
+            @Value("${payment.refund.key-ordered.max-attempts:3}") int maxAttempts,
+            @Value("${payment.refund.key-ordered.backoff-ms:1000}") long backoffMs,
+            @Value("${payment.refund.key-ordered.max-backoff-ms:10000}") long maxBackoffMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        this.paymentService = paymentService;
+        this.processedEventStore = processedEventStore;
+        this.payloadReader = EventPayloadReader.of(objectMapper, avroEventCodec, RefundRequestedEvent.class);
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+
+        // DLT 파티션 수가 원본과 다를 수 있으므로 파티션은 키로 결정
+        this.deadLetterRecoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + "-dlt", -1));
+
+        ExecutorService executor = WorkerThreads.newFixedPool("refund-key-ordered-", workers, virtualThreads);
+        this.keyOrderedExecutor = new KeyOrderedExecutor<>(executor);
+
+        meterRegistry.gauge("kafka.refund.key-ordered.in-flight", inFlight,
+                semaphore -> maxInFlight - semaphore.availablePermits());
+    }
+
+    /**
+     * 환불 요청 이벤트 수신 후 키별 작업으로 분배
+     * Topic: refund-requested
+     */
+    @KafkaListener(
+            id = LISTENER_ID,
+            idIsGroup = false,
+            topics = "${spring.kafka.topic.refund-requested:refund-requested}",
+            groupId = "${spring.kafka.consumer.group-id:payment-service-group}",
+            containerFactory = "refundKeyOrderedListenerContainerFactory"
+    )
+    public void handleRefundRequested(
+            List<ConsumerRecord<String, byte[]>> records,
+            Consumer<?, ?> consumer) {
+
+        for (ConsumerRecord<String, byte[]> record : records) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            CompletedOffsetTracker tracker = trackers.computeIfAbsent(partition, p -> new CompletedOffsetTracker());
+            tracker.register(record.offset());
+
+            acquireSlot();
+            RefundRequestedEvent event = decode(record);
+            keyOrderedExecutor.submit(orderingKey(record, event), () -> process(record, event, tracker))
+                    .whenComplete((result, error) -> inFlight.release());
+        }
+
+        commitCompleted(consumer);
+    }
+
+    /**
+     * 새 레코드가 없어도 처리가 끝난 offset 커밋 (Consumer 스레드에서 발행되는 이벤트)
+     */
+    @EventListener(condition = "event.listenerId.startsWith('" + LISTENER_ID + "')")
+    public void onIdle(ListenerContainerIdleEvent event) {
+        commitCompleted(event.getConsumer());
+    }
+
+    /**
+     * 회수된 파티션의 추적 중단 (이후 완료되는 레코드는 커밋하지 않음)
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        partitions.forEach(trackers::remove);
+    }
+
+    /**
+     * 이 Consumer에 할당된 파티션의 연속 처리 완료 위치 커밋
+     */
+    void commitCompleted(Consumer<?, ?> consumer) {
+        Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+        for (TopicPartition partition : consumer.assignment()) {
+            CompletedOffsetTracker tracker = trackers.get(partition);
+            if (tracker == null) {
+                continue;
+            }
+            long next = tracker.nextCommitOffset();
+            if (next >= 0) {
+                commits.put(partition, new OffsetAndMetadata(next));
+            }
+        }
+
+        if (!commits.isEmpty()) {
+            consumer.commitAsync(commits, (offsets, e) -> {
+                if (e != null) {
+                    log.warn("환불 요청 offset 커밋 실패 (다음 커밋에서 반영) - offsets: {}, error: {}",
+                            offsets, e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * 레코드 1건 처리 (같은 키의 다음 레코드는 이 작업이 끝난 뒤 실행)
+     */
+    private void process(ConsumerRecord<String, byte[]> record, RefundRequestedEvent event,
+                         CompletedOffsetTracker tracker) {
+        if (event == null) {
+            // 역직렬화 실패는 재시도해도 같은 결과
+            deadLetter(record, new NonRetryableEventException(
+                    new IllegalArgumentException("환불 요청 이벤트 역직렬화 실패")), tracker);
+            return;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                processedEventStore.executeOnce(event, () -> paymentService.refundPayment(
+                        event.getPaymentId(),
+                        event.getOrderId(),
+                        event.getRefundAmount(),
+                        event.getRefundReason()
+                ), RefundException.class);
+                tracker.complete(record.offset());
+                return;
+
+            } catch (RuntimeException e) {
+                RuntimeException classified = NonRetryableEventException.classify(e);
+                if (classified instanceof NonRetryableEventException || attempt >= maxAttempts) {
+                    log.error("환불 요청 처리 실패로 DLT 전달 - paymentId: {}, attempt: {}, error: {}",
+                            event.getPaymentId(), attempt, e.getMessage(), e);
+                    if (!(classified instanceof NonRetryableEventException)) {
+                        recordRetriesExhausted(event, e);
+                    }
+                    deadLetter(record, classified, tracker);
+                    return;
+                }
+
+                log.warn("환불 요청 처리 실패, 같은 키 재시도 대기 - paymentId: {}, attempt: {}, error: {}",
+                        event.getPaymentId(), attempt, e.getMessage());
+                if (!sleep(Math.min(backoffMs << (attempt - 1), maxBackoffMs))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 재시도를 소진한 일시적 실패의 환불 실패 이벤트 발행 (기록 실패가 DLT 전달을 막지 않도록 로그만 남김)
+     */
+    private void recordRetriesExhausted(RefundRequestedEvent event, RuntimeException failure) {
+        try {
+            paymentService.recordRefundRetriesExhausted(event.getPaymentId(), failure.getMessage());
+        } catch (RuntimeException e) {
+            log.error("환불 재시도 소진 이벤트 기록 실패 - paymentId: {}, error: {}",
+                    event.getPaymentId(), e.getMessage(), e);
+        }
+    }
+
+    private void deadLetter(ConsumerRecord<String, byte[]> record, Exception cause,
+                            CompletedOffsetTracker tracker) {
+        try {
+            deadLetterRecoverer.accept(record, cause);
+            meterRegistry.counter("kafka.refund.key-ordered.dead-lettered").increment();
+            tracker.complete(record.offset());
+        } catch (RuntimeException e) {
+            // 완료 처리하지 않음 → 이 offset 이후는 커밋되지 않고 재시작/리밸런스 시 다시 수신
+            log.error("환불 요청 DLT 전달 실패 - {}-{} offset {}, error: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage(), e);
+        }
+    }
+
+    private RefundRequestedEvent decode(ConsumerRecord<String, byte[]> record) {
+        try {
+            return payloadReader.read(record);
+        } catch (IOException | RuntimeException e) {
+            log.error("환불 요청 이벤트 역직렬화 실패 - {}-{} offset {}",
+                    record.topic(), record.partition(), record.offset(), e);
+            return null;
+        }
+    }
+
+    private static String orderingKey(ConsumerRecord<String, byte[]> record, RefundRequestedEvent event) {
+        if (record.key() != null) {
+            return record.key();
+        }
+        if (event != null && event.getPaymentId() != null) {
+            return event.getPaymentId();
+        }
+        if (event != null && event.getOrderId() != null) {
+            return event.getOrderId();
+        }
+        return record.topic() + "-" + record.partition() + "@" + record.offset();
+    }
+
+    private void acquireSlot() {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("환불 요청 분배 중단", e);
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.consumer;
+
+import com.early_express.payment_service.domain.payment.application.service.PaymentService;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher.OutboxSourceContext;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.relay.PaymentEventOutboxRelay;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentEventOutboxEntity;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.PaymentEventOutboxJpaRepository;
+import com.early_express.payment_service.global.common.utils.WorkerThreads;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventPayloadReader;
+import com.early_express.payment_service.global.infrastructure.event.retry.NonRetryableEventException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 환불 요청 이벤트 Kafka 트랜잭션 Consumer (consume-process-produce exactly-once)
+ * - 컨테이너가 poll마다 Kafka 트랜잭션을 열고, 리스너가 보낸 결제 이벤트/DLT 레코드와 배치 offset을 함께 커밋
+ * - 레코드별 DB 처리(환불 + Outbox 저장 + 처리 기록)는 paymentId(레코드 키) 단위로 병렬, DB 트랜잭션이 먼저 커밋
+ * - Outbox 이벤트는 원본 레코드({topic}-{partition}@{offset})와 함께 발행 완료로 저장 (Relay가 발행하지 않음)
+ *   → DB 커밋 후 원본 레코드로 조회해 리스너 스레드(Kafka 트랜잭션)에서 발행
+ * - DB 커밋 후 Kafka 커밋 전 장애: 트랜잭션 중단 → 같은 배치 재수신 → 이미 처리한 레코드는 환불 없이 저장된 이벤트만 재발행
+ *   (다른 offset으로 중복 수신한 같은 eventId는 원본 레코드가 달라 재발행하지 않음)
+ * - 처리 실패는 같은 레코드를 backoff 후 재시도, 재시도 불가 오류이거나 max-attempts를 넘으면 같은 트랜잭션으로 {topic}-dlt
+ *   재시도 가능한 실패로 max-attempts를 넘으면 환불 실패 이벤트를 처리 기록과 함께 Outbox에 저장해 함께 발행
+ *   (중단된 트랜잭션 재수신 시 다시 환불하지 않고 저장된 실패 이벤트만 재발행)
+ * - payment.refund.exactly-once.enabled=true일 때만 등록 (RefundRequestedEventConsumer 대체)
+ *   payment.outbox.enabled=false면 이벤트가 Outbox에 저장되지 않아 발행할 수 없으므로 기동 실패
+ * - 결제 이벤트 구독 서비스는 isolation.level=read_committed로 읽어야 중단된 트랜잭션의 이벤트를 보지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.refund.exactly-once.enabled", havingValue = "true")
+public class RefundRequestedTransactionalConsumer {
+
+    private final PaymentService paymentService;
+    private final ProcessedEventStore processedEventStore;
+    private final PaymentEventOutboxJpaRepository outboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+    private final EventPayloadReader<RefundRequestedEvent> payloadReader;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public RefundRequestedTransactionalConsumer(
+            PaymentService paymentService,
+            ProcessedEventStore processedEventStore,
+            PaymentEventOutboxJpaRepository outboxRepository,
+            @Qualifier("transactionalKafkaTemplate") KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            AvroEventCodec avroEventCodec,
+            MeterRegistry meterRegistry,
+            @Value("${payment.refund.exactly-once.parallelism:8}") int parallelism,
+            @Value("${payment.refund.exactly-once.max-attempts:3}") int maxAttempts,
+            @Value("${payment.refund.exactly-once.backoff-ms:200}") long backoffMs,
+            @Value("${payment.outbox.enabled:true}") boolean outboxEnabled,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        if (!outboxEnabled) {
+            throw new IllegalStateException(
+                    "payment.refund.exactly-once.enabled=true는 payment.outbox.enabled=true에서만 사용할 수 있습니다.");
+        }
+
+        this.paymentService = paymentService;
+        this.processedEventStore = processedEventStore;
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.payloadReader = EventPayloadReader.of(objectMapper, avroEventCodec, RefundRequestedEvent.class);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+
+        // 트랜잭션 템플릿이라 리스너 스레드의 Kafka 트랜잭션에 포함됨, DLT 파티션은 키로 결정
+        this.deadLetterRecoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + "-dlt", -1));
+
+        this.executor = WorkerThreads.newFixedPool("refund-tx-", parallelism, virtualThreads);
+    }
+
+    /**
+     * 환불 요청 이벤트 배치 수신 (Kafka 트랜잭션 안에서 호출)
+     * Topic: refund-requested
+     */
+    @KafkaListener(
+            topics = "${spring.kafka.topic.refund-requested:refund-requested}",
+            groupId = "${spring.kafka.consumer.group-id:payment-service-group}",
+            containerFactory = "refundTransactionalListenerContainerFactory"
+    )
+    public void handleRefundRequestedBatch(List<ConsumerRecord<String, byte[]>> records) {
+        log.info("환불 요청 이벤트 트랜잭션 배치 수신 - records: {}", records.size());
+
+        // 1. 키별 그룹 (그룹 안에서는 수신 순서 유지)
+        Map<String, List<Received>> groups = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            Received received = decode(record);
+            groups.computeIfAbsent(received.orderingKey(), key -> new ArrayList<>()).add(received);
+        }
+
+        // 2. 키별 병렬 DB 처리 (레코드마다 DB 트랜잭션 커밋 후 발행할 이벤트 조회)
+        List<CompletableFuture<List<Processed>>> futures = groups.values().stream()
+                .map(group -> CompletableFuture.supplyAsync(() -> processInOrder(group), executor))
+                .toList();
+
+        // 3. 리스너 스레드에서 발행 (Kafka 트랜잭션은 이 스레드에 묶여 있음)
+        //    DB 처리 실패는 모든 그룹이 끝난 뒤 예외로 전파 → 트랜잭션 중단 후 배치 재수신 (커밋된 레코드는 재발행만 수행)
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        int events = 0;
+        int deadLettered = 0;
+        for (CompletableFuture<List<Processed>> future : futures) {
+            for (Processed processed : future.join()) {
+                for (PaymentEventOutboxEntity outbox : processed.events()) {
+                    kafkaTemplate.send(PaymentEventOutboxRelay.toRecord(outbox));
+                }
+                events += processed.events().size();
+
+                if (processed.failure() != null) {
+                    deadLetterRecoverer.accept(processed.record(), processed.failure());
+                    deadLettered++;
+                }
+            }
+        }
+
+        meterRegistry.counter("kafka.refund.transactional.events").increment(events);
+        meterRegistry.counter("kafka.refund.transactional.dead-lettered").increment(deadLettered);
+        log.info("환불 요청 이벤트 트랜잭션 배치 처리 완료 - records: {}, events: {}, deadLettered: {}",
+                records.size(), events, deadLettered);
+    }
+
+    private List<Processed> processInOrder(List<Received> group) {
+        List<Processed> processed = new ArrayList<>(group.size());
+        for (Received received : group) {
+            processed.add(process(received));
+        }
+        return processed;
+    }
+
+    /**
+     * 레코드 1건 DB 처리 후 발행할 이벤트 조회
+     * 이전에 처리한 레코드(중단된 Kafka 트랜잭션 재수신)는 환불 없이 저장된 이벤트만 반환
+     */
+    private Processed process(Received received) {
+        ConsumerRecord<String, byte[]> record = received.record();
+        RefundRequestedEvent event = received.event();
+        if (event == null) {
+            // 역직렬화 실패는 재시도해도 같은 결과
+            return new Processed(record, List.of(), new NonRetryableEventException(
+                    new IllegalArgumentException("환불 요청 이벤트 역직렬화 실패")));
+        }
+
+        String sourceRecord = sourceRecord(record);
+        RuntimeException failure = null;
+        for (int attempt = 1; ; attempt++) {
+            try (OutboxSourceContext.Scope ignored = OutboxSourceContext.open(sourceRecord)) {
+                boolean processed = processedEventStore.executeOnce(event, () -> paymentService.refundPayment(
+                        event.getPaymentId(),
+                        event.getOrderId(),
+                        event.getRefundAmount(),
+                        event.getRefundReason()
+                ), RefundException.class);
+                if (!processed) {
+                    meterRegistry.counter("kafka.refund.transactional.replayed").increment();
+                }
+                break;
+
+            } catch (RuntimeException e) {
+                // RefundException(PG 거절/환불 불가)은 실패 상태/실패 이벤트가 커밋된 상태 → 아래에서 함께 발행
+                // PG 일시 장애(PgException)는 결제 변경이 롤백되어 재시도 시 같은 멱등키로 PG에 다시 요청
+                RuntimeException classified = NonRetryableEventException.classify(e);
+                if (classified instanceof NonRetryableEventException || attempt >= maxAttempts) {
+                    log.error("환불 요청 처리 실패로 DLT 전달 - paymentId: {}, attempt: {}, error: {}",
+                            event.getPaymentId(), attempt, e.getMessage(), e);
+                    if (!(classified instanceof NonRetryableEventException)) {
+                        recordRetriesExhausted(event, sourceRecord, e);
+                    }
+                    failure = classified;
+                    break;
+                }
+
+                log.warn("환불 요청 처리 실패, 재시도 대기 - paymentId: {}, attempt: {}, error: {}",
+                        event.getPaymentId(), attempt, e.getMessage());
+                sleep(backoffMs << (attempt - 1));
+            }
+        }
+
+        return new Processed(record, outboxRepository.findBySourceRecordOrderByIdAsc(sourceRecord), failure);
+    }
+
+    /**
+     * 재시도를 소진한 일시적 실패의 환불 실패 이벤트를 처리 기록과 함께 저장 (원본 레코드 기준으로 조회해 발행)
+     * 기록 실패가 DLT 전달을 막지 않도록 로그만 남김
+     */
+    private void recordRetriesExhausted(RefundRequestedEvent event, String sourceRecord, RuntimeException failure) {
+        try (OutboxSourceContext.Scope ignored = OutboxSourceContext.open(sourceRecord)) {
+            processedEventStore.executeOnce(event, () -> paymentService.recordRefundRetriesExhausted(
+                    event.getPaymentId(),
+                    failure.getMessage()
+            ), RefundException.class);
+        } catch (RuntimeException e) {
+            log.error("환불 재시도 소진 이벤트 기록 실패 - paymentId: {}, error: {}",
+                    event.getPaymentId(), e.getMessage(), e);
+        }
+    }
+
+    private Received decode(ConsumerRecord<String, byte[]> record) {
+        RefundRequestedEvent event = null;
+        try {
+            event = payloadReader.read(record);
+        } catch (IOException | RuntimeException e) {
+            log.error("환불 요청 이벤트 역직렬화 실패 - {}-{} offset {}",
+                    record.topic(), record.partition(), record.offset(), e);
+        }
+
+        // 키가 없으면 paymentId로 순서 보장, 둘 다 없으면 레코드 단위
+        String orderingKey = record.key() != null ? record.key()
+                : event != null && event.getPaymentId() != null ? event.getPaymentId()
+                : sourceRecord(record);
+
+        return new Received(record, event, orderingKey);
+    }
+
+    static String sourceRecord(ConsumerRecord<?, ?> record) {
+        return record.topic() + "-" + record.partition() + "@" + record.offset();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // 종료 중 → 배치를 중단해 트랜잭션을 되돌림
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("환불 요청 재시도 대기 중 중단", e);
+        }
+    }
+
+    private record Received(
+            ConsumerRecord<String, byte[]> record,
+            RefundRequestedEvent event,
+            String orderingKey) {
+    }
+
+    /**
+     * @param events 발행할 Outbox 이벤트 (저장 순서)
+     * @param failure DLT로 보낼 원인 (처리 완료면 null)
+     */
+    private record Processed(
+            ConsumerRecord<String, byte[]> record,
+            List<PaymentEventOutboxEntity> events,
+            RuntimeException failure) {
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -22,6 +23,9 @@ public class RefundRequestedEvent extends BaseEvent {
     private String orderId;
     private String refundReason;
 
+    // 환불 금액 (없으면 남은 금액 전액 환불)
+    private BigDecimal refundAmount;
+
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime requestedAt;
 }
\ No newline at end of file
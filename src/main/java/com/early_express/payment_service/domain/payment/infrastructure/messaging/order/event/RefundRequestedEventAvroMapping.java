@@ -0,0 +1,49 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event;
+
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventMapping;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * RefundRequestedEvent Avro 매핑 (avro/refund-requested.avsc)
+ * Order Service가 같은 스키마로 발행하면 __SchemaId__ 헤더로 Avro 수신
+ */
+@Component
+public class RefundRequestedEventAvroMapping implements AvroEventMapping<RefundRequestedEvent> {
+
+    private static final Schema SCHEMA = AvroEventMapping.loadSchema("avro/refund-requested.avsc");
+
+    @Override
+    public Class<RefundRequestedEvent> type() {
+        return RefundRequestedEvent.class;
+    }
+
+    @Override
+    public Schema schema() {
+        return SCHEMA;
+    }
+
+    @Override
+    public GenericRecord toRecord(RefundRequestedEvent event) {
+        GenericData.Record record = AvroEventMapping.newRecord(SCHEMA, event);
+        record.put("paymentId", event.getPaymentId());
+        record.put("orderId", event.getOrderId());
+        record.put("refundReason", event.getRefundReason());
+        record.put("refundAmount", AvroEventMapping.decimal(event.getRefundAmount()));
+        record.put("requestedAt", AvroEventMapping.dateTime(event.getRequestedAt()));
+        return record;
+    }
+
+    @Override
+    public RefundRequestedEvent fromRecord(GenericRecord record) {
+        return AvroEventMapping.baseFields(RefundRequestedEvent.builder(), record)
+                .paymentId(AvroEventMapping.string(record, "paymentId"))
+                .orderId(AvroEventMapping.string(record, "orderId"))
+                .refundReason(AvroEventMapping.string(record, "refundReason"))
+                .refundAmount(AvroEventMapping.decimal(record, "refundAmount"))
+                .requestedAt(AvroEventMapping.dateTime(record, "requestedAt"))
+                .build();
+    }
+}
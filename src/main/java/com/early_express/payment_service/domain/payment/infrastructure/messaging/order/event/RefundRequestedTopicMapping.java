@@ -0,0 +1,30 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event;
+
+import com.early_express.payment_service.global.infrastructure.event.codec.TopicEventMapping;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * refund-requested 토픽 → RefundRequestedEvent
+ * 레코드 리스너 모드에서 Consumer가 poll 시점에 바로 이벤트로 역직렬화
+ */
+@Component
+public class RefundRequestedTopicMapping implements TopicEventMapping<RefundRequestedEvent> {
+
+    private final String topic;
+
+    public RefundRequestedTopicMapping(
+            @Value("${spring.kafka.topic.refund-requested:refund-requested}") String topic) {
+        this.topic = topic;
+    }
+
+    @Override
+    public String topic() {
+        return topic;
+    }
+
+    @Override
+    public Class<RefundRequestedEvent> type() {
+        return RefundRequestedEvent.class;
+    }
+}
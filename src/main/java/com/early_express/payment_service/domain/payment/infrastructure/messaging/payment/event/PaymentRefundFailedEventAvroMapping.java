@@ -0,0 +1,48 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event;
+
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventMapping;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * PaymentRefundFailedEvent Avro 매핑 (avro/payment-refund-failed.avsc)
+ */
+@Component
+public class PaymentRefundFailedEventAvroMapping implements AvroEventMapping<PaymentRefundFailedEvent> {
+
+    private static final Schema SCHEMA = AvroEventMapping.loadSchema("avro/payment-refund-failed.avsc");
+
+    @Override
+    public Class<PaymentRefundFailedEvent> type() {
+        return PaymentRefundFailedEvent.class;
+    }
+
+    @Override
+    public Schema schema() {
+        return SCHEMA;
+    }
+
+    @Override
+    public GenericRecord toRecord(PaymentRefundFailedEvent event) {
+        GenericData.Record record = AvroEventMapping.newRecord(SCHEMA, event);
+        record.put("paymentId", event.getPaymentId());
+        record.put("orderId", event.getOrderId());
+        record.put("requestedRefundAmount", AvroEventMapping.decimal(event.getRequestedRefundAmount()));
+        record.put("errorMessage", event.getErrorMessage());
+        record.put("failedAt", AvroEventMapping.dateTime(event.getFailedAt()));
+        return record;
+    }
+
+    @Override
+    public PaymentRefundFailedEvent fromRecord(GenericRecord record) {
+        return AvroEventMapping.baseFields(PaymentRefundFailedEvent.builder(), record)
+                .paymentId(AvroEventMapping.string(record, "paymentId"))
+                .orderId(AvroEventMapping.string(record, "orderId"))
+                .requestedRefundAmount(AvroEventMapping.decimal(record, "requestedRefundAmount"))
+                .errorMessage(AvroEventMapping.string(record, "errorMessage"))
+                .failedAt(AvroEventMapping.dateTime(record, "failedAt"))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event;
+
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventMapping;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * PaymentRefundedEvent Avro 매핑 (avro/payment-refunded.avsc)
+ */
+@Component
+public class PaymentRefundedEventAvroMapping implements AvroEventMapping<PaymentRefundedEvent> {
+
+    private static final Schema SCHEMA = AvroEventMapping.loadSchema("avro/payment-refunded.avsc");
+
+    @Override
+    public Class<PaymentRefundedEvent> type() {
+        return PaymentRefundedEvent.class;
+    }
+
+    @Override
+    public Schema schema() {
+        return SCHEMA;
+    }
+
+    @Override
+    public GenericRecord toRecord(PaymentRefundedEvent event) {
+        GenericData.Record record = AvroEventMapping.newRecord(SCHEMA, event);
+        record.put("paymentId", event.getPaymentId());
+        record.put("orderId", event.getOrderId());
+        record.put("refundAmount", AvroEventMapping.decimal(event.getRefundAmount()));
+        record.put("totalRefundedAmount", AvroEventMapping.decimal(event.getTotalRefundedAmount()));
+        record.put("refundReason", event.getRefundReason());
+        record.put("pgRefundId", event.getPgRefundId());
+        record.put("fullRefund", event.isFullRefund());
+        record.put("refundedAt", AvroEventMapping.dateTime(event.getRefundedAt()));
+        return record;
+    }
+
+    @Override
+    public PaymentRefundedEvent fromRecord(GenericRecord record) {
+        return AvroEventMapping.baseFields(PaymentRefundedEvent.builder(), record)
+                .paymentId(AvroEventMapping.string(record, "paymentId"))
+                .orderId(AvroEventMapping.string(record, "orderId"))
+                .refundAmount(AvroEventMapping.decimal(record, "refundAmount"))
+                .totalRefundedAmount(AvroEventMapping.decimal(record, "totalRefundedAmount"))
+                .refundReason(AvroEventMapping.string(record, "refundReason"))
+                .pgRefundId(AvroEventMapping.string(record, "pgRefundId"))
+                .fullRefund((Boolean) record.get("fullRefund"))
+                .refundedAt(AvroEventMapping.dateTime(record, "refundedAt"))
+                .build();
+    }
+}
@@ -0,0 +1,239 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher;
+
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import com.early_express.payment_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.payment_service.global.infrastructure.event.header.EventHeaders;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 이벤트 Kafka 직접 발행기 (payment.outbox.enabled=false)
+ * - 전송은 비동기, 호출 스레드는 producer 버퍼에 넣을 때까지만 대기 (linger.ms/batch.size 단위로 묶여 zstd 압축 전송)
+ * - 전송 중(ack 대기 + 재시도 대기) 이벤트 수를 max-in-flight로 제한
+ *   초과 시 호출 스레드가 acquire-timeout-ms(요청 처리 기한 이내)까지 대기 (backpressure), 그래도 자리가 없으면 Outbox에 보관
+ *   호출 트랜잭션 안에서는 커넥션/행 잠금을 쥔 채 기다리지 않고 바로 Outbox에 보관 (같은 트랜잭션으로 커밋)
+ * - 일시적 오류(RetriableException)는 retry-backoff-ms부터 두 배씩 늘려 max-attempts까지 재전송
+ * - 재시도 소진/재시도 불가 오류/종료 시 대기 중인 재시도는 Outbox에 보관 → PaymentEventOutboxRelay가 발행
+ *
+ * 메트릭:
+ * - kafka.publisher.in-flight: 전송 중 이벤트 수
+ * - kafka.publisher.retries: 재전송 수
+ * - kafka.publisher.parked (tag: reason): Outbox 보관 수 (backpressure, send-failed, shutdown)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.outbox.enabled", havingValue = "false")
+public class BoundedKafkaEventSender {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final PaymentEventOutboxAppender outboxAppender;
+    private final MeterRegistry meterRegistry;
+
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final long acquireTimeoutMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    // 재시도 대기와 Outbox 보관(JDBC)은 producer I/O 스레드가 아닌 별도 스레드에서 실행
+    private final ScheduledExecutorService retryScheduler;
+    private final Set<PendingEvent> waitingRetries = ConcurrentHashMap.newKeySet();
+
+    public BoundedKafkaEventSender(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            PaymentEventOutboxAppender outboxAppender,
+            MeterRegistry meterRegistry,
+            @Value("${payment.events.publisher.max-in-flight:1000}") int maxInFlight,
+            @Value("${payment.events.publisher.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            @Value("${payment.events.publisher.max-attempts:3}") int maxAttempts,
+            @Value("${payment.events.publisher.retry-backoff-ms:500}") long retryBackoffMs) {
+
+        this.kafkaTemplate = kafkaTemplate;
+        this.outboxAppender = outboxAppender;
+        this.meterRegistry = meterRegistry;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.retryScheduler = Executors.newScheduledThreadPool(2,
+                Thread.ofPlatform().name("kafka-publisher-retry-", 1).daemon(true).factory());
+
+        Gauge.builder("kafka.publisher.in-flight", this, BoundedKafkaEventSender::inFlightCount)
+                .description("ack를 기다리거나 재시도 대기 중인 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 발행 (트랜잭션 밖에서는 전송 자리가 날 때까지 최대 acquire-timeout-ms 대기)
+     *
+     * @param aggregateId Outbox 보관 시 aggregate id (결제 ID)
+     */
+    public void send(String topic, String aggregateId, String key, BaseEvent event) {
+        PendingEvent pending = new PendingEvent(topic, aggregateId, key, event);
+
+        if (!acquire()) {
+            log.warn("전송 중 이벤트가 한도({})에 도달해 Outbox에 보관 - topic: {}, key: {}, eventId: {}",
+                    maxInFlight, topic, key, event.getEventId());
+            park(pending, "backpressure", null);
+            return;
+        }
+        attempt(pending, 1);
+    }
+
+    public int inFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * 재시도 대기 중인 이벤트는 Outbox에 보관 후 종료 (전송 중인 이벤트는 KafkaTemplate 종료 시 flush)
+     */
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        log.info("이벤트 발행기 종료 - 재시도 대기 {}건 Outbox 보관", waitingRetries.size());
+        for (PendingEvent pending : List.copyOf(waitingRetries)) {
+            if (waitingRetries.remove(pending)) {
+                try {
+                    park(pending, "shutdown", null);
+                } finally {
+                    inFlight.release();
+                }
+            }
+        }
+    }
+
+    private boolean acquire() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return inFlight.tryAcquire();
+        }
+        try {
+            return inFlight.tryAcquire(DeadlineContext.capMillis(acquireTimeoutMs), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void attempt(PendingEvent pending, int attempt) {
+        CompletableFuture<SendResult<String, Object>> future;
+        try {
+            future = kafkaTemplate.send(pending.toRecord());
+        } catch (RuntimeException e) {
+            // 버퍼 가득 참(max.block.ms 초과), 직렬화 실패 등 즉시 실패
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((result, ex) -> {
+            if (ex == null) {
+                inFlight.release();
+                log.debug("이벤트 발행 성공 - topic: {}, partition: {}, offset: {}",
+                        pending.topic(),
+                        result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset());
+                return;
+            }
+            if (attempt < maxAttempts && isRetriable(ex)) {
+                scheduleRetry(pending, attempt, ex);
+                return;
+            }
+            log.error("이벤트 발행 실패, Outbox에 보관 - topic: {}, key: {}, eventId: {}, attempts: {}, error: {}",
+                    pending.topic(), pending.key(), pending.event().getEventId(), attempt, ex.getMessage());
+            executeOrRun(() -> {
+                try {
+                    park(pending, "send-failed", ex);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        });
+    }
+
+    private void scheduleRetry(PendingEvent pending, int attempt, Throwable cause) {
+        long delayMs = retryBackoffMs << (attempt - 1);
+        meterRegistry.counter("kafka.publisher.retries").increment();
+        log.warn("이벤트 발행 재시도 예약 - topic: {}, key: {}, eventId: {}, attempt: {}, delayMs: {}, error: {}",
+                pending.topic(), pending.key(), pending.event().getEventId(), attempt, delayMs, cause.getMessage());
+
+        waitingRetries.add(pending);
+        try {
+            retryScheduler.schedule(() -> {
+                if (waitingRetries.remove(pending)) {
+                    attempt(pending, attempt + 1);
+                }
+            }, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 (shutdown이 먼저 가져가지 않았으면 여기서 보관)
+            if (waitingRetries.remove(pending)) {
+                try {
+                    park(pending, "shutdown", cause);
+                } finally {
+                    inFlight.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Outbox 보관 (실패 시 이벤트 유실 → error 로그로 eventId 남김)
+     */
+    private void park(PendingEvent pending, String reason, Throwable cause) {
+        try {
+            outboxAppender.append(pending.topic(), pending.aggregateId(), pending.key(), pending.event());
+            meterRegistry.counter("kafka.publisher.parked", "reason", reason).increment();
+        } catch (RuntimeException e) {
+            log.error("이벤트 Outbox 보관 실패 (유실) - topic: {}, key: {}, eventId: {}, reason: {}, sendError: {}",
+                    pending.topic(), pending.key(), pending.event().getEventId(), reason,
+                    cause != null ? cause.getMessage() : null, e);
+        }
+    }
+
+    private void executeOrRun(Runnable task) {
+        try {
+            retryScheduler.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private static boolean isRetriable(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 전송 대기 이벤트 (producer가 전송한 레코드의 헤더는 변경할 수 없어 시도마다 새 레코드 생성)
+     */
+    private record PendingEvent(String topic, String aggregateId, String key, BaseEvent event) {
+
+        ProducerRecord<String, Object> toRecord() {
+            ProducerRecord<String, Object> record = new ProducerRecord<>(topic, key, event);
+            EventHeaders.of(event).writeTo(record.headers());
+            return record;
+        }
+    }
+}
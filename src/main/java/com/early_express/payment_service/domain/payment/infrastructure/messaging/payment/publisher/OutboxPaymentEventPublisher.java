@@ -0,0 +1,59 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher;
+
+import com.early_express.payment_service.domain.payment.domain.messaging.PaymentEventPublisher;
+import com.early_express.payment_service.domain.payment.domain.messaging.PaymentRefundFailedEventData;
+import com.early_express.payment_service.domain.payment.domain.messaging.PaymentRefundedEventData;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundFailedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Payment Event Publisher Outbox 구현체
+ * - Kafka로 바로 보내지 않고 결제 변경과 같은 트랜잭션에서 Outbox 테이블에 저장
+ * - 커밋된 이벤트만 PaymentEventOutboxRelay가 Kafka로 발행 (롤백/발행 전 장애 시 불일치 방지)
+ * - 저장/NOTIFY와 메시지 형식은 PaymentEventOutboxAppender 참고 (PaymentEventPublisherImpl과 동일한 형식)
+ * - payment.outbox.enabled=false면 PaymentEventPublisherImpl 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxPaymentEventPublisher implements PaymentEventPublisher {
+
+    private final PaymentEventOutboxAppender outboxAppender;
+
+    // 토픽 설정 (application.yml에서 주입)
+    @Value("${spring.kafka.topic.payment-refunded:payment-refunded}")
+    private String paymentRefundedTopic;
+
+    @Value("${spring.kafka.topic.payment-refund-failed:payment-refund-failed}")
+    private String paymentRefundFailedTopic;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishPaymentRefunded(PaymentRefundedEventData data) {
+        PaymentRefundedEvent event = PaymentRefundedEvent.from(data);
+
+        outboxAppender.append(paymentRefundedTopic, data.getPaymentId(), event.getOrderId(), event);
+
+        log.info("PaymentRefundedEvent Outbox 저장 - topic: {}, orderId: {}, refundAmount: {}",
+                paymentRefundedTopic, data.getOrderId(), data.getRefundAmount());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishPaymentRefundFailed(PaymentRefundFailedEventData data) {
+        PaymentRefundFailedEvent event = PaymentRefundFailedEvent.from(data);
+
+        outboxAppender.append(paymentRefundFailedTopic, data.getPaymentId(), event.getOrderId(), event);
+
+        log.info("PaymentRefundFailedEvent Outbox 저장 - topic: {}, orderId: {}",
+                paymentRefundFailedTopic, data.getOrderId());
+    }
+}
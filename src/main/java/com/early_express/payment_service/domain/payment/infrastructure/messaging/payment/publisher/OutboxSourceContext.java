@@ -0,0 +1,46 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher;
+
+import java.util.Optional;
+
+/**
+ * 현재 스레드에서 처리 중인 수신 레코드 ({topic}-{partition}@{offset})
+ * - Kafka 트랜잭션 모드(RefundRequestedTransactionalConsumer)가 레코드 처리 동안 설정
+ * - 이 범위에서 저장한 Outbox 이벤트는 원본 레코드와 함께 발행 완료 상태로 저장되어 Relay가 발행하지 않음
+ *   → Consumer가 offset과 같은 Kafka 트랜잭션으로 발행, 트랜잭션이 중단되면 레코드 재수신 시 원본 레코드로 찾아 다시 발행
+ */
+public final class OutboxSourceContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private OutboxSourceContext() {
+    }
+
+    public static Optional<String> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * 원본 레코드 설정 (try-with-resources로 사용, 종료 시 이전 값 복원)
+     */
+    public static Scope open(String sourceRecord) {
+        String previous = CURRENT.get();
+        CURRENT.set(sourceRecord);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 원본 레코드 설정 범위
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,65 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.relay.PaymentEventOutboxNotificationListener;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentEventOutboxEntity;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.PaymentEventOutboxJpaRepository;
+import com.early_express.payment_service.global.common.utils.JsonCodec;
+import com.early_express.payment_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventJsonSerializer;
+import com.early_express.payment_service.global.infrastructure.event.header.EventHeaders;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 결제 이벤트 Outbox 저장
+ * - 메시지 형식(토픽, 키, JSON, __TypeId__/이벤트 메타데이터 헤더)은 Kafka 직접 발행과 동일하게 저장
+ * - 저장과 함께 shard 번호로 NOTIFY → 커밋 직후 Relay가 깨어나 발행 (payment.outbox.notify.enabled)
+ * - 호출 트랜잭션이 있으면 참여, 없으면 새 트랜잭션 (직접 발행 모드에서 전송 실패 이벤트 보관)
+ * - 수신 레코드 처리 중(OutboxSourceContext)이면 원본 레코드와 함께 발행 완료로 저장, Consumer가 직접 발행하므로 NOTIFY 생략
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentEventOutboxAppender {
+
+    private static final JsonCodec<EventHeaders> HEADERS_CODEC = JsonCodec.of(new ObjectMapper(), EventHeaders.class);
+
+    private final PaymentEventOutboxJpaRepository outboxRepository;
+    private final EventJsonSerializer serializer = new EventJsonSerializer();
+
+    @Value("${payment.outbox.notify.enabled:true}")
+    private boolean notifyEnabled;
+
+    @Transactional
+    public void append(String topic, String aggregateId, String key, BaseEvent event) {
+        byte[] payload = serializer.serialize(topic, event);
+        byte[] headers;
+        try {
+            headers = HEADERS_CODEC.write(EventHeaders.of(event));
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 헤더 직렬화 실패 - eventId: " + event.getEventId(), e);
+        }
+
+        String sourceRecord = OutboxSourceContext.current().orElse(null);
+        PaymentEventOutboxEntity outbox = outboxRepository.save(PaymentEventOutboxEntity.builder()
+                .aggregateId(aggregateId)
+                .topic(topic)
+                .messageKey(key)
+                .eventType(event.getClass().getName())
+                .payload(new String(payload, StandardCharsets.UTF_8))
+                .headers(new String(headers, StandardCharsets.UTF_8))
+                .sourceRecord(sourceRecord)
+                .build());
+
+        if (notifyEnabled && sourceRecord == null) {
+            outboxRepository.notifyChannel(
+                    PaymentEventOutboxNotificationListener.CHANNEL, String.valueOf(outbox.getShard()));
+        }
+    }
+}
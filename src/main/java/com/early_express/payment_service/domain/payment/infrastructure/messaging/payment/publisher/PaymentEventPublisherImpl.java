@@ -8,22 +8,23 @@ import com.early_express.payment_service.domain.payment.infrastructure.messaging
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.CompletableFuture;
-
 /**
  * Payment Event Publisher 구현체
  * Kafka로 이벤트 발행 (토픽 분리 패턴)
+ * - eventId, eventType, version, publisher를 레코드 헤더로도 기록 (수신 측이 본문 역직렬화 없이 필터링)
+ * - 전송 중 이벤트 수 제한(backpressure), 재시도, 실패 시 Outbox 보관은 BoundedKafkaEventSender 담당
+ * - payment.outbox.enabled=false일 때만 사용 (기본은 OutboxPaymentEventPublisher)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.outbox.enabled", havingValue = "false")
 public class PaymentEventPublisherImpl implements PaymentEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final BoundedKafkaEventSender eventSender;
 
     // 토픽 설정 (application.yml에서 주입)
     @Value("${spring.kafka.topic.payment-refunded:payment-refunded}")
@@ -36,9 +37,9 @@ public class PaymentEventPublisherImpl implements PaymentEventPublisher {
     public void publishPaymentRefunded(PaymentRefundedEventData data) {
         PaymentRefundedEvent event = PaymentRefundedEvent.from(data);
 
-        sendEvent(paymentRefundedTopic, event.getOrderId(), event);
+        eventSender.send(paymentRefundedTopic, data.getPaymentId(), event.getOrderId(), event);
 
-        log.info("PaymentRefundedEvent 발행 완료 - topic: {}, orderId: {}, refundAmount: {}",
+        log.info("PaymentRefundedEvent 발행 요청 - topic: {}, orderId: {}, refundAmount: {}",
                 paymentRefundedTopic, data.getOrderId(), data.getRefundAmount());
     }
 
@@ -46,29 +47,9 @@ public class PaymentEventPublisherImpl implements PaymentEventPublisher {
     public void publishPaymentRefundFailed(PaymentRefundFailedEventData data) {
         PaymentRefundFailedEvent event = PaymentRefundFailedEvent.from(data);
 
-        sendEvent(paymentRefundFailedTopic, event.getOrderId(), event);
+        eventSender.send(paymentRefundFailedTopic, data.getPaymentId(), event.getOrderId(), event);
 
-        log.info("PaymentRefundFailedEvent 발행 완료 - topic: {}, orderId: {}",
+        log.info("PaymentRefundFailedEvent 발행 요청 - topic: {}, orderId: {}",
                 paymentRefundFailedTopic, data.getOrderId());
     }
-
-    /**
-     * Kafka로 이벤트 발행 (공통 헬퍼 메서드)
-     */
-    private void sendEvent(String topic, String key, Object event) {
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(topic, key, event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex != null) {
-                log.error("이벤트 발행 실패 - topic: {}, key: {}, eventType: {}, error: {}",
-                        topic, key, event.getClass().getSimpleName(), ex.getMessage());
-            } else {
-                log.debug("이벤트 발행 성공 - topic: {}, partition: {}, offset: {}",
-                        topic,
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-            }
-        });
-    }
-}
\ No newline at end of file
+}
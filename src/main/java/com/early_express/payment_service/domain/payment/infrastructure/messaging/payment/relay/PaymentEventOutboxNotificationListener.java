@@ -0,0 +1,151 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.relay;
+
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentEventOutboxEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 결제 이벤트 Outbox 커밋 알림 수신기 (PostgreSQL LISTEN/NOTIFY)
+ * - OutboxPaymentEventPublisher가 Outbox 저장과 같은 트랜잭션에서 NOTIFY(payload: shard) → 커밋 시점에 전달
+ * - 전용 연결 하나로 LISTEN 후 알림을 기다리다가 해당 shard 발행 작업을 바로 제출 (커밋 후 수 ms 내 발행)
+ * - 알림 대기 중에는 쿼리를 보내지 않으므로 유휴 상태의 DB 부하 없음
+ * - 연결이 끊기면 backoff 후 다시 LISTEN, 재연결 직후 전체 shard를 한 번 발행 (끊긴 동안 놓친 알림 보정)
+ * - 그 밖에 놓친 알림은 PaymentEventOutboxRelay의 주기 발행이 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = {"payment.outbox.relay.enabled", "payment.outbox.notify.enabled"},
+        havingValue = "true",
+        matchIfMissing = true)
+public class PaymentEventOutboxNotificationListener implements SmartLifecycle {
+
+    public static final String CHANNEL = "payment_event_outbox";
+
+    private final DataSource dataSource;
+    private final PaymentEventOutboxRelay relay;
+    private final int waitTimeoutMs;
+    private final long reconnectBackoffMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PaymentEventOutboxNotificationListener(
+            DataSource dataSource,
+            PaymentEventOutboxRelay relay,
+            @Value("${payment.outbox.notify.wait-timeout-ms:10000}") int waitTimeoutMs,
+            @Value("${payment.outbox.notify.reconnect-backoff-ms:5000}") long reconnectBackoffMs) {
+
+        this.dataSource = dataSource;
+        this.relay = relay;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.reconnectBackoffMs = reconnectBackoffMs;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "outbox-notify-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("Outbox 커밋 알림 수신 시작 - channel: {}", CHANNEL);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                // LISTEN 이전에 커밋된 이벤트 보정
+                relay.relay();
+
+                while (running) {
+                    // 알림이 올 때까지 소켓에서 대기 (쿼리 없음), 제한 시간마다 종료 여부만 확인
+                    PGNotification[] notifications = pgConnection.getNotifications(waitTimeoutMs);
+                    if (notifications != null) {
+                        dispatch(notifications);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Outbox 커밋 알림 연결 실패, {}ms 후 재연결 - error: {}", reconnectBackoffMs, e.getMessage());
+                if (!sleepBackoff()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 알림받은 shard 발행 작업 제출 (같은 shard 알림이 여러 건이면 한 번만 제출)
+     */
+    void dispatch(PGNotification[] notifications) {
+        boolean[] notified = new boolean[PaymentEventOutboxEntity.SHARD_COUNT];
+        for (PGNotification notification : notifications) {
+            Integer shard = parseShard(notification.getParameter());
+            if (shard == null) {
+                // 알 수 없는 payload는 전체 shard 발행으로 처리
+                relay.relay();
+                return;
+            }
+            notified[shard] = true;
+        }
+        for (int shard = 0; shard < notified.length; shard++) {
+            if (notified[shard]) {
+                relay.submit(shard);
+            }
+        }
+    }
+
+    private Integer parseShard(String payload) {
+        try {
+            int shard = Integer.parseInt(payload);
+            return shard >= 0 && shard < PaymentEventOutboxEntity.SHARD_COUNT ? shard : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private boolean sleepBackoff() {
+        try {
+            Thread.sleep(reconnectBackoffMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.relay;
+
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentEventOutboxEntity;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.PaymentEventOutboxJpaRepository;
+import com.early_express.payment_service.global.common.utils.JsonCodec;
+import com.early_express.payment_service.global.common.utils.WorkerThreads;
+import com.early_express.payment_service.global.infrastructure.event.codec.SerializedEvent;
+import com.early_express.payment_service.global.infrastructure.event.header.EventHeaders;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 결제 이벤트 Outbox Relay
+ * - 커밋된 Outbox 이벤트를 shard 단위로 나눠 Kafka로 발행하고 발행 완료로 표시
+ * - shard별 작업: Advisory Lock으로 인스턴스 간 한 작업자만 선점 → id 순서로 batch-size건 잠금(FOR UPDATE SKIP LOCKED)
+ *   → 선점 기한(claimed_until)을 기록하고 커밋 (응답 대기 중에는 DB 트랜잭션/행 잠금을 쥐지 않음)
+ *   → 한 번에 전송 후 응답 대기 → 앞에서부터 성공한 건까지 발행 완료 처리 (실패 이후 건은 선점 해제 후 다음 주기에 재발행)
+ * - 선점 중인 이벤트가 있는 shard는 다른 작업자가 선점하지 않음 (작업자 장애 시 선점 기한이 지나면 다시 발행)
+ * - 발행 실패가 max-attempts에 이르거나 재시도해도 실패하는 오류(레코드 크기 초과, 직렬화 실패)는 FAILED로 종료
+ *   → shard의 뒤 이벤트가 막히지 않도록 하고 payment.outbox.dead 지표/로그로 수동 조치
+ * - 여러 작업자(workers)가 서로 다른 shard를 동시에 발행, 같은 메시지 키는 같은 shard라 순서 유지
+ * - 적어도 한 번 발행 (재발행 시 중복 가능, 소비자는 eventId로 멱등 처리)
+ * - 평소에는 PaymentEventOutboxNotificationListener가 커밋 알림으로 shard 작업을 바로 제출하고,
+ *   주기 발행(poll-interval-ms)은 놓친 알림을 위한 느린 보조 경로
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentEventOutboxRelay {
+
+    private static final String SHARD_LOCK_PREFIX = "payment:event-outbox:shard:";
+    private static final JsonCodec<EventHeaders> HEADERS_CODEC = JsonCodec.of(new ObjectMapper(), EventHeaders.class);
+
+    private final PaymentEventOutboxJpaRepository outboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final long claimTimeoutMs;
+    private final int maxAttempts;
+    private final long retentionHours;
+
+    // 이 인스턴스에서 발행 중인 shard (같은 shard 작업 중복 제출 방지)
+    private final AtomicBoolean[] draining = new AtomicBoolean[PaymentEventOutboxEntity.SHARD_COUNT];
+
+    // 발행 중에 들어온 발행 요청 (작업이 끝나면 한 번 더 발행해 알림 유실 방지)
+    private final AtomicBoolean[] requested = new AtomicBoolean[PaymentEventOutboxEntity.SHARD_COUNT];
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+
+    public PaymentEventOutboxRelay(
+            PaymentEventOutboxJpaRepository outboxRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${payment.outbox.relay.workers:4}") int workers,
+            @Value("${payment.outbox.relay.batch-size:200}") int batchSize,
+            @Value("${payment.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs,
+            @Value("${payment.outbox.relay.claim-timeout-ms:30000}") long claimTimeoutMs,
+            @Value("${payment.outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${payment.outbox.retention-hours:24}") long retentionHours,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.claimTimeoutMs = Math.max(claimTimeoutMs, sendTimeoutMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retentionHours = retentionHours;
+
+        for (int shard = 0; shard < draining.length; shard++) {
+            draining[shard] = new AtomicBoolean();
+            requested[shard] = new AtomicBoolean();
+        }
+
+        this.executor = WorkerThreads.newFixedPool("outbox-relay-", workers, virtualThreads);
+
+        this.sentCounter = Counter.builder("payment.outbox.sent")
+                .description("Kafka로 발행한 Outbox 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("payment.outbox.send.failed")
+                .description("Kafka 발행에 실패한 Outbox 이벤트 수")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("payment.outbox.dead")
+                .description("발행을 포기하고 FAILED로 종료한 Outbox 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발행 주기마다 모든 shard 발행 작업 제출 (이미 발행 중인 shard는 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${payment.outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        for (int shard = 0; shard < draining.length; shard++) {
+            submit(shard);
+        }
+    }
+
+    /**
+     * shard 발행 작업 제출
+     * 이미 발행 중이면 요청만 남기고, 진행 중인 작업이 끝난 뒤 한 번 더 발행
+     */
+    public void submit(int shard) {
+        requested[shard].set(true);
+        if (!draining[shard].compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                while (requested[shard].getAndSet(false)) {
+                    drain(shard);
+                }
+            } catch (Exception e) {
+                log.error("Outbox 발행 실패 - shard: {}, error: {}", shard, e.getMessage(), e);
+            } finally {
+                draining[shard].set(false);
+            }
+            // 종료 직전에 들어온 요청
+            if (requested[shard].get()) {
+                submit(shard);
+            }
+        });
+    }
+
+    /**
+     * shard의 발행 대기 이벤트가 없을 때까지 배치 단위로 발행
+     */
+    void drain(int shard) {
+        int sent;
+        do {
+            sent = relayBatch(shard);
+        } while (sent == batchSize);
+    }
+
+    /**
+     * 배치 1회 발행
+     *
+     * @return 발행 완료한 이벤트 수 (실패가 있으면 -1)
+     */
+    int relayBatch(int shard) {
+        // 1. 선점 (짧은 트랜잭션으로 커밋 후 잠금 해제)
+        List<PaymentEventOutboxEntity> batch = transactionTemplate.execute(status -> claimBatch(shard));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 한 번에 전송 (프로듀서가 배치로 묶음) 후 순서대로 응답 확인 - DB 트랜잭션 밖에서 대기
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(batch.size());
+        for (PaymentEventOutboxEntity event : batch) {
+            futures.add(kafkaTemplate.send(toRecord(event)));
+        }
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        PaymentEventOutboxEntity failedEvent = null;
+        Throwable failure = null;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int i = 0; i < batch.size(); i++) {
+            PaymentEventOutboxEntity event = batch.get(i);
+            try {
+                long remainingNanos = Math.max(0, deadline - System.nanoTime());
+                futures.get(i).get(remainingNanos, TimeUnit.NANOSECONDS);
+                sentIds.add(event.getId());
+            } catch (Exception e) {
+                // 이후 이벤트는 같은 키 순서 유지를 위해 발행 완료로 표시하지 않음
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                failedEvent = event;
+                failure = e;
+                failedCounter.increment(batch.size() - i);
+                break;
+            }
+        }
+
+        // 3. 결과 반영 및 남은 선점 해제
+        PaymentEventOutboxEntity failed = failedEvent;
+        Throwable error = failure;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxRepository.markSent(sentIds, LocalDateTime.now());
+                sentCounter.increment(sentIds.size());
+            }
+            if (failed != null) {
+                recordFailure(failed, error);
+                List<Long> unsentIds = batch.stream()
+                        .map(PaymentEventOutboxEntity::getId)
+                        .filter(id -> !sentIds.contains(id) && !id.equals(failed.getId()))
+                        .toList();
+                if (!unsentIds.isEmpty()) {
+                    outboxRepository.releaseClaims(unsentIds);
+                }
+            }
+        });
+        return failed == null ? sentIds.size() : -1;
+    }
+
+    /**
+     * shard의 발행 대기 이벤트를 잠그고 선점 기한 기록
+     * 다른 작업자가 선점한 이벤트가 남아 있으면 (응답 대기 중) 선점하지 않음
+     */
+    private List<PaymentEventOutboxEntity> claimBatch(int shard) {
+        if (!outboxRepository.tryAdvisoryXactLock(SHARD_LOCK_PREFIX + shard)) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (outboxRepository.existsActiveClaim(shard, now)) {
+            return List.of();
+        }
+
+        List<PaymentEventOutboxEntity> batch = outboxRepository.lockPendingBatch(shard, batchSize);
+        if (!batch.isEmpty()) {
+            outboxRepository.claim(
+                    batch.stream().map(PaymentEventOutboxEntity::getId).toList(),
+                    now.plus(claimTimeoutMs, ChronoUnit.MILLIS));
+        }
+        return batch;
+    }
+
+    /**
+     * 발행 실패 기록
+     * 시도 횟수가 max-attempts에 이르거나 재시도해도 같은 결과인 오류면 FAILED로 종료 (중단 신호는 시도 횟수에 포함하지 않음)
+     */
+    private void recordFailure(PaymentEventOutboxEntity event, Throwable failure) {
+        if (failure instanceof InterruptedException) {
+            outboxRepository.releaseClaims(List.of(event.getId()));
+            return;
+        }
+
+        String error = failure instanceof TimeoutException
+                ? "ack timeout after " + sendTimeoutMs + "ms"
+                : String.valueOf(rootCause(failure).getMessage());
+        boolean permanent = isPermanent(failure) || event.getAttempts() + 1 >= maxAttempts;
+
+        outboxRepository.recordFailure(event.getId(), error, permanent
+                ? PaymentEventOutboxEntity.Status.FAILED
+                : PaymentEventOutboxEntity.Status.PENDING);
+
+        if (permanent) {
+            deadCounter.increment();
+            log.error("Outbox 이벤트 발행 포기 (FAILED) - id: {}, topic: {}, key: {}, attempts: {}, error: {}",
+                    event.getId(), event.getTopic(), event.getMessageKey(), event.getAttempts() + 1, error);
+        } else {
+            log.warn("Outbox 이벤트 발행 실패 - id: {}, topic: {}, key: {}, attempts: {}, error: {}",
+                    event.getId(), event.getTopic(), event.getMessageKey(), event.getAttempts() + 1, error);
+        }
+    }
+
+    private static boolean isPermanent(Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            if (current instanceof RecordTooLargeException || current instanceof SerializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable root = failure;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root;
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Scheduled(fixedDelayString = "${payment.outbox.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deleteSentBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("발행 완료 Outbox 이벤트 삭제 - count: {}", deleted);
+        }
+    }
+
+    /**
+     * Outbox 이벤트 → 발행 레코드 (Kafka 트랜잭션 모드 Consumer도 같은 형식으로 발행)
+     */
+    public static ProducerRecord<String, Object> toRecord(PaymentEventOutboxEntity event) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(
+                event.getTopic(),
+                event.getMessageKey(),
+                new SerializedEvent(event.getEventType(), event.getPayload().getBytes(StandardCharsets.UTF_8))
+        );
+
+        // 헤더 컬럼이 없는 이전 이벤트는 본문만 발행
+        if (event.getHeaders() != null) {
+            try {
+                HEADERS_CODEC.read(event.getHeaders().getBytes(StandardCharsets.UTF_8)).writeTo(record.headers());
+            } catch (IOException e) {
+                log.warn("Outbox 이벤트 헤더 읽기 실패, 헤더 없이 발행 - id: {}, error: {}", event.getId(), e.getMessage());
+            }
+        }
+        return record;
+    }
+}
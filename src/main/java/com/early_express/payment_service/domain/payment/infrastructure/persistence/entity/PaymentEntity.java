@@ -103,6 +103,10 @@ public class PaymentEntity extends BaseEntity {
     @Column(name = "refund_reason", columnDefinition = "TEXT")
     private String refundReason;
 
+    // 기존 행은 컬럼 추가 시 DEFAULT 0으로 채워짐 (ddl-auto update의 ADD COLUMN ... DEFAULT 0 NOT NULL)
+    @Column(name = "refund_sequence", nullable = false, columnDefinition = "integer default 0")
+    private int refundSequence;
+
     @Builder
     private PaymentEntity(
             String id,
@@ -128,7 +132,8 @@ public class PaymentEntity extends BaseEntity {
             String verificationFailReason,
             LocalDateTime verifiedAt,
             LocalDateTime refundedAt,
-            String refundReason) {
+            String refundReason,
+            int refundSequence) {
 
         this.id = id;
         this.orderId = orderId;
@@ -154,6 +159,7 @@ public class PaymentEntity extends BaseEntity {
         this.verifiedAt = verifiedAt;
         this.refundedAt = refundedAt;
         this.refundReason = refundReason;
+        this.refundSequence = refundSequence;
     }
 
     /**
@@ -185,6 +191,7 @@ public class PaymentEntity extends BaseEntity {
                 .verifiedAt(payment.getVerifiedAt())
                 .refundedAt(payment.getRefundedAt())
                 .refundReason(payment.getRefundReason())
+                .refundSequence(payment.getRefundSequence())
                 .build();
     }
 
@@ -226,6 +233,7 @@ public class PaymentEntity extends BaseEntity {
                 .verifiedAt(this.verifiedAt)
                 .refundedAt(this.refundedAt)
                 .refundReason(this.refundReason)
+                .refundSequence(this.refundSequence)
                 .build();
     }
 
@@ -244,5 +252,6 @@ public class PaymentEntity extends BaseEntity {
         this.verifiedAt = payment.getVerifiedAt();
         this.refundedAt = payment.getRefundedAt();
         this.refundReason = payment.getRefundReason();
+        this.refundSequence = payment.getRefundSequence();
     }
 }
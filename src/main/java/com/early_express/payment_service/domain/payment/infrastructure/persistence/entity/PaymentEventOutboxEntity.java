@@ -0,0 +1,112 @@
+package com.early_express.payment_service.domain.payment.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 이벤트 Outbox JPA Entity
+ * - 결제 변경과 같은 트랜잭션에서 저장하고 PaymentEventOutboxRelay가 Kafka로 발행
+ * - id 순서가 발행 순서, 같은 메시지 키는 항상 같은 shard에 저장되어 한 relay 작업자가 순서대로 발행
+ * - 발행 상태 변경은 PaymentEventOutboxJpaRepository의 일괄 update로만 수행
+ * - 발행을 포기한 이벤트(max-attempts 초과, 재시도 불가 오류)는 FAILED로 남겨 수동 조치
+ * - 원본 레코드(sourceRecord)가 있는 이벤트는 Kafka 트랜잭션 모드 Consumer가 직접 발행하므로 발행 완료 상태로 저장
+ */
+@Entity
+@Table(
+        name = "p_payment_event_outbox",
+        indexes = {
+                @Index(name = "idx_payment_event_outbox_pending", columnList = "status, shard, id"),
+                @Index(name = "idx_payment_event_outbox_source", columnList = "source_record")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentEventOutboxEntity {
+
+    // 메시지 키 분산 단위 (relay 작업자 수와 무관하게 고정)
+    public static final int SHARD_COUNT = 16;
+
+    public enum Status {
+        PENDING, SENT, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false, length = 36)
+    private String aggregateId; // paymentId
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "message_key", length = 100)
+    private String messageKey;
+
+    @Column(name = "shard", nullable = false)
+    private int shard;
+
+    @Column(name = "event_type", nullable = false, length = 200)
+    private String eventType; // 이벤트 클래스 이름 (__TypeId__ 헤더)
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "headers", columnDefinition = "TEXT")
+    private String headers; // 이벤트 메타데이터 헤더 JSON (EventHeaders, 발행 시 레코드 헤더로 기록)
+
+    @Column(name = "source_record", length = 255)
+    private String sourceRecord; // 이벤트를 만든 수신 레코드 ({topic}-{partition}@{offset}, Kafka 트랜잭션 모드에서만)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil; // Relay 작업자 선점 기한 (Kafka 응답 대기 중, 지나면 다른 작업자가 다시 발행)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Builder
+    private PaymentEventOutboxEntity(
+            String aggregateId,
+            String topic,
+            String messageKey,
+            String eventType,
+            String payload,
+            String headers,
+            String sourceRecord) {
+        this.aggregateId = aggregateId;
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.shard = shardOf(messageKey);
+        this.eventType = eventType;
+        this.payload = payload;
+        this.headers = headers;
+        this.sourceRecord = sourceRecord;
+        this.status = sourceRecord == null ? Status.PENDING : Status.SENT;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.sentAt = sourceRecord == null ? null : this.createdAt;
+    }
+
+    public static int shardOf(String messageKey) {
+        return messageKey == null ? 0 : Math.floorMod(messageKey.hashCode(), SHARD_COUNT);
+    }
+}
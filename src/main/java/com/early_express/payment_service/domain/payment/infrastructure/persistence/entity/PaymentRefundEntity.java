@@ -0,0 +1,114 @@
+package com.early_express.payment_service.domain.payment.infrastructure.persistence.entity;
+
+import com.early_express.payment_service.domain.payment.domain.model.PaymentRefund;
+import com.early_express.payment_service.domain.payment.domain.model.vo.PaymentId;
+import com.early_express.payment_service.global.common.utils.UuidUtils;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 환불 이력 JPA Entity
+ * - 추가만 하고 수정/삭제하지 않음 (감사 컬럼 불필요)
+ * - PaymentEntity와 연관관계를 두지 않아 결제 조회 시 이력을 함께 읽지 않음
+ */
+@Entity
+@Table(
+        name = "p_payment_refunds",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_payment_refunds_payment_sequence",
+                columnNames = {"payment_id", "sequence"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentRefundEntity {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "payment_id", nullable = false, length = 36)
+    private String paymentId;
+
+    @Column(name = "sequence", nullable = false)
+    private int sequence;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "total_refunded_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalRefundedAmount;
+
+    @Column(name = "reason", columnDefinition = "TEXT")
+    private String reason;
+
+    @Column(name = "pg_refund_id", length = 200)
+    private String pgRefundId;
+
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "refunded_at", nullable = false)
+    private LocalDateTime refundedAt;
+
+    @Builder
+    private PaymentRefundEntity(
+            String id,
+            String paymentId,
+            int sequence,
+            BigDecimal amount,
+            BigDecimal totalRefundedAmount,
+            String reason,
+            String pgRefundId,
+            String idempotencyKey,
+            LocalDateTime refundedAt) {
+        this.id = id;
+        this.paymentId = paymentId;
+        this.sequence = sequence;
+        this.amount = amount;
+        this.totalRefundedAmount = totalRefundedAmount;
+        this.reason = reason;
+        this.pgRefundId = pgRefundId;
+        this.idempotencyKey = idempotencyKey;
+        this.refundedAt = refundedAt;
+    }
+
+    /**
+     * 도메인 모델 -> Entity 변환
+     */
+    public static PaymentRefundEntity fromDomain(PaymentRefund refund) {
+        return PaymentRefundEntity.builder()
+                .id(UuidUtils.generate())
+                .paymentId(refund.getPaymentId().getValue())
+                .sequence(refund.getSequence())
+                .amount(refund.getAmount())
+                .totalRefundedAmount(refund.getTotalRefundedAmount())
+                .reason(refund.getReason())
+                .pgRefundId(refund.getPgRefundId())
+                .idempotencyKey(refund.getIdempotencyKey())
+                .refundedAt(refund.getRefundedAt())
+                .build();
+    }
+
+    /**
+     * Entity -> 도메인 모델 변환
+     */
+    public PaymentRefund toDomain() {
+        return PaymentRefund.builder()
+                .paymentId(PaymentId.from(this.paymentId))
+                .sequence(this.sequence)
+                .amount(this.amount)
+                .totalRefundedAmount(this.totalRefundedAmount)
+                .reason(this.reason)
+                .pgRefundId(this.pgRefundId)
+                .idempotencyKey(this.idempotencyKey)
+                .refundedAt(this.refundedAt)
+                .build();
+    }
+}
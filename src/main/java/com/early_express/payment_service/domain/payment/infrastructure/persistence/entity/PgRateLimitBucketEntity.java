@@ -0,0 +1,29 @@
+package com.early_express.payment_service.domain.payment.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * PG 요청 한도 공유 토큰 버킷 JPA Entity
+ * 값 변경은 PgRateLimitBucketJpaRepository의 원자적 native query로만 수행
+ */
+@Entity
+@Table(name = "p_pg_rate_limit_buckets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PgRateLimitBucketEntity {
+
+    @Id
+    @Column(name = "bucket_key", length = 100)
+    private String bucketKey; // {provider}:{quota}
+
+    @Column(name = "tokens", nullable = false)
+    private double tokens;
+
+    @Column(name = "refilled_at", nullable = false)
+    private LocalDateTime refilledAt;
+}
@@ -0,0 +1,34 @@
+package com.early_express.payment_service.domain.payment.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료 수신 이벤트 JPA Entity (멱등 Consumer용)
+ * - 이벤트 처리와 같은 트랜잭션에서 저장되어, 커밋된 행은 "이 이벤트의 변경이 반영됨"을 의미
+ * - 값 변경은 ProcessedEventJpaRepository의 native query로만 수행
+ * - 보관 기간(payment.event-dedupe.ttl-hours)이 지난 행은 주기적으로 삭제
+ */
+@Entity
+@Table(
+        name = "p_processed_events",
+        indexes = @Index(name = "idx_processed_events_processed_at", columnList = "processed_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEventEntity {
+
+    @Id
+    @Column(name = "event_id", length = 100)
+    private String eventId; // BaseEvent.eventId (UUID)
+
+    @Column(name = "event_type", length = 100)
+    private String eventType;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,113 @@
+package com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa;
+
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentEventOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 이벤트 Outbox JPA Repository
+ * 발행 대상 조회/잠금은 PostgreSQL 전용 native query
+ */
+public interface PaymentEventOutboxJpaRepository extends JpaRepository<PaymentEventOutboxEntity, Long> {
+
+    /**
+     * shard 단위 트랜잭션 범위 Advisory Lock 시도 (PostgreSQL 전용)
+     * 여러 인스턴스 중 한 작업자만 같은 shard를 발행해 메시지 키별 순서 유지
+     *
+     * @return 획득 여부 (다른 작업자가 발행 중이면 false)
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtextextended(:lockKey, 0))", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("lockKey") String lockKey);
+
+    /**
+     * 발행 알림 (PostgreSQL 전용, 커밋 시점에 LISTEN 중인 연결로 전달)
+     * 같은 트랜잭션 안의 같은 알림은 한 번만 전달됨
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_notify(:channel, :payload)) AS outbox_notify", nativeQuery = true)
+    long notifyChannel(@Param("channel") String channel, @Param("payload") String payload);
+
+    /**
+     * 발행 대기 이벤트를 id 순서로 잠그고 조회
+     * 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뜀
+     */
+    @Query(value = "SELECT * FROM p_payment_event_outbox " +
+            "WHERE status = 'PENDING' AND shard = :shard " +
+            "ORDER BY id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<PaymentEventOutboxEntity> lockPendingBatch(@Param("shard") int shard, @Param("limit") int limit);
+
+    /**
+     * shard에 선점 기한이 남은 발행 대기 이벤트가 있는지 (다른 작업자가 Kafka 응답 대기 중)
+     */
+    @Query("SELECT COUNT(o) > 0 FROM PaymentEventOutboxEntity o " +
+            "WHERE o.status = :status AND o.shard = :shard AND o.claimedUntil > :now")
+    boolean existsClaimed(
+            @Param("status") PaymentEventOutboxEntity.Status status,
+            @Param("shard") int shard,
+            @Param("now") LocalDateTime now);
+
+    default boolean existsActiveClaim(int shard, LocalDateTime now) {
+        return existsClaimed(PaymentEventOutboxEntity.Status.PENDING, shard, now);
+    }
+
+    /**
+     * 선점 기한 기록 (잠금을 커밋한 뒤 응답을 기다리는 동안 다른 작업자가 선점하지 않도록)
+     */
+    @Modifying
+    @Query("UPDATE PaymentEventOutboxEntity o SET o.claimedUntil = :claimedUntil WHERE o.id IN :ids")
+    int claim(@Param("ids") List<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * 선점 해제 (발행하지 못한 이벤트, 다음 주기에 다시 발행)
+     */
+    @Modifying
+    @Query("UPDATE PaymentEventOutboxEntity o SET o.claimedUntil = null WHERE o.id IN :ids")
+    int releaseClaims(@Param("ids") List<Long> ids);
+
+    /**
+     * 수신 레코드 처리 중 저장한 이벤트 (저장 순서, Kafka 트랜잭션 모드 발행/재발행)
+     */
+    List<PaymentEventOutboxEntity> findBySourceRecordOrderByIdAsc(String sourceRecord);
+
+    /**
+     * 발행 완료 처리
+     */
+    @Modifying
+    @Query("UPDATE PaymentEventOutboxEntity o SET o.status = :status, o.sentAt = :sentAt, o.attempts = o.attempts + 1, " +
+            "o.claimedUntil = null WHERE o.id IN :ids")
+    int updateSent(
+            @Param("ids") List<Long> ids,
+            @Param("status") PaymentEventOutboxEntity.Status status,
+            @Param("sentAt") LocalDateTime sentAt);
+
+    default int markSent(List<Long> ids, LocalDateTime sentAt) {
+        return updateSent(ids, PaymentEventOutboxEntity.Status.SENT, sentAt);
+    }
+
+    /**
+     * 발행 실패 기록 및 선점 해제
+     *
+     * @param status PENDING이면 다음 주기에 다시 발행, FAILED면 발행 포기
+     */
+    @Modifying
+    @Query("UPDATE PaymentEventOutboxEntity o SET o.attempts = o.attempts + 1, o.lastError = :error, " +
+            "o.status = :status, o.claimedUntil = null WHERE o.id = :id")
+    int recordFailure(
+            @Param("id") Long id,
+            @Param("error") String error,
+            @Param("status") PaymentEventOutboxEntity.Status status);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM PaymentEventOutboxEntity o WHERE o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -2,8 +2,15 @@ package com.early_express.payment_service.domain.payment.infrastructure.persiste
 
 import com.early_express.payment_service.domain.payment.domain.model.PaymentStatus;
 import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +43,48 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Strin
      * 상태별 결제 목록 조회
      */
     List<PaymentEntity> findByStatusAndIsDeletedFalse(PaymentStatus status);
+
+    /**
+     * 결제 행 잠금 조회 (SELECT ... FOR UPDATE)
+     * 커밋/롤백 시 자동 해제
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PaymentEntity p WHERE p.id = :id AND p.isDeleted = false")
+    Optional<PaymentEntity> findByIdForUpdate(@Param("id") String id);
+
+    /**
+     * 트랜잭션 범위 Advisory Lock 획득 (PostgreSQL 전용)
+     * 커밋/롤백 시 자동 해제
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtextextended(:lockKey, 0))) AS advisory_lock",
+            nativeQuery = true)
+    long acquireAdvisoryXactLock(@Param("lockKey") String lockKey);
+
+    /**
+     * 환불 결과 반영 (조건부 갱신)
+     * 읽어온 시점의 환불 순번과 같을 때만 갱신하므로 동시 환불 중 하나만 반영됨
+     *
+     * @return 갱신된 행 수 (0이면 다른 환불이 먼저 반영됨)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentEntity p SET "
+            + "p.refundedAmount = :refundedAmount, "
+            + "p.status = :status, "
+            + "p.pgRefundId = :pgRefundId, "
+            + "p.pgRefundedAt = :pgRefundedAt, "
+            + "p.refundedAt = :refundedAt, "
+            + "p.refundReason = :refundReason, "
+            + "p.refundSequence = :refundSequence, "
+            + "p.updatedAt = :refundedAt "
+            + "WHERE p.id = :id AND p.refundSequence = :previousSequence AND p.isDeleted = false")
+    int applyRefund(
+            @Param("id") String id,
+            @Param("previousSequence") int previousSequence,
+            @Param("refundedAmount") BigDecimal refundedAmount,
+            @Param("status") PaymentStatus status,
+            @Param("pgRefundId") String pgRefundId,
+            @Param("pgRefundedAt") LocalDateTime pgRefundedAt,
+            @Param("refundedAt") LocalDateTime refundedAt,
+            @Param("refundReason") String refundReason,
+            @Param("refundSequence") int refundSequence);
 }
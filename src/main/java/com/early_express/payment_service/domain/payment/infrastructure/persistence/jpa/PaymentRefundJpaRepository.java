@@ -0,0 +1,17 @@
+package com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa;
+
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentRefundEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 환불 이력 JPA Repository
+ */
+public interface PaymentRefundJpaRepository extends JpaRepository<PaymentRefundEntity, String> {
+
+    /**
+     * 결제별 환불 이력 조회 (순번 오름차순)
+     */
+    List<PaymentRefundEntity> findByPaymentIdOrderBySequenceAsc(String paymentId);
+}
@@ -0,0 +1,59 @@
+package com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa;
+
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PgRateLimitBucketEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * PG 요청 한도 공유 토큰 버킷 JPA Repository (PostgreSQL 전용)
+ */
+public interface PgRateLimitBucketJpaRepository extends JpaRepository<PgRateLimitBucketEntity, String> {
+
+    /**
+     * 버킷 행 생성 (이미 있으면 무시)
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO p_pg_rate_limit_buckets (bucket_key, tokens, refilled_at) " +
+            "VALUES (:bucketKey, :capacity, clock_timestamp()) " +
+            "ON CONFLICT (bucket_key) DO NOTHING",
+            nativeQuery = true)
+    int initialize(@Param("bucketKey") String bucketKey, @Param("capacity") int capacity);
+
+    /**
+     * 경과 시간만큼 토큰을 채운 뒤 1개 차감 (예약분을 남길 수 있을 때만)
+     * 별도 트랜잭션으로 실행하여 버킷 행 잠금을 즉시 해제 (SharedTokenBucket의 전용 스레드에서 호출)
+     *
+     * @return 차감 후 남은 토큰 (획득 실패 시 빈 목록)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "UPDATE p_pg_rate_limit_buckets " +
+            "SET tokens = LEAST(:capacity, tokens + EXTRACT(EPOCH FROM (clock_timestamp() - refilled_at)) * :rate) - 1, " +
+            "    refilled_at = clock_timestamp() " +
+            "WHERE bucket_key = :bucketKey " +
+            "  AND LEAST(:capacity, tokens + EXTRACT(EPOCH FROM (clock_timestamp() - refilled_at)) * :rate) >= 1 + :reserved " +
+            "RETURNING tokens",
+            nativeQuery = true)
+    List<Double> tryConsume(
+            @Param("bucketKey") String bucketKey,
+            @Param("rate") double requestsPerSecond,
+            @Param("capacity") int capacity,
+            @Param("reserved") int reservedTokens);
+
+    /**
+     * 사용하지 않은 토큰 1개 반환 (버킷 크기 이내)
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "UPDATE p_pg_rate_limit_buckets " +
+            "SET tokens = LEAST(:capacity, tokens + 1) " +
+            "WHERE bucket_key = :bucketKey",
+            nativeQuery = true)
+    int release(@Param("bucketKey") String bucketKey, @Param("capacity") int capacity);
+}
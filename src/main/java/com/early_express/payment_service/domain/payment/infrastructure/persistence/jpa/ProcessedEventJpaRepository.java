@@ -0,0 +1,45 @@
+package com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa;
+
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.ProcessedEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료 수신 이벤트 JPA Repository
+ */
+public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEventEntity, String> {
+
+    /**
+     * 처리 기록 추가 (이미 있으면 무시)
+     * 같은 이벤트를 동시에 기록하면 먼저 기록한 트랜잭션이 끝날 때까지 대기
+     *
+     * @return 추가된 행 수 (이미 처리된 이벤트면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO p_processed_events (event_id, event_type, processed_at) " +
+            "VALUES (:eventId, :eventType, :processedAt) " +
+            "ON CONFLICT (event_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(
+            @Param("eventId") String eventId,
+            @Param("eventType") String eventType,
+            @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 처리 기록 삭제 (처리 실패를 재시도하도록)
+     */
+    @Modifying
+    @Query("DELETE FROM ProcessedEventEntity e WHERE e.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") String eventId);
+
+    /**
+     * 보관 기간이 지난 처리 기록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ProcessedEventEntity e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,15 +1,21 @@
 package com.early_express.payment_service.domain.payment.infrastructure.persistence.repository;
 
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
 import com.early_express.payment_service.domain.payment.domain.model.Payment;
+import com.early_express.payment_service.domain.payment.domain.model.PaymentRefund;
 import com.early_express.payment_service.domain.payment.domain.model.PaymentStatus;
 import com.early_express.payment_service.domain.payment.domain.model.vo.PaymentId;
 import com.early_express.payment_service.domain.payment.domain.repository.PaymentRepository;
 import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentEntity;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentRefundEntity;
 import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.QPaymentEntity;
 import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.PaymentJpaRepository;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.PaymentRefundJpaRepository;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -28,9 +34,16 @@ import java.util.Optional;
 public class PaymentRepositoryImpl implements PaymentRepository {
 
     private final PaymentJpaRepository paymentJpaRepository;
+    private final PaymentRefundJpaRepository paymentRefundJpaRepository;
     private final JPAQueryFactory queryFactory;
     private final QPaymentEntity qPayment = QPaymentEntity.paymentEntity;
 
+    // PG 결제 ID 잠금 키 접두사 (다른 Advisory Lock과 충돌 방지)
+    private static final String PG_PAYMENT_LOCK_PREFIX = "payment:pg-payment-id:";
+
+    @Value("${payment.verification.advisory-lock.enabled:true}")
+    private boolean advisoryLockEnabled;
+
     @Override
     public Payment save(Payment payment) {
         PaymentEntity entity;
@@ -49,6 +62,39 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return savedEntity.toDomain();
     }
 
+    @Override
+    public void saveRefund(Payment payment, PaymentRefund refund) {
+        // 엔티티를 다시 읽지 않고 환불 관련 컬럼만 조건부 갱신
+        int updated = paymentJpaRepository.applyRefund(
+                payment.getIdValue(),
+                refund.getSequence() - 1,
+                payment.getAmountInfo().getRefundedAmount(),
+                payment.getStatus(),
+                payment.getPgInfo().getPgRefundId(),
+                payment.getPgInfo().getPgRefundedAt(),
+                payment.getRefundedAt(),
+                payment.getRefundReason(),
+                payment.getRefundSequence()
+        );
+
+        if (updated == 0) {
+            throw new RefundException(
+                    PaymentErrorCode.REFUND_NOT_ALLOWED,
+                    "다른 환불이 먼저 처리되었습니다: " + payment.getIdValue()
+            );
+        }
+
+        paymentRefundJpaRepository.save(PaymentRefundEntity.fromDomain(refund));
+    }
+
+    @Override
+    public List<PaymentRefund> findRefundsByPaymentId(PaymentId paymentId) {
+        return paymentRefundJpaRepository.findByPaymentIdOrderBySequenceAsc(paymentId.getValue())
+                .stream()
+                .map(PaymentRefundEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Payment> findById(PaymentId paymentId) {
         return paymentJpaRepository.findById(paymentId.getValue())
@@ -56,6 +102,12 @@ public class PaymentRepositoryImpl implements PaymentRepository {
                 .map(PaymentEntity::toDomain);
     }
 
+    @Override
+    public Optional<Payment> findByIdForUpdate(PaymentId paymentId) {
+        return paymentJpaRepository.findByIdForUpdate(paymentId.getValue())
+                .map(PaymentEntity::toDomain);
+    }
+
     @Override
     public Optional<Payment> findByOrderId(String orderId) {
         return paymentJpaRepository.findByOrderIdAndIsDeletedFalse(orderId)
@@ -68,6 +120,14 @@ public class PaymentRepositoryImpl implements PaymentRepository {
                 .map(PaymentEntity::toDomain);
     }
 
+    @Override
+    public void lockByPgPaymentId(String pgPaymentId) {
+        if (!advisoryLockEnabled) {
+            return;
+        }
+        paymentJpaRepository.acquireAdvisoryXactLock(PG_PAYMENT_LOCK_PREFIX + pgPaymentId);
+    }
+
     @Override
     public boolean existsByPgPaymentId(String pgPaymentId) {
         return paymentJpaRepository.existsByPgPaymentId(pgPaymentId);
@@ -1,8 +1,12 @@
 package com.early_express.payment_service.domain.payment.presentation.internal;
 
 import com.early_express.payment_service.domain.payment.application.service.PaymentService;
+import com.early_express.payment_service.domain.payment.application.service.PaymentVerificationCoalescer;
+import com.early_express.payment_service.domain.payment.application.service.RefundCoalescer;
 import com.early_express.payment_service.domain.payment.domain.model.Payment;
+import com.early_express.payment_service.domain.payment.presentation.internal.dto.request.PaymentRefundInternalRequest;
 import com.early_express.payment_service.domain.payment.presentation.internal.dto.request.PaymentVerificationInternalRequest;
+import com.early_express.payment_service.domain.payment.presentation.internal.dto.response.PaymentRefundInternalResponse;
 import com.early_express.payment_service.domain.payment.presentation.internal.dto.response.PaymentVerificationInternalResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Payment Internal API Controller
  * 다른 서비스(Order Service)에서 호출하는 내부 API
@@ -22,6 +28,8 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentInternalController {
 
     private final PaymentService paymentService;
+    private final PaymentVerificationCoalescer paymentVerificationCoalescer;
+    private final RefundCoalescer refundCoalescer;
 
     /**
      * 결제 검증 및 등록 (Saga Step 2)
@@ -30,6 +38,7 @@ public class PaymentInternalController {
      * - PG사 결제 검증
      * - Payment 엔티티 생성
      * - 성공 시: PaymentVerifiedEvent 발행
+     * - 같은 pgPaymentId 동시 요청은 하나로 병합
      */
     @PostMapping("/verify-and-register")
     public ResponseEntity<PaymentVerificationInternalResponse> verifyAndRegisterPayment(
@@ -38,7 +47,7 @@ public class PaymentInternalController {
         log.info("결제 검증 요청 수신 - orderId: {}, pgPaymentId: {}",
                 request.getOrderId(), request.getPgPaymentId());
 
-        Payment payment = paymentService.verifyAndRegisterPayment(
+        Payment payment = paymentVerificationCoalescer.verifyAndRegisterPayment(
                 request.getOrderId(),
                 request.getPgProvider(),
                 request.getPgPaymentId(),
@@ -118,4 +127,58 @@ public class PaymentInternalController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 결제 환불 (전액/부분)
+     * POST /v1/payment/internal/all/{paymentId}/refunds
+     * - refundAmount가 없으면 남은 금액 전액 환불
+     * - 같은 결제에 여러 번 부분 환불 가능
+     * - 같은 결제의 동시 환불 요청은 짧은 시간 모아 PG 취소 1회로 처리 (설정 시)
+     */
+    @PostMapping("/{paymentId}/refunds")
+    public ResponseEntity<PaymentVerificationInternalResponse> refundPayment(
+            @PathVariable String paymentId,
+            @Valid @RequestBody PaymentRefundInternalRequest request) {
+
+        log.info("결제 환불 요청 수신 - paymentId: {}, refundAmount: {}",
+                paymentId, request.getRefundAmount());
+
+        Payment payment = refundCoalescer.refundPayment(
+                paymentId,
+                request.getOrderId(),
+                request.getRefundAmount(),
+                request.getRefundReason()
+        );
+
+        PaymentVerificationInternalResponse response = PaymentVerificationInternalResponse.builder()
+                .paymentId(payment.getIdValue())
+                .orderId(payment.getOrderId())
+                .status(payment.getStatus().name())
+                .pgTransactionId(payment.getPgInfo().getPgTransactionId())
+                .verifiedAmount(payment.getAmount())
+                .pgApprovedAt(payment.getPgInfo().getPgApprovedAt())
+                .verifiedAt(payment.getVerifiedAt())
+                .message("환불이 완료되었습니다. 누적 환불 금액: " + payment.getRefundedAmount())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 결제별 환불 이력 조회
+     * GET /v1/payment/internal/all/{paymentId}/refunds
+     */
+    @GetMapping("/{paymentId}/refunds")
+    public ResponseEntity<List<PaymentRefundInternalResponse>> getRefunds(
+            @PathVariable String paymentId) {
+
+        log.info("환불 이력 조회 요청 - paymentId: {}", paymentId);
+
+        List<PaymentRefundInternalResponse> response = paymentService.findRefunds(paymentId)
+                .stream()
+                .map(PaymentRefundInternalResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
+}
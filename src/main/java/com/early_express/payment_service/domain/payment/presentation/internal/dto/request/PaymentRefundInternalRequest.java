@@ -0,0 +1,29 @@
+package com.early_express.payment_service.domain.payment.presentation.internal.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제 환불 요청 DTO
+ * Order Service → Payment Service (Internal)
+ */
+@Getter
+@Builder
+public class PaymentRefundInternalRequest {
+
+    @NotBlank(message = "주문 ID는 필수입니다.")
+    private String orderId;
+
+    /**
+     * 환불 금액 (없으면 남은 금액 전액 환불)
+     */
+    @DecimalMin(value = "0", inclusive = false, message = "환불 금액은 0보다 커야 합니다.")
+    private BigDecimal refundAmount;
+
+    @NotBlank(message = "환불 사유는 필수입니다.")
+    private String refundReason;
+}
@@ -0,0 +1,62 @@
+package com.early_express.payment_service.domain.payment.presentation.internal.dto.response;
+
+import com.early_express.payment_service.domain.payment.domain.model.PaymentRefund;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 환불 이력 응답 DTO
+ * Payment Service → Order Service (Internal)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentRefundInternalResponse {
+
+    /**
+     * 환불 순번 (1부터)
+     */
+    private int sequence;
+
+    /**
+     * 이번 환불 금액
+     */
+    private BigDecimal refundAmount;
+
+    /**
+     * 이번 환불까지 누적 환불 금액
+     */
+    private BigDecimal totalRefundedAmount;
+
+    /**
+     * 환불 사유
+     */
+    private String refundReason;
+
+    /**
+     * PG 환불 거래 ID
+     */
+    private String pgRefundId;
+
+    /**
+     * 환불 완료 시간
+     */
+    private LocalDateTime refundedAt;
+
+    public static PaymentRefundInternalResponse from(PaymentRefund refund) {
+        return PaymentRefundInternalResponse.builder()
+                .sequence(refund.getSequence())
+                .refundAmount(refund.getAmount())
+                .totalRefundedAmount(refund.getTotalRefundedAmount())
+                .refundReason(refund.getReason())
+                .pgRefundId(refund.getPgRefundId())
+                .refundedAt(refund.getRefundedAt())
+                .build();
+    }
+}
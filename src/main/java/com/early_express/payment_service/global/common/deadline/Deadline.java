@@ -0,0 +1,59 @@
+package com.early_express.payment_service.global.common.deadline;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 기한
+ * - 단조 시계(System.nanoTime) 기준 만료 시각을 보관하므로 시스템 시각 변경의 영향을 받지 않음
+ * - 서비스 간에는 절대 시각 대신 남은 시간(ms)으로 전달 (서버 간 시계 오차 방지)
+ */
+public final class Deadline {
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * 지금부터 budget 이후 만료되는 기한
+     */
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + Math.max(0, budget.toNanos()));
+    }
+
+    /**
+     * 남은 시간 (ns, 만료 시 0)
+     */
+    public long remainingNanos() {
+        return Math.max(0, expiresAtNanos - System.nanoTime());
+    }
+
+    /**
+     * 남은 시간 (ms, 만료 시 0)
+     */
+    public long remainingMillis() {
+        return Duration.ofNanos(remainingNanos()).toMillis();
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() == 0;
+    }
+
+    /**
+     * 기한 확인
+     *
+     * @param step 로그/예외 메시지용 처리 단계 이름
+     * @throws DeadlineExceededException 기한이 지난 경우
+     */
+    public void check(String step) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(step);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline(remainingMs=" + remainingMillis() + ")";
+    }
+}
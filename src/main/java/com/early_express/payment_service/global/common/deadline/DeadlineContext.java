@@ -0,0 +1,93 @@
+package com.early_express.payment_service.global.common.deadline;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 요청 처리 기한
+ * - 인바운드 요청에서 설정(RequestDeadlineFilter)하고 PG 호출 타임아웃, 트랜잭션(JDBC) 타임아웃,
+ *   재시도/대기 시간 계산에서 참조
+ * - 기한이 없는 호출(Kafka 리스너 등)은 기존 타임아웃을 그대로 사용
+ * - 다른 스레드에서 실행하는 작업은 wrap()으로 기한을 전달
+ */
+public final class DeadlineContext {
+
+    /**
+     * 호출자가 남은 처리 시간(ms)을 전달하는 헤더
+     */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {
+    }
+
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * 기한 설정 (try-with-resources로 사용, 종료 시 이전 기한 복원)
+     */
+    public static Scope open(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 처리 단계 사이 기한 확인 (기한이 없으면 무시)
+     *
+     * @throws DeadlineExceededException 기한이 지난 경우
+     */
+    public static void checkpoint(String step) {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null) {
+            deadline.check(step);
+        }
+    }
+
+    /**
+     * 대기/타임아웃 시간을 남은 기한 이내로 제한 (기한이 없으면 그대로)
+     */
+    public static long capNanos(long nanos) {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? nanos : Math.min(nanos, deadline.remainingNanos());
+    }
+
+    public static long capMillis(long millis) {
+        return TimeUnit.NANOSECONDS.toMillis(capNanos(TimeUnit.MILLISECONDS.toNanos(millis)));
+    }
+
+    /**
+     * 현재 기한을 다른 스레드에서 실행할 작업에 전달
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = open(deadline)) {
+                return task.get();
+            }
+        };
+    }
+
+    /**
+     * 기한 설정 범위
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,20 @@
+package com.early_express.payment_service.global.common.deadline;
+
+import com.early_express.payment_service.global.presentation.exception.GlobalErrorCode;
+import com.early_express.payment_service.global.presentation.exception.GlobalException;
+import lombok.Getter;
+
+/**
+ * 요청 처리 기한 초과 예외
+ * 호출자가 이미 응답을 포기한 요청의 남은 작업(PG 호출, DB 쿼리, 재시도)을 중단할 때 사용
+ */
+@Getter
+public class DeadlineExceededException extends GlobalException {
+
+    private final String step;
+
+    public DeadlineExceededException(String step) {
+        super(GlobalErrorCode.DEADLINE_EXCEEDED, "요청 처리 기한이 초과되었습니다. step: " + step);
+        this.step = step;
+    }
+}
@@ -0,0 +1,79 @@
+package com.early_express.payment_service.global.common.utils;
+
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 타입 고정 JSON 코덱
+ * - ObjectReader/ObjectWriter를 타입별로 한 번만 생성하여 호출마다 타입 해석/루트 직렬화기 조회를 하지 않음
+ * - 모르는 필드는 예외 없이 건너뜀 (외부 응답 스키마 확장 대응)
+ * - 직렬화 버퍼는 스레드별로 재사용하여 메시지마다 버퍼를 새로 할당하지 않음
+ *
+ * 기존 ObjectMapper 설정(모듈, 날짜 형식 등)을 그대로 따르므로 출력 형식은 ObjectMapper와 동일
+ *
+ * @param <T> 대상 타입
+ */
+public final class JsonCodec<T> {
+
+    private static final int INITIAL_BUFFER_SIZE = 2_048;
+
+    // 한 번의 큰 메시지로 커진 버퍼를 계속 들고 있지 않도록 상한 초과 시 새로 만듦
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1_024;
+
+    private static final ThreadLocal<ByteArrayBuilder> BUFFERS =
+            ThreadLocal.withInitial(() -> new ByteArrayBuilder(INITIAL_BUFFER_SIZE));
+
+    private final Class<T> type;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    private JsonCodec(Class<T> type, ObjectReader reader, ObjectWriter writer) {
+        this.type = type;
+        this.reader = reader;
+        this.writer = writer;
+    }
+
+    public static <T> JsonCodec<T> of(ObjectMapper objectMapper, Class<T> type) {
+        return new JsonCodec<>(
+                type,
+                objectMapper.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES),
+                objectMapper.writerFor(type)
+        );
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public T read(byte[] json) throws IOException {
+        return reader.readValue(json);
+    }
+
+    /**
+     * 배열의 일부 구간만 파싱 (Kafka fetch 버퍼 등에서 복사 없이 읽을 때)
+     */
+    public T read(byte[] json, int offset, int length) throws IOException {
+        return reader.readValue(json, offset, length);
+    }
+
+    public T read(InputStream json) throws IOException {
+        return reader.readValue(json);
+    }
+
+    public byte[] write(T value) throws IOException {
+        ByteArrayBuilder buffer = BUFFERS.get();
+        buffer.reset();
+
+        writer.writeValue(buffer, value);
+        if (buffer.size() > MAX_RETAINED_BUFFER_SIZE) {
+            BUFFERS.remove();
+        }
+        return buffer.toByteArray();
+    }
+}
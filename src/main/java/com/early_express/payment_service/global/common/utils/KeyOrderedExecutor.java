@@ -0,0 +1,54 @@
+package com.early_express.payment_service.global.common.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 키 단위 순차 실행기
+ * - 같은 키의 작업은 제출 순서대로 하나씩, 다른 키의 작업은 공유 Executor에서 병렬 실행
+ * - 앞선 작업이 실패해도 같은 키의 다음 작업은 실행
+ * - 대기 중인 작업이 없는 키는 바로 제거 (처리한 키 수만큼 메모리를 점유하지 않음)
+ *
+ * @param <K> 순서를 보장할 키 타입
+ */
+public class KeyOrderedExecutor<K> {
+
+    private final Executor executor;
+
+    // 키별 마지막으로 제출된 작업
+    private final ConcurrentHashMap<K, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public KeyOrderedExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 작업 제출 (같은 키의 앞선 작업이 끝난 뒤 실행)
+     *
+     * @return 작업 완료 Future
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Void> submit(K key, Runnable task) {
+        CompletableFuture<Void>[] submitted = new CompletableFuture[1];
+
+        tails.compute(key, (k, tail) -> {
+            CompletableFuture<Void> previous = tail != null ? tail : CompletableFuture.completedFuture(null);
+            submitted[0] = previous
+                    .handle((result, error) -> null)
+                    .thenRunAsync(task, executor);
+            return submitted[0];
+        });
+
+        CompletableFuture<Void> future = submitted[0];
+        future.whenComplete((result, error) -> tails.remove(key, future));
+        return future;
+    }
+
+    /**
+     * 실행 중이거나 대기 중인 작업이 있는 키 수
+     */
+    public int activeKeyCount() {
+        return tails.size();
+    }
+}
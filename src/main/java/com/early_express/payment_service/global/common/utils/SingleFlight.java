@@ -0,0 +1,85 @@
+package com.early_express.payment_service.global.common.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 요청 병합 (Single-Flight)
+ * - 같은 키로 진행 중인 요청이 있으면 새로 실행하지 않고 그 결과(또는 예외)를 공유
+ * - 진행 중인 요청이 끝나면 키를 제거하므로 결과를 캐시하지 않음
+ *
+ * @param <K> 병합 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 키 단위로 병합하여 실행
+     *
+     * @param key 병합 키
+     * @param supplier 실제 작업 (대표 요청 스레드에서 한 번만 실행)
+     * @return 작업 결과
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        return executeForResult(key, supplier).value();
+    }
+
+    /**
+     * 키 단위로 병합하여 실행하고, 대표 실행 여부를 함께 반환
+     */
+    public Result<V> executeForResult(K key, Supplier<V> supplier) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            return new Result<>(await(existing), true);
+        }
+
+        try {
+            V value = supplier.get();
+            future.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 현재 진행 중인 키 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 실행 결과
+     *
+     * @param value 결과 값
+     * @param shared 다른 요청의 결과를 공유받았는지 여부
+     */
+    public record Result<V>(V value, boolean shared) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.early_express.payment_service.global.common.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 스레드 풀 생성
+ * - 플랫폼 스레드: 이름이 붙은 데몬 스레드 고정 풀
+ * - 가상 스레드(spring.threads.virtual.enabled=true): 같은 크기의 가상 스레드 풀
+ *   크기는 동시 실행 한도로만 쓰이고, 블로킹 I/O(PG 호출, JDBC, Kafka 전송) 대기 중에는 캐리어 스레드를 점유하지 않음
+ */
+public final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    /**
+     * 고정 크기 작업 풀
+     *
+     * @param namePrefix 스레드 이름 접두사 (예: outbox-relay- → outbox-relay-1, outbox-relay-2 ...)
+     * @param size 동시 실행 한도
+     * @param virtual 가상 스레드 사용 여부
+     */
+    public static ExecutorService newFixedPool(String namePrefix, int size, boolean virtual) {
+        return Executors.newFixedThreadPool(size, threadFactory(namePrefix, virtual));
+    }
+
+    /**
+     * 대기열 크기가 제한된 고정 크기 작업 풀
+     * 실행 중인 작업과 대기열이 모두 가득 차면 제출 시 RejectedExecutionException
+     *
+     * @param queueCapacity 대기열 크기 (0이면 대기열 없이 유휴 스레드가 있을 때만 수락)
+     */
+    public static ExecutorService newBoundedPool(String namePrefix, int size, int queueCapacity, boolean virtual) {
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS, queue,
+                threadFactory(namePrefix, virtual), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadFactory threadFactory(String namePrefix, boolean virtual) {
+        return virtual
+                ? Thread.ofVirtual().name(namePrefix, 1).factory()
+                : Thread.ofPlatform().name(namePrefix, 1).daemon(true).factory();
+    }
+}
@@ -0,0 +1,63 @@
+package com.early_express.payment_service.global.config;
+
+import com.early_express.payment_service.global.common.deadline.Deadline;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+
+import java.util.Optional;
+
+/**
+ * 요청 처리 기한을 트랜잭션 타임아웃으로 적용하는 JpaTransactionManager
+ * - 트랜잭션 타임아웃 = min(@Transactional timeout, 남은 기한) (초 단위 올림)
+ * - Hibernate가 트랜잭션 남은 시간으로 JDBC statement timeout을 설정하므로
+ *   기한이 지난 요청의 쿼리/락 대기(Advisory Lock 포함)는 DB에서 취소됨
+ * - 기한이 이미 지났으면 트랜잭션을 시작하지 않음 (DeadlineExceededException 그대로 전파)
+ * - PG 부수효과(취소 등)를 기록하는 트랜잭션(label = PG_SIDE_EFFECT_LABEL)은 기한을 적용하지 않음
+ *   → PG 처리가 끝난 뒤의 쓰기가 기한 때문에 롤백되어 PG 결과를 잃지 않도록 (PG 호출 자체는 DeadlineCapability가 제한)
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    /**
+     * PG 부수효과를 기록하는 트랜잭션 표시 (@Transactional(label = ...))
+     */
+    public static final String PG_SIDE_EFFECT_LABEL = "pg-side-effect";
+
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    /**
+     * 트랜잭션 시작 전에 기한 확인
+     * (doBegin 내부에서 던진 예외는 CannotCreateTransactionException으로 감싸지므로 시작 전에 확인)
+     */
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        if (!isPgSideEffect(definition)) {
+            DeadlineContext.checkpoint("트랜잭션 시작");
+        }
+        super.doBegin(transaction, definition);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+
+        Optional<Deadline> current = DeadlineContext.current();
+        if (current.isEmpty() || isPgSideEffect(definition)) {
+            return timeout;
+        }
+
+        int remainingSeconds = (int) Math.max(1, (current.get().remainingMillis() + 999) / 1000);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT
+                ? remainingSeconds
+                : Math.min(timeout, remainingSeconds);
+    }
+
+    private boolean isPgSideEffect(TransactionDefinition definition) {
+        return definition instanceof TransactionAttribute attribute
+                && attribute.getLabels().contains(PG_SIDE_EFFECT_LABEL);
+    }
+}
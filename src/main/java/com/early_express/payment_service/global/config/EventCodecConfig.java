@@ -0,0 +1,49 @@
+package com.early_express.payment_service.global.config;
+
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventMapping;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventSchemaRegistry;
+import com.early_express.payment_service.global.infrastructure.event.codec.FileEventSchemaRegistry;
+import com.early_express.payment_service.global.infrastructure.event.codec.TopicEventDeserializer;
+import com.early_express.payment_service.global.infrastructure.event.codec.TopicEventMapping;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 이벤트 인코딩 설정
+ * - 발행 인코딩은 payment.events.encoding (json | avro, KafkaConfig#producerFactory)
+ * - 스키마 저장소는 파일 기반 (payment.events.schema-registry.path, 인스턴스/서비스 간 공유 디렉터리)
+ *   encoding=avro일 때만 생성 (json이면 디렉터리를 만들지 않아 읽기 전용 파일시스템에서도 기동)
+ * - encoding=avro면 수신은 JSON/Avro 모두 처리 (__SchemaId__ 헤더로 구분), json이면 Avro 레코드는 변환 실패로 처리
+ * - 토픽별 수신 타입은 TopicEventMapping Bean으로 등록 (TopicEventDeserializer)
+ */
+@Configuration
+public class EventCodecConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "payment.events.encoding", havingValue = "avro")
+    public EventSchemaRegistry eventSchemaRegistry(
+            @Value("${payment.events.schema-registry.path:./schema-registry}") String path) {
+        return new FileEventSchemaRegistry(Path.of(path));
+    }
+
+    @Bean
+    public AvroEventCodec avroEventCodec(
+            ObjectProvider<EventSchemaRegistry> eventSchemaRegistry, List<AvroEventMapping<?>> mappings) {
+        EventSchemaRegistry registry = eventSchemaRegistry.getIfAvailable();
+        return registry != null ? new AvroEventCodec(registry, mappings) : AvroEventCodec.disabled();
+    }
+
+    @Bean
+    public TopicEventDeserializer topicEventDeserializer(
+            ObjectMapper objectMapper, AvroEventCodec avroEventCodec, List<TopicEventMapping<?>> mappings) {
+        return new TopicEventDeserializer(objectMapper, avroEventCodec, mappings);
+    }
+}
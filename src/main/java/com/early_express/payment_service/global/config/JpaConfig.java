@@ -2,10 +2,14 @@ package com.early_express.payment_service.global.config;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @Configuration
@@ -24,4 +28,19 @@ public class JpaConfig {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
     }
-}
\ No newline at end of file
+
+    /**
+     * 요청 처리 기한을 트랜잭션/JDBC 타임아웃에 반영하는 트랜잭션 매니저
+     * (Spring Boot 기본 JpaTransactionManager 대체)
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            EntityManagerFactory entityManagerFactory,
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+
+        DeadlineAwareJpaTransactionManager transactionManager =
+                new DeadlineAwareJpaTransactionManager(entityManagerFactory);
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -1,23 +1,26 @@
 package com.early_express.payment_service.global.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventSerializer;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventJsonSerializer;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.converter.RecordMessageConverter;
-import org.springframework.kafka.support.converter.StringJsonMessageConverter;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Configuration
 @EnableKafka
@@ -29,29 +32,76 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    // 이벤트 발행 인코딩 (json | avro), 수신 측은 두 형식 모두 처리하므로 수신 서비스 배포 후 avro로 전환
+    @Value("${payment.events.encoding:json}")
+    private String eventEncoding;
+
+    // 배치/압축: 짧게 기다려 파티션별로 묶어 보내고 zstd로 압축 (요청 수, 네트워크/브로커 디스크 사용량 감소)
+    @Value("${payment.events.producer.linger-ms:5}")
+    private int lingerMs;
+
+    @Value("${payment.events.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${payment.events.producer.compression-type:zstd}")
+    private String compressionType;
+
+    @Bean
+    @Primary
+    public ProducerFactory<String, Object> producerFactory(AvroEventCodec avroEventCodec) {
+        return newProducerFactory(avroEventCodec);
+    }
+
+    @Bean
+    @Primary
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * 환불 요청 Kafka 트랜잭션 모드용 트랜잭션 Producer (payment.refund.exactly-once.enabled=true)
+     * - 발행 이벤트와 Consumer offset을 한 트랜잭션으로 커밋 (refundTransactionalListenerContainerFactory)
+     * - EOS v2는 Consumer 그룹 정보로 이전 소유자를 막으므로 transactional.id는 인스턴스마다 달라야 할 뿐 고정일 필요 없음
+     */
     @Bean
-    public RecordMessageConverter converter(ObjectMapper objectMapper) {
-        return new StringJsonMessageConverter(objectMapper);
+    @ConditionalOnProperty(name = "payment.refund.exactly-once.enabled", havingValue = "true")
+    public ProducerFactory<String, Object> transactionalProducerFactory(
+            AvroEventCodec avroEventCodec,
+            @Value("${payment.refund.exactly-once.transaction-id-prefix:payment-refund-tx-}") String transactionIdPrefix) {
+        DefaultKafkaProducerFactory<String, Object> factory = newProducerFactory(avroEventCodec);
+        factory.setTransactionIdPrefix(transactionIdPrefix + UUID.randomUUID() + "-");
+        return factory;
     }
 
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    @ConditionalOnProperty(name = "payment.refund.exactly-once.enabled", havingValue = "true")
+    public KafkaTemplate<String, Object> transactionalKafkaTemplate(
+            @Qualifier("transactionalProducerFactory") ProducerFactory<String, Object> transactionalProducerFactory) {
+        return new KafkaTemplate<>(transactionalProducerFactory);
+    }
+
+    private DefaultKafkaProducerFactory<String, Object> newProducerFactory(AvroEventCodec avroEventCodec) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // 이벤트 클래스별 ObjectWriter를 미리 만들어 재사용 (JsonSerializer와 동일한 메시지 형식)
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventJsonSerializer.class);
 
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
-    }
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
 
-    @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        if ("avro".equalsIgnoreCase(eventEncoding)) {
+            // Avro 매핑이 있는 이벤트는 Avro 바이너리 + __SchemaId__ 헤더, 그 밖은 JSON
+            return new DefaultKafkaProducerFactory<>(configProps,
+                    new StringSerializer(), new AvroEventSerializer(avroEventCodec));
+        }
+        return new DefaultKafkaProducerFactory<>(configProps);
     }
 
     // 기본 토픽 생성 예제
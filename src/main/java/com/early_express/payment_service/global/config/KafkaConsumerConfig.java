@@ -1,27 +1,50 @@
 package com.early_express.payment_service.global.config;
 
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.early_express.payment_service.global.infrastructure.event.codec.EventJsonMessageConverter;
+import com.early_express.payment_service.global.infrastructure.event.codec.TopicEventDeserializer;
+import com.early_express.payment_service.global.infrastructure.event.retry.NonRetryableEventException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.converter.StringJsonMessageConverter;
+import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * Kafka Consumer 설정
  * - 이벤트 구독 설정
  * - 수동 커밋
- * - 재시도 설정
+ * - 재시도 설정 (refund-requested는 재시도 토픽 + DLT)
+ * - 레코드 리스너는 byte[]로 받아 헤더 필터 통과 후 변환 (payment.events.typed-deserializer.enabled=true면
+ *   토픽별 이벤트 타입으로 poll 시점에 역직렬화, TopicEventDeserializer), 배치 리스너는 byte[]
+ * - 이벤트 헤더(eventType, version, eventId)로 레코드 필터링 (RecordFilterStrategy Bean)
+ * - refund-requested Kafka 트랜잭션 모드는 발행 이벤트와 offset을 한 트랜잭션으로 커밋
+ * - spring.threads.virtual.enabled=true면 리스너 컨테이너 Consumer 스레드를 가상 스레드로 실행
  */
 @Configuration
+@EnableKafkaRetryTopic
 public class KafkaConsumerConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
@@ -30,13 +53,29 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id:inventory-service-group}")
     private String groupId;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerProperties());
+    }
+
+    /**
+     * 토픽별 이벤트 타입 Consumer (레코드 리스너용)
+     * TopicEventMapping이 있는 토픽은 poll 시점에 fetch 버퍼에서 바로 이벤트로 파싱, 그 밖은 byte[]
+     */
+    private ConsumerFactory<String, Object> eventConsumerFactory(TopicEventDeserializer topicEventDeserializer) {
+        return new DefaultKafkaConsumerFactory<>(consumerProperties(), new StringDeserializer(), topicEventDeserializer);
+    }
+
+    private Map<String, Object> consumerProperties() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        // 값은 바이트 그대로 받아 EventJsonMessageConverter가 문자열 변환 없이 파싱
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
 
         // 수동 커밋
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
@@ -48,27 +87,204 @@ public class KafkaConsumerConfig {
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return configProps;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(ObjectMapper objectMapper) {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            ObjectMapper objectMapper,
+            AvroEventCodec avroEventCodec,
+            TopicEventDeserializer topicEventDeserializer,
+            RecordFilterStrategy<String, Object> eventRecordFilter,
+            @Value("${payment.events.typed-deserializer.enabled:false}") boolean typedDeserializer) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(typedDeserializer
+                ? eventConsumerFactory(topicEventDeserializer)
+                : consumerFactory());
 
         // 수동 커밋 모드
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
 
         // 동시성 설정 (파티션 수와 동일하게)
         factory.setConcurrency(3);
+        configureListenerThreads(factory, "kafka-listener-");
 
         // 에러 핸들러
         factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
 
-        factory.setRecordMessageConverter(new StringJsonMessageConverter(objectMapper));
+        // 이미 이벤트로 역직렬화된 값은 그대로, byte[]는 JSON/Avro(__SchemaId__ 헤더) 모두 바로 변환
+        factory.setRecordMessageConverter(new EventJsonMessageConverter(objectMapper, avroEventCodec));
+
+        // 헤더만 보고 버린 레코드도 커밋
+        factory.setRecordFilterStrategy(eventRecordFilter);
+        factory.setAckDiscarded(true);
 
         return factory;
     }
+
+    /**
+     * 환불 요청 재시도 토픽 설정 (Non-blocking)
+     * - 처리 실패 레코드는 원래 파티션을 막지 않고 재시도 토픽으로 넘김
+     *   refund-requested → -retry-0(1s) → -retry-1(10s) → -retry-2(100s) → -retry-3(10m) → -dlt
+     * - NonRetryableEventException(환불 불가 상태 등 4xx 도메인 오류)과 역직렬화 오류는 바로 DLT
+     * - DLT 레코드에는 원본 토픽/파티션/offset, 예외 클래스/메시지/스택트레이스 헤더가 추가됨
+     * - DLT 레코드는 RefundRequestedEventConsumer#handleRefundRequestedDlt가 처리 (재시도 소진 시 환불 실패 이벤트 발행)
+     * - 배치 리스너/키 순서 병렬 리스너/Kafka 트랜잭션 모드는 재시도 토픽을 지원하지 않아 등록하지 않음 (각 리스너가 직접 재시도)
+     */
+    @Bean
+    @ConditionalOnProperty(
+            name = {
+                    "payment.refund.batch-listener.enabled",
+                    "payment.refund.key-ordered.enabled",
+                    "payment.refund.exactly-once.enabled"
+            },
+            havingValue = "false",
+            matchIfMissing = true)
+    public RetryTopicConfiguration refundRequestedRetryTopicConfiguration(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${spring.kafka.topic.refund-requested:refund-requested}") String refundRequestedTopic,
+            @Value("${payment.refund.retry.attempts:5}") int attempts,
+            @Value("${payment.refund.retry.initial-delay-ms:1000}") long initialDelayMs,
+            @Value("${payment.refund.retry.multiplier:10}") double multiplier,
+            @Value("${payment.refund.retry.max-delay-ms:600000}") long maxDelayMs,
+            @Value("${payment.refund.retry.partitions:3}") int partitions,
+            @Value("${payment.refund.retry.replicas:3}") short replicas) {
+
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic(refundRequestedTopic)
+                .maxAttempts(attempts)
+                .exponentialBackoff(initialDelayMs, multiplier, maxDelayMs)
+                .suffixTopicsWithIndexValues()
+                .notRetryOn(NonRetryableEventException.class)
+                .dltHandlerMethod("refundRequestedEventConsumer", "handleRefundRequestedDlt")
+                .autoCreateTopicsWith(partitions, replicas)
+                .listenerFactory("kafkaListenerContainerFactory")
+                .create(kafkaTemplate);
+    }
+
+    /**
+     * 환불 요청 배치 리스너용 컨테이너 팩토리
+     * - poll 단위로 레코드를 받아 RefundRequestedBatchConsumer가 직접 커밋/되감기
+     * - 레코드 값은 바이트 그대로 전달 (리스너가 EventPayloadReader로 역직렬화)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> refundBatchListenerContainerFactory(
+            RecordFilterStrategy<String, Object> eventRecordFilter,
+            @Value("${payment.refund.batch-listener.max-poll-records:200}") int maxPollRecords) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+
+        // 리스너가 배치마다 commitSync로 직접 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+
+        // 동시성 설정 (파티션 수와 동일하게, 파티션 안에서는 키 단위로 병렬 처리)
+        factory.setConcurrency(3);
+        configureListenerThreads(factory, "kafka-refund-batch-");
+
+        // 버린 레코드는 리스너에 전달되지 않고, 뒤 레코드 커밋 시 함께 커밋됨
+        factory.setRecordFilterStrategy(eventRecordFilter);
+
+        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+
+        return factory;
+    }
+
+    /**
+     * 환불 요청 키 순서 병렬 리스너용 컨테이너 팩토리
+     * - poll 단위로 받은 레코드를 RefundRequestedKeyOrderedConsumer가 작업 스레드에 분배하고 직접 커밋
+     * - 수신이 없으면 commit-interval-ms마다 idle 이벤트로 처리 완료 offset 커밋
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> refundKeyOrderedListenerContainerFactory(
+            RecordFilterStrategy<String, Object> eventRecordFilter,
+            @Value("${payment.refund.key-ordered.max-poll-records:500}") int maxPollRecords,
+            @Value("${payment.refund.key-ordered.commit-interval-ms:1000}") long commitIntervalMs) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+
+        // 리스너가 처리 완료 위치를 commitAsync로 직접 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setIdleEventInterval(commitIntervalMs);
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+
+        // 처리 동시성은 작업 스레드 풀이 담당, Consumer는 파티션 수와 동일하게
+        factory.setConcurrency(3);
+        configureListenerThreads(factory, "kafka-refund-key-ordered-");
+
+        // 버린 레코드는 분배하지 않음 (ackDiscarded는 처리 중인 앞 레코드까지 커밋하므로 사용하지 않음)
+        factory.setRecordFilterStrategy(eventRecordFilter);
+
+        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+
+        return factory;
+    }
+
+    /**
+     * 환불 요청 Kafka 트랜잭션 모드용 컨테이너 팩토리 (payment.refund.exactly-once.enabled=true)
+     * - poll마다 Kafka 트랜잭션을 시작해 리스너가 보낸 이벤트와 배치 offset을 함께 커밋 (배치당 트랜잭션 1회)
+     * - 리스너 예외/커밋 실패 시 트랜잭션을 중단하고 같은 배치를 다시 수신 (건너뛰지 않음, 재처리는 RefundRequestedTransactionalConsumer가 멱등 처리)
+     * - 중단된 트랜잭션의 레코드를 읽지 않도록 read_committed
+     * - 헤더 필터는 처리 기록(eventId)으로도 레코드를 버려, 중단 후 재수신한 레코드의 이벤트 재발행이 빠지므로 사용하지 않음
+     */
+    @Bean
+    @ConditionalOnProperty(name = "payment.refund.exactly-once.enabled", havingValue = "true")
+    public ConcurrentKafkaListenerContainerFactory<String, Object> refundTransactionalListenerContainerFactory(
+            @Qualifier("transactionalProducerFactory") ProducerFactory<String, Object> transactionalProducerFactory,
+            @Value("${payment.refund.exactly-once.max-poll-records:200}") int maxPollRecords,
+            @Value("${payment.refund.exactly-once.rollback-backoff-ms:1000}") long rollbackBackoffMs) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+
+        // offset은 컨테이너가 트랜잭션에 포함해 커밋 (Consumer 직접 커밋 없음)
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        containerProperties.setKafkaAwareTransactionManager(new KafkaTransactionManager<>(transactionalProducerFactory));
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        consumerProperties.setProperty(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        containerProperties.setKafkaConsumerProperties(consumerProperties);
+
+        // 동시성 설정 (파티션 수와 동일하게, 파티션 안에서는 키 단위로 병렬 처리)
+        factory.setConcurrency(3);
+        configureListenerThreads(factory, "kafka-refund-tx-");
+
+        // 중단된 배치는 되감아 무기한 재시도 (처리 불가 레코드는 리스너가 트랜잭션 안에서 DLT로 보냄)
+        factory.setAfterRollbackProcessor(new DefaultAfterRollbackProcessor<>(
+                new FixedBackOff(rollbackBackoffMs, FixedBackOff.UNLIMITED_ATTEMPTS)));
+
+        return factory;
+    }
+
+    /**
+     * 리스너 컨테이너 Consumer 스레드 (가상 스레드 모드일 때만 변경)
+     * 리스너 안의 블로킹 호출(PG 취소, JDBC) 대기 중에 캐리어 스레드를 점유하지 않음
+     */
+    private void configureListenerThreads(
+            ConcurrentKafkaListenerContainerFactory<String, Object> factory, String threadNamePrefix) {
+        if (!virtualThreads) {
+            return;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
 }
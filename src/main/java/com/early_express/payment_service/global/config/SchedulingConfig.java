@@ -0,0 +1,13 @@
+package com.early_express.payment_service.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - Outbox 이벤트 발행 등 @Scheduled 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
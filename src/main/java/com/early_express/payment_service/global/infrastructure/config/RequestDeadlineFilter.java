@@ -0,0 +1,81 @@
+package com.early_express.payment_service.global.infrastructure.config;
+
+import com.early_express.payment_service.global.common.deadline.Deadline;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 내부 API 요청 처리 기한 설정
+ * - 호출자가 X-Request-Timeout-Ms 헤더로 남은 시간을 보내면 그 값을, 없으면 설정값을 기한으로 사용
+ * - 호출자가 응답을 포기한 뒤에도 PG 호출/재시도/DB 작업을 계속하지 않도록 DeadlineContext에 보관
+ * - 기한 측정이 최대한 일찍 시작되도록 다른 필터보다 먼저 실행
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final String pathPrefix;
+    private final long defaultTimeoutMs;
+    private final long maxTimeoutMs;
+
+    public RequestDeadlineFilter(
+            @Value("${payment.deadline.enabled:true}") boolean enabled,
+            @Value("${payment.deadline.path-prefix:/v1/payment/internal/}") String pathPrefix,
+            @Value("${payment.deadline.default-timeout-ms:5000}") long defaultTimeoutMs,
+            @Value("${payment.deadline.max-timeout-ms:30000}") long maxTimeoutMs) {
+
+        this.enabled = enabled;
+        this.pathPrefix = pathPrefix;
+        this.defaultTimeoutMs = defaultTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(pathPrefix);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Deadline deadline = Deadline.after(Duration.ofMillis(resolveTimeoutMs(request)));
+
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(deadline)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * 헤더 값은 max-timeout-ms로 상한 적용, 형식이 잘못되면 기본값 사용
+     */
+    private long resolveTimeoutMs(HttpServletRequest request) {
+        String header = request.getHeader(DeadlineContext.TIMEOUT_HEADER);
+        if (header == null || header.isBlank()) {
+            return defaultTimeoutMs;
+        }
+
+        try {
+            return Math.min(Math.max(0, Long.parseLong(header.trim())), maxTimeoutMs);
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 처리 기한 헤더 무시 - {}: {}", DeadlineContext.TIMEOUT_HEADER, header);
+            return defaultTimeoutMs;
+        }
+    }
+}
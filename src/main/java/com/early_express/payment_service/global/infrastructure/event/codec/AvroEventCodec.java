@@ -0,0 +1,162 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 Avro 바이너리 코덱
+ * - AvroEventMapping이 등록된 이벤트 타입만 지원, 시작 시 각 스키마를 EventSchemaRegistry에 등록
+ * - 값은 Avro 바이너리만 담고 스키마 id는 __SchemaId__ 헤더(4바이트 big-endian)에 기록
+ * - 수신 시 헤더 id의 writer schema → 이 서비스의 reader schema로 변환 (필드 추가/삭제된 버전도 읽음)
+ * - 인코더/출력 버퍼는 스레드별로 재사용
+ * - 스키마 저장소가 없으면(disabled) 지원 타입이 없고 Avro 레코드는 디코딩하지 않음
+ */
+public class AvroEventCodec {
+
+    public static final String SCHEMA_ID_HEADER = "__SchemaId__";
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1_024;
+
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFERS =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(512));
+    private static final ThreadLocal<BinaryEncoder> ENCODERS = new ThreadLocal<>();
+    private static final ThreadLocal<BinaryDecoder> DECODERS = new ThreadLocal<>();
+
+    private final EventSchemaRegistry registry;
+    private final Map<Class<?>, Writer<?>> writers = new HashMap<>();
+    private final Map<String, Class<?>> typesByName = new HashMap<>();
+
+    // (writer schema id, 이벤트 타입)별 변환 reader
+    private final Map<Class<?>, Map<Integer, GenericDatumReader<GenericRecord>>> readers = new ConcurrentHashMap<>();
+
+    /**
+     * 스키마 저장소 없이 생성 (payment.events.encoding=json, Avro 레코드 수신 시 IllegalStateException)
+     */
+    public static AvroEventCodec disabled() {
+        return new AvroEventCodec(null, List.of());
+    }
+
+    public AvroEventCodec(EventSchemaRegistry registry, List<AvroEventMapping<?>> mappings) {
+        this.registry = registry;
+        for (AvroEventMapping<?> mapping : mappings) {
+            int schemaId = registry.register(mapping.schema());
+            writers.put(mapping.type(), new Writer<>(mapping, schemaId));
+            typesByName.put(mapping.type().getName(), mapping.type());
+        }
+    }
+
+    /**
+     * 인코딩 결과
+     *
+     * @param schemaId writer schema id (__SchemaId__ 헤더 값)
+     * @param payload Avro 바이너리
+     */
+    public record Encoded(int schemaId, byte[] payload) {
+    }
+
+    public boolean supports(Class<?> type) {
+        return writers.containsKey(type);
+    }
+
+    /**
+     * 클래스 이름(__TypeId__ 헤더 값)에 해당하는 지원 타입
+     *
+     * @return 지원하지 않으면 null
+     */
+    public Class<?> supportedType(String typeName) {
+        return typesByName.get(typeName);
+    }
+
+    public Encoded encode(Object event) throws IOException {
+        Writer<?> writer = writers.get(event.getClass());
+        if (writer == null) {
+            throw new IllegalArgumentException("Avro 매핑이 없는 이벤트 타입 - " + event.getClass().getName());
+        }
+        return new Encoded(writer.schemaId(), writer.write(event));
+    }
+
+    public <T> T decode(int schemaId, byte[] payload, Class<T> type) throws IOException {
+        return decode(schemaId, payload, 0, payload.length, type);
+    }
+
+    /**
+     * 배열의 일부 구간만 디코딩 (Kafka fetch 버퍼 등에서 복사 없이 읽을 때)
+     */
+    public <T> T decode(int schemaId, byte[] payload, int offset, int length, Class<T> type) throws IOException {
+        if (registry == null) {
+            throw new IllegalStateException(
+                    "Avro 스키마 저장소가 없습니다 (payment.events.encoding=avro에서만 Avro 수신) - schemaId: " + schemaId);
+        }
+        Writer<?> writer = writers.get(type);
+        if (writer == null) {
+            throw new IllegalArgumentException("Avro 매핑이 없는 이벤트 타입 - " + type.getName());
+        }
+
+        GenericDatumReader<GenericRecord> reader = readers
+                .computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(schemaId, id -> new GenericDatumReader<>(
+                        registry.getById(id), writer.mapping().schema()));
+
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload, offset, length, DECODERS.get());
+        DECODERS.set(decoder);
+        return type.cast(writer.mapping().fromRecord(reader.read(null, decoder)));
+    }
+
+    /**
+     * 헤더의 스키마 id
+     *
+     * @return 헤더가 없으면 null (JSON 메시지)
+     */
+    public static Integer schemaId(Headers headers) {
+        Header header = headers != null ? headers.lastHeader(SCHEMA_ID_HEADER) : null;
+        if (header == null || header.value() == null || header.value().length != Integer.BYTES) {
+            return null;
+        }
+        return ByteBuffer.wrap(header.value()).getInt();
+    }
+
+    public static byte[] schemaIdHeaderValue(int schemaId) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(schemaId).array();
+    }
+
+    private record Writer<T>(AvroEventMapping<T> mapping, int schemaId, GenericDatumWriter<GenericRecord> datumWriter) {
+
+        Writer(AvroEventMapping<T> mapping, int schemaId) {
+            this(mapping, schemaId, new GenericDatumWriter<>(mapping.schema()));
+        }
+
+        byte[] write(Object event) throws IOException {
+            GenericRecord record = mapping.toRecord(mapping.type().cast(event));
+
+            ByteArrayOutputStream buffer = BUFFERS.get();
+            buffer.reset();
+            BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(buffer, ENCODERS.get());
+            ENCODERS.set(encoder);
+
+            datumWriter.write(record, encoder);
+            encoder.flush();
+
+            byte[] bytes = buffer.toByteArray();
+            if (bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+                BUFFERS.remove();
+                ENCODERS.remove();
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import com.early_express.payment_service.global.infrastructure.event.base.BaseEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 이벤트 클래스 ↔ Avro 레코드 변환 (이벤트 타입별 구현을 Bean으로 등록하면 AvroEventCodec이 사용)
+ * - 스키마는 클래스패스 avro/*.avsc에서 읽음
+ * - 금액은 값과 scale을 그대로 유지하도록 문자열, 시각은 local-timestamp-millis(long)로 인코딩
+ * - BaseEvent 공통 필드(eventId, eventType, timestamp, version, publisher)는 모든 스키마에 같은 이름으로 둠
+ *
+ * @param <T> 이벤트 타입
+ */
+public interface AvroEventMapping<T> {
+
+    Class<T> type();
+
+    /**
+     * 이 서비스가 작성/해석하는 스키마 (reader schema)
+     */
+    Schema schema();
+
+    GenericRecord toRecord(T event);
+
+    T fromRecord(GenericRecord record);
+
+    static Schema loadSchema(String resource) {
+        try (InputStream in = AvroEventMapping.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("스키마 파일 없음 - " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스키마 파일 읽기 실패 - " + resource, e);
+        }
+    }
+
+    static GenericData.Record newRecord(Schema schema, BaseEvent event) {
+        GenericData.Record record = new GenericData.Record(schema);
+        record.put("eventId", event.getEventId());
+        record.put("eventType", event.getEventType());
+        record.put("timestamp", dateTime(event.getTimestamp()));
+        record.put("version", event.getVersion());
+        record.put("publisher", event.getPublisher());
+        return record;
+    }
+
+    static <B extends BaseEvent.BaseEventBuilder<?, ?>> B baseFields(B builder, GenericRecord record) {
+        builder.eventId(string(record, "eventId"))
+                .eventType(string(record, "eventType"))
+                .timestamp(dateTime(record, "timestamp"))
+                .version(string(record, "version"))
+                .publisher(string(record, "publisher"));
+        return builder;
+    }
+
+    static String string(GenericRecord record, String field) {
+        Object value = record.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    static BigDecimal decimal(GenericRecord record, String field) {
+        Object value = record.get(field);
+        return value != null ? new BigDecimal(value.toString()) : null;
+    }
+
+    static LocalDateTime dateTime(GenericRecord record, String field) {
+        Object value = record.get(field);
+        return value != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli((Long) value), ZoneOffset.UTC)
+                : null;
+    }
+
+    static String decimal(BigDecimal value) {
+        return value != null ? value.toString() : null;
+    }
+
+    static Long dateTime(LocalDateTime value) {
+        return value != null ? value.toInstant(ZoneOffset.UTC).toEpochMilli() : null;
+    }
+}
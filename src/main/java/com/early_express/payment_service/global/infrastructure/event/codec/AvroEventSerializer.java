@@ -0,0 +1,82 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import com.early_express.payment_service.global.common.utils.JsonCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 Avro 직렬화기 (payment.events.encoding=avro)
+ * - AvroEventMapping이 있는 이벤트는 Avro 바이너리 + __SchemaId__/__TypeId__ 헤더
+ * - SerializedEvent(Outbox에 저장된 JSON)는 이벤트로 읽어 Avro로 다시 인코딩 (Outbox는 JSON 그대로 보관)
+ * - 매핑이 없는 타입, byte[](재시도 토픽/DLT 재발행)는 EventJsonSerializer와 동일하게 처리
+ */
+public class AvroEventSerializer implements Serializer<Object> {
+
+    private static final ObjectMapper OBJECT_MAPPER = JacksonUtils.enhancedObjectMapper();
+
+    private static final ClassValue<JsonCodec<?>> JSON_CODECS = new ClassValue<>() {
+        @Override
+        protected JsonCodec<?> computeValue(Class<?> type) {
+            return JsonCodec.of(OBJECT_MAPPER, type);
+        }
+    };
+
+    private final AvroEventCodec codec;
+    private final EventJsonSerializer jsonSerializer = new EventJsonSerializer();
+
+    public AvroEventSerializer(AvroEventCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        Object event = data instanceof SerializedEvent serialized ? toEvent(topic, serialized) : data;
+        if (event == null || !codec.supports(event.getClass())) {
+            return jsonSerializer.serialize(topic, headers, data);
+        }
+
+        AvroEventCodec.Encoded encoded;
+        try {
+            encoded = codec.encode(event);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("이벤트 Avro 직렬화 실패 - topic: " + topic
+                    + ", type: " + event.getClass().getName(), e);
+        }
+
+        headers.remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                event.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        headers.remove(AvroEventCodec.SCHEMA_ID_HEADER);
+        headers.add(AvroEventCodec.SCHEMA_ID_HEADER, AvroEventCodec.schemaIdHeaderValue(encoded.schemaId()));
+
+        return encoded.payload();
+    }
+
+    /**
+     * 헤더 없이는 스키마 id를 전달할 수 없으므로 JSON으로 직렬화
+     */
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    private Object toEvent(String topic, SerializedEvent serialized) {
+        Class<?> type = codec.supportedType(serialized.typeId());
+        if (type == null) {
+            return null;
+        }
+        try {
+            return JSON_CODECS.get(type).read(serialized.payload());
+        } catch (IOException e) {
+            throw new SerializationException("Outbox 이벤트 JSON 읽기 실패 - topic: " + topic
+                    + ", type: " + serialized.typeId(), e);
+        }
+    }
+}
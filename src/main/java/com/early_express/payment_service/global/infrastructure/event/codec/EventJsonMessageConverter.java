@@ -0,0 +1,56 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
+import org.springframework.kafka.support.converter.ConversionException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 이벤트 JSON 메시지 변환기 (StringJsonMessageConverter 대체)
+ * - 값은 ByteArrayDeserializer로 받아 문자열 변환 없이 바이트에서 바로 파싱
+ * - @Payload 클래스별로 미리 만든 ObjectReader(JsonCodec) 사용, 모르는 필드는 건너뜀
+ * - __SchemaId__ 헤더가 있는 레코드는 AvroEventCodec으로 변환 (EventPayloadReader)
+ * - Consumer가 이미 이벤트로 역직렬화한 값(TopicEventDeserializer)은 그대로 전달
+ * - 클래스가 아닌 타입(제네릭 등)은 기본 변환기로 처리
+ */
+public class EventJsonMessageConverter extends ByteArrayJsonMessageConverter {
+
+    private final ClassValue<EventPayloadReader<?>> readers;
+
+    public EventJsonMessageConverter(ObjectMapper objectMapper) {
+        this(objectMapper, null);
+    }
+
+    public EventJsonMessageConverter(ObjectMapper objectMapper, AvroEventCodec avroCodec) {
+        super(objectMapper);
+        this.readers = new ClassValue<>() {
+            @Override
+            protected EventPayloadReader<?> computeValue(Class<?> type) {
+                return EventPayloadReader.of(objectMapper, avroCodec, type);
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Object extractAndConvertValue(ConsumerRecord<?, ?> record, Type type) {
+        if (type instanceof Class<?> payloadType && payloadType.isInstance(record.value())
+                && !(record.value() instanceof byte[])) {
+            return record.value();
+        }
+        if (record.value() instanceof byte[] bytes
+                && bytes.length > 0
+                && type instanceof Class<?> payloadType
+                && payloadType != Object.class) {
+            try {
+                return readers.get(payloadType).read((ConsumerRecord<?, byte[]>) record);
+            } catch (IOException | RuntimeException e) {
+                throw new ConversionException("이벤트 역직렬화 실패 - type: " + payloadType.getName(), record, e);
+            }
+        }
+        return super.extractAndConvertValue(record, type);
+    }
+}
@@ -0,0 +1,74 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import com.early_express.payment_service.global.common.utils.JsonCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 JSON 직렬화기 (Spring Kafka JsonSerializer 대체)
+ * - 이벤트 클래스별로 미리 만든 ObjectWriter(JsonCodec) 사용
+ * - JsonSerializer와 같은 ObjectMapper 설정, 같은 __TypeId__ 헤더를 사용하므로 메시지 형식은 동일
+ * - SerializedEvent는 저장된 JSON을 그대로 사용 (Outbox 발행)
+ * - byte[]는 수신한 메시지 그대로 재발행하는 경우(재시도 토픽, DLT)라 값과 헤더를 바꾸지 않음
+ * - 역직렬화된 이벤트를 재발행할 때 원본에서 복사된 __SchemaId__ 헤더는 제거 (JSON 본문을 Avro로 읽지 않도록)
+ */
+public class EventJsonSerializer implements Serializer<Object> {
+
+    private static final ObjectMapper OBJECT_MAPPER = JacksonUtils.enhancedObjectMapper();
+
+    private static final ClassValue<JsonCodec<Object>> CODECS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected JsonCodec<Object> computeValue(Class<?> type) {
+            return (JsonCodec<Object>) JsonCodec.of(OBJECT_MAPPER, type);
+        }
+    };
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof byte[] raw) {
+            return raw;
+        }
+
+        String typeId = data instanceof SerializedEvent serialized
+                ? serialized.typeId()
+                : data.getClass().getName();
+
+        headers.remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                typeId.getBytes(StandardCharsets.UTF_8));
+        headers.remove(AvroEventCodec.SCHEMA_ID_HEADER);
+
+        return serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof byte[] raw) {
+            return raw;
+        }
+        if (data instanceof SerializedEvent serialized) {
+            return serialized.payload();
+        }
+
+        try {
+            return CODECS.get(data.getClass()).write(data);
+        } catch (IOException e) {
+            throw new SerializationException("이벤트 직렬화 실패 - topic: " + topic
+                    + ", type: " + data.getClass().getName(), e);
+        }
+    }
+}
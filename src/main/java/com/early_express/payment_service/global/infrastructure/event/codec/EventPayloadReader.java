@@ -0,0 +1,76 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import com.early_express.payment_service.global.common.utils.JsonCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 수신 레코드 값 → 이벤트 변환 (JSON/Avro 혼재 구간 대응)
+ * - __SchemaId__ 헤더가 있으면 Avro, 없으면 JSON으로 읽음
+ * - 발행 측 인코딩 전환(json → avro) 중에도 두 형식을 모두 처리하므로 수신 측을 먼저 배포하면 됨
+ * - ByteBuffer는 backing array 구간을 그대로 파싱 (byte[]/String 중간 복사 없음)
+ *
+ * @param <T> 이벤트 타입
+ */
+public final class EventPayloadReader<T> {
+
+    private final JsonCodec<T> jsonCodec;
+    private final AvroEventCodec avroCodec;
+
+    private EventPayloadReader(JsonCodec<T> jsonCodec, AvroEventCodec avroCodec) {
+        this.jsonCodec = jsonCodec;
+        this.avroCodec = avroCodec;
+    }
+
+    /**
+     * @param avroCodec null이면 JSON만 읽음
+     */
+    public static <T> EventPayloadReader<T> of(ObjectMapper objectMapper, AvroEventCodec avroCodec, Class<T> type) {
+        return new EventPayloadReader<>(JsonCodec.of(objectMapper, type), avroCodec);
+    }
+
+    public Class<T> type() {
+        return jsonCodec.type();
+    }
+
+    /**
+     * @return 값이 없으면 null
+     */
+    public T read(ConsumerRecord<?, byte[]> record) throws IOException {
+        byte[] value = record.value();
+        return value != null ? read(record.headers(), value, 0, value.length) : null;
+    }
+
+    /**
+     * Kafka fetch 버퍼에서 바로 읽음 (buffer의 position/limit은 변경하지 않음)
+     *
+     * @return 값이 없으면 null
+     */
+    public T read(Headers headers, ByteBuffer value) throws IOException {
+        if (value == null) {
+            return null;
+        }
+        if (value.hasArray()) {
+            return read(headers, value.array(), value.arrayOffset() + value.position(), value.remaining());
+        }
+        // direct buffer는 배열로 한 번만 복사
+        byte[] bytes = new byte[value.remaining()];
+        value.duplicate().get(bytes);
+        return read(headers, bytes, 0, bytes.length);
+    }
+
+    public T read(Headers headers, byte[] value, int offset, int length) throws IOException {
+        Integer schemaId = AvroEventCodec.schemaId(headers);
+        if (schemaId == null) {
+            return jsonCodec.read(value, offset, length);
+        }
+        if (avroCodec == null) {
+            throw new IOException("Avro 코덱 없이 Avro 이벤트 수신 - type: " + jsonCodec.type().getName());
+        }
+        return avroCodec.decode(schemaId, value, offset, length, jsonCodec.type());
+    }
+}
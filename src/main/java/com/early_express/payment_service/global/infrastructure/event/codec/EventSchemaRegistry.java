@@ -0,0 +1,26 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import org.apache.avro.Schema;
+
+/**
+ * 이벤트 Avro 스키마 저장소
+ * - 발행 측은 스키마를 등록하고 받은 id를 레코드 헤더에 기록
+ * - 수신 측은 헤더의 id로 작성 시점 스키마(writer schema)를 찾아 자신의 스키마(reader schema)로 변환
+ */
+public interface EventSchemaRegistry {
+
+    /**
+     * 스키마 등록 (이미 등록된 스키마면 기존 id 반환)
+     *
+     * @return 스키마 id
+     * @throws IllegalStateException 같은 이름의 기존 스키마로 작성된 이벤트를 읽을 수 없는 변경인 경우
+     */
+    int register(Schema schema);
+
+    /**
+     * id로 스키마 조회
+     *
+     * @throws IllegalArgumentException 등록되지 않은 id
+     */
+    Schema getById(int id);
+}
@@ -0,0 +1,136 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaNormalization;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 파일 기반 이벤트 스키마 저장소 (Schema Registry 대체, 로컬/테스트용)
+ * - 디렉터리에 {id}.avsc 파일로 저장, 여러 인스턴스가 같은 디렉터리(공유 볼륨)를 쓰면 같은 저장소
+ * - id는 스키마 정규형(Parsing Canonical Form) 지문에서 계산 → 인스턴스 간 조율 없이 같은 스키마는 같은 id
+ * - 같은 이름의 새 스키마는 기존 스키마로 작성된 이벤트를 읽을 수 있을 때만 등록 (BACKWARD 호환)
+ * - 모르는 id는 디렉터리를 다시 읽어 다른 인스턴스가 등록한 스키마를 찾음
+ */
+@Slf4j
+public class FileEventSchemaRegistry implements EventSchemaRegistry {
+
+    private static final String EXTENSION = ".avsc";
+
+    private final Path directory;
+    private final Map<Integer, Schema> schemas = new ConcurrentHashMap<>();
+
+    public FileEventSchemaRegistry(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스키마 저장소 디렉터리 생성 실패 - " + directory, e);
+        }
+        reload();
+    }
+
+    @Override
+    public synchronized int register(Schema schema) {
+        int id = idOf(schema);
+        Schema existing = schemas.get(id);
+        if (existing != null) {
+            if (!canonical(existing).equals(canonical(schema))) {
+                throw new IllegalStateException("스키마 id 충돌 - id: " + id + ", schema: " + schema.getFullName());
+            }
+            return id;
+        }
+
+        reload();
+        for (Schema previous : schemas.values()) {
+            if (previous.getFullName().equals(schema.getFullName())) {
+                checkBackwardCompatible(schema, previous);
+            }
+        }
+
+        write(id, schema);
+        schemas.put(id, schema);
+        log.info("이벤트 스키마 등록 - id: {}, schema: {}", id, schema.getFullName());
+        return id;
+    }
+
+    @Override
+    public Schema getById(int id) {
+        Schema schema = schemas.get(id);
+        if (schema == null) {
+            reload();
+            schema = schemas.get(id);
+        }
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 스키마 id - " + id);
+        }
+        return schema;
+    }
+
+    static int idOf(Schema schema) {
+        long fingerprint = SchemaNormalization.parsingFingerprint64(schema);
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & Integer.MAX_VALUE;
+    }
+
+    private static String canonical(Schema schema) {
+        return SchemaNormalization.toParsingForm(schema);
+    }
+
+    private static void checkBackwardCompatible(Schema reader, Schema writer) {
+        SchemaCompatibility.SchemaPairCompatibility result =
+                SchemaCompatibility.checkReaderWriterCompatibility(reader, writer);
+        if (result.getType() != SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+            throw new IllegalStateException("기존 스키마와 호환되지 않는 변경 - schema: " + reader.getFullName()
+                    + ", " + result.getDescription());
+        }
+    }
+
+    private void write(int id, Schema schema) {
+        Path target = directory.resolve(id + EXTENSION);
+        try {
+            // 다른 인스턴스가 쓰는 중인 파일을 읽지 않도록 임시 파일에 쓴 뒤 이동
+            Path temp = Files.createTempFile(directory, id + "-", ".tmp");
+            Files.writeString(temp, schema.toString(true), StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스키마 저장 실패 - " + target, e);
+        }
+    }
+
+    private synchronized void reload() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                    .forEach(this::load);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스키마 저장소 조회 실패 - " + directory, e);
+        }
+    }
+
+    private void load(Path file) {
+        String name = file.getFileName().toString();
+        int id;
+        try {
+            id = Integer.parseInt(name.substring(0, name.length() - EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (schemas.containsKey(id)) {
+            return;
+        }
+        try {
+            schemas.put(id, new Schema.Parser().parse(Files.readString(file, StandardCharsets.UTF_8)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("스키마 파일 읽기 실패 - file: {}, error: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+/**
+ * 미리 직렬화해 둔 이벤트 (Outbox 등에서 저장한 JSON을 그대로 발행)
+ * EventJsonSerializer가 다시 직렬화하지 않고 payload와 __TypeId__ 헤더만 채움
+ *
+ * @param typeId 이벤트 클래스 이름 (__TypeId__ 헤더 값)
+ * @param payload 이벤트 JSON (EventJsonSerializer로 직렬화한 바이트)
+ */
+public record SerializedEvent(String typeId, byte[] payload) {
+}
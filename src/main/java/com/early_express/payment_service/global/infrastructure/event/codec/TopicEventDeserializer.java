@@ -0,0 +1,81 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.utils.Utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 토픽별 이벤트 타입 역직렬화기
+ * - TopicEventMapping이 있는 토픽은 fetch 버퍼(ByteBuffer)에서 바로 이벤트로 파싱 (byte[] 복사, String 변환 없음)
+ * - JSON/Avro는 __SchemaId__ 헤더로 구분 (EventPayloadReader)
+ * - 매핑이 없는 토픽과 파싱에 실패한 레코드는 byte[] 그대로 전달
+ *   → EventJsonMessageConverter가 레코드 정보와 함께 ConversionException 처리 (재시도 토픽/DLT 경로 동일)
+ */
+@Slf4j
+public class TopicEventDeserializer implements Deserializer<Object> {
+
+    // 재시도 토픽/DLT 접미사 (suffixTopicsWithIndexValues, DeadLetterPublishingRecoverer 기본 이름)
+    private static final Pattern RETRY_SUFFIX = Pattern.compile("-(retry(-\\d+)?|dlt)$");
+
+    private final Map<String, EventPayloadReader<?>> readersByTopic = new HashMap<>();
+    private final Map<String, Optional<EventPayloadReader<?>>> resolved = new ConcurrentHashMap<>();
+
+    public TopicEventDeserializer(ObjectMapper objectMapper, AvroEventCodec avroCodec,
+                                  List<TopicEventMapping<?>> mappings) {
+        for (TopicEventMapping<?> mapping : mappings) {
+            readersByTopic.put(mapping.topic(), EventPayloadReader.of(objectMapper, avroCodec, mapping.type()));
+        }
+    }
+
+    public boolean supports(String topic) {
+        return reader(topic).isPresent();
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        return data != null ? deserialize(topic, headers, ByteBuffer.wrap(data)) : null;
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, ByteBuffer data) {
+        if (data == null) {
+            return null;
+        }
+        Optional<EventPayloadReader<?>> reader = reader(topic);
+        if (reader.isEmpty()) {
+            return Utils.toArray(data);
+        }
+        try {
+            return reader.get().read(headers, data);
+        } catch (IOException | RuntimeException e) {
+            log.debug("이벤트 역직렬화 실패, 원본 바이트로 전달 - topic: {}, type: {}, error: {}",
+                    topic, reader.get().type().getName(), e.getMessage());
+            return Utils.toArray(data);
+        }
+    }
+
+    private Optional<EventPayloadReader<?>> reader(String topic) {
+        return resolved.computeIfAbsent(topic, t -> {
+            EventPayloadReader<?> reader = readersByTopic.get(t);
+            return Optional.ofNullable(reader != null
+                    ? reader
+                    : readersByTopic.get(RETRY_SUFFIX.matcher(t).replaceFirst("")));
+        });
+    }
+}
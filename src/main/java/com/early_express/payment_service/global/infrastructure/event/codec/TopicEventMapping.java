@@ -0,0 +1,15 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+/**
+ * 수신 토픽 → 이벤트 타입 매핑 (TopicEventDeserializer)
+ * - 구현체를 Bean으로 등록하면 해당 토픽 레코드는 Consumer poll 시점에 이벤트로 역직렬화
+ * - 재시도 토픽/DLT({topic}-retry-N, {topic}-dlt)에도 같은 타입 적용
+ *
+ * @param <T> 이벤트 타입
+ */
+public interface TopicEventMapping<T> {
+
+    String topic();
+
+    Class<T> type();
+}
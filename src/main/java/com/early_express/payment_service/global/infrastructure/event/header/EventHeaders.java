@@ -0,0 +1,78 @@
+package com.early_express.payment_service.global.infrastructure.event.header;
+
+import com.early_express.payment_service.global.infrastructure.event.base.BaseEvent;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 메타데이터 Kafka 헤더 (BaseEvent의 eventId, eventType, version, publisher)
+ * - 발행 시 본문과 함께 헤더로도 기록 → 수신 측이 본문을 역직렬화하지 않고 걸러내거나 분기
+ * - 헤더가 없는 메시지(이전 발행자)는 모든 값이 null
+ *
+ * @param eventId 이벤트 ID
+ * @param eventType 이벤트 타입 (예: PAYMENT_REFUNDED)
+ * @param version 스키마 버전 (예: 1.0)
+ * @param publisher 발행 서비스
+ */
+public record EventHeaders(String eventId, String eventType, String version, String publisher) {
+
+    public static final String EVENT_ID = "eventId";
+    public static final String EVENT_TYPE = "eventType";
+    public static final String VERSION = "version";
+    public static final String PUBLISHER = "publisher";
+
+    public static EventHeaders of(BaseEvent event) {
+        return new EventHeaders(event.getEventId(), event.getEventType(), event.getVersion(), event.getPublisher());
+    }
+
+    public static EventHeaders from(Headers headers) {
+        return new EventHeaders(
+                value(headers, EVENT_ID),
+                value(headers, EVENT_TYPE),
+                value(headers, VERSION),
+                value(headers, PUBLISHER));
+    }
+
+    /**
+     * 헤더 기록 (같은 이름의 기존 헤더는 교체, null 값은 기록하지 않음)
+     */
+    public void writeTo(Headers headers) {
+        put(headers, EVENT_ID, eventId);
+        put(headers, EVENT_TYPE, eventType);
+        put(headers, VERSION, version);
+        put(headers, PUBLISHER, publisher);
+    }
+
+    /**
+     * 스키마 주 버전 ("1.0" → 1)
+     *
+     * @return 버전이 없거나 형식이 다르면 null
+     */
+    public Integer majorVersion() {
+        if (version == null || version.isBlank()) {
+            return null;
+        }
+        int dot = version.indexOf('.');
+        try {
+            return Integer.parseInt(dot < 0 ? version.trim() : version.substring(0, dot).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String value(Headers headers, String key) {
+        Header header = headers != null ? headers.lastHeader(key) : null;
+        return header != null && header.value() != null
+                ? new String(header.value(), StandardCharsets.UTF_8)
+                : null;
+    }
+
+    private static void put(Headers headers, String key, String value) {
+        headers.remove(key);
+        if (value != null) {
+            headers.add(key, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
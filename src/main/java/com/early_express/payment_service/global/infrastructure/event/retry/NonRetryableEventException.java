@@ -0,0 +1,48 @@
+package com.early_express.payment_service.global.infrastructure.event.retry;
+
+import com.early_express.payment_service.global.presentation.exception.ErrorCode;
+import com.early_express.payment_service.global.presentation.exception.GlobalException;
+
+/**
+ * 재시도해도 결과가 같은 이벤트 처리 실패
+ * - 재시도 토픽을 거치지 않고 바로 DLT로 전달 (KafkaConsumerConfig의 재시도 토픽 설정에서 제외)
+ * - 원인 예외는 cause로 보존 (DLT 헤더의 예외 정보에 포함)
+ */
+public class NonRetryableEventException extends RuntimeException {
+
+    public NonRetryableEventException(Throwable cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    /**
+     * 재시도 가능 여부 분류
+     * - 요청 자체가 잘못된 4xx 도메인 오류(환불 불가 상태, 금액 초과, 결제 없음 등)는 재시도 불가
+     * - 408/429(시간 초과, 요청 한도)와 5xx(PG 장애 등)는 재시도 가능
+     * - 감싼 예외가 아니라 원인 체인에서 가장 안쪽의 도메인 오류(원래 실패 원인)로 판단
+     *   (예: PG 거절(4xx)을 감싼 처리 실패(5xx)는 재시도 불가, PG 장애(5xx)를 감싼 예외는 재시도 가능)
+     *
+     * @return 재시도 불가면 NonRetryableEventException으로 감싼 예외, 아니면 원래 예외
+     */
+    public static RuntimeException classify(RuntimeException e) {
+        GlobalException origin = originOf(e);
+        if (origin != null && !isRetryable(origin.getErrorCode())) {
+            return new NonRetryableEventException(e);
+        }
+        return e;
+    }
+
+    private static GlobalException originOf(Throwable e) {
+        GlobalException origin = null;
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            if (current instanceof GlobalException globalException) {
+                origin = globalException;
+            }
+        }
+        return origin;
+    }
+
+    private static boolean isRetryable(ErrorCode errorCode) {
+        int status = errorCode.getStatus();
+        return status < 400 || status >= 500 || status == 408 || status == 429;
+    }
+}
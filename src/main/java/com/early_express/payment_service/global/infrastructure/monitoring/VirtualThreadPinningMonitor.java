@@ -0,0 +1,154 @@
+package com.early_express.payment_service.global.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 Pinning 진단 (JFR jdk.VirtualThreadPinned 이벤트 수집)
+ * - Java 21에서는 synchronized 블록/메서드 안이나 네이티브 호출 중에 블로킹하면 가상 스레드가 캐리어 스레드를 점유(pinning)
+ *   → 캐리어 수(CPU 코어 수)만큼만 동시에 블로킹할 수 있어 가상 스레드의 동시성 이점이 사라짐
+ * - threshold-ms 이상 pinning된 경우를 발생 위치(애플리케이션 첫 프레임)와 종류(jdbc/monitor)별로 집계
+ * - jvm.threads.virtual.pinned (Timer, tag: kind, site)
+ * - 위치별로 log-interval-ms마다 한 번 스택트레이스를 경고 로그로 출력
+ * - spring.threads.virtual.enabled=true일 때만 등록
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final String APPLICATION_PACKAGE = "com.early_express.";
+    private static final List<String> JDBC_PACKAGES = List.of(
+            "org.postgresql.", "com.zaxxer.hikari.", "java.sql.", "org.hibernate.", "org.h2.");
+    private static final int LOGGED_FRAMES = 15;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final long logIntervalMs;
+
+    // 위치별 마지막 로그 시각
+    private final Map<String, Long> lastLoggedAt = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${payment.virtual-threads.pinning.threshold-ms:20}") long thresholdMs,
+            @Value("${payment.virtual-threads.pinning.log-interval-ms:60000}") long logIntervalMs) {
+
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.logIntervalMs = logIntervalMs;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (recordingStream != null) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 진단 시작 - threshold: {}ms", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+
+        String site = site(frames);
+        String kind = kind(frames);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드를 점유한 시간")
+                .tag("kind", kind)
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        long now = System.currentTimeMillis();
+        Long last = lastLoggedAt.get(site);
+        if (last == null || now - last >= logIntervalMs) {
+            lastLoggedAt.put(site, now);
+            log.warn("가상 스레드 pinning - site: {}, kind: {}, duration: {}ms\n{}",
+                    site, kind, event.getDuration().toMillis(), format(frames));
+        }
+    }
+
+    /**
+     * 발생 위치 (애플리케이션 코드의 첫 프레임, 없으면 최상위 프레임)
+     */
+    static String site(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = typeName(frame);
+            if (type.startsWith(APPLICATION_PACKAGE)) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame top = frames.get(0);
+        return typeName(top) + "." + top.getMethod().getName();
+    }
+
+    /**
+     * 종류: JDBC 드라이버/커넥션 풀/ORM 안에서 발생했으면 jdbc, 그 밖은 monitor(synchronized 등)
+     */
+    static String kind(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = typeName(frame);
+            if (JDBC_PACKAGES.stream().anyMatch(type::startsWith)) {
+                return "jdbc";
+            }
+        }
+        return "monitor";
+    }
+
+    private static String typeName(RecordedFrame frame) {
+        return frame.getMethod() != null ? frame.getMethod().getType().getName() : "";
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            builder.append("\tat ").append(typeName(frame)).append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return builder.toString();
+    }
+}
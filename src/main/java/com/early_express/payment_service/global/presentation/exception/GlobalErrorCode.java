@@ -46,7 +46,8 @@ public enum GlobalErrorCode implements ErrorCode {
      * 외부 API 에러(502, 504)
      * */
     EXTERNAL_API_ERROR("GLOBAL_400", "외부 서비스 연동 중 오류가 발생했습니다.", 502),
-    EXTERNAL_API_TIMEOUT("GLOBAL_401", "외부 서비스 응답 시간이 초과되었습니다.", 504);
+    EXTERNAL_API_TIMEOUT("GLOBAL_401", "외부 서비스 응답 시간이 초과되었습니다.", 504),
+    DEADLINE_EXCEEDED("GLOBAL_402", "요청 처리 기한이 초과되었습니다.", 504);
 
     private final String code;
     private final String message;
@@ -1,18 +1,23 @@
 package com.early_express.payment_service.domain.payment.application.service;
 
 import com.early_express.payment_service.domain.payment.infrastructure.client.toss.TossPaymentsClient;
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
 import com.early_express.payment_service.domain.payment.domain.exception.PaymentException;
 import com.early_express.payment_service.domain.payment.domain.exception.PaymentVerificationException;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
 import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
 import com.early_express.payment_service.domain.payment.domain.messaging.PaymentEventPublisher;
 import com.early_express.payment_service.domain.payment.domain.model.Payment;
+import com.early_express.payment_service.domain.payment.domain.model.PaymentRefund;
 import com.early_express.payment_service.domain.payment.domain.model.PaymentStatus;
 import com.early_express.payment_service.domain.payment.domain.repository.PaymentRepository;
 import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelRequest;
 import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossCancelResponse;
 import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossPaymentVerifyResponse;
+import com.early_express.payment_service.global.infrastructure.event.retry.NonRetryableEventException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -222,7 +227,7 @@ class PaymentServiceTest {
                 .cancels(List.of(cancelDetail))
                 .build();
 
-        given(tossPaymentsClient.cancelPayment(eq(pgPaymentKey), any(TossCancelRequest.class)))
+        given(tossPaymentsClient.cancelPayment(eq(pgPaymentKey), anyString(), any(TossCancelRequest.class)))
                 .willReturn(cancelResponse);
 
         // when
@@ -236,6 +241,78 @@ class PaymentServiceTest {
         verify(eventPublisher).publishPaymentRefunded(any());
     }
 
+    @Test
+    @DisplayName("부분 환불 - 연속 부분 환불은 금액을 지정해 PG에 요청하고 환불 이력이 순번대로 쌓인다")
+    void refundPayment_SequentialPartial() {
+        // given - 먼저 검증된 결제 생성
+        String orderId = "ORDER-012";
+        String pgPaymentKey = "pg-key-888";
+        BigDecimal amount = new BigDecimal("10000");
+
+        TossPaymentVerifyResponse verifyResponse = TossPaymentVerifyResponse.builder()
+                .paymentKey(pgPaymentKey)
+                .orderId(orderId)
+                .status("DONE")
+                .totalAmount(amount)
+                .approvedAt(LocalDateTime.now())
+                .transactionKey("tx-888")
+                .build();
+
+        given(tossPaymentsClient.getPayment(pgPaymentKey))
+                .willReturn(verifyResponse);
+
+        Payment payment = paymentService.verifyAndRegisterPayment(
+                orderId, "TOSS", "pg-payment-888", pgPaymentKey, amount,
+                "COMPANY-001", "홍길동", "test@example.com", "010-1234-5678",
+                "COMPANY-002", "수취업체"
+        );
+
+        // 취소 응답 Mock 설정 (요청별 응답)
+        TossCancelResponse.CancelDetail firstCancel = new TossCancelResponse.CancelDetail(
+                new BigDecimal("3000"), "부분 환불", LocalDateTime.now(), "refund-tx-888-1");
+        TossCancelResponse.CancelDetail secondCancel = new TossCancelResponse.CancelDetail(
+                new BigDecimal("7000"), "남은 금액 환불", LocalDateTime.now(), "refund-tx-888-2");
+
+        given(tossPaymentsClient.cancelPayment(eq(pgPaymentKey), anyString(), any(TossCancelRequest.class)))
+                .willReturn(TossCancelResponse.builder()
+                        .status("PARTIAL_CANCELED")
+                        .cancels(List.of(firstCancel))
+                        .build())
+                .willReturn(TossCancelResponse.builder()
+                        .status("CANCELED")
+                        .cancels(List.of(firstCancel, secondCancel))
+                        .build());
+
+        // when
+        Payment partial = paymentService.refundPayment(
+                payment.getIdValue(), orderId, new BigDecimal("3000"), "부분 환불");
+        Payment rest = paymentService.refundPayment(
+                payment.getIdValue(), orderId, null, "남은 금액 환불");
+
+        // then
+        assertThat(partial.getStatus()).isEqualTo(PaymentStatus.PARTIALLY_REFUNDED);
+        assertThat(rest.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+
+        Payment saved = paymentRepository.findById(payment.getId()).orElseThrow();
+        assertThat(saved.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(saved.getRefundedAmount()).isEqualByComparingTo("10000");
+        assertThat(saved.getRefundSequence()).isEqualTo(2);
+
+        List<PaymentRefund> refunds = paymentService.findRefunds(payment.getIdValue());
+        assertThat(refunds).extracting(PaymentRefund::getSequence).containsExactly(1, 2);
+        assertThat(refunds).extracting(PaymentRefund::getPgRefundId)
+                .containsExactly("refund-tx-888-1", "refund-tx-888-2");
+        assertThat(refunds.get(1).getTotalRefundedAmount()).isEqualByComparingTo("10000");
+
+        ArgumentCaptor<TossCancelRequest> requests = ArgumentCaptor.forClass(TossCancelRequest.class);
+        verify(tossPaymentsClient, times(2)).cancelPayment(eq(pgPaymentKey), anyString(), requests.capture());
+        assertThat(requests.getAllValues()).extracting(TossCancelRequest::getCancelAmount)
+                .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .containsExactly(new BigDecimal("3000"), new BigDecimal("7000"));
+
+        verify(eventPublisher, times(2)).publishPaymentRefunded(any());
+    }
+
     @Test
     @DisplayName("결제 취소 실패 - 주문 ID가 일치하지 않으면 예외 발생")
     void cancelPayment_OrderIdMismatch() {
@@ -271,7 +348,7 @@ class PaymentServiceTest {
     }
 
     @Test
-    @DisplayName("결제 취소 실패 - PG 취소 요청 실패 시 REFUND_FAILED 상태가 된다")
+    @DisplayName("결제 취소 실패 - PG 통신 오류는 결제 상태를 롤백하고 재시도될 실패이므로 실패 이벤트를 발행하지 않는다")
     void cancelPayment_TossApiFailure() {
         // given - 먼저 검증된 결제 생성
         String orderId = "ORDER-007";
@@ -297,9 +374,209 @@ class PaymentServiceTest {
         );
 
         // PG 취소 실패 Mock 설정
-        given(tossPaymentsClient.cancelPayment(eq(pgPaymentKey), any()))
+        given(tossPaymentsClient.cancelPayment(eq(pgPaymentKey), anyString(), any()))
                 .willThrow(new RuntimeException("PG 통신 오류"));
 
+        // when & then - 롤백되는 예외 (RefundException이 아님)
+        assertThatThrownBy(() ->
+                paymentService.cancelPayment(payment.getIdValue(), orderId, "고객 요청")
+        ).isInstanceOf(PgException.class)
+                .isNotInstanceOf(RefundException.class);
+
+        // DB에서 확인 - 환불 가능 상태 유지
+        Payment failedPayment = paymentRepository.findById(payment.getId()).orElseThrow();
+        assertThat(failedPayment.getStatus()).isEqualTo(PaymentStatus.VERIFIED);
+        assertThat(failedPayment.isRefundable()).isTrue();
+
+        verify(eventPublisher, never()).publishPaymentRefundFailed(any());
+    }
+
+    @Test
+    @DisplayName("환불 재시도 소진 - 결제 상태는 그대로 두고 환불 실패 이벤트만 발행한다")
+    void recordRefundRetriesExhausted_PublishesFailedEvent() {
+        // given - 먼저 검증된 결제 생성
+        String orderId = "ORDER-013";
+        String pgPaymentKey = "pg-key-909";
+        BigDecimal amount = new BigDecimal("10000");
+
+        TossPaymentVerifyResponse verifyResponse = TossPaymentVerifyResponse.builder()
+                .paymentKey(pgPaymentKey)
+                .orderId(orderId)
+                .status("DONE")
+                .totalAmount(amount)
+                .approvedAt(LocalDateTime.now())
+                .transactionKey("tx-909")
+                .build();
+
+        given(tossPaymentsClient.getPayment(pgPaymentKey))
+                .willReturn(verifyResponse);
+
+        Payment payment = paymentService.verifyAndRegisterPayment(
+                orderId, "TOSS", "pg-payment-909", pgPaymentKey, amount,
+                "COMPANY-001", "홍길동", "test@example.com", "010-1234-5678",
+                "COMPANY-002", "수취업체"
+        );
+
+        // when
+        paymentService.recordRefundRetriesExhausted(payment.getIdValue(), "PG 시스템 오류");
+
+        // then
+        Payment found = paymentRepository.findById(payment.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(PaymentStatus.VERIFIED);
+        assertThat(found.isRefundable()).isTrue();
+
+        verify(eventPublisher).publishPaymentRefundFailed(any());
+    }
+
+    @Test
+    @DisplayName("결제 취소 재시도 - PG 장애로 실패한 취소는 재시도 가능으로 분류되고 같은 멱등키로 재시도해 성공한다")
+    void cancelPayment_RetryAfterPgFailure_Succeeds() {
+        // given - 먼저 검증된 결제 생성
+        String orderId = "ORDER-009";
+        String pgPaymentKey = "pg-key-555";
+        BigDecimal amount = new BigDecimal("10000");
+
+        TossPaymentVerifyResponse verifyResponse = TossPaymentVerifyResponse.builder()
+                .paymentKey(pgPaymentKey)
+                .orderId(orderId)
+                .status("DONE")
+                .totalAmount(amount)
+                .approvedAt(LocalDateTime.now())
+                .transactionKey("tx-555")
+                .build();
+
+        given(tossPaymentsClient.getPayment(pgPaymentKey))
+                .willReturn(verifyResponse);
+
+        Payment payment = paymentService.verifyAndRegisterPayment(
+                orderId, "TOSS", "pg-payment-555", pgPaymentKey, amount,
+                "COMPANY-001", "홍길동", "test@example.com", "010-1234-5678",
+                "COMPANY-002", "수취업체"
+        );
+
+        TossCancelResponse cancelResponse = TossCancelResponse.builder()
+                .status("CANCELED")
+                .cancels(List.of(new TossCancelResponse.CancelDetail(
+                        amount, "고객 요청", LocalDateTime.now(), "refund-tx-555")))
+                .build();
+
+        // 첫 요청은 PG 500, 재시도는 성공
+        given(tossPaymentsClient.cancelPayment(eq(pgPaymentKey), anyString(), any()))
+                .willThrow(new RefundException(PaymentErrorCode.PG_SYSTEM_ERROR))
+                .willReturn(cancelResponse);
+
+        // when - 1차 시도 실패
+        Throwable failure = catchThrowable(() ->
+                paymentService.cancelPayment(payment.getIdValue(), orderId, "고객 요청"));
+
+        // then - 재시도 가능으로 분류
+        assertThat(failure).isInstanceOf(RuntimeException.class);
+        assertThat(NonRetryableEventException.classify((RuntimeException) failure)).isSameAs(failure);
+
+        // when - 재시도
+        Payment result = paymentService.cancelPayment(payment.getIdValue(), orderId, "고객 요청");
+
+        // then - 환불 완료, 두 요청 모두 같은 멱등키
+        assertThat(result.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(result.getRefundedAmount()).isEqualTo(amount);
+
+        ArgumentCaptor<String> idempotencyKeys = ArgumentCaptor.forClass(String.class);
+        verify(tossPaymentsClient, times(2)).cancelPayment(eq(pgPaymentKey), idempotencyKeys.capture(), any());
+        assertThat(idempotencyKeys.getAllValues()).hasSize(2).containsOnly(idempotencyKeys.getAllValues().get(0));
+
+        verify(eventPublisher, never()).publishPaymentRefundFailed(any());
+        verify(eventPublisher).publishPaymentRefunded(any());
+    }
+
+    @Test
+    @DisplayName("부분 환불 - 롤백된 이전 취소와 같은 멱등키로 다른 금액이 돌아오면 완료로 기록하지 않고 롤백한다")
+    void refundPayment_IdempotencyKeyReplayWithDifferentAmount_RolledBack() {
+        // given - 먼저 검증된 결제 생성
+        String orderId = "ORDER-014";
+        String pgPaymentKey = "pg-key-910";
+        BigDecimal amount = new BigDecimal("10000");
+
+        TossPaymentVerifyResponse verifyResponse = TossPaymentVerifyResponse.builder()
+                .paymentKey(pgPaymentKey)
+                .orderId(orderId)
+                .status("DONE")
+                .totalAmount(amount)
+                .approvedAt(LocalDateTime.now())
+                .transactionKey("tx-910")
+                .build();
+
+        given(tossPaymentsClient.getPayment(pgPaymentKey))
+                .willReturn(verifyResponse);
+
+        Payment payment = paymentService.verifyAndRegisterPayment(
+                orderId, "TOSS", "pg-payment-910", pgPaymentKey, amount,
+                "COMPANY-001", "홍길동", "test@example.com", "010-1234-5678",
+                "COMPANY-002", "수취업체"
+        );
+
+        // 5000원 취소는 응답 유실(PG에서는 처리됨), 다음 3000원 요청에는 같은 키의 5000원 결과가 재생됨
+        TossCancelResponse replayed = TossCancelResponse.builder()
+                .status("PARTIAL_CANCELED")
+                .cancels(List.of(new TossCancelResponse.CancelDetail(
+                        new BigDecimal("5000"), "부분 환불", LocalDateTime.now(), "refund-tx-910")))
+                .build();
+        given(tossPaymentsClient.cancelPayment(eq(pgPaymentKey), anyString(), any()))
+                .willThrow(new PgException(PaymentErrorCode.PG_TIMEOUT))
+                .willReturn(replayed);
+
+        assertThatThrownBy(() -> paymentService.refundPayment(
+                payment.getIdValue(), orderId, new BigDecimal("5000"), "부분 환불"))
+                .isInstanceOf(PgException.class);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.refundPayment(
+                payment.getIdValue(), orderId, new BigDecimal("3000"), "다른 부분 환불"))
+                .isInstanceOf(PgException.class)
+                .extracting("errorCode")
+                .isEqualTo(PaymentErrorCode.PG_IDEMPOTENCY_CONFLICT);
+
+        Payment saved = paymentRepository.findById(payment.getId()).orElseThrow();
+        assertThat(saved.getRefundedAmount()).isEqualByComparingTo("0");
+        assertThat(saved.getRefundSequence()).isZero();
+        assertThat(paymentService.findRefunds(payment.getIdValue())).isEmpty();
+
+        ArgumentCaptor<String> idempotencyKeys = ArgumentCaptor.forClass(String.class);
+        verify(tossPaymentsClient, times(2)).cancelPayment(eq(pgPaymentKey), idempotencyKeys.capture(), any());
+        assertThat(idempotencyKeys.getAllValues()).containsOnly(idempotencyKeys.getAllValues().get(0));
+
+        verify(eventPublisher, never()).publishPaymentRefunded(any());
+    }
+
+    @Test
+    @DisplayName("결제 취소 실패 - PG가 취소를 거절하면 REFUND_FAILED 상태가 된다")
+    void cancelPayment_PgRejected() {
+        // given - 먼저 검증된 결제 생성
+        String orderId = "ORDER-008";
+        String pgPaymentKey = "pg-key-444";
+        BigDecimal amount = new BigDecimal("10000");
+
+        TossPaymentVerifyResponse verifyResponse = TossPaymentVerifyResponse.builder()
+                .paymentKey(pgPaymentKey)
+                .orderId(orderId)
+                .status("DONE")
+                .totalAmount(amount)
+                .approvedAt(LocalDateTime.now())
+                .transactionKey("tx-444")
+                .build();
+
+        given(tossPaymentsClient.getPayment(pgPaymentKey))
+                .willReturn(verifyResponse);
+
+        Payment payment = paymentService.verifyAndRegisterPayment(
+                orderId, "TOSS", "pg-payment-444", pgPaymentKey, amount,
+                "COMPANY-001", "홍길동", "test@example.com", "010-1234-5678",
+                "COMPANY-002", "수취업체"
+        );
+
+        // PG 취소 거절 Mock 설정
+        given(tossPaymentsClient.cancelPayment(eq(pgPaymentKey), anyString(), any()))
+                .willThrow(new RefundException(PaymentErrorCode.INVALID_CANCEL_REQUEST));
+
         // when & then
         assertThatThrownBy(() ->
                 paymentService.cancelPayment(payment.getIdValue(), orderId, "고객 요청")
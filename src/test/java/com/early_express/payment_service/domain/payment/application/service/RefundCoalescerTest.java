@@ -0,0 +1,207 @@
+package com.early_express.payment_service.domain.payment.application.service;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.domain.model.Payment;
+import com.early_express.payment_service.global.common.deadline.Deadline;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import com.early_express.payment_service.global.common.deadline.DeadlineExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * RefundCoalescer 단위 테스트
+ */
+@DisplayName("RefundCoalescer 테스트")
+class RefundCoalescerTest {
+
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final Payment payment = mock(Payment.class);
+    private final RefundCoalescer coalescer = new RefundCoalescer(paymentService, new SimpleMeterRegistry());
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "windowMs", 300L);
+        ReflectionTestUtils.setField(coalescer, "maxRequests", 20);
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 요청마다 바로 환불한다")
+    void disabled_DelegatesDirectly() {
+        // given
+        ReflectionTestUtils.setField(coalescer, "enabled", false);
+        given(paymentService.refundPayment("PAY-1", "ORDER-1", new BigDecimal("1000"), "사유"))
+                .willReturn(payment);
+
+        // when
+        Payment result = coalescer.refundPayment("PAY-1", "ORDER-1", new BigDecimal("1000"), "사유");
+
+        // then
+        assertThat(result).isSameAs(payment);
+        verify(paymentService, never()).refundPayments(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("같은 결제의 동시 환불 요청은 한 번에 처리하고 결과를 요청마다 돌려준다")
+    void sameWindow_ProcessedOnce() throws Exception {
+        // given
+        given(paymentService.refundPayments(eq("PAY-1"), anyList())).willAnswer(invocation -> {
+            List<RefundRequest> requests = invocation.getArgument(1);
+            requests.forEach(request -> request.accept(request.getRefundAmount()));
+            return payment;
+        });
+
+        // when
+        List<Future<Payment>> futures = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            BigDecimal amount = new BigDecimal(i * 1000);
+            futures.add(executor.submit(() -> coalescer.refundPayment("PAY-1", "ORDER-1", amount, "상품 취소")));
+        }
+
+        // then
+        for (Future<Payment> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(payment);
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RefundRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(paymentService, times(1)).refundPayments(eq("PAY-1"), captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 각자의 예외를 받고 나머지 요청은 성공한다")
+    void rejectedRequest_GetsOwnException() throws Exception {
+        // given - 2000원 초과 요청은 거절
+        given(paymentService.refundPayments(eq("PAY-1"), anyList())).willAnswer(invocation -> {
+            List<RefundRequest> requests = invocation.getArgument(1);
+            for (RefundRequest request : requests) {
+                if (request.getRefundAmount().compareTo(new BigDecimal("2000")) > 0) {
+                    request.reject(new RefundException(PaymentErrorCode.REFUND_AMOUNT_EXCEEDS_PAYMENT));
+                } else {
+                    request.accept(request.getRefundAmount());
+                }
+            }
+            return payment;
+        });
+
+        // when
+        Future<Payment> accepted = executor.submit(
+                () -> coalescer.refundPayment("PAY-1", "ORDER-1", new BigDecimal("1000"), "상품 취소"));
+        Future<Payment> rejected = executor.submit(
+                () -> coalescer.refundPayment("PAY-1", "ORDER-1", new BigDecimal("5000"), "상품 취소"));
+
+        // then
+        assertThat(accepted.get(5, TimeUnit.SECONDS)).isSameAs(payment);
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(RefundException.class)
+                .cause()
+                .extracting("errorCode")
+                .isEqualTo(PaymentErrorCode.REFUND_AMOUNT_EXCEEDS_PAYMENT);
+    }
+
+    @Test
+    @DisplayName("PG 취소가 실패하면 승인된 요청 모두 같은 예외를 받는다")
+    void pgFailure_PropagatesToAccepted() throws Exception {
+        // given
+        given(paymentService.refundPayments(eq("PAY-1"), anyList())).willAnswer(invocation -> {
+            List<RefundRequest> requests = invocation.getArgument(1);
+            requests.forEach(request -> request.accept(request.getRefundAmount()));
+            throw new RefundException(PaymentErrorCode.REFUND_PROCESSING_FAILED);
+        });
+
+        // when
+        Future<Payment> first = executor.submit(
+                () -> coalescer.refundPayment("PAY-1", "ORDER-1", new BigDecimal("1000"), "상품 취소"));
+        Future<Payment> second = executor.submit(
+                () -> coalescer.refundPayment("PAY-1", "ORDER-1", new BigDecimal("2000"), "상품 취소"));
+
+        // then
+        for (Future<Payment> future : List.of(first, second)) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(RefundException.class);
+        }
+        verify(paymentService, times(1)).refundPayments(eq("PAY-1"), anyList());
+    }
+
+    @Test
+    @DisplayName("병합 처리 중 Error가 나도 기다리는 요청 모두 멈추지 않고 예외를 받는다")
+    void errorDuringFlush_CompletesAllWaiters() throws Exception {
+        // given
+        given(paymentService.refundPayments(eq("PAY-1"), anyList()))
+                .willThrow(new OutOfMemoryError("테스트"));
+
+        // when
+        Future<Payment> first = executor.submit(
+                () -> coalescer.refundPayment("PAY-1", "ORDER-1", new BigDecimal("1000"), "상품 취소"));
+        Future<Payment> second = executor.submit(
+                () -> coalescer.refundPayment("PAY-1", "ORDER-1", new BigDecimal("2000"), "상품 취소"));
+
+        // then
+        for (Future<Payment> future : List.of(first, second)) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(OutOfMemoryError.class);
+        }
+    }
+
+    @Test
+    @DisplayName("대표 요청의 처리가 길어지면 나머지 요청은 자신의 요청 기한까지만 기다린다")
+    void slowFlush_WaiterBoundedByDeadline() throws Exception {
+        // given - 대표 요청의 PG 취소가 풀어줄 때까지 지연
+        CountDownLatch release = new CountDownLatch(1);
+        given(paymentService.refundPayments(eq("PAY-1"), anyList())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            List<RefundRequest> requests = invocation.getArgument(1);
+            requests.forEach(request -> request.accept(request.getRefundAmount()));
+            return payment;
+        });
+
+        Future<Payment> leader = executor.submit(
+                () -> coalescer.refundPayment("PAY-1", "ORDER-1", new BigDecimal("1000"), "상품 취소"));
+        Thread.sleep(50);
+
+        // when - 기한 600ms (창 300ms 이후 처리 중에 기한 도달)
+        long start = System.nanoTime();
+        Future<Payment> waiter = executor.submit(() -> {
+            try (DeadlineContext.Scope ignored = DeadlineContext.open(Deadline.after(Duration.ofMillis(600)))) {
+                return coalescer.refundPayment("PAY-1", "ORDER-1", new BigDecimal("2000"), "상품 취소");
+            }
+        });
+
+        // then
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(payment);
+    }
+}
@@ -142,11 +142,11 @@ class TossPaymentsClientTest {
                 .cancels(List.of(cancelDetail))
                 .build();
 
-        given(tossPaymentsClient.cancelPayment(eq(paymentKey), any(TossCancelRequest.class)))
+        given(tossPaymentsClient.cancelPayment(eq(paymentKey), anyString(), any(TossCancelRequest.class)))
                 .willReturn(mockResponse);
 
         // when
-        TossCancelResponse response = tossPaymentsClient.cancelPayment(paymentKey, request);
+        TossCancelResponse response = tossPaymentsClient.cancelPayment(paymentKey, "idempotency-key", request);
 
         // then
         assertThat(response).isNotNull();
@@ -166,14 +166,14 @@ class TossPaymentsClientTest {
         String paymentKey = "test-payment-key";
         TossCancelRequest request = TossCancelRequest.fullCancel("취소 사유");
 
-        given(tossPaymentsClient.cancelPayment(eq(paymentKey), any(TossCancelRequest.class)))
+        given(tossPaymentsClient.cancelPayment(eq(paymentKey), anyString(), any(TossCancelRequest.class)))
                 .willThrow(new RefundException(
                         null,
                         "올바르지 않은 취소 요청입니다."
                 ));
 
         // when & then
-        assertThatThrownBy(() -> tossPaymentsClient.cancelPayment(paymentKey, request))
+        assertThatThrownBy(() -> tossPaymentsClient.cancelPayment(paymentKey, "idempotency-key", request))
                 .isInstanceOf(RefundException.class)
                 .hasMessageContaining("올바르지 않은 취소 요청");
     }
@@ -185,14 +185,14 @@ class TossPaymentsClientTest {
         String paymentKey = "test-payment-key";
         TossCancelRequest request = TossCancelRequest.fullCancel("취소 사유");
 
-        given(tossPaymentsClient.cancelPayment(eq(paymentKey), any(TossCancelRequest.class)))
+        given(tossPaymentsClient.cancelPayment(eq(paymentKey), anyString(), any(TossCancelRequest.class)))
                 .willThrow(new RefundException(
                         null,
                         "취소할 수 없는 결제 상태입니다."
                 ));
 
         // when & then
-        assertThatThrownBy(() -> tossPaymentsClient.cancelPayment(paymentKey, request))
+        assertThatThrownBy(() -> tossPaymentsClient.cancelPayment(paymentKey, "idempotency-key", request))
                 .isInstanceOf(RefundException.class)
                 .hasMessageContaining("취소할 수 없는");
     }
@@ -204,14 +204,14 @@ class TossPaymentsClientTest {
         String paymentKey = "non-existent-key";
         TossCancelRequest request = TossCancelRequest.fullCancel("취소 사유");
 
-        given(tossPaymentsClient.cancelPayment(eq(paymentKey), any(TossCancelRequest.class)))
+        given(tossPaymentsClient.cancelPayment(eq(paymentKey), anyString(), any(TossCancelRequest.class)))
                 .willThrow(new RefundException(
                         null,
                         "결제 정보를 찾을 수 없습니다."
                 ));
 
         // when & then
-        assertThatThrownBy(() -> tossPaymentsClient.cancelPayment(paymentKey, request))
+        assertThatThrownBy(() -> tossPaymentsClient.cancelPayment(paymentKey, "idempotency-key", request))
                 .isInstanceOf(RefundException.class)
                 .hasMessageContaining("찾을 수 없습니다");
     }
@@ -298,11 +298,11 @@ class TossPaymentsClientTest {
                 .cancels(List.of(cancelDetail))
                 .build();
 
-        given(tossPaymentsClient.cancelPayment(eq(paymentKey), any(TossCancelRequest.class)))
+        given(tossPaymentsClient.cancelPayment(eq(paymentKey), anyString(), any(TossCancelRequest.class)))
                 .willReturn(mockResponse);
 
         // when
-        TossCancelResponse response = tossPaymentsClient.cancelPayment(paymentKey, request);
+        TossCancelResponse response = tossPaymentsClient.cancelPayment(paymentKey, "idempotency-key", request);
 
         // then
         assertThat(response.getStatus()).isEqualTo("PARTIAL_CANCELED");
@@ -212,6 +212,62 @@ class PaymentTest {
             assertThat(p.isFullyRefunded()).isTrue();
             assertThat(p.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
         }
+
+        @Test
+        @DisplayName("getRefundIdempotencyKey(): 같은 환불 건은 동일한 키, 환불 완료 후에는 새로운 키")
+        void refundIdempotencyKey() {
+            Payment p = Payment.builder()
+                    .id(PaymentId.from("PAY-1"))
+                    .orderId("ORDER-123")
+                    .amountInfo(PaymentAmountInfo.of(BigDecimal.valueOf(10000)))
+                    .pgInfo(validPgInfo())
+                    .status(PaymentStatus.VERIFIED)
+                    .build();
+            p.startRefund(BigDecimal.valueOf(3000), "사유");
+
+            String first = p.getRefundIdempotencyKey();
+            assertThat(p.getRefundIdempotencyKey()).isEqualTo(first);
+
+            p.completeRefund(BigDecimal.valueOf(3000), "PG-R1");
+
+            assertThat(first).isEqualTo("PAY-1-refund-1");
+            assertThat(p.getRefundIdempotencyKey()).isEqualTo("PAY-1-refund-2");
+        }
+
+        @Test
+        @DisplayName("startRefund(): 환불 금액이 0 이하면 실패")
+        void startRefund_fail_nonPositive() {
+            Payment p = verifiedPayment();
+
+            assertThatThrownBy(
+                    () -> p.startRefund(BigDecimal.ZERO, "사유")
+            ).isInstanceOf(RefundException.class);
+        }
+
+        @Test
+        @DisplayName("completeRefund(): 연속 부분 환불은 순번과 누적 금액이 담긴 환불 이력을 반환")
+        void completeRefund_sequentialPartial() {
+            Payment p = Payment.builder()
+                    .id(PaymentId.from("PAY-1"))
+                    .orderId("ORDER-123")
+                    .amountInfo(PaymentAmountInfo.of(BigDecimal.valueOf(10000)))
+                    .pgInfo(validPgInfo())
+                    .status(PaymentStatus.VERIFIED)
+                    .build();
+
+            p.startRefund(BigDecimal.valueOf(3000), "1차");
+            PaymentRefund first = p.completeRefund(BigDecimal.valueOf(3000), "PG-R1");
+            p.startRefund(BigDecimal.valueOf(7000), "2차");
+            PaymentRefund second = p.completeRefund(BigDecimal.valueOf(7000), "PG-R2");
+
+            assertThat(first.getSequence()).isEqualTo(1);
+            assertThat(first.getIdempotencyKey()).isEqualTo("PAY-1-refund-1");
+            assertThat(first.getTotalRefundedAmount()).isEqualTo(BigDecimal.valueOf(3000));
+            assertThat(second.getSequence()).isEqualTo(2);
+            assertThat(second.getIdempotencyKey()).isEqualTo("PAY-1-refund-2");
+            assertThat(second.isFinalRefund(p.getAmount())).isTrue();
+            assertThat(p.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        }
     }
 
     // ========================================================================
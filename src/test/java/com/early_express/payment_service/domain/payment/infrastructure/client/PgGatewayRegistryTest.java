@@ -0,0 +1,62 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.domain.payment.domain.gateway.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PgGatewayRegistry 단위 테스트
+ */
+@DisplayName("PgGatewayRegistry 테스트")
+class PgGatewayRegistryTest {
+
+    @Test
+    @DisplayName("등록되지 않은 PG사를 조회하면 UNSUPPORTED_PG_PROVIDER 예외가 발생한다")
+    void registry_UnsupportedProvider() {
+        // given
+        PgGatewayRegistry registry = new PgGatewayRegistry(
+                List.of(gateway("TOSS", PgGatewayHealth.Status.UP, 0, 0)));
+
+        // when & then
+        assertThat(registry.get("toss").provider()).isEqualTo("TOSS");
+        assertThatThrownBy(() -> registry.get("NICE"))
+                .isInstanceOf(PgException.class)
+                .extracting("errorCode")
+                .isEqualTo(PaymentErrorCode.UNSUPPORTED_PG_PROVIDER);
+    }
+
+    private PgGateway gateway(String provider, PgGatewayHealth.Status status, double latencyMillis, float failureRate) {
+        return new PgGateway() {
+            @Override
+            public String provider() {
+                return provider;
+            }
+
+            @Override
+            public PgPaymentResult getPayment(String pgPaymentKey) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public PgCancelResult cancelPayment(String pgPaymentKey, String idempotencyKey, PgCancelCommand command) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public PgGatewayHealth health() {
+                return PgGatewayHealth.builder()
+                        .provider(provider)
+                        .status(status)
+                        .latencyMillis(latencyMillis)
+                        .failureRate(failureRate)
+                        .build();
+            }
+        };
+    }
+}
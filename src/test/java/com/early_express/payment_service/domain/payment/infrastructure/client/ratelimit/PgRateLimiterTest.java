@@ -0,0 +1,111 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.ratelimit;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PgRateLimiter 단위 테스트 (로컬 토큰 버킷)
+ */
+@DisplayName("PgRateLimiter 테스트")
+class PgRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PgRateLimiter createLimiter(double requestsPerSecond, int burst, MockEnvironment environment) {
+        return createLimiter(requestsPerSecond, burst, 0.5, environment);
+    }
+
+    private PgRateLimiter createLimiter(
+            double requestsPerSecond, int burst, double verifyReservedRatio, MockEnvironment environment) {
+        return new PgRateLimiter(true, requestsPerSecond, burst, verifyReservedRatio, 200, 50, false, 20,
+                environment, null, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("취소는 검증용 예약 토큰을 사용하지 못하고 PG_RATE_LIMITED로 거절된다")
+    void cancel_CannotUseVerifyReserve() {
+        // given - 버킷 2개 중 1개는 검증 예약분
+        PgRateLimiter limiter = createLimiter(0.1, 2, new MockEnvironment());
+        limiter.acquire("TOSS", PgOperation.CANCEL);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire("TOSS", PgOperation.CANCEL))
+                .isInstanceOf(PgException.class)
+                .extracting("errorCode")
+                .isEqualTo(PaymentErrorCode.PG_RATE_LIMITED);
+
+        assertThatCode(() -> limiter.acquire("TOSS", PgOperation.VERIFY))
+                .doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("pg.ratelimit.rejected", "provider", "TOSS", "operation", "CANCEL")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("작업별 상한이 설정되면 PG사 한도가 남아도 해당 작업은 상한을 넘지 못한다")
+    void operationLimit_Applied() {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("client.pg.rate-limit.providers.toss.cancel.requests-per-second", "0.1");
+        PgRateLimiter limiter = createLimiter(100, 100, environment);
+        limiter.acquire("TOSS", PgOperation.CANCEL);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire("TOSS", PgOperation.CANCEL))
+                .isInstanceOf(PgException.class);
+        assertThatCode(() -> limiter.acquire("TOSS", PgOperation.VERIFY))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("PG사 한도를 기다리다 거절되면 먼저 얻은 작업별 토큰을 반환한다")
+    void quotaTimeout_ReleasesOperationToken() throws InterruptedException {
+        // given - PG사 버킷 1개(100ms마다 1개), 취소 상한 버킷 1개(10초마다 1개), 취소 최대 대기 50ms
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("client.pg.rate-limit.providers.toss.cancel.requests-per-second", "0.1");
+        PgRateLimiter limiter = createLimiter(10, 1, 0, environment);
+        limiter.acquire("TOSS", PgOperation.VERIFY);
+
+        // when - PG사 토큰이 없어 거절
+        assertThatThrownBy(() -> limiter.acquire("TOSS", PgOperation.CANCEL))
+                .isInstanceOf(PgException.class);
+        Thread.sleep(150);
+
+        // then - 반환된 취소 토큰으로 PG사 토큰이 채워진 뒤 획득
+        assertThatCode(() -> limiter.acquire("TOSS", PgOperation.CANCEL))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 최대 대기 시간 안에 채워지는 토큰을 기다려 획득한다")
+    void verify_WaitsForRefill() {
+        // given - 초당 20건 (50ms마다 1개), 버킷 1개
+        PgRateLimiter limiter = createLimiter(20, 1, new MockEnvironment());
+        limiter.acquire("TOSS", PgOperation.VERIFY);
+
+        // when
+        long start = System.nanoTime();
+        limiter.acquire("TOSS", PgOperation.VERIFY);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(elapsedMillis).isBetween(20L, 200L);
+    }
+
+    @Test
+    @DisplayName("PG사별로 독립된 버킷을 사용한다")
+    void buckets_PerProvider() {
+        // given
+        PgRateLimiter limiter = createLimiter(0.1, 1, new MockEnvironment());
+        limiter.acquire("TOSS", PgOperation.VERIFY);
+
+        // when & then
+        assertThatCode(() -> limiter.acquire("PORTONE", PgOperation.VERIFY))
+                .doesNotThrowAnyException();
+    }
+}
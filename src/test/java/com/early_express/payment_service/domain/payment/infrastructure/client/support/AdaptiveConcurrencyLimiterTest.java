@@ -0,0 +1,107 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AdaptiveConcurrencyLimiter 단위 테스트
+ */
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private AdaptiveConcurrencyLimiter createLimiter(int initialLimit, int maxQueueSize) {
+        return new AdaptiveConcurrencyLimiter(
+                true, initialLimit, 1, 10, 0.5, 2.0, 10, maxQueueSize, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("한도를 초과하고 대기 시간이 지나면 PG_CONCURRENCY_LIMITED로 거절한다")
+    void acquire_OverLimit_Rejected() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = createLimiter(1, 10);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire("getPayment");
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire("getPayment"))
+                .isInstanceOf(PgException.class)
+                .extracting("errorCode")
+                .isEqualTo(PaymentErrorCode.PG_CONCURRENCY_LIMITED);
+
+        permit.onSuccess();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("PG 실패(drop) 시 한도를 곱셈 감소한다")
+    void onDropped_DecreasesLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = createLimiter(8, 10);
+
+        // when
+        limiter.acquire("cancelPayment").onDropped();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("한도를 충분히 사용 중인 상태에서 정상 응답이 오면 한도를 1 증가한다")
+    void onSuccess_UnderLoad_IncreasesLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = createLimiter(2, 10);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire("getPayment");
+        AdaptiveConcurrencyLimiter.Permit second = limiter.acquire("getPayment");
+
+        // when
+        first.onSuccess();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(3.0);
+        second.onIgnore();
+    }
+
+    @Test
+    @DisplayName("같은 Permit을 여러 번 반납해도 진행 중 요청 수는 한 번만 감소한다")
+    void permit_ReleasedOnce() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = createLimiter(2, 10);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire("getPayment");
+
+        // when
+        permit.onIgnore();
+        permit.onIgnore();
+
+        // then
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("HTTP 시도 RTT가 기록되면 재시도 대기 등을 포함한 전체 경과 시간 대신 시도 RTT로 판단한다")
+    void onSuccess_UsesRecordedAttemptRtt() throws Exception {
+        // given - 최소 RTT 1ms
+        AdaptiveConcurrencyLimiter limiter = createLimiter(4, 10);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire("getPayment");
+        try (AdaptiveConcurrencyLimiter.Scope ignored = first.open()) {
+            AdaptiveConcurrencyLimiter.recordAttempt(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        first.onSuccess();
+
+        // when - 전체 호출은 50ms 걸렸지만 마지막 시도 RTT는 1ms
+        AdaptiveConcurrencyLimiter.Permit second = limiter.acquire("getPayment");
+        try (AdaptiveConcurrencyLimiter.Scope ignored = second.open()) {
+            Thread.sleep(50);
+            AdaptiveConcurrencyLimiter.recordAttempt(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        second.onSuccess();
+
+        // then - 지연으로 판단하지 않아 한도 유지
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import com.early_express.payment_service.global.common.deadline.Deadline;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import com.early_express.payment_service.global.common.deadline.DeadlineExceededException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DeadlineCapability 단위 테스트
+ */
+@DisplayName("DeadlineCapability 테스트")
+class DeadlineCapabilityTest {
+
+    private final Request.Options options = new Request.Options(10, TimeUnit.SECONDS, 30, TimeUnit.SECONDS, true);
+
+    private final AtomicReference<Request.Options> usedOptions = new AtomicReference<>();
+
+    private final Client client = new DeadlineCapability().enrich((request, opts) -> {
+        usedOptions.set(opts);
+        return Response.builder().status(200).request(request).headers(Collections.emptyMap()).build();
+    });
+
+    @Test
+    @DisplayName("기한이 있으면 타임아웃을 남은 기한 이내로 줄인다")
+    void withDeadline_TimeoutsCapped() throws Exception {
+        // given
+        Deadline deadline = Deadline.after(Duration.ofMillis(800));
+
+        // when
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(deadline)) {
+            client.execute(request(), options);
+        }
+
+        // then
+        assertThat(usedOptions.get().readTimeoutMillis()).isBetween(1, 800);
+        assertThat(usedOptions.get().connectTimeoutMillis()).isBetween(1, 800);
+    }
+
+    @Test
+    @DisplayName("기한이 없으면 설정된 타임아웃을 그대로 사용한다")
+    void withoutDeadline_OptionsUnchanged() throws Exception {
+        // when
+        client.execute(request(), options);
+
+        // then
+        assertThat(usedOptions.get()).isSameAs(options);
+    }
+
+    @Test
+    @DisplayName("기한이 지났으면 요청을 보내지 않는다")
+    void expired_NotSent() {
+        // given
+        Deadline expired = Deadline.after(Duration.ZERO);
+
+        // when & then
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(expired)) {
+            assertThatThrownBy(() -> client.execute(request(), options))
+                    .isInstanceOf(DeadlineExceededException.class);
+        }
+        assertThat(usedOptions.get()).isNull();
+    }
+
+    private Request request() {
+        return Request.create(Request.HttpMethod.GET, "http://localhost/v1/payments/key",
+                Collections.emptyMap(), new byte[0], StandardCharsets.UTF_8, null);
+    }
+}
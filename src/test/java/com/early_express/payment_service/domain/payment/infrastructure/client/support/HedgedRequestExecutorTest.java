@@ -0,0 +1,281 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import com.early_express.payment_service.support.toss.LatencyDistribution;
+import com.early_express.payment_service.support.toss.TossPaymentsSimulator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HedgedRequestExecutor 단위 테스트
+ */
+@DisplayName("HedgedRequestExecutor 테스트")
+class HedgedRequestExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HedgedRequestExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화 시 호출 스레드에서 그대로 실행한다")
+    void disabled_RunsDirectly() {
+        // given
+        executor = new HedgedRequestExecutor(false, 10, 10, 10, 1.0, 2, 0, meterRegistry, false);
+        Thread caller = Thread.currentThread();
+
+        // when
+        Thread executed = executor.execute("getPayment", Thread::currentThread);
+
+        // then
+        assertThat(executed).isSameAs(caller);
+    }
+
+    @Test
+    @DisplayName("1차 요청이 지연되면 2차 요청을 보내 먼저 성공한 응답을 사용한다")
+    void slowPrimary_HedgeWins() {
+        // given - 예산 100%
+        executor = new HedgedRequestExecutor(true, 20, 20, 10, 1.0, 4, 0, meterRegistry, false);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = executor.execute("getPayment", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(1_000);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(meterRegistry.counter("pg.hedge.hedged", "operation", "getPayment").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("pg.hedge.wins", "operation", "getPayment").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("헤지가 이기면 1차 요청이 끝나기를 기다리지 않고 바로 반환한다")
+    void hedgeWins_ReturnsWithoutWaitingForPrimary() {
+        // given
+        executor = new HedgedRequestExecutor(true, 20, 20, 10, 1.0, 4, 0, meterRegistry, false);
+        Thread caller = Thread.currentThread();
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean primaryOnCaller = new AtomicBoolean();
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+
+        // when - 인터럽트에 반응하지 않는 1차 요청
+        long start = System.nanoTime();
+        String result = executor.execute("getPayment", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                primaryOnCaller.set(Thread.currentThread() == caller);
+                awaitUninterruptibly(releasePrimary);
+                return "primary";
+            }
+            return "hedge";
+        });
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        releasePrimary.countDown();
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(primaryOnCaller).isFalse();
+        assertThat(elapsedMs).isLessThan(1_000);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("1차 요청이 블로킹 소켓 읽기에 묶여 있어도 헤지 응답을 바로 반환한다")
+    void blockingSocketRead_HedgeWins() {
+        // given - 1차 요청은 응답이 3초 지연되는 PG, 2차 요청은 지연 없는 PG
+        executor = new HedgedRequestExecutor(true, 50, 50, 10, 1.0, 4, 0, meterRegistry, false);
+        AtomicInteger attempts = new AtomicInteger();
+
+        try (TossPaymentsSimulator slow = new TossPaymentsSimulator()
+                     .latency(LatencyDistribution.fixed(3_000)).start(0);
+             TossPaymentsSimulator fast = new TossPaymentsSimulator().start(0)) {
+
+            // when
+            long start = System.nanoTime();
+            Integer status = executor.execute("getPayment", () -> httpGet(
+                    (attempts.incrementAndGet() == 1 ? slow : fast).getBaseUrl() + "/v1/payments/sim-key"));
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertThat(status).isEqualTo(200);
+            assertThat(attempts.get()).isEqualTo(2);
+            assertThat(elapsedMs).isLessThan(1_500);
+        }
+    }
+
+    @Test
+    @DisplayName("1차 요청이 이기면 진행 중인 헤지를 취소한다")
+    void primaryWins_CancelsHedge() throws Exception {
+        // given
+        executor = new HedgedRequestExecutor(true, 20, 20, 10, 1.0, 4, 0, meterRegistry, false);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch hedgeCancelled = new CountDownLatch(1);
+
+        // when
+        String result = executor.execute("getPayment", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(200);
+                return "primary";
+            }
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                hedgeCancelled.countDown();
+            }
+            return "hedge";
+        });
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(hedgeCancelled.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.counter("pg.hedge.wins", "operation", "getPayment").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("헤지 풀이 가득 차면 헤지 없이 호출 스레드에서 1차 요청을 실행한다")
+    void poolFull_RunsOnCallerWithoutHedge() throws Exception {
+        // given - 헤지 풀 스레드 2개(다른 요청의 1차/2차 요청이 점유), 대기열 없음
+        executor = new HedgedRequestExecutor(true, 20, 20, 10, 1.0, 2, 0, meterRegistry, false);
+        CountDownLatch hedgeRunning = new CountDownLatch(1);
+        CountDownLatch releaseHedge = new CountDownLatch(1);
+        AtomicInteger slowAttempts = new AtomicInteger();
+
+        Thread occupying = Thread.ofPlatform().start(() -> executor.execute("getPayment", () -> {
+            if (slowAttempts.incrementAndGet() == 1) {
+                await(releaseHedge);
+                return "primary";
+            }
+            hedgeRunning.countDown();
+            await(releaseHedge);
+            return "hedge";
+        }));
+        assertThat(hedgeRunning.await(1, TimeUnit.SECONDS)).isTrue();
+
+        AtomicInteger attempts = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+        AtomicBoolean ranOnCaller = new AtomicBoolean();
+
+        // when
+        String result = executor.execute("getPayment", () -> {
+            attempts.incrementAndGet();
+            ranOnCaller.set(Thread.currentThread() == caller);
+            sleep(100);
+            return "primary";
+        });
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(ranOnCaller).isTrue();
+        assertThat(meterRegistry.counter("pg.hedge.rejected", "operation", "getPayment").count()).isEqualTo(1.0);
+
+        releaseHedge.countDown();
+        occupying.join();
+    }
+
+    @Test
+    @DisplayName("헤지 예산이 부족하면 2차 요청 없이 1차 요청을 기다린다")
+    void budgetExhausted_NoHedge() {
+        // given - 예산 0%
+        executor = new HedgedRequestExecutor(true, 20, 20, 10, 0.0, 4, 0, meterRegistry, false);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = executor.execute("getPayment", () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "primary";
+        });
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("pg.hedge.budget.exhausted", "operation", "getPayment").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("1차/2차 요청이 모두 실패하면 예외를 그대로 전파한다")
+    void bothFail_PropagatesException() {
+        // given
+        executor = new HedgedRequestExecutor(true, 10, 10, 10, 1.0, 4, 0, meterRegistry, false);
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute("getPayment", () -> {
+            sleep(50);
+            throw new IllegalArgumentException("PG 오류");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("PG 오류");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Feign 기본 클라이언트와 같은 HttpURLConnection 블로킹 호출
+     */
+    private static int httpGet(String url) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) URI.create(url).toURL().openConnection();
+            connection.setConnectTimeout(1_000);
+            connection.setReadTimeout(5_000);
+            try {
+                return connection.getResponseCode();
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
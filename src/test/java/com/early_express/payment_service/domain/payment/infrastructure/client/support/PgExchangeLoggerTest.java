@@ -0,0 +1,161 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.support;
+
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PgExchangeLogger / PgExchangeRecorder 단위 테스트
+ */
+@DisplayName("PG 요청/응답 기록 테스트")
+class PgExchangeLoggerTest {
+
+    private static final String CONFIG_KEY = "TossPaymentsClient#getPayment(String)";
+
+    private final List<PgExchange> written = new CopyOnWriteArrayList<>();
+    private PgExchangeRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (recorder != null) {
+            recorder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 성공 응답은 본문을 읽지 않고 그대로 반환한다")
+    void success_NotSampled_BodyUntouched() throws IOException {
+        // given
+        PgExchangeLogger logger = logger(0.0, 1024);
+        Response response = response(200, "{\"status\":\"DONE\"}");
+
+        // when
+        logger.logRequest(CONFIG_KEY, Logger.Level.BASIC, request());
+        Response result = logger.logAndRebufferResponse(CONFIG_KEY, Logger.Level.BASIC, response, 15);
+
+        // then
+        assertThat(result).isSameAs(response);
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패 응답은 항상 기록하고 인증 헤더와 민감 필드를 마스킹한다")
+    void failure_AlwaysRecorded_Redacted() throws IOException {
+        // given
+        PgExchangeLogger logger = logger(0.0, 1024);
+        String body = "{\"code\":\"NOT_FOUND_PAYMENT\",\"customerEmail\":\"a@b.com\",\"secret\":\"ps_abc\"}";
+
+        // when
+        logger.logRequest(CONFIG_KEY, Logger.Level.BASIC, request());
+        Response result = logger.logAndRebufferResponse(CONFIG_KEY, Logger.Level.BASIC, response(404, body), 20);
+
+        // then
+        assertThat(Util.toString(result.body().asReader(StandardCharsets.UTF_8))).isEqualTo(body);
+        awaitWritten(1);
+
+        PgExchange exchange = written.get(0);
+        assertThat(exchange.failed()).isTrue();
+        assertThat(exchange.status()).isEqualTo(404);
+        assertThat(exchange.requestHeaders()).containsEntry("Authorization", PgExchangeRedactor.MASK);
+        assertThat(exchange.responseBody())
+                .contains("NOT_FOUND_PAYMENT")
+                .doesNotContain("a@b.com", "ps_abc");
+    }
+
+    @Test
+    @DisplayName("본문은 설정된 크기까지만 기록한다")
+    void sampled_BodyTruncated() throws IOException {
+        // given
+        PgExchangeLogger logger = logger(1.0, 16);
+        String body = "{\"status\":\"DONE\",\"totalAmount\":10000}";
+
+        // when
+        logger.logRequest(CONFIG_KEY, Logger.Level.BASIC, request());
+        logger.logAndRebufferResponse(CONFIG_KEY, Logger.Level.BASIC, response(200, body), 10);
+
+        // then
+        awaitWritten(1);
+        assertThat(written.get(0).responseBody())
+                .startsWith("{\"status\":\"DONE\"")
+                .contains("truncated, " + body.length() + " bytes");
+    }
+
+    @Test
+    @DisplayName("자르는 위치에 걸친 민감 필드도 마스킹한 뒤 자른다")
+    void sampled_TruncatedInsideSensitiveField_Masked() throws IOException {
+        // given - 38바이트 위치가 customerEmail 값 중간
+        PgExchangeLogger logger = logger(1.0, 38);
+        String body = "{\"status\":\"DONE\",\"customerEmail\":\"secret@example.com\"}";
+
+        // when
+        logger.logRequest(CONFIG_KEY, Logger.Level.BASIC, request());
+        logger.logAndRebufferResponse(CONFIG_KEY, Logger.Level.BASIC, response(200, body), 10);
+
+        // then
+        awaitWritten(1);
+        assertThat(written.get(0).responseBody())
+                .startsWith("{\"status\":\"DONE\",\"customerEmail\":\"" + PgExchangeRedactor.MASK)
+                .doesNotContain("secret")
+                .contains("truncated, " + body.length() + " bytes");
+    }
+
+    @Test
+    @DisplayName("통신 오류도 요청 정보와 함께 기록한다")
+    void ioException_Recorded() {
+        // given
+        PgExchangeLogger logger = logger(0.0, 1024);
+
+        // when
+        logger.logRequest(CONFIG_KEY, Logger.Level.BASIC, request());
+        logger.logIOException(CONFIG_KEY, Logger.Level.BASIC, new SocketTimeoutException("Read timed out"), 3000);
+
+        // then
+        awaitWritten(1);
+        assertThat(written.get(0).status()).isNull();
+        assertThat(written.get(0).error()).contains("SocketTimeoutException");
+        assertThat(written.get(0).url()).endsWith("/v1/payments/key-1");
+    }
+
+    private PgExchangeLogger logger(double sampleRate, int maxBodyBytes) {
+        recorder = new PgExchangeRecorder(true, sampleRate, maxBodyBytes, maxBodyBytes, 16,
+                new SimpleMeterRegistry(), written::add);
+        return new PgExchangeLogger("TOSS", recorder);
+    }
+
+    private Request request() {
+        Map<String, Collection<String>> headers = Map.of("Authorization", List.of("Basic dGVzdF9za186"));
+        return Request.create(Request.HttpMethod.GET, "https://api.tosspayments.com/v1/payments/key-1",
+                headers, null, StandardCharsets.UTF_8, null);
+    }
+
+    private Response response(int status, String body) {
+        return Response.builder()
+                .status(status)
+                .request(request())
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+
+    private void awaitWritten(int expected) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (written.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentVerificationException;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.domain.payment.infrastructure.client.support.AdaptiveConcurrencyLimiter;
+import com.early_express.payment_service.domain.payment.infrastructure.client.support.HedgedRequestExecutor;
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossPaymentVerifyResponse;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ResilientTossPaymentsClient 단위 테스트
+ * 서킷 브레이커 / 벌크헤드 동작 검증
+ */
+@DisplayName("ResilientTossPaymentsClient 테스트")
+class ResilientTossPaymentsClientTest {
+
+    private TossPaymentsClient tossPaymentsClient;
+    private ResilientTossPaymentsClient resilientClient;
+
+    @BeforeEach
+    void setUp() {
+        tossPaymentsClient = mock(TossPaymentsClient.class);
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordException(new TossPaymentsFailurePredicate())
+                .build();
+
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        resilientClient = new ResilientTossPaymentsClient(
+                tossPaymentsClient,
+                CircuitBreakerRegistry.of(circuitBreakerConfig),
+                BulkheadRegistry.of(bulkheadConfig),
+                new HedgedRequestExecutor(false, 0, 500, 50, 0.05, 1, 0, new SimpleMeterRegistry(), false),
+                new AdaptiveConcurrencyLimiter(false, 20, 2, 100, 0.9, 2.0, 50, 50, new SimpleMeterRegistry())
+        );
+    }
+
+    @Test
+    @DisplayName("PG 5xx 실패가 누적되면 서킷이 열리고 PG_CIRCUIT_OPEN으로 즉시 실패한다")
+    void getPayment_CircuitOpen_FailsFast() {
+        // given
+        given(tossPaymentsClient.getPayment(anyString()))
+                .willThrow(new PaymentVerificationException(PaymentErrorCode.PG_SYSTEM_ERROR, "PG 오류"));
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> resilientClient.getPayment("key"))
+                    .isInstanceOf(PaymentVerificationException.class);
+        }
+
+        // when & then
+        assertThat(resilientClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> resilientClient.getPayment("key"))
+                .isInstanceOf(PgException.class)
+                .extracting("errorCode")
+                .isEqualTo(PaymentErrorCode.PG_CIRCUIT_OPEN);
+
+        verify(tossPaymentsClient, times(4)).getPayment("key");
+    }
+
+    @Test
+    @DisplayName("결제 조회 503 응답은 재시도 소진 후에도 서킷 실패로 기록되어 서킷이 열린다")
+    void getPayment_ServiceUnavailable_OpensCircuit() {
+        // given - 재시도 소진 후 Feign이 던지는 RetryableException(원인: ErrorDecoder 변환 결과)
+        Exception decoded = new TossPaymentsErrorDecoder()
+                .decode("TossPaymentsClient#getPayment(String)", createResponse(503));
+        given(tossPaymentsClient.getPayment(anyString())).willThrow((RuntimeException) decoded);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> resilientClient.getPayment("key"))
+                    .isInstanceOf(PaymentVerificationException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(PaymentErrorCode.PG_SYSTEM_ERROR);
+        }
+
+        // then
+        assertThat(resilientClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("4xx 비즈니스 오류는 서킷 실패로 기록하지 않는다")
+    void getPayment_ClientError_NotRecorded() {
+        // given
+        given(tossPaymentsClient.getPayment(anyString()))
+                .willThrow(new PaymentVerificationException(PaymentErrorCode.INVALID_PAYMENT_KEY, "잘못된 키"));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> resilientClient.getPayment("key"))
+                    .isInstanceOf(PaymentVerificationException.class);
+        }
+
+        // then
+        assertThat(resilientClient.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출이 벌크헤드 한도를 넘으면 PG_BULKHEAD_FULL로 거절한다")
+    void getPayment_BulkheadFull() throws Exception {
+        // given
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(tossPaymentsClient.getPayment("slow")).willAnswer(invocation -> {
+            inFlight.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return TossPaymentVerifyResponse.builder().status("DONE").build();
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> resilientClient.getPayment("slow"));
+            assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when & then
+            assertThatThrownBy(() -> resilientClient.getPayment("other"))
+                    .isInstanceOf(PgException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(PaymentErrorCode.PG_BULKHEAD_FULL);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+
+        verify(tossPaymentsClient, never()).getPayment("other");
+    }
+
+    @Test
+    @DisplayName("호출 중 Error가 발생해도 동시성 허가를 반납한다")
+    void getPayment_Error_ReleasesPermit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                true, 20, 2, 100, 0.9, 2.0, 50, 50, new SimpleMeterRegistry());
+        ResilientTossPaymentsClient client = new ResilientTossPaymentsClient(
+                tossPaymentsClient,
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                new HedgedRequestExecutor(false, 0, 500, 50, 0.05, 1, 0, new SimpleMeterRegistry(), false),
+                limiter
+        );
+        given(tossPaymentsClient.getPayment(anyString())).willThrow(new StackOverflowError());
+
+        // when & then
+        assertThatThrownBy(() -> client.getPayment("key"))
+                .isInstanceOf(StackOverflowError.class);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private Response createResponse(int status) {
+        return Response.builder()
+                .status(status)
+                .reason("Service Unavailable")
+                .request(Request.create(
+                        Request.HttpMethod.GET,
+                        "/v1/payments/key",
+                        Collections.emptyMap(),
+                        null,
+                        StandardCharsets.UTF_8,
+                        null
+                ))
+                .headers(Collections.emptyMap())
+                .body("{\"code\":\"SERVICE_UNAVAILABLE\"}", StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -1,15 +1,19 @@
 package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
 
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
 import com.early_express.payment_service.domain.payment.domain.exception.PaymentVerificationException;
 import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
 import feign.Request;
 import feign.Response;
+import feign.RetryableException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -72,7 +76,7 @@ class TossPaymentsErrorDecoderTest {
     }
 
     @Test
-    @DisplayName("getPayment - 500 Internal Server Error 시 PaymentVerificationException 발생")
+    @DisplayName("getPayment - 500 Internal Server Error 시 PaymentVerificationException을 원인으로 재시도 가능 예외 발생")
     void getPayment_ServerError() {
         // given
         Response response = createResponse(500, "getPayment");
@@ -81,12 +85,13 @@ class TossPaymentsErrorDecoderTest {
         Exception exception = errorDecoder.decode("TossPaymentsClient#getPayment(String)", response);
 
         // then
-        assertThat(exception).isInstanceOf(PaymentVerificationException.class);
-        assertThat(exception.getMessage()).contains("시스템 오류");
+        assertThat(exception).isInstanceOf(RetryableException.class);
+        assertThat(exception.getCause()).isInstanceOf(PaymentVerificationException.class);
+        assertThat(exception.getCause().getMessage()).contains("시스템 오류");
     }
 
     @Test
-    @DisplayName("getPayment - 기타 에러 시 PaymentVerificationException 발생")
+    @DisplayName("getPayment - 503 Service Unavailable 시 PG_SYSTEM_ERROR를 원인으로 재시도 가능 예외 발생")
     void getPayment_UnknownError() {
         // given
         Response response = createResponse(503, "getPayment");
@@ -94,9 +99,30 @@ class TossPaymentsErrorDecoderTest {
         // when
         Exception exception = errorDecoder.decode("TossPaymentsClient#getPayment(String)", response);
 
+        // then - 재시도 소진 후 드러나는 최종 에러 코드는 PG 장애(5xx)
+        assertThat(exception).isInstanceOf(RetryableException.class);
+        assertThat(exception.getCause())
+                .isInstanceOf(PaymentVerificationException.class)
+                .extracting("errorCode")
+                .isEqualTo(PaymentErrorCode.PG_SYSTEM_ERROR);
+        assertThat(exception.getCause().getMessage()).contains("시스템 오류");
+    }
+
+    @Test
+    @DisplayName("getPayment - 429 Too Many Requests 시 PG_THROTTLED(5xx)를 원인으로 재시도 가능 예외 발생")
+    void getPayment_TooManyRequests_Throttled() {
+        // given
+        Response response = createResponse(429, "getPayment");
+
+        // when
+        Exception exception = errorDecoder.decode("TossPaymentsClient#getPayment(String)", response);
+
         // then
-        assertThat(exception).isInstanceOf(PaymentVerificationException.class);
-        assertThat(exception.getMessage()).contains("검증에 실패");
+        assertThat(exception).isInstanceOf(RetryableException.class);
+        assertThat(exception.getCause())
+                .isInstanceOf(PaymentVerificationException.class)
+                .extracting("errorCode")
+                .isEqualTo(PaymentErrorCode.PG_THROTTLED);
     }
 
     // ===== cancelPayment 메서드 에러 테스트 =====
@@ -108,7 +134,7 @@ class TossPaymentsErrorDecoderTest {
         Response response = createResponse(400, "cancelPayment");
 
         // when
-        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,TossCancelRequest)", response);
+        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,String,TossCancelRequest)", response);
 
         // then
         assertThat(exception).isInstanceOf(RefundException.class);
@@ -122,7 +148,7 @@ class TossPaymentsErrorDecoderTest {
         Response response = createResponse(401, "cancelPayment");
 
         // when
-        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,TossCancelRequest)", response);
+        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,String,TossCancelRequest)", response);
 
         // then
         assertThat(exception).isInstanceOf(RefundException.class);
@@ -136,7 +162,7 @@ class TossPaymentsErrorDecoderTest {
         Response response = createResponse(404, "cancelPayment");
 
         // when
-        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,TossCancelRequest)", response);
+        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,String,TossCancelRequest)", response);
 
         // then
         assertThat(exception).isInstanceOf(RefundException.class);
@@ -150,7 +176,7 @@ class TossPaymentsErrorDecoderTest {
         Response response = createResponse(409, "cancelPayment");
 
         // when
-        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,TossCancelRequest)", response);
+        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,String,TossCancelRequest)", response);
 
         // then
         assertThat(exception).isInstanceOf(RefundException.class);
@@ -164,7 +190,7 @@ class TossPaymentsErrorDecoderTest {
         Response response = createResponse(500, "cancelPayment");
 
         // when
-        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,TossCancelRequest)", response);
+        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,String,TossCancelRequest)", response);
 
         // then
         assertThat(exception).isInstanceOf(RefundException.class);
@@ -178,13 +204,53 @@ class TossPaymentsErrorDecoderTest {
         Response response = createResponse(503, "cancelPayment");
 
         // when
-        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,TossCancelRequest)", response);
+        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,String,TossCancelRequest)", response);
 
         // then
         assertThat(exception).isInstanceOf(RefundException.class);
         assertThat(exception.getMessage()).contains("취소에 실패");
     }
 
+    @Test
+    @DisplayName("cancelPayment - Idempotency-Key가 있으면 500 에러를 재시도 가능 예외로 변환")
+    void cancelPayment_ServerError_WithIdempotencyKey_Retryable() {
+        // given
+        Response response = createCancelResponse(500, "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}", "payment-1-refund-1");
+
+        // when
+        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,String,TossCancelRequest)", response);
+
+        // then
+        assertThat(exception).isInstanceOf(RetryableException.class);
+        assertThat(exception.getCause()).isInstanceOf(RefundException.class);
+    }
+
+    @Test
+    @DisplayName("cancelPayment - Idempotency-Key가 있어도 409 취소 불가는 재시도하지 않는다")
+    void cancelPayment_Conflict_WithIdempotencyKey_NotRetryable() {
+        // given
+        Response response = createCancelResponse(409, "{\"code\":\"ALREADY_CANCELED_PAYMENT\"}", "payment-1-refund-1");
+
+        // when
+        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,String,TossCancelRequest)", response);
+
+        // then
+        assertThat(exception).isInstanceOf(RefundException.class);
+    }
+
+    @Test
+    @DisplayName("cancelPayment - 일시적 오류 코드(PROVIDER_ERROR)는 400이어도 재시도 가능")
+    void cancelPayment_TransientErrorCode_Retryable() {
+        // given
+        Response response = createCancelResponse(400, "{\"code\":\"PROVIDER_ERROR\"}", "payment-1-refund-1");
+
+        // when
+        Exception exception = errorDecoder.decode("TossPaymentsClient#cancelPayment(String,String,TossCancelRequest)", response);
+
+        // then
+        assertThat(exception).isInstanceOf(RetryableException.class);
+    }
+
     // ===== 기타 메서드 에러 테스트 =====
 
     @Test
@@ -221,4 +287,24 @@ class TossPaymentsErrorDecoderTest {
                 .body("{\"error\":\"test error\"}", StandardCharsets.UTF_8)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Idempotency-Key 헤더가 포함된 취소 요청의 Response 객체 생성
+     */
+    private Response createCancelResponse(int status, String body, String idempotencyKey) {
+        return Response.builder()
+                .status(status)
+                .reason("Test Reason")
+                .request(Request.create(
+                        Request.HttpMethod.POST,
+                        "/v1/payments/test/cancel",
+                        Map.of("Idempotency-Key", List.of(idempotencyKey)),
+                        null,
+                        StandardCharsets.UTF_8,
+                        null
+                ))
+                .headers(Collections.emptyMap())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.early_express.payment_service.domain.payment.infrastructure.client.toss;
+
+import com.early_express.payment_service.domain.payment.application.service.PaymentService;
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.domain.gateway.PgCancelCommand;
+import com.early_express.payment_service.domain.payment.domain.gateway.PgCancelResult;
+import com.early_express.payment_service.domain.payment.domain.gateway.PgPaymentResult;
+import com.early_express.payment_service.domain.payment.domain.messaging.PaymentEventPublisher;
+import com.early_express.payment_service.domain.payment.domain.model.Payment;
+import com.early_express.payment_service.domain.payment.domain.model.PaymentStatus;
+import com.early_express.payment_service.support.toss.TossPaymentsSimulator;
+import com.early_express.payment_service.support.toss.TossPaymentsSimulator.Endpoint;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Toss 시뮬레이터 대상 통합 테스트
+ * 실제 HTTP(Feign) 경로로 ErrorDecoder / Retryer / 멱등키 동작 검증
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("Toss 시뮬레이터 통합 테스트")
+class TossPaymentsSimulatorIntegrationTest {
+
+    private static final TossPaymentsSimulator simulator = new TossPaymentsSimulator().start(0);
+
+    @DynamicPropertySource
+    static void tossProperties(DynamicPropertyRegistry registry) {
+        registry.add("client.toss-payments.url", simulator::getBaseUrl);
+        registry.add("client.toss-payments.retry.period-ms", () -> 10);
+        registry.add("client.toss-payments.retry.max-period-ms", () -> 50);
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        simulator.close();
+    }
+
+    @Autowired
+    private TossPgGateway tossPgGateway;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @MockBean
+    private PaymentEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        simulator.reset();
+    }
+
+    @Test
+    @DisplayName("결제 조회 - 시뮬레이터에 등록된 결제를 DONE 상태로 조회한다")
+    void getPayment_Success() {
+        // given
+        simulator.registerPayment("sim-key-1", new BigDecimal("15000"));
+
+        // when
+        PgPaymentResult result = tossPgGateway.getPayment("sim-key-1");
+
+        // then
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getTotalAmount()).isEqualByComparingTo("15000");
+    }
+
+    @Test
+    @DisplayName("결제 조회 - 500 연속 응답은 재시도 후 성공한다")
+    void getPayment_ServerErrorBurst_Retried() {
+        // given
+        simulator.registerPayment("sim-key-2", new BigDecimal("10000"))
+                .injectBurst(Endpoint.GET_PAYMENT, 500, "FAILED_INTERNAL_SYSTEM_PROCESSING", 2);
+
+        // when
+        PgPaymentResult result = tossPgGateway.getPayment("sim-key-2");
+
+        // then
+        assertThat(result.isDone()).isTrue();
+        assertThat(simulator.requestCount(Endpoint.GET_PAYMENT)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("결제 취소 - 같은 멱등키로 다시 요청하면 최초 취소 결과를 반환한다")
+    void cancelPayment_SameIdempotencyKey_AppliedOnce() {
+        // given
+        simulator.registerPayment("sim-key-3", new BigDecimal("10000"));
+        PgCancelCommand command = PgCancelCommand.fullCancel("고객 요청");
+
+        // when
+        PgCancelResult first = tossPgGateway.cancelPayment("sim-key-3", "PAY-3-refund-1", command);
+        PgCancelResult second = tossPgGateway.cancelPayment("sim-key-3", "PAY-3-refund-1", command);
+
+        // then
+        assertThat(first.isFullyCanceled()).isTrue();
+        assertThat(second.getRefundTransactionKey()).isEqualTo(first.getRefundTransactionKey());
+        assertThat(simulator.balanceAmount("sim-key-3")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("결제 취소 - 409 응답은 재시도하지 않고 REFUND_NOT_ALLOWED로 실패한다")
+    void cancelPayment_Conflict_NotRetried() {
+        // given
+        simulator.registerPayment("sim-key-4", new BigDecimal("10000"))
+                .injectBurst(Endpoint.CANCEL_PAYMENT, 409, "ALREADY_CANCELED_PAYMENT", 3);
+
+        // when & then
+        assertThatThrownBy(() -> tossPgGateway.cancelPayment(
+                "sim-key-4", "PAY-4-refund-1", PgCancelCommand.fullCancel("고객 요청")))
+                .isInstanceOf(RefundException.class)
+                .extracting("errorCode")
+                .isEqualTo(PaymentErrorCode.REFUND_NOT_ALLOWED);
+
+        assertThat(simulator.requestCount(Endpoint.CANCEL_PAYMENT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결제 검증부터 환불까지 시뮬레이터를 통해 처리한다")
+    void verifyAndCancel_EndToEnd() {
+        // given
+        BigDecimal amount = new BigDecimal("12000");
+        simulator.registerPayment("sim-key-5", amount)
+                .injectBurst(Endpoint.CANCEL_PAYMENT, 500, "FAILED_REFUND_PROCESS", 1);
+
+        Payment payment = paymentService.verifyAndRegisterPayment(
+                "ORDER-SIM-5", "TOSS", "pg-payment-sim-5", "sim-key-5", amount,
+                "COMPANY-001", "홍길동", "test@example.com", "010-1234-5678",
+                "COMPANY-002", "수취업체"
+        );
+
+        // when
+        Payment refunded = paymentService.cancelPayment(payment.getIdValue(), "ORDER-SIM-5", "고객 요청");
+
+        // then
+        assertThat(refunded.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(simulator.balanceAmount("sim-key-5")).isEqualByComparingTo("0");
+        assertThat(simulator.requestCount(Endpoint.CANCEL_PAYMENT)).isEqualTo(2);
+    }
+}
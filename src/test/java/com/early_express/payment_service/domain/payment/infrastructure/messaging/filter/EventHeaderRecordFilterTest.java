@@ -0,0 +1,116 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.filter;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.payment_service.global.infrastructure.event.header.EventHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * EventHeaderRecordFilter 단위 테스트
+ */
+@DisplayName("EventHeaderRecordFilter 테스트")
+class EventHeaderRecordFilterTest {
+
+    private static final String TOPIC = "refund-requested";
+
+    private final ProcessedEventStore processedEventStore = mock(ProcessedEventStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+
+    private final EventHeaderRecordFilter filter = new EventHeaderRecordFilter(
+            processedEventStore, kafkaTemplate, meterRegistry, List.of("REFUND_REQUESTED"), 1);
+
+    private static ConsumerRecord<String, Object> record(EventHeaders eventHeaders) {
+        RecordHeaders headers = new RecordHeaders();
+        if (eventHeaders != null) {
+            eventHeaders.writeTo(headers);
+        }
+        // 본문은 역직렬화할 수 없는 바이트 (필터가 본문을 읽지 않음을 확인)
+        byte[] value = "not-json".getBytes(StandardCharsets.UTF_8);
+        return new ConsumerRecord<>(TOPIC, 0, 7L, 0L, TimestampType.CREATE_TIME, 0, value.length,
+                "ORDER-1", value, headers, Optional.empty());
+    }
+
+    @Test
+    @DisplayName("처리 대상 타입이고 처음 받은 이벤트는 통과시킨다")
+    void accepted_PassesThrough() {
+        // when
+        boolean discarded = filter.filter(record(
+                new EventHeaders("EVT-1", "REFUND_REQUESTED", "1.0", "order-service")));
+
+        // then
+        assertThat(discarded).isFalse();
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 이전 형식 메시지는 통과시킨다")
+    void noHeaders_PassesThrough() {
+        // when & then
+        assertThat(filter.filter(record(null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("처리 대상이 아닌 eventType은 버린다")
+    void otherType_Discarded() {
+        // when
+        boolean discarded = filter.filter(record(
+                new EventHeaders("EVT-1", "ORDER_CREATED", "1.0", "order-service")));
+
+        // then
+        assertThat(discarded).isTrue();
+        assertThat(meterRegistry.counter("kafka.event.filtered", "reason", "type").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최근 처리한 eventId는 버린다")
+    void recentlyProcessed_Discarded() {
+        // given
+        given(processedEventStore.isRecentlyProcessed("EVT-1")).willReturn(true);
+
+        // when
+        boolean discarded = filter.filter(record(
+                new EventHeaders("EVT-1", "REFUND_REQUESTED", "1.0", "order-service")));
+
+        // then
+        assertThat(discarded).isTrue();
+        assertThat(meterRegistry.counter("kafka.event.filtered", "reason", "duplicate").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 주 버전은 DLT로 보내고 버린다")
+    @SuppressWarnings("unchecked")
+    void newerMajorVersion_RoutedToDlt() {
+        // given
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // when
+        boolean discarded = filter.filter(record(
+                new EventHeaders("EVT-1", "REFUND_REQUESTED", "2.0", "order-service")));
+
+        // then
+        assertThat(discarded).isTrue();
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        assertThat(captor.getValue().topic()).isEqualTo(TOPIC + "-dlt");
+        verifyNoInteractions(processedEventStore);
+    }
+}
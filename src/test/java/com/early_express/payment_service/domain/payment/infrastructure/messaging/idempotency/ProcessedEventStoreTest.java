@@ -0,0 +1,133 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.ProcessedEventJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ProcessedEventStore 단위 테스트
+ */
+@DisplayName("ProcessedEventStore 테스트")
+class ProcessedEventStoreTest {
+
+    private final ProcessedEventJpaRepository processedEventRepository = mock(ProcessedEventJpaRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProcessedEventStore store = new ProcessedEventStore(
+            processedEventRepository, mock(PlatformTransactionManager.class), meterRegistry, 100, 168);
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    @Test
+    @DisplayName("처음 받은 이벤트는 처리 기록을 추가하고 처리한다")
+    void firstDelivery_Processed() {
+        // given
+        RefundRequestedEvent event = event("EVT-1");
+        given(processedEventRepository.insertIfAbsent(eq("EVT-1"), any(), any())).willReturn(1);
+
+        // when
+        boolean processed = store.executeOnce(event, handled::incrementAndGet, RefundException.class);
+
+        // then
+        assertThat(processed).isTrue();
+        assertThat(handled.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리한 이벤트가 다시 오면 DB 조회 없이 메모리 기록으로 건너뛴다")
+    void redelivery_SkippedFromCache() {
+        // given
+        RefundRequestedEvent event = event("EVT-1");
+        given(processedEventRepository.insertIfAbsent(eq("EVT-1"), any(), any())).willReturn(1);
+        store.executeOnce(event, handled::incrementAndGet, RefundException.class);
+
+        // when
+        boolean processed = store.executeOnce(event, handled::incrementAndGet, RefundException.class);
+
+        // then
+        assertThat(processed).isFalse();
+        assertThat(handled.get()).isEqualTo(1);
+        verify(processedEventRepository, times(1)).existsById("EVT-1");
+        assertThat(meterRegistry.counter("kafka.event.duplicate", "source", "cache").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 처리한 이벤트는 DB 기록으로 건너뛴다")
+    void processedElsewhere_SkippedFromDb() {
+        // given
+        given(processedEventRepository.existsById("EVT-1")).willReturn(true);
+
+        // when
+        boolean processed = store.executeOnce(event("EVT-1"), handled::incrementAndGet, RefundException.class);
+
+        // then
+        assertThat(processed).isFalse();
+        assertThat(handled.get()).isZero();
+        verify(processedEventRepository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동시에 처리 중인 같은 이벤트는 처리 기록 추가에 실패해 건너뛴다")
+    void concurrentDelivery_SkippedOnInsertConflict() {
+        // given
+        given(processedEventRepository.insertIfAbsent(eq("EVT-1"), any(), any())).willReturn(0);
+
+        // when
+        boolean processed = store.executeOnce(event("EVT-1"), handled::incrementAndGet, RefundException.class);
+
+        // then
+        assertThat(processed).isFalse();
+        assertThat(handled.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋 대상 예외는 처리 기록을 지우고 다시 던져 재전달 시 다시 처리한다")
+    void noRollbackFailure_RecordRemoved() {
+        // given
+        RefundRequestedEvent event = event("EVT-1");
+        given(processedEventRepository.insertIfAbsent(eq("EVT-1"), any(), any())).willReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> store.executeOnce(event, () -> {
+            throw new RefundException(PaymentErrorCode.REFUND_PROCESSING_FAILED, "PG 오류");
+        }, RefundException.class))
+                .isInstanceOf(RefundException.class);
+        verify(processedEventRepository).deleteByEventId("EVT-1");
+
+        boolean processed = store.executeOnce(event, handled::incrementAndGet, RefundException.class);
+        assertThat(processed).isTrue();
+        assertThat(handled.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("eventId가 없는 이벤트는 기록 없이 처리한다")
+    void withoutEventId_ProcessedWithoutRecord() {
+        // when
+        boolean processed = store.executeOnce(event(null), handled::incrementAndGet, RefundException.class);
+
+        // then
+        assertThat(processed).isTrue();
+        assertThat(handled.get()).isEqualTo(1);
+        verifyNoInteractions(processedEventRepository);
+    }
+
+    private RefundRequestedEvent event(String eventId) {
+        return RefundRequestedEvent.builder()
+                .eventId(eventId)
+                .eventType("REFUND_REQUESTED")
+                .paymentId("PAY-1")
+                .orderId("ORDER-1")
+                .refundReason("상품 취소")
+                .build();
+    }
+}
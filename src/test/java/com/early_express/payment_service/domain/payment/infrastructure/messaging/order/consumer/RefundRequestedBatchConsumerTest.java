@@ -0,0 +1,237 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.consumer;
+
+import com.early_express.payment_service.domain.payment.application.service.PaymentService;
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.ProcessedEventJpaRepository;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * RefundRequestedBatchConsumer 단위 테스트
+ */
+@DisplayName("RefundRequestedBatchConsumer 테스트")
+class RefundRequestedBatchConsumerTest {
+
+    private static final String TOPIC = "refund-requested";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final ProcessedEventStore processedEventStore = new ProcessedEventStore(
+            mock(ProcessedEventJpaRepository.class), mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(), 100, 168);
+    private final RefundRequestedBatchConsumer batchConsumer = new RefundRequestedBatchConsumer(
+            paymentService, processedEventStore, objectMapper, mock(AvroEventCodec.class), kafkaTemplate,
+            new SimpleMeterRegistry(), 4, 3, 10, 50, false);
+
+    @Test
+    @DisplayName("모든 레코드 처리 성공 시 파티션별 마지막 offset 다음 위치를 한 번에 커밋한다")
+    void allSucceeded_CommitsOncePerBatch() throws Exception {
+        // given
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                record(0, 10, "PAY-A", "1000"),
+                record(0, 11, "PAY-B", "2000"),
+                record(1, 5, "PAY-C", null)
+        );
+
+        // when
+        batchConsumer.handleRefundRequestedBatch(records, consumer);
+
+        // then
+        verify(consumer, times(1)).commitSync(Map.of(
+                PARTITION_0, new OffsetAndMetadata(12),
+                PARTITION_1, new OffsetAndMetadata(6)
+        ));
+        verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+        verify(paymentService).refundPayment("PAY-C", "ORDER-PAY-C", null, "상품 취소");
+    }
+
+    @Test
+    @DisplayName("같은 paymentId 레코드는 offset 순서대로 처리한다")
+    void sameKey_ProcessedInOrder() throws Exception {
+        // given
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                record(0, 0, "PAY-A", "1000"),
+                record(0, 1, "PAY-A", "2000"),
+                record(0, 2, "PAY-A", "3000")
+        );
+
+        // when
+        batchConsumer.handleRefundRequestedBatch(records, consumer);
+
+        // then
+        InOrder inOrder = inOrder(paymentService);
+        inOrder.verify(paymentService).refundPayment("PAY-A", "ORDER-PAY-A", new BigDecimal("1000"), "상품 취소");
+        inOrder.verify(paymentService).refundPayment("PAY-A", "ORDER-PAY-A", new BigDecimal("2000"), "상품 취소");
+        inOrder.verify(paymentService).refundPayment("PAY-A", "ORDER-PAY-A", new BigDecimal("3000"), "상품 취소");
+    }
+
+    @Test
+    @DisplayName("부분 실패 시 파티션을 첫 실패 레코드로 되감고, 다시 받은 레코드 중 이미 처리한 것은 건너뛴다")
+    void partialFailure_SeeksToFirstFailedAndSkipsCompleted() throws Exception {
+        // given - PAY-B(offset 1) 실패, 같은 키의 offset 3은 처리하지 않음
+        given(paymentService.refundPayment(eq("PAY-B"), anyString(), any(), anyString()))
+                .willThrow(new RefundException(PaymentErrorCode.REFUND_PROCESSING_FAILED))
+                .willReturn(null);
+
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                record(0, 0, "PAY-A", "1000"),
+                record(0, 1, "PAY-B", "2000"),
+                record(0, 2, "PAY-C", "3000"),
+                record(0, 3, "PAY-B", "4000"),
+                record(1, 7, "PAY-D", "5000")
+        );
+
+        // when
+        batchConsumer.handleRefundRequestedBatch(records, consumer);
+
+        // then
+        verify(consumer).commitSync(Map.of(
+                PARTITION_0, new OffsetAndMetadata(1),
+                PARTITION_1, new OffsetAndMetadata(8)
+        ));
+        verify(consumer).seek(PARTITION_0, 1);
+        verify(paymentService, never())
+                .refundPayment("PAY-B", "ORDER-PAY-B", new BigDecimal("4000"), "상품 취소");
+
+        // when - 되감은 위치부터 다시 수신
+        batchConsumer.handleRefundRequestedBatch(records.subList(1, 4), consumer);
+
+        // then - PAY-C(offset 2)는 다시 처리하지 않음
+        verify(paymentService, times(1))
+                .refundPayment("PAY-C", "ORDER-PAY-C", new BigDecimal("3000"), "상품 취소");
+        verify(paymentService)
+                .refundPayment("PAY-B", "ORDER-PAY-B", new BigDecimal("4000"), "상품 취소");
+        verify(consumer).commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(4)));
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 실패는 대기 후 되감고, 재시도 한도만큼 실패하면 DLT로 보내고 실패 이벤트를 기록한다")
+    void retryableFailure_BacksOffThenDeadLettersWhenExhausted() throws Exception {
+        // given
+        given(paymentService.refundPayment(eq("PAY-A"), anyString(), any(), anyString()))
+                .willThrow(new PgException(PaymentErrorCode.PG_SYSTEM_ERROR));
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+        List<ConsumerRecord<String, byte[]>> records = List.of(record(0, 0, "PAY-A", "1000"));
+
+        // when
+        long start = System.nanoTime();
+        batchConsumer.handleRefundRequestedBatch(records, consumer);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        batchConsumer.handleRefundRequestedBatch(records, consumer);
+        batchConsumer.handleRefundRequestedBatch(records, consumer);
+
+        // then
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(10);
+        verify(consumer, times(2)).seek(PARTITION_0, 0);
+        verify(consumer).commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(1)));
+        verify(paymentService, times(3)).refundPayment(eq("PAY-A"), anyString(), any(), anyString());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        assertThat(captor.getValue().topic()).isEqualTo(TOPIC + "-dlt");
+        verify(paymentService).recordRefundRetriesExhausted(eq("PAY-A"), anyString());
+    }
+
+    @Test
+    @DisplayName("재시도 불가 오류는 되감지 않고 바로 DLT로 보내며 실패 이벤트를 기록하지 않는다")
+    void nonRetryableFailure_DeadLetteredImmediately() throws Exception {
+        // given
+        given(paymentService.refundPayment(eq("PAY-A"), anyString(), any(), anyString()))
+                .willThrow(new RefundException(PaymentErrorCode.REFUND_NOT_ALLOWED));
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+        List<ConsumerRecord<String, byte[]>> records = List.of(record(0, 0, "PAY-A", "1000"));
+
+        // when
+        batchConsumer.handleRefundRequestedBatch(records, consumer);
+
+        // then
+        verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+        verify(consumer).commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(1)));
+        verify(kafkaTemplate).send(any(ProducerRecord.class));
+        verify(paymentService, never()).recordRefundRetriesExhausted(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("DLT 전달에 실패하면 커밋하지 않고 되감는다")
+    void deadLetterFailed_Rewinds() throws Exception {
+        // given
+        given(paymentService.refundPayment(eq("PAY-A"), anyString(), any(), anyString()))
+                .willThrow(new RefundException(PaymentErrorCode.REFUND_NOT_ALLOWED));
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        List<ConsumerRecord<String, byte[]>> records = List.of(record(0, 0, "PAY-A", "1000"));
+
+        // when
+        batchConsumer.handleRefundRequestedBatch(records, consumer);
+
+        // then
+        verify(consumer).commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(0)));
+        verify(consumer).seek(PARTITION_0, 0);
+    }
+
+    @Test
+    @DisplayName("역직렬화할 수 없는 레코드는 DLT로 보낸다")
+    void malformedRecord_DeadLettered() {
+        // given
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+        ConsumerRecord<String, byte[]> malformed =
+                new ConsumerRecord<>(TOPIC, 0, 0, "PAY-A", "{not-json".getBytes());
+
+        // when
+        batchConsumer.handleRefundRequestedBatch(List.of(malformed), consumer);
+
+        // then
+        verify(kafkaTemplate).send(any(ProducerRecord.class));
+        verify(consumer).commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(1)));
+        verifyNoInteractions(paymentService);
+    }
+
+    private ConsumerRecord<String, byte[]> record(int partition, long offset, String paymentId, String amount)
+            throws Exception {
+        RefundRequestedEvent event = RefundRequestedEvent.builder()
+                .paymentId(paymentId)
+                .orderId("ORDER-" + paymentId)
+                .refundReason("상품 취소")
+                .refundAmount(amount != null ? new BigDecimal(amount) : null)
+                .build();
+        return new ConsumerRecord<>(TOPIC, partition, offset, paymentId, objectMapper.writeValueAsBytes(event));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<SendResult<String, Object>> sent() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+}
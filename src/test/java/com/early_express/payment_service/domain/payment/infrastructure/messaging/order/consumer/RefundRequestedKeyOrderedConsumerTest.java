@@ -0,0 +1,173 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.consumer;
+
+import com.early_express.payment_service.domain.payment.application.service.PaymentService;
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.ProcessedEventJpaRepository;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * RefundRequestedKeyOrderedConsumer 단위 테스트
+ */
+@DisplayName("RefundRequestedKeyOrderedConsumer 테스트")
+class RefundRequestedKeyOrderedConsumerTest {
+
+    private static final String TOPIC = "refund-requested";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+
+    private final ProcessedEventStore processedEventStore = new ProcessedEventStore(
+            mock(ProcessedEventJpaRepository.class), mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(), 100, 168);
+
+    private final RefundRequestedKeyOrderedConsumer keyOrderedConsumer = new RefundRequestedKeyOrderedConsumer(
+            paymentService, processedEventStore, objectMapper, mock(AvroEventCodec.class), kafkaTemplate,
+            new SimpleMeterRegistry(),
+            4, 100, 2, 10, 10, false);
+
+    @BeforeEach
+    void setUp() {
+        given(consumer.assignment()).willReturn(Set.of(PARTITION_0));
+    }
+
+    @Test
+    @DisplayName("뒤 레코드가 먼저 끝나도 앞 레코드가 끝날 때까지 커밋하지 않는다")
+    void outOfOrderCompletion_CommitsContiguousOnly() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherKeyDone = new CountDownLatch(1);
+        given(paymentService.refundPayment(eq("PAY-A"), any(), any(), any())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        given(paymentService.refundPayment(eq("PAY-B"), any(), any(), any())).willAnswer(invocation -> {
+            otherKeyDone.countDown();
+            return null;
+        });
+
+        // when
+        keyOrderedConsumer.handleRefundRequested(
+                List.of(record(0, "PAY-A", "1000"), record(1, "PAY-B", "2000")), consumer);
+        assertThat(otherKeyDone.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        keyOrderedConsumer.commitCompleted(consumer);
+
+        // then
+        verify(consumer, never()).commitAsync(anyMap(), any());
+
+        release.countDown();
+        verify(paymentService, timeout(1000)).refundPayment(eq("PAY-A"), any(), any(), any());
+        Thread.sleep(50);
+        keyOrderedConsumer.commitCompleted(consumer);
+        verify(consumer).commitAsync(eq(Map.of(PARTITION_0, new OffsetAndMetadata(2))), any());
+    }
+
+    @Test
+    @DisplayName("같은 paymentId 레코드는 받은 순서대로 처리한다")
+    void sameKey_ProcessedInOrder() throws Exception {
+        // when
+        keyOrderedConsumer.handleRefundRequested(List.of(
+                record(0, "PAY-A", "1000"),
+                record(1, "PAY-A", "2000"),
+                record(2, "PAY-A", "3000")
+        ), consumer);
+
+        // then
+        verify(paymentService, timeout(1000).times(3)).refundPayment(eq("PAY-A"), any(), any(), any());
+        InOrder inOrder = inOrder(paymentService);
+        inOrder.verify(paymentService).refundPayment("PAY-A", "ORDER-PAY-A", new BigDecimal("1000"), "상품 취소");
+        inOrder.verify(paymentService).refundPayment("PAY-A", "ORDER-PAY-A", new BigDecimal("2000"), "상품 취소");
+        inOrder.verify(paymentService).refundPayment("PAY-A", "ORDER-PAY-A", new BigDecimal("3000"), "상품 취소");
+    }
+
+    @Test
+    @DisplayName("재시도 불가 오류는 재시도 없이 DLT로 보내고 완료 처리한다")
+    void nonRetryable_DeadLetteredAndCommitted() throws Exception {
+        // given
+        given(paymentService.refundPayment(any(), any(), any(), any()))
+                .willThrow(new RefundException(PaymentErrorCode.REFUND_NOT_ALLOWED));
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+
+        // when
+        keyOrderedConsumer.handleRefundRequested(List.of(record(0, "PAY-A", "1000")), consumer);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, timeout(1000)).send(captor.capture());
+        assertThat(captor.getValue().topic()).isEqualTo("refund-requested-dlt");
+        verify(paymentService, times(1)).refundPayment(any(), any(), any(), any());
+        verify(paymentService, never()).recordRefundRetriesExhausted(any(), any());
+
+        Thread.sleep(50);
+        keyOrderedConsumer.commitCompleted(consumer);
+        verify(consumer).commitAsync(eq(Map.of(PARTITION_0, new OffsetAndMetadata(1))), any());
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 오류는 같은 키만 재시도하고 한도를 넘으면 실패 이벤트를 한 번 기록한 뒤 DLT로 보낸다")
+    void retryable_RetriedThenDeadLettered() throws Exception {
+        // given
+        given(paymentService.refundPayment(any(), any(), any(), any()))
+                .willThrow(new RefundException(PaymentErrorCode.REFUND_PROCESSING_FAILED));
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+
+        // when
+        keyOrderedConsumer.handleRefundRequested(List.of(record(0, "PAY-A", "1000")), consumer);
+
+        // then
+        verify(kafkaTemplate, timeout(1000)).send(any(ProducerRecord.class));
+        verify(paymentService, times(2)).refundPayment(any(), any(), any(), any());
+        verify(paymentService, times(1)).recordRefundRetriesExhausted(eq("PAY-A"), any());
+    }
+
+    private ConsumerRecord<String, byte[]> record(long offset, String paymentId, String amount) throws Exception {
+        RefundRequestedEvent event = RefundRequestedEvent.builder()
+                .paymentId(paymentId)
+                .orderId("ORDER-" + paymentId)
+                .refundReason("상품 취소")
+                .refundAmount(new BigDecimal(amount))
+                .build();
+        return new ConsumerRecord<>(TOPIC, 0, offset, paymentId, objectMapper.writeValueAsBytes(event));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<SendResult<String, Object>> sent() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+}
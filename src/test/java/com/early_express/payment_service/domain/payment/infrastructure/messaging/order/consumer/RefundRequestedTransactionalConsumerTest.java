@@ -0,0 +1,207 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.order.consumer;
+
+import com.early_express.payment_service.domain.payment.application.service.PaymentService;
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher.OutboxSourceContext;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentEventOutboxEntity;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.PaymentEventOutboxJpaRepository;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.ProcessedEventJpaRepository;
+import com.early_express.payment_service.global.infrastructure.event.codec.AvroEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * RefundRequestedTransactionalConsumer 단위 테스트
+ */
+@DisplayName("RefundRequestedTransactionalConsumer 테스트")
+class RefundRequestedTransactionalConsumerTest {
+
+    private static final String TOPIC = "refund-requested";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final ProcessedEventJpaRepository processedEventRepository = mock(ProcessedEventJpaRepository.class);
+    private final PaymentEventOutboxJpaRepository outboxRepository = mock(PaymentEventOutboxJpaRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+
+    private final ProcessedEventStore processedEventStore = new ProcessedEventStore(
+            processedEventRepository, mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(), 100, 168);
+
+    private final RefundRequestedTransactionalConsumer transactionalConsumer = new RefundRequestedTransactionalConsumer(
+            paymentService, processedEventStore, outboxRepository, kafkaTemplate,
+            objectMapper, mock(AvroEventCodec.class), new SimpleMeterRegistry(),
+            4, 2, 1, true, false);
+
+    @Test
+    @DisplayName("처리 중 저장한 Outbox 이벤트를 원본 레코드로 조회해 같은 Kafka 트랜잭션으로 발행한다")
+    void processed_SendsEventsStoredForSourceRecord() throws Exception {
+        // given
+        AtomicReference<String> sourceDuringRefund = new AtomicReference<>();
+        given(paymentService.refundPayment(any(), any(), any(), any())).willAnswer(invocation -> {
+            sourceDuringRefund.set(OutboxSourceContext.current().orElse(null));
+            return null;
+        });
+        given(outboxRepository.findBySourceRecordOrderByIdAsc("refund-requested-0@10"))
+                .willReturn(List.of(outbox("PAY-A", "refund-requested-0@10")));
+
+        // when
+        transactionalConsumer.handleRefundRequestedBatch(List.of(record(10, null, "PAY-A")));
+
+        // then
+        assertThat(sourceDuringRefund.get()).isEqualTo("refund-requested-0@10");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        assertThat(captor.getValue().topic()).isEqualTo("payment-refunded");
+        assertThat(captor.getValue().key()).isEqualTo("ORDER-PAY-A");
+    }
+
+    @Test
+    @DisplayName("이미 처리한 레코드를 다시 받으면 환불하지 않고 저장된 이벤트만 다시 발행한다")
+    void redelivered_ReplaysStoredEventsWithoutRefund() throws Exception {
+        // given - DB 커밋 후 Kafka 트랜잭션이 중단되어 같은 offset을 다시 수신
+        given(processedEventRepository.existsById("EVT-1")).willReturn(true);
+        given(outboxRepository.findBySourceRecordOrderByIdAsc("refund-requested-0@10"))
+                .willReturn(List.of(outbox("PAY-A", "refund-requested-0@10")));
+
+        // when
+        transactionalConsumer.handleRefundRequestedBatch(List.of(record(10, "EVT-1", "PAY-A")));
+
+        // then
+        verifyNoInteractions(paymentService);
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("재시도 불가 오류는 커밋된 실패 이벤트와 함께 원본 레코드를 DLT로 보낸다")
+    void nonRetryable_SendsFailureEventsAndDeadLetters() throws Exception {
+        // given
+        given(paymentService.refundPayment(any(), any(), any(), any()))
+                .willThrow(new RefundException(PaymentErrorCode.REFUND_NOT_ALLOWED));
+        given(outboxRepository.findBySourceRecordOrderByIdAsc("refund-requested-0@3"))
+                .willReturn(List.of(outbox("PAY-A", "refund-requested-0@3")));
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+
+        // when
+        transactionalConsumer.handleRefundRequestedBatch(List.of(record(3, null, "PAY-A")));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(captor.capture());
+        assertThat(captor.getAllValues()).extracting(ProducerRecord::topic)
+                .containsExactly("payment-refunded", "refund-requested-dlt");
+        verify(paymentService, times(1)).refundPayment(any(), any(), any(), any());
+        verify(paymentService, never()).recordRefundRetriesExhausted(any(), any());
+    }
+
+    @Test
+    @DisplayName("PG 일시 장애는 같은 레코드를 재시도하고 한도를 넘으면 실패 이벤트를 기록해 함께 발행한 뒤 DLT로 보낸다")
+    void retryable_RetriedThenDeadLettered() throws Exception {
+        // given - PG 취소 결과가 불확실한 실패는 롤백 후 PgException (실패 이벤트 없음)
+        given(paymentService.refundPayment(any(), any(), any(), any()))
+                .willThrow(new PgException(PaymentErrorCode.PG_SYSTEM_ERROR));
+        AtomicReference<String> sourceDuringRecord = new AtomicReference<>();
+        willAnswer(invocation -> {
+            sourceDuringRecord.set(OutboxSourceContext.current().orElse(null));
+            return null;
+        }).given(paymentService).recordRefundRetriesExhausted(eq("PAY-A"), any());
+        given(outboxRepository.findBySourceRecordOrderByIdAsc("refund-requested-0@0"))
+                .willReturn(List.of(outbox("PAY-A", "refund-requested-0@0")));
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+
+        // when
+        transactionalConsumer.handleRefundRequestedBatch(List.of(record(0, null, "PAY-A")));
+
+        // then - 재시도 소진 시에만 실패 이벤트 1건 기록
+        verify(paymentService, times(2)).refundPayment(any(), any(), any(), any());
+        verify(paymentService, times(1)).recordRefundRetriesExhausted(eq("PAY-A"), any());
+        assertThat(sourceDuringRecord.get()).isEqualTo("refund-requested-0@0");
+        verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("Outbox를 사용하지 않으면 기동에 실패한다")
+    void outboxDisabled_FailsStartup() {
+        // when & then
+        assertThatThrownBy(() -> new RefundRequestedTransactionalConsumer(
+                paymentService, processedEventStore, outboxRepository, kafkaTemplate,
+                objectMapper, mock(AvroEventCodec.class), new SimpleMeterRegistry(),
+                4, 2, 1, false, false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("발행할 이벤트를 조회하지 못하면 아무것도 보내지 않고 예외로 Kafka 트랜잭션을 중단시킨다")
+    void lookupFailed_AbortsTransaction() throws Exception {
+        // given
+        given(outboxRepository.findBySourceRecordOrderByIdAsc("refund-requested-0@1"))
+                .willThrow(new QueryTimeoutException("timeout"));
+        given(outboxRepository.findBySourceRecordOrderByIdAsc("refund-requested-0@0"))
+                .willReturn(List.of(outbox("PAY-A", "refund-requested-0@0")));
+
+        // when & then
+        assertThatThrownBy(() -> transactionalConsumer.handleRefundRequestedBatch(List.of(
+                record(0, null, "PAY-A"),
+                record(1, null, "PAY-B"))))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(QueryTimeoutException.class);
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    private ConsumerRecord<String, byte[]> record(long offset, String eventId, String paymentId) throws Exception {
+        RefundRequestedEvent event = RefundRequestedEvent.builder()
+                .eventId(eventId)
+                .eventType("REFUND_REQUESTED")
+                .paymentId(paymentId)
+                .orderId("ORDER-" + paymentId)
+                .refundReason("상품 취소")
+                .refundAmount(new BigDecimal("1000"))
+                .build();
+        return new ConsumerRecord<>(TOPIC, 0, offset, paymentId, objectMapper.writeValueAsBytes(event));
+    }
+
+    private static PaymentEventOutboxEntity outbox(String paymentId, String sourceRecord) {
+        return PaymentEventOutboxEntity.builder()
+                .aggregateId(paymentId)
+                .topic("payment-refunded")
+                .messageKey("ORDER-" + paymentId)
+                .eventType(PaymentRefundedEvent.class.getName())
+                .payload("{\"paymentId\":\"" + paymentId + "\"}")
+                .sourceRecord(sourceRecord)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<SendResult<String, Object>> sent() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+}
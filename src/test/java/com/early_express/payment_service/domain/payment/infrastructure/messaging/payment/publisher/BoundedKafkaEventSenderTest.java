@@ -0,0 +1,197 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEvent;
+import com.early_express.payment_service.global.infrastructure.event.header.EventHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * BoundedKafkaEventSender 단위 테스트
+ */
+@DisplayName("BoundedKafkaEventSender 테스트")
+class BoundedKafkaEventSenderTest {
+
+    private static final String TOPIC = "payment-refunded";
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final PaymentEventOutboxAppender outboxAppender = mock(PaymentEventOutboxAppender.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 전송 중 한도 1, 한도 대기 50ms, 3회 시도, 재시도 대기 1ms
+    private final BoundedKafkaEventSender sender = new BoundedKafkaEventSender(
+            kafkaTemplate, outboxAppender, meterRegistry, 1, 50, 3, 1);
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+    }
+
+    private static PaymentRefundedEvent event(String eventId) {
+        return PaymentRefundedEvent.builder()
+                .eventId(eventId)
+                .eventType("PAYMENT_REFUNDED")
+                .version("1.0")
+                .publisher("payment-service")
+                .paymentId("PAY-1")
+                .orderId("ORDER-1")
+                .refundAmount(new BigDecimal("10000"))
+                .build();
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> sent() {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC, "ORDER-1", "value");
+        RecordMetadata metadata = new RecordMetadata(new TopicPartition(TOPIC, 0), 0L, 0, 0L, 0, 0);
+        return CompletableFuture.completedFuture(new SendResult<>(record, metadata));
+    }
+
+    @Test
+    @DisplayName("ack를 받으면 전송 자리를 반환하고 메타데이터 헤더를 함께 보낸다")
+    @SuppressWarnings("unchecked")
+    void send_Acked_ReleasesPermit() {
+        // given
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+
+        // when
+        sender.send(TOPIC, "PAY-1", "ORDER-1", event("EVT-1"));
+
+        // then
+        assertThat(sender.inFlightCount()).isZero();
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        assertThat(captor.getValue().key()).isEqualTo("ORDER-1");
+        assertThat(EventHeaders.from(captor.getValue().headers()).eventId()).isEqualTo("EVT-1");
+        verifyNoInteractions(outboxAppender);
+    }
+
+    @Test
+    @DisplayName("전송 중 이벤트가 한도에 도달하면 대기 후 Outbox에 보관한다")
+    @SuppressWarnings("unchecked")
+    void send_InFlightLimit_ParksAfterTimeout() {
+        // given - 첫 이벤트의 ack가 오지 않음
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(new CompletableFuture<>());
+        sender.send(TOPIC, "PAY-1", "ORDER-1", event("EVT-1"));
+        PaymentRefundedEvent second = event("EVT-2");
+
+        // when
+        sender.send(TOPIC, "PAY-1", "ORDER-1", second);
+
+        // then
+        assertThat(sender.inFlightCount()).isEqualTo(1);
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        verify(outboxAppender).append(TOPIC, "PAY-1", "ORDER-1", second);
+        assertThat(meterRegistry.counter("kafka.publisher.parked", "reason", "backpressure").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 전송 자리를 기다리지 않고 바로 Outbox에 보관한다")
+    @SuppressWarnings("unchecked")
+    void send_InTransaction_ParksWithoutWaiting() {
+        // given - 한도 대기 5초, 첫 이벤트의 ack가 오지 않음
+        BoundedKafkaEventSender waitingSender = new BoundedKafkaEventSender(
+                kafkaTemplate, outboxAppender, meterRegistry, 1, 5_000, 3, 1);
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(new CompletableFuture<>());
+        waitingSender.send(TOPIC, "PAY-1", "ORDER-1", event("EVT-1"));
+        PaymentRefundedEvent second = event("EVT-2");
+
+        // when
+        long startNanos = System.nanoTime();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            waitingSender.send(TOPIC, "PAY-1", "ORDER-1", second);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            waitingSender.shutdown();
+        }
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofSeconds(1));
+        verify(outboxAppender).append(TOPIC, "PAY-1", "ORDER-1", second);
+    }
+
+    @Test
+    @DisplayName("일시적 오류는 새 레코드로 재전송한다")
+    @SuppressWarnings("unchecked")
+    void send_RetriableFailure_Retries() {
+        // given
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new TimeoutException("delivery timeout")))
+                .willReturn(sent());
+
+        // when
+        sender.send(TOPIC, "PAY-1", "ORDER-1", event("EVT-1"));
+
+        // then
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, timeout(1000).times(2)).send(captor.capture());
+        assertThat(captor.getAllValues().get(0)).isNotSameAs(captor.getAllValues().get(1));
+        await(() -> sender.inFlightCount() == 0);
+        verifyNoInteractions(outboxAppender);
+        assertThat(meterRegistry.counter("kafka.publisher.retries").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 소진하면 Outbox에 보관한다")
+    @SuppressWarnings("unchecked")
+    void send_RetriesExhausted_Parks() {
+        // given
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willAnswer(invocation -> CompletableFuture.failedFuture(new TimeoutException("delivery timeout")));
+        PaymentRefundedEvent event = event("EVT-1");
+
+        // when
+        sender.send(TOPIC, "PAY-1", "ORDER-1", event);
+
+        // then
+        verify(outboxAppender, timeout(1000)).append(TOPIC, "PAY-1", "ORDER-1", event);
+        verify(kafkaTemplate, times(3)).send(any(ProducerRecord.class));
+        await(() -> sender.inFlightCount() == 0);
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 오류는 바로 Outbox에 보관한다")
+    @SuppressWarnings("unchecked")
+    void send_NonRetriableFailure_ParksImmediately() {
+        // given
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+        PaymentRefundedEvent event = event("EVT-1");
+
+        // when
+        sender.send(TOPIC, "PAY-1", "ORDER-1", event);
+
+        // then
+        verify(outboxAppender, timeout(1000)).append(TOPIC, "PAY-1", "ORDER-1", event);
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        await(() -> meterRegistry.counter("kafka.publisher.parked", "reason", "send-failed").count() == 1);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,52 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.relay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * PaymentEventOutboxNotificationListener 단위 테스트
+ */
+@DisplayName("PaymentEventOutboxNotificationListener 테스트")
+class PaymentEventOutboxNotificationListenerTest {
+
+    private final PaymentEventOutboxRelay relay = mock(PaymentEventOutboxRelay.class);
+
+    private final PaymentEventOutboxNotificationListener listener = new PaymentEventOutboxNotificationListener(
+            mock(DataSource.class), relay, 1000, 1000);
+
+    @Test
+    @DisplayName("알림받은 shard만 한 번씩 발행 작업을 제출한다")
+    void dispatch_SubmitsNotifiedShards() {
+        // when
+        listener.dispatch(new PGNotification[]{notification("3"), notification("3"), notification("5")});
+
+        // then
+        verify(relay).submit(3);
+        verify(relay).submit(5);
+        verify(relay, times(2)).submit(anyInt());
+        verify(relay, never()).relay();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 payload를 받으면 전체 shard를 발행한다")
+    void dispatch_UnknownPayload_RelaysAll() {
+        // when
+        listener.dispatch(new PGNotification[]{notification("not-a-shard")});
+
+        // then
+        verify(relay).relay();
+        verify(relay, never()).submit(anyInt());
+    }
+
+    private PGNotification notification(String payload) {
+        PGNotification notification = mock(PGNotification.class);
+        given(notification.getParameter()).willReturn(payload);
+        return notification;
+    }
+}
@@ -0,0 +1,234 @@
+package com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.relay;
+
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.entity.PaymentEventOutboxEntity;
+import com.early_express.payment_service.domain.payment.infrastructure.persistence.jpa.PaymentEventOutboxJpaRepository;
+import com.early_express.payment_service.global.infrastructure.event.codec.SerializedEvent;
+import com.early_express.payment_service.global.infrastructure.event.header.EventHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * PaymentEventOutboxRelay 단위 테스트
+ */
+@DisplayName("PaymentEventOutboxRelay 테스트")
+class PaymentEventOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 3;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PaymentEventOutboxJpaRepository outboxRepository = mock(PaymentEventOutboxJpaRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+
+    private final PaymentEventOutboxRelay relay = new PaymentEventOutboxRelay(
+            outboxRepository, kafkaTemplate, mock(PlatformTransactionManager.class),
+            meterRegistry, 1, BATCH_SIZE, 1000, 30000, MAX_ATTEMPTS, 24, false);
+
+    @Test
+    @DisplayName("잠근 이벤트를 id 순서로 발행하고 모두 발행 완료로 표시한다")
+    void relayBatch_AllSent() {
+        // given
+        List<PaymentEventOutboxEntity> batch = List.of(outbox(1L, "ORDER-1"), outbox(2L, "ORDER-1"));
+        given(outboxRepository.tryAdvisoryXactLock(anyString())).willReturn(true);
+        given(outboxRepository.lockPendingBatch(0, BATCH_SIZE)).willReturn(batch);
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+
+        // when
+        int sent = relay.relayBatch(0);
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        verify(outboxRepository).claim(eq(List.of(1L, 2L)), any());
+        verify(outboxRepository).markSent(eq(List.of(1L, 2L)), any());
+        verify(outboxRepository, never()).recordFailure(anyLong(), anyString(), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(captor.capture());
+        ProducerRecord<String, Object> first = captor.getAllValues().get(0);
+        assertThat(first.topic()).isEqualTo("payment-refunded");
+        assertThat(first.key()).isEqualTo("ORDER-1");
+        assertThat(first.value()).isInstanceOf(SerializedEvent.class);
+        assertThat(EventHeaders.from(first.headers()))
+                .isEqualTo(new EventHeaders("EVT-1", "PAYMENT_REFUNDED", "1.0", "payment-service"));
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 앞선 이벤트까지만 발행 완료로 표시하고 실패를 기록한다")
+    void relayBatch_PartialFailure() {
+        // given
+        List<PaymentEventOutboxEntity> batch = List.of(
+                outbox(1L, "ORDER-1"), outbox(2L, "ORDER-1"), outbox(3L, "ORDER-1"));
+        given(outboxRepository.tryAdvisoryXactLock(anyString())).willReturn(true);
+        given(outboxRepository.lockPendingBatch(0, BATCH_SIZE)).willReturn(batch);
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(sent())
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .willReturn(sent());
+
+        // when
+        int sent = relay.relayBatch(0);
+
+        // then
+        assertThat(sent).isEqualTo(-1);
+        verify(outboxRepository).markSent(eq(List.of(1L)), any());
+        verify(outboxRepository).recordFailure(eq(2L), contains("broker down"),
+                eq(PaymentEventOutboxEntity.Status.PENDING));
+        verify(outboxRepository).releaseClaims(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("재시도해도 같은 결과인 발행 오류는 바로 FAILED로 종료해 shard를 막지 않는다")
+    void relayBatch_PermanentFailure_MarkedFailed() {
+        // given
+        given(outboxRepository.tryAdvisoryXactLock(anyString())).willReturn(true);
+        given(outboxRepository.lockPendingBatch(0, BATCH_SIZE)).willReturn(List.of(outbox(1L, "ORDER-1")));
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+
+        // when
+        relay.relayBatch(0);
+
+        // then
+        verify(outboxRepository).recordFailure(eq(1L), contains("too large"),
+                eq(PaymentEventOutboxEntity.Status.FAILED));
+        assertThat(meterRegistry.counter("payment.outbox.dead").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발행 시도 횟수가 max-attempts에 이르면 FAILED로 종료한다")
+    void relayBatch_MaxAttempts_MarkedFailed() {
+        // given - 이미 2번 실패한 이벤트
+        PaymentEventOutboxEntity event = outbox(1L, "ORDER-1");
+        ReflectionTestUtils.setField(event, "attempts", MAX_ATTEMPTS - 1);
+        given(outboxRepository.tryAdvisoryXactLock(anyString())).willReturn(true);
+        given(outboxRepository.lockPendingBatch(0, BATCH_SIZE)).willReturn(List.of(event));
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        relay.relayBatch(0);
+
+        // then
+        verify(outboxRepository).recordFailure(eq(1L), anyString(), eq(PaymentEventOutboxEntity.Status.FAILED));
+    }
+
+    @Test
+    @DisplayName("다른 작업자가 선점해 응답을 기다리는 이벤트가 있으면 shard를 선점하지 않는다")
+    void relayBatch_ActiveClaim_Skipped() {
+        // given
+        given(outboxRepository.tryAdvisoryXactLock(anyString())).willReturn(true);
+        given(outboxRepository.existsActiveClaim(eq(0), any())).willReturn(true);
+
+        // when
+        int sent = relay.relayBatch(0);
+
+        // then
+        assertThat(sent).isZero();
+        verify(outboxRepository, never()).lockPendingBatch(anyInt(), anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 작업자가 shard를 발행 중이면 조회하지 않는다")
+    void relayBatch_ShardLocked() {
+        // given
+        given(outboxRepository.tryAdvisoryXactLock(anyString())).willReturn(false);
+
+        // when
+        int sent = relay.relayBatch(0);
+
+        // then
+        assertThat(sent).isZero();
+        verify(outboxRepository, never()).lockPendingBatch(anyInt(), anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 남은 이벤트가 없을 때까지 이어서 발행한다")
+    void drain_UntilBatchNotFull() {
+        // given
+        given(outboxRepository.tryAdvisoryXactLock(anyString())).willReturn(true);
+        given(outboxRepository.lockPendingBatch(0, BATCH_SIZE))
+                .willReturn(List.of(outbox(1L, "A"), outbox(2L, "B"), outbox(3L, "C")))
+                .willReturn(List.of(outbox(4L, "A")));
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+
+        // when
+        relay.drain(0);
+
+        // then
+        verify(outboxRepository, times(2)).lockPendingBatch(0, BATCH_SIZE);
+        verify(outboxRepository).markSent(eq(List.of(4L)), any());
+    }
+
+    @Test
+    @DisplayName("발행 중에 들어온 알림은 버리지 않고 진행 중인 작업이 끝난 뒤 한 번 더 발행한다")
+    void submit_WhileDraining_RelaysAgain() throws Exception {
+        // given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch secondBatch = new CountDownLatch(1);
+        given(outboxRepository.tryAdvisoryXactLock(anyString())).willReturn(true);
+        given(outboxRepository.lockPendingBatch(0, BATCH_SIZE))
+                .willAnswer(invocation -> {
+                    firstBatchStarted.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                })
+                .willAnswer(invocation -> {
+                    secondBatch.countDown();
+                    return List.of();
+                });
+
+        relay.submit(0);
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        relay.submit(0);
+        release.countDown();
+
+        // then
+        assertThat(secondBatch.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(outboxRepository, timeout(1000).times(2)).lockPendingBatch(0, BATCH_SIZE);
+    }
+
+    private PaymentEventOutboxEntity outbox(Long id, String key) {
+        PaymentEventOutboxEntity entity = PaymentEventOutboxEntity.builder()
+                .aggregateId("PAY-1")
+                .topic("payment-refunded")
+                .messageKey(key)
+                .eventType("com.example.PaymentRefundedEvent")
+                .payload("{\"orderId\":\"" + key + "\"}")
+                .headers("{\"eventId\":\"EVT-" + id + "\",\"eventType\":\"PAYMENT_REFUNDED\","
+                        + "\"version\":\"1.0\",\"publisher\":\"payment-service\"}")
+                .build();
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<SendResult<String, Object>> sent() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+}
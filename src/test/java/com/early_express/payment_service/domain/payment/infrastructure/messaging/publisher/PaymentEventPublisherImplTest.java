@@ -2,9 +2,12 @@ package com.early_express.payment_service.domain.payment.infrastructure.messagin
 
 import com.early_express.payment_service.domain.payment.domain.messaging.PaymentRefundFailedEventData;
 import com.early_express.payment_service.domain.payment.domain.messaging.PaymentRefundedEventData;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundFailedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher.BoundedKafkaEventSender;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.publisher.PaymentEventPublisherImpl;
+import com.early_express.payment_service.global.infrastructure.event.base.BaseEvent;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,13 +16,10 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -27,14 +27,17 @@ import static org.mockito.BDDMockito.*;
 
 /**
  * PaymentEventPublisher 단위 테스트
- * Mockito를 사용하여 Kafka 의존성 없이 테스트
+ * BoundedKafkaEventSender를 Mock으로 대체하여 Kafka 의존성 없이 테스트
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PaymentEventPublisher 단위 테스트")
 class PaymentEventPublisherImplTest {
 
+    private static final String REFUNDED_TOPIC = "payment-refunded";
+    private static final String REFUND_FAILED_TOPIC = "payment-refund-failed";
+
     @Mock
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private BoundedKafkaEventSender eventSender;
 
     @InjectMocks
     private PaymentEventPublisherImpl eventPublisher;
@@ -43,37 +46,24 @@ class PaymentEventPublisherImplTest {
     private ArgumentCaptor<String> topicCaptor;
 
     @Captor
-    private ArgumentCaptor<String> keyCaptor;
+    private ArgumentCaptor<String> aggregateIdCaptor;
 
     @Captor
-    private ArgumentCaptor<Object> eventCaptor;
-
-    /**
-     * Mock SendResult 생성 헬퍼 메서드
-     */
-    private CompletableFuture<SendResult<String, Object>> createMockFuture() {
-        CompletableFuture<SendResult<String, Object>> future = new CompletableFuture<>();
-
-        ProducerRecord<String, Object> producerRecord =
-                new ProducerRecord<>("payment-service-events", "test-key", new Object());
-
-        RecordMetadata metadata = new RecordMetadata(
-                new TopicPartition("payment-service-events", 0),
-                0L, 0, 0L, 0, 0
-        );
+    private ArgumentCaptor<String> keyCaptor;
 
-        SendResult<String, Object> sendResult = new SendResult<>(producerRecord, metadata);
-        future.complete(sendResult);
+    @Captor
+    private ArgumentCaptor<BaseEvent> eventCaptor;
 
-        return future;
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(eventPublisher, "paymentRefundedTopic", REFUNDED_TOPIC);
+        ReflectionTestUtils.setField(eventPublisher, "paymentRefundFailedTopic", REFUND_FAILED_TOPIC);
     }
 
     @Test
-    @DisplayName("PaymentRefundedEvent 발행 - Kafka로 전송된다")
+    @DisplayName("PaymentRefundedEvent 발행 - 발행기로 전달된다")
     void publishPaymentRefunded_Success() {
         // given
-        ReflectionTestUtils.setField(eventPublisher, "applicationName", "payment-service");
-
         PaymentRefundedEventData eventData = PaymentRefundedEventData.builder()
                 .paymentId("payment-123")
                 .orderId("ORDER-001")
@@ -85,30 +75,27 @@ class PaymentEventPublisherImplTest {
                 .refundedAt(LocalDateTime.now())
                 .build();
 
-        given(kafkaTemplate.send(anyString(), anyString(), any()))
-                .willReturn(createMockFuture());
-
         // when
         eventPublisher.publishPaymentRefunded(eventData);
 
         // then
-        verify(kafkaTemplate).send(
+        verify(eventSender).send(
                 topicCaptor.capture(),
+                aggregateIdCaptor.capture(),
                 keyCaptor.capture(),
                 eventCaptor.capture()
         );
 
-        assertThat(topicCaptor.getValue()).isEqualTo("payment-service-events");
+        assertThat(topicCaptor.getValue()).isEqualTo(REFUNDED_TOPIC);
+        assertThat(aggregateIdCaptor.getValue()).isEqualTo("payment-123");
         assertThat(keyCaptor.getValue()).isEqualTo("ORDER-001");
-        assertThat(eventCaptor.getValue()).isNotNull();
+        assertThat(eventCaptor.getValue()).isInstanceOf(PaymentRefundedEvent.class);
     }
 
     @Test
-    @DisplayName("PaymentRefundFailedEvent 발행 - Kafka로 전송된다")
+    @DisplayName("PaymentRefundFailedEvent 발행 - 발행기로 전달된다")
     void publishPaymentRefundFailed_Success() {
         // given
-        ReflectionTestUtils.setField(eventPublisher, "applicationName", "payment-service");
-
         PaymentRefundFailedEventData eventData = PaymentRefundFailedEventData.builder()
                 .paymentId("payment-456")
                 .orderId("ORDER-002")
@@ -117,30 +104,27 @@ class PaymentEventPublisherImplTest {
                 .failedAt(LocalDateTime.now())
                 .build();
 
-        given(kafkaTemplate.send(anyString(), anyString(), any()))
-                .willReturn(createMockFuture());
-
         // when
         eventPublisher.publishPaymentRefundFailed(eventData);
 
         // then
-        verify(kafkaTemplate).send(
+        verify(eventSender).send(
                 topicCaptor.capture(),
+                aggregateIdCaptor.capture(),
                 keyCaptor.capture(),
                 eventCaptor.capture()
         );
 
-        assertThat(topicCaptor.getValue()).isEqualTo("payment-service-events");
+        assertThat(topicCaptor.getValue()).isEqualTo(REFUND_FAILED_TOPIC);
+        assertThat(aggregateIdCaptor.getValue()).isEqualTo("payment-456");
         assertThat(keyCaptor.getValue()).isEqualTo("ORDER-002");
-        assertThat(eventCaptor.getValue()).isNotNull();
+        assertThat(eventCaptor.getValue()).isInstanceOf(PaymentRefundFailedEvent.class);
     }
 
     @Test
-    @DisplayName("여러 이벤트 연속 발행 - 모두 전송된다")
+    @DisplayName("여러 이벤트 연속 발행 - 모두 전달된다")
     void publishMultipleEvents_Success() {
         // given
-        ReflectionTestUtils.setField(eventPublisher, "applicationName", "payment-service");
-
         PaymentRefundedEventData event1 = PaymentRefundedEventData.builder()
                 .paymentId("payment-001")
                 .orderId("ORDER-001")
@@ -163,23 +147,18 @@ class PaymentEventPublisherImplTest {
                 .refundedAt(LocalDateTime.now())
                 .build();
 
-        given(kafkaTemplate.send(anyString(), anyString(), any()))
-                .willReturn(createMockFuture());
-
         // when
         eventPublisher.publishPaymentRefunded(event1);
         eventPublisher.publishPaymentRefunded(event2);
 
         // then
-        verify(kafkaTemplate, times(2)).send(anyString(), anyString(), any());
+        verify(eventSender, times(2)).send(eq(REFUNDED_TOPIC), eq("payment-001"), eq("ORDER-001"), any());
     }
 
     @Test
     @DisplayName("부분 환불 이벤트 발행 - fullRefund=false")
     void publishPartialRefund_Success() {
         // given
-        ReflectionTestUtils.setField(eventPublisher, "applicationName", "payment-service");
-
         PaymentRefundedEventData eventData = PaymentRefundedEventData.builder()
                 .paymentId("payment-789")
                 .orderId("ORDER-003")
@@ -191,22 +170,18 @@ class PaymentEventPublisherImplTest {
                 .refundedAt(LocalDateTime.now())
                 .build();
 
-        given(kafkaTemplate.send(anyString(), anyString(), any()))
-                .willReturn(createMockFuture());
-
         // when
         eventPublisher.publishPaymentRefunded(eventData);
 
         // then
-        verify(kafkaTemplate).send(anyString(), eq("ORDER-003"), any());
+        verify(eventSender).send(anyString(), anyString(), eq("ORDER-003"), eventCaptor.capture());
+        assertThat(((PaymentRefundedEvent) eventCaptor.getValue()).isFullRefund()).isFalse();
     }
 
     @Test
     @DisplayName("환불 실패 이벤트 - 에러 메시지 포함")
     void publishRefundFailed_WithErrorMessage() {
         // given
-        ReflectionTestUtils.setField(eventPublisher, "applicationName", "payment-service");
-
         PaymentRefundFailedEventData eventData = PaymentRefundFailedEventData.builder()
                 .paymentId("payment-error")
                 .orderId("ORDER-ERROR")
@@ -215,22 +190,18 @@ class PaymentEventPublisherImplTest {
                 .failedAt(LocalDateTime.now())
                 .build();
 
-        given(kafkaTemplate.send(anyString(), anyString(), any()))
-                .willReturn(createMockFuture());
-
         // when
         eventPublisher.publishPaymentRefundFailed(eventData);
 
         // then
-        verify(kafkaTemplate).send(anyString(), eq("ORDER-ERROR"), any());
+        verify(eventSender).send(anyString(), anyString(), eq("ORDER-ERROR"), eventCaptor.capture());
+        assertThat(((PaymentRefundFailedEvent) eventCaptor.getValue()).getErrorMessage()).isEqualTo("환불 한도 초과");
     }
 
     @Test
     @DisplayName("전액 환불 이벤트 발행 - fullRefund=true")
     void publishFullRefund_Success() {
         // given
-        ReflectionTestUtils.setField(eventPublisher, "applicationName", "payment-service");
-
         PaymentRefundedEventData eventData = PaymentRefundedEventData.builder()
                 .paymentId("payment-full")
                 .orderId("ORDER-FULL")
@@ -242,17 +213,15 @@ class PaymentEventPublisherImplTest {
                 .refundedAt(LocalDateTime.now())
                 .build();
 
-        given(kafkaTemplate.send(anyString(), anyString(), any()))
-                .willReturn(createMockFuture());
-
         // when
         eventPublisher.publishPaymentRefunded(eventData);
 
         // then
-        verify(kafkaTemplate).send(
-                eq("payment-service-events"),
+        verify(eventSender).send(
+                eq(REFUNDED_TOPIC),
+                eq("payment-full"),
                 eq("ORDER-FULL"),
                 any()
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.early_express.payment_service.global.common.deadline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DeadlineContext 단위 테스트
+ */
+@DisplayName("DeadlineContext 테스트")
+class DeadlineContextTest {
+
+    @Test
+    @DisplayName("범위를 벗어나면 이전 기한으로 복원한다")
+    void open_RestoresPrevious() {
+        // given
+        Deadline outer = Deadline.after(Duration.ofSeconds(10));
+        Deadline inner = Deadline.after(Duration.ofSeconds(1));
+
+        // when & then
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(outer)) {
+            try (DeadlineContext.Scope ignored2 = DeadlineContext.open(inner)) {
+                assertThat(DeadlineContext.current()).containsSame(inner);
+            }
+            assertThat(DeadlineContext.current()).containsSame(outer);
+        }
+        assertThat(DeadlineContext.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기한이 지나면 checkpoint에서 DeadlineExceededException이 발생한다")
+    void checkpoint_Expired_Throws() {
+        // given
+        Deadline expired = Deadline.after(Duration.ZERO);
+
+        // when & then
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(expired)) {
+            assertThatThrownBy(() -> DeadlineContext.checkpoint("PG 결제 조회"))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .extracting("step")
+                    .isEqualTo("PG 결제 조회");
+        }
+    }
+
+    @Test
+    @DisplayName("기한이 없으면 checkpoint는 무시하고 대기 시간도 그대로 둔다")
+    void noDeadline_NoOp() {
+        // when & then
+        assertThatCode(() -> DeadlineContext.checkpoint("PG 결제 조회")).doesNotThrowAnyException();
+        assertThat(DeadlineContext.capMillis(30_000)).isEqualTo(30_000);
+    }
+
+    @Test
+    @DisplayName("대기 시간은 남은 기한 이내로 제한한다")
+    void capMillis_LimitedByRemaining() {
+        // given
+        Deadline deadline = Deadline.after(Duration.ofMillis(500));
+
+        // when & then
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(deadline)) {
+            assertThat(DeadlineContext.capMillis(30_000)).isLessThanOrEqualTo(500);
+            assertThat(DeadlineContext.capMillis(100)).isEqualTo(100);
+        }
+    }
+
+    @Test
+    @DisplayName("wrap으로 감싼 작업은 다른 스레드에서도 같은 기한을 사용한다")
+    void wrap_PropagatesToOtherThread() throws Exception {
+        // given
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+
+        CompletableFuture<Boolean> future;
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(deadline)) {
+            future = CompletableFuture.supplyAsync(DeadlineContext.wrap(
+                    () -> DeadlineContext.current().filter(current -> current == deadline).isPresent()));
+        }
+
+        // when & then
+        assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
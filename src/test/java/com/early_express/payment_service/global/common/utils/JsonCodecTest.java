@@ -0,0 +1,74 @@
+package com.early_express.payment_service.global.common.utils;
+
+import com.early_express.payment_service.domain.payment.infrastructure.client.toss.dto.TossPaymentVerifyResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JsonCodec 단위 테스트
+ */
+@DisplayName("JsonCodec 테스트")
+class JsonCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    @DisplayName("ObjectMapper가 엄격 모드여도 모르는 필드는 건너뛴다")
+    void read_UnknownFieldsSkipped() throws Exception {
+        // given
+        JsonCodec<TossPaymentVerifyResponse> codec = JsonCodec.of(objectMapper, TossPaymentVerifyResponse.class);
+        String json = """
+                {"paymentKey":"key-1","status":"DONE","totalAmount":15000,
+                 "card":{"issuerCode":"61","number":"43301234****123*"},
+                 "easyPay":null,"receipt":{"url":"https://receipt"},"mId":"tosspayments"}
+                """;
+
+        // when
+        TossPaymentVerifyResponse response = codec.read(json.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(response.getPaymentKey()).isEqualTo("key-1");
+        assertThat(response.isDone()).isTrue();
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("15000");
+    }
+
+    @Test
+    @DisplayName("버퍼를 재사용해도 반환된 바이트 배열은 서로 독립적이다")
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void write_ReusedBuffer_IndependentResults() throws Exception {
+        // given
+        JsonCodec<Map> codec = JsonCodec.of(objectMapper, Map.class);
+
+        // when
+        byte[] first = codec.write(Map.of("orderId", "ORDER-1"));
+        byte[] second = codec.write(Map.of("orderId", "ORDER-2"));
+
+        // then
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("{\"orderId\":\"ORDER-1\"}");
+        assertThat(new String(second, StandardCharsets.UTF_8)).isEqualTo("{\"orderId\":\"ORDER-2\"}");
+    }
+
+    @Test
+    @DisplayName("ObjectMapper와 같은 형식으로 직렬화한다")
+    void write_SameAsObjectMapper() throws Exception {
+        // given
+        JsonCodec<TossPaymentVerifyResponse> codec = JsonCodec.of(objectMapper, TossPaymentVerifyResponse.class);
+        TossPaymentVerifyResponse response = TossPaymentVerifyResponse.builder()
+                .paymentKey("key-1")
+                .status("DONE")
+                .build();
+
+        // when & then
+        assertThat(codec.write(response)).isEqualTo(objectMapper.writeValueAsBytes(response));
+    }
+}
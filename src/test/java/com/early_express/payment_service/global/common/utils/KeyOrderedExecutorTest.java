@@ -0,0 +1,91 @@
+package com.early_express.payment_service.global.common.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * KeyOrderedExecutor 단위 테스트
+ */
+@DisplayName("KeyOrderedExecutor 테스트")
+class KeyOrderedExecutorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final KeyOrderedExecutor<String> keyOrderedExecutor = new KeyOrderedExecutor<>(executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 제출 순서대로 하나씩 실행한다")
+    void sameKey_RunsInOrder() throws Exception {
+        // given
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> last = null;
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            int sequence = i;
+            last = keyOrderedExecutor.submit("PAY-1", () -> executed.add(sequence));
+        }
+        last.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(executed).hasSize(50).isSorted();
+    }
+
+    @Test
+    @DisplayName("다른 키의 작업은 앞선 키의 작업이 끝나기를 기다리지 않는다")
+    void differentKeys_RunInParallel() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = keyOrderedExecutor.submit("PAY-1", () -> await(release));
+
+        // when
+        CompletableFuture<Void> other = keyOrderedExecutor.submit("PAY-2", () -> { });
+
+        // then
+        other.get(5, TimeUnit.SECONDS);
+        assertThat(blocked).isNotDone();
+
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("앞선 작업이 실패해도 같은 키의 다음 작업을 실행하고, 끝난 키는 제거한다")
+    void previousFailed_NextStillRuns() throws Exception {
+        // given
+        CompletableFuture<Void> failed = keyOrderedExecutor.submit("PAY-1", () -> {
+            throw new IllegalStateException("PG 오류");
+        });
+
+        // when
+        CompletableFuture<Void> next = keyOrderedExecutor.submit("PAY-1", () -> { });
+
+        // then
+        next.get(5, TimeUnit.SECONDS);
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(keyOrderedExecutor.activeKeyCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
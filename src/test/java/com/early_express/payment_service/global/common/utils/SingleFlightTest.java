@@ -0,0 +1,135 @@
+package com.early_express.payment_service.global.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SingleFlight 단위 테스트
+ */
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 실행하고 결과를 공유한다")
+    void sameKey_ExecutesOnce() throws Exception {
+        // given
+        int callers = 5;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<SingleFlight.Result<String>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> singleFlight.executeForResult("pg-1", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "payment-1";
+            })));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < callers; i++) {
+                futures.add(executor.submit(() -> singleFlight.executeForResult("pg-1", () -> {
+                    executions.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            waitForFollowers();
+
+            // when
+            release.countDown();
+
+            // then
+            int shared = 0;
+            for (Future<SingleFlight.Result<String>> future : futures) {
+                SingleFlight.Result<String> result = future.get(5, TimeUnit.SECONDS);
+                assertThat(result.value()).isEqualTo("payment-1");
+                if (result.shared()) {
+                    shared++;
+                }
+            }
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(shared).isEqualTo(callers - 1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("대표 요청이 실패하면 대기 중인 요청도 같은 예외를 받는다")
+    void leaderFails_PropagatesToFollowers() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("pg-1", () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("PG 오류");
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<String> follower = executor.submit(() -> singleFlight.execute("pg-1", () -> "unused"));
+            waitForFollowers();
+
+            // when
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("PG 오류");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("완료된 요청의 결과는 캐시하지 않고 다음 요청에서 다시 실행한다")
+    void completed_NotCached() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        singleFlight.execute("pg-1", () -> "first-" + executions.incrementAndGet());
+        String second = singleFlight.execute("pg-1", () -> "second-" + executions.incrementAndGet());
+
+        // then
+        assertThat(second).isEqualTo("second-2");
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 후속 요청이 대표 요청 결과를 기다리기 시작할 시간을 준다
+     */
+    private static void waitForFollowers() throws InterruptedException {
+        Thread.sleep(100);
+    }
+}
@@ -0,0 +1,66 @@
+package com.early_express.payment_service.global.config;
+
+import com.early_express.payment_service.global.common.deadline.Deadline;
+import com.early_express.payment_service.global.common.deadline.DeadlineContext;
+import com.early_express.payment_service.global.common.deadline.DeadlineExceededException;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * DeadlineAwareJpaTransactionManager 단위 테스트
+ */
+@DisplayName("DeadlineAwareJpaTransactionManager 테스트")
+class DeadlineAwareJpaTransactionManagerTest {
+
+    private final DeadlineAwareJpaTransactionManager transactionManager =
+            new DeadlineAwareJpaTransactionManager(mock(EntityManagerFactory.class));
+
+    @Test
+    @DisplayName("기한이 지났으면 트랜잭션을 시작하지 않고 DeadlineExceededException을 그대로 전파한다")
+    void expired_ThrowsDeadlineExceeded() {
+        // given
+        Deadline expired = Deadline.after(Duration.ZERO);
+
+        // when & then
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(expired)) {
+            assertThatThrownBy(() -> transactionManager.getTransaction(new RuleBasedTransactionAttribute()))
+                    .isInstanceOf(DeadlineExceededException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("남은 기한으로 트랜잭션 타임아웃을 줄인다")
+    void remainingDeadline_CapsTimeout() {
+        // given
+        Deadline deadline = Deadline.after(Duration.ofSeconds(3));
+
+        // when & then
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(deadline)) {
+            assertThat(transactionManager.determineTimeout(new RuleBasedTransactionAttribute())).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("PG 부수효과를 기록하는 트랜잭션은 기한으로 타임아웃을 줄이지 않는다")
+    void pgSideEffect_KeepsTimeout() {
+        // given
+        Deadline deadline = Deadline.after(Duration.ofSeconds(3));
+        RuleBasedTransactionAttribute attribute = new RuleBasedTransactionAttribute();
+        attribute.setLabels(List.of(DeadlineAwareJpaTransactionManager.PG_SIDE_EFFECT_LABEL));
+
+        // when & then
+        try (DeadlineContext.Scope ignored = DeadlineContext.open(deadline)) {
+            assertThat(transactionManager.determineTimeout(attribute))
+                    .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+        }
+    }
+}
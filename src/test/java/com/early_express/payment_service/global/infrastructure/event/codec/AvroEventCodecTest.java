@@ -0,0 +1,177 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEventAvroMapping;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundFailedEventAvroMapping;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEventAvroMapping;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Avro 이벤트 코덱 테스트 (파일 스키마 저장소 사용)
+ */
+@DisplayName("Avro 이벤트 코덱 테스트")
+class AvroEventCodecTest {
+
+    private static final String TOPIC = "payment-refunded";
+
+    @TempDir
+    Path directory;
+
+    private FileEventSchemaRegistry registry;
+    private AvroEventCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        registry = new FileEventSchemaRegistry(directory);
+        codec = new AvroEventCodec(registry, List.of(
+                new PaymentRefundedEventAvroMapping(),
+                new PaymentRefundFailedEventAvroMapping(),
+                new RefundRequestedEventAvroMapping()));
+    }
+
+    private static PaymentRefundedEvent refundedEvent() {
+        return PaymentRefundedEvent.builder()
+                .eventId("EVT-1")
+                .eventType("PAYMENT_REFUNDED")
+                .timestamp(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .version("1.0")
+                .publisher("payment-service")
+                .paymentId("PAY-1")
+                .orderId("ORDER-1")
+                .refundAmount(new BigDecimal("10000.50"))
+                .totalRefundedAmount(new BigDecimal("10000.50"))
+                .refundReason("고객 요청")
+                .fullRefund(true)
+                .refundedAt(LocalDateTime.of(2025, 1, 1, 12, 0, 5))
+                .build();
+    }
+
+    private static ConsumerRecord<String, byte[]> record(byte[] value, RecordHeaders headers) {
+        return new ConsumerRecord<>(TOPIC, 0, 0L, 0L, TimestampType.CREATE_TIME, 0, value.length,
+                "ORDER-1", value, headers, Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Avro로 발행한 이벤트를 헤더의 스키마 id로 다시 읽는다")
+    void serializeAndRead_RoundTrip() throws Exception {
+        // given
+        AvroEventSerializer serializer = new AvroEventSerializer(codec);
+        RecordHeaders headers = new RecordHeaders();
+
+        // when
+        byte[] value = serializer.serialize(TOPIC, headers, refundedEvent());
+        PaymentRefundedEvent read = EventPayloadReader
+                .of(JacksonUtils.enhancedObjectMapper(), codec, PaymentRefundedEvent.class)
+                .read(record(value, headers));
+
+        // then
+        assertThat(AvroEventCodec.schemaId(headers)).isNotNull();
+        assertThat(value.length).isLessThan(new EventJsonSerializer().serialize(TOPIC, refundedEvent()).length);
+        assertThat(read.getEventId()).isEqualTo("EVT-1");
+        assertThat(read.getRefundAmount()).isEqualTo(new BigDecimal("10000.50"));
+        assertThat(read.getRefundedAt()).isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 0, 5));
+        assertThat(read.isFullRefund()).isTrue();
+        assertThat(read.getPgRefundId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Outbox에 저장된 JSON 이벤트도 Avro로 발행한다")
+    void serialize_OutboxJson_ToAvro() throws Exception {
+        // given
+        AvroEventSerializer serializer = new AvroEventSerializer(codec);
+        byte[] json = new EventJsonSerializer().serialize(TOPIC, refundedEvent());
+        RecordHeaders headers = new RecordHeaders();
+
+        // when
+        byte[] value = serializer.serialize(TOPIC, headers,
+                new SerializedEvent(PaymentRefundedEvent.class.getName(), json));
+
+        // then
+        Integer schemaId = AvroEventCodec.schemaId(headers);
+        assertThat(schemaId).isNotNull();
+        assertThat(codec.decode(schemaId, value, PaymentRefundedEvent.class).getOrderId()).isEqualTo("ORDER-1");
+    }
+
+    @Test
+    @DisplayName("스키마 id 헤더가 없으면 JSON으로 읽는다 (전환 기간 호환)")
+    void read_WithoutSchemaId_Json() throws Exception {
+        // given
+        byte[] json = new EventJsonSerializer().serialize(TOPIC, refundedEvent());
+
+        // when
+        PaymentRefundedEvent read = EventPayloadReader
+                .of(JacksonUtils.enhancedObjectMapper(), codec, PaymentRefundedEvent.class)
+                .read(record(json, new RecordHeaders()));
+
+        // then
+        assertThat(read.getPaymentId()).isEqualTo("PAY-1");
+    }
+
+    @Test
+    @DisplayName("필드가 적은 이전 스키마로 작성된 이벤트도 읽는다")
+    void decode_OlderWriterSchema() throws Exception {
+        // given
+        Schema older = SchemaBuilder.record("RefundRequestedEvent")
+                .namespace("com.early_express.payment.event")
+                .fields()
+                .optionalString("eventId")
+                .optionalString("paymentId")
+                .optionalString("orderId")
+                .endRecord();
+        int olderId = registry.register(older);
+
+        GenericRecord written = new GenericData.Record(older);
+        written.put("eventId", "EVT-9");
+        written.put("paymentId", "PAY-9");
+        written.put("orderId", "ORDER-9");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(older).write(written, encoder);
+        encoder.flush();
+
+        // when
+        RefundRequestedEvent read = codec.decode(olderId, out.toByteArray(), RefundRequestedEvent.class);
+
+        // then
+        assertThat(read.getPaymentId()).isEqualTo("PAY-9");
+        assertThat(read.getRefundAmount()).isNull();
+        assertThat(read.getRequestedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("스키마 저장소가 없는 코덱은 지원 타입이 없고 Avro 레코드를 디코딩하지 않는다")
+    void disabled_NoAvro() throws Exception {
+        // given
+        AvroEventCodec.Encoded encoded = codec.encode(refundedEvent());
+        AvroEventCodec disabled = AvroEventCodec.disabled();
+
+        // when & then
+        assertThat(disabled.supports(PaymentRefundedEvent.class)).isFalse();
+        assertThatThrownBy(() -> disabled.decode(encoded.schemaId(), encoded.payload(), PaymentRefundedEvent.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
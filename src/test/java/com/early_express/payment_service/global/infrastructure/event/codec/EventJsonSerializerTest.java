@@ -0,0 +1,145 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.payment.event.PaymentRefundedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 이벤트 JSON 코덱 테스트
+ */
+@DisplayName("이벤트 JSON 코덱 테스트")
+class EventJsonSerializerTest {
+
+    private final EventJsonSerializer serializer = new EventJsonSerializer();
+
+    @Test
+    @DisplayName("JsonSerializer와 같은 본문과 타입 헤더를 만든다")
+    void serialize_SameAsJsonSerializer() {
+        // given
+        PaymentRefundedEvent event = PaymentRefundedEvent.builder()
+                .paymentId("PAY-1")
+                .orderId("ORDER-1")
+                .refundAmount(new BigDecimal("10000"))
+                .fullRefund(true)
+                .refundedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+        RecordHeaders expectedHeaders = new RecordHeaders();
+        RecordHeaders actualHeaders = new RecordHeaders();
+
+        try (JsonSerializer<Object> jsonSerializer = new JsonSerializer<>()) {
+            // when
+            byte[] expected = jsonSerializer.serialize("payment-refunded", expectedHeaders, event);
+            byte[] actual = serializer.serialize("payment-refunded", actualHeaders, event);
+
+            // then
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actualHeaders.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME).value())
+                    .isEqualTo(expectedHeaders.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME).value());
+        }
+    }
+
+    @Test
+    @DisplayName("미리 직렬화한 이벤트는 저장된 본문과 타입 헤더를 그대로 사용한다")
+    void serialize_SerializedEventPassThrough() {
+        // given
+        PaymentRefundedEvent event = PaymentRefundedEvent.builder()
+                .paymentId("PAY-1")
+                .orderId("ORDER-1")
+                .refundAmount(new BigDecimal("10000"))
+                .build();
+        RecordHeaders expectedHeaders = new RecordHeaders();
+        RecordHeaders actualHeaders = new RecordHeaders();
+        byte[] expected = serializer.serialize("payment-refunded", expectedHeaders, event);
+
+        // when
+        byte[] actual = serializer.serialize("payment-refunded", actualHeaders,
+                new SerializedEvent(PaymentRefundedEvent.class.getName(), expected));
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actualHeaders.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME).value())
+                .isEqualTo(expectedHeaders.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME).value());
+    }
+
+    @Test
+    @DisplayName("수신한 바이트 메시지는 본문과 헤더를 바꾸지 않고 재발행한다")
+    void serialize_RawBytesPassThrough() {
+        // given
+        byte[] value = "{\"paymentId\":\"PAY-1\"}".getBytes(StandardCharsets.UTF_8);
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                "com.example.RefundRequestedEvent".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        byte[] actual = serializer.serialize("refund-requested-retry-0", headers, value);
+
+        // then
+        assertThat(actual).isSameAs(value);
+        assertThat(new String(headers.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME).value(),
+                StandardCharsets.UTF_8)).isEqualTo("com.example.RefundRequestedEvent");
+    }
+
+    @Test
+    @DisplayName("바이트 메시지를 @Payload 타입으로 바로 변환하고 모르는 필드는 건너뛴다")
+    void convert_BytesToPayload() {
+        // given
+        ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+        EventJsonMessageConverter converter = new EventJsonMessageConverter(objectMapper);
+        byte[] value = """
+                {"paymentId":"PAY-1","orderId":"ORDER-1","refundReason":"고객 요청","newField":"ignored"}
+                """.getBytes(StandardCharsets.UTF_8);
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("refund-requested", 0, 0L, "ORDER-1", value);
+
+        // when
+        Object payload = converter.extractAndConvertValue(record, RefundRequestedEvent.class);
+
+        // then
+        assertThat(payload).isInstanceOf(RefundRequestedEvent.class);
+        RefundRequestedEvent event = (RefundRequestedEvent) payload;
+        assertThat(event.getPaymentId()).isEqualTo("PAY-1");
+        assertThat(event.getRefundReason()).isEqualTo("고객 요청");
+    }
+
+    @Test
+    @DisplayName("Consumer가 이미 역직렬화한 이벤트는 다시 파싱하지 않고 그대로 전달한다")
+    void convert_DeserializedValuePassThrough() {
+        // given
+        EventJsonMessageConverter converter = new EventJsonMessageConverter(JacksonUtils.enhancedObjectMapper());
+        RefundRequestedEvent event = RefundRequestedEvent.builder().paymentId("PAY-1").build();
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("refund-requested", 0, 0L, "ORDER-1", event);
+
+        // when
+        Object payload = converter.extractAndConvertValue(record, RefundRequestedEvent.class);
+
+        // then
+        assertThat(payload).isSameAs(event);
+    }
+
+    @Test
+    @DisplayName("역직렬화된 이벤트를 JSON으로 재발행하면 원본의 Avro 스키마 헤더를 제거한다")
+    void serialize_RemovesCopiedSchemaIdHeader() {
+        // given
+        RefundRequestedEvent event = RefundRequestedEvent.builder().paymentId("PAY-1").build();
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(AvroEventCodec.SCHEMA_ID_HEADER, AvroEventCodec.schemaIdHeaderValue(42));
+
+        // when
+        serializer.serialize("refund-requested-retry-0", headers, event);
+
+        // then
+        assertThat(AvroEventCodec.schemaId(headers)).isNull();
+    }
+}
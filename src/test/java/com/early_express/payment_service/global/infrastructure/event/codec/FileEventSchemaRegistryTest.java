@@ -0,0 +1,106 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FileEventSchemaRegistry 테스트
+ */
+@DisplayName("FileEventSchemaRegistry 테스트")
+class FileEventSchemaRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    private static Schema schema(boolean withReason) {
+        SchemaBuilder.FieldAssembler<Schema> fields = SchemaBuilder.record("RefundRequestedEvent")
+                .namespace("com.example")
+                .fields()
+                .optionalString("paymentId");
+        if (withReason) {
+            fields = fields.optionalString("refundReason");
+        }
+        return fields.endRecord();
+    }
+
+    @Test
+    @DisplayName("같은 스키마는 몇 번 등록해도 같은 id를 받는다")
+    void register_SameSchema_SameId() {
+        // given
+        FileEventSchemaRegistry registry = new FileEventSchemaRegistry(directory);
+
+        // when
+        int first = registry.register(schema(false));
+        int second = registry.register(schema(false));
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(directory.resolve(first + ".avsc")).exists();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 등록한 스키마를 같은 디렉터리에서 찾는다")
+    void getById_RegisteredByOtherInstance() {
+        // given
+        FileEventSchemaRegistry writer = new FileEventSchemaRegistry(directory);
+        FileEventSchemaRegistry reader = new FileEventSchemaRegistry(directory);
+        int id = writer.register(schema(true));
+
+        // when
+        Schema found = reader.getById(id);
+
+        // then
+        assertThat(found).isEqualTo(schema(true));
+    }
+
+    @Test
+    @DisplayName("기본값이 있는 필드 추가는 등록하고 새 id를 준다")
+    void register_CompatibleChange_NewId() {
+        // given
+        FileEventSchemaRegistry registry = new FileEventSchemaRegistry(directory);
+        int v1 = registry.register(schema(false));
+
+        // when
+        int v2 = registry.register(schema(true));
+
+        // then
+        assertThat(v2).isNotEqualTo(v1);
+        assertThat(registry.getById(v1)).isEqualTo(schema(false));
+    }
+
+    @Test
+    @DisplayName("기존 이벤트를 읽을 수 없는 변경은 등록하지 않는다")
+    void register_IncompatibleChange_Throws() {
+        // given
+        FileEventSchemaRegistry registry = new FileEventSchemaRegistry(directory);
+        registry.register(schema(false));
+        Schema required = SchemaBuilder.record("RefundRequestedEvent")
+                .namespace("com.example")
+                .fields()
+                .optionalString("paymentId")
+                .requiredString("orderId")
+                .endRecord();
+
+        // when & then
+        assertThatThrownBy(() -> registry.register(required))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 id는 예외")
+    void getById_Unknown_Throws() {
+        // given
+        FileEventSchemaRegistry registry = new FileEventSchemaRegistry(directory);
+
+        // when & then
+        assertThatThrownBy(() -> registry.getById(42))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
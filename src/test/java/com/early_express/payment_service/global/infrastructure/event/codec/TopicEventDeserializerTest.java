@@ -0,0 +1,127 @@
+package com.early_express.payment_service.global.infrastructure.event.codec;
+
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEvent;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedEventAvroMapping;
+import com.early_express.payment_service.domain.payment.infrastructure.messaging.order.event.RefundRequestedTopicMapping;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 토픽별 이벤트 타입 역직렬화기 테스트
+ */
+@DisplayName("토픽별 이벤트 타입 역직렬화기 테스트")
+class TopicEventDeserializerTest {
+
+    private static final String TOPIC = "refund-requested";
+
+    private static final byte[] JSON = """
+            {"eventId":"EVT-1","paymentId":"PAY-1","orderId":"ORDER-1","refundAmount":5000,"newField":"ignored"}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    private AvroEventCodec codec;
+    private TopicEventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        codec = new AvroEventCodec(new FileEventSchemaRegistry(directory),
+                List.of(new RefundRequestedEventAvroMapping()));
+        deserializer = new TopicEventDeserializer(JacksonUtils.enhancedObjectMapper(), codec,
+                List.of(new RefundRequestedTopicMapping(TOPIC)));
+    }
+
+    @Test
+    @DisplayName("fetch 버퍼의 값 구간만 읽어 토픽에 매핑된 이벤트로 변환한다")
+    void deserialize_JsonFromBufferSlice() {
+        // given - 앞뒤에 다른 레코드 바이트가 있는 버퍼에서 값 구간만 노출
+        byte[] fetched = new byte[JSON.length + 16];
+        System.arraycopy(JSON, 0, fetched, 8, JSON.length);
+        ByteBuffer value = ByteBuffer.wrap(fetched, 8, JSON.length).slice();
+
+        // when
+        Object result = deserializer.deserialize(TOPIC, new RecordHeaders(), value);
+
+        // then
+        assertThat(result).isInstanceOf(RefundRequestedEvent.class);
+        RefundRequestedEvent event = (RefundRequestedEvent) result;
+        assertThat(event.getPaymentId()).isEqualTo("PAY-1");
+        assertThat(event.getRefundAmount()).isEqualByComparingTo("5000");
+        assertThat(value.remaining()).isEqualTo(JSON.length);
+    }
+
+    @Test
+    @DisplayName("__SchemaId__ 헤더가 있으면 Avro로 읽는다")
+    void deserialize_Avro() throws Exception {
+        // given
+        RefundRequestedEvent event = RefundRequestedEvent.builder()
+                .eventId("EVT-1")
+                .eventType("REFUND_REQUESTED")
+                .timestamp(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .version("1.0")
+                .publisher("order-service")
+                .paymentId("PAY-1")
+                .orderId("ORDER-1")
+                .refundAmount(new BigDecimal("5000"))
+                .requestedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+        AvroEventCodec.Encoded encoded = codec.encode(event);
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(AvroEventCodec.SCHEMA_ID_HEADER, AvroEventCodec.schemaIdHeaderValue(encoded.schemaId()));
+
+        // when
+        Object result = deserializer.deserialize(TOPIC, headers, ByteBuffer.wrap(encoded.payload()));
+
+        // then
+        assertThat(result).isInstanceOf(RefundRequestedEvent.class);
+        assertThat(((RefundRequestedEvent) result).getOrderId()).isEqualTo("ORDER-1");
+    }
+
+    @Test
+    @DisplayName("재시도 토픽과 DLT에도 원래 토픽의 타입을 적용한다")
+    void deserialize_RetryAndDltTopics() {
+        // when & then
+        assertThat(deserializer.deserialize(TOPIC + "-retry-0", new RecordHeaders(), JSON))
+                .isInstanceOf(RefundRequestedEvent.class);
+        assertThat(deserializer.deserialize(TOPIC + "-dlt", new RecordHeaders(), JSON))
+                .isInstanceOf(RefundRequestedEvent.class);
+        assertThat(deserializer.supports("payment-refunded")).isFalse();
+    }
+
+    @Test
+    @DisplayName("매핑이 없는 토픽은 바이트 그대로 전달한다")
+    void deserialize_UnmappedTopicAsBytes() {
+        // when
+        Object result = deserializer.deserialize("payment-refunded", new RecordHeaders(), ByteBuffer.wrap(JSON));
+
+        // then
+        assertThat(result).isEqualTo(JSON);
+    }
+
+    @Test
+    @DisplayName("파싱에 실패하면 예외 없이 바이트 그대로 전달한다 (리스너 변환 단계에서 오류 처리)")
+    void deserialize_InvalidPayloadAsBytes() {
+        // given
+        byte[] invalid = "not-json".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        Object result = deserializer.deserialize(TOPIC, new RecordHeaders(), ByteBuffer.wrap(invalid));
+
+        // then
+        assertThat(result).isEqualTo(invalid);
+    }
+}
@@ -0,0 +1,67 @@
+package com.early_express.payment_service.global.infrastructure.event.retry;
+
+import com.early_express.payment_service.domain.payment.domain.exception.PaymentErrorCode;
+import com.early_express.payment_service.domain.payment.domain.exception.PgException;
+import com.early_express.payment_service.domain.payment.domain.exception.RefundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * NonRetryableEventException 재시도 분류 테스트
+ */
+@DisplayName("NonRetryableEventException 테스트")
+class NonRetryableEventExceptionTest {
+
+    @Test
+    @DisplayName("환불 불가 상태 같은 4xx 도메인 오류는 재시도 불가로 분류한다")
+    void classify_ClientError_NonRetryable() {
+        // given
+        RefundException e = new RefundException(PaymentErrorCode.REFUND_NOT_ALLOWED);
+
+        // when
+        RuntimeException classified = NonRetryableEventException.classify(e);
+
+        // then
+        assertThat(classified).isInstanceOf(NonRetryableEventException.class)
+                .hasCause(e);
+    }
+
+    @Test
+    @DisplayName("PG 장애(5xx)와 요청 한도 초과(429)는 재시도 가능으로 분류한다")
+    void classify_ServerErrorOrRateLimited_Retryable() {
+        // given
+        RefundException processingFailed = new RefundException(PaymentErrorCode.REFUND_PROCESSING_FAILED);
+        PgException rateLimited = new PgException(PaymentErrorCode.PG_RATE_LIMITED);
+
+        // when & then
+        assertThat(NonRetryableEventException.classify(processingFailed)).isSameAs(processingFailed);
+        assertThat(NonRetryableEventException.classify(rateLimited)).isSameAs(rateLimited);
+    }
+
+    @Test
+    @DisplayName("감싼 예외가 아니라 원래 실패 원인으로 분류한다")
+    void classify_ByOriginalCause() {
+        // given
+        RefundException rejectedByPg = new RefundException(PaymentErrorCode.REFUND_PROCESSING_FAILED,
+                "결제 취소 중 오류가 발생했습니다", new RefundException(PaymentErrorCode.INVALID_CANCEL_REQUEST));
+        PgException pgFailure = new PgException(PaymentErrorCode.PG_SYSTEM_ERROR,
+                "결제 취소 중 오류가 발생했습니다", new RefundException(PaymentErrorCode.PG_SYSTEM_ERROR));
+
+        // when & then
+        assertThat(NonRetryableEventException.classify(rejectedByPg))
+                .isInstanceOf(NonRetryableEventException.class);
+        assertThat(NonRetryableEventException.classify(pgFailure)).isSameAs(pgFailure);
+    }
+
+    @Test
+    @DisplayName("도메인 오류가 아닌 예외는 재시도 가능으로 분류한다")
+    void classify_UnknownException_Retryable() {
+        // given
+        IllegalStateException e = new IllegalStateException("DB 연결 실패");
+
+        // when & then
+        assertThat(NonRetryableEventException.classify(e)).isSameAs(e);
+    }
+}
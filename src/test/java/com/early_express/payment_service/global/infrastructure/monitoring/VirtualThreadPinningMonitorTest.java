@@ -0,0 +1,82 @@
+package com.early_express.payment_service.global.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * VirtualThreadPinningMonitor 테스트 (실제 JFR 이벤트 수집)
+ */
+@DisplayName("VirtualThreadPinningMonitor 테스트")
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, 10, 60000);
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("synchronized 안에서 블로킹한 가상 스레드를 발생 위치와 함께 기록한다")
+    void pinnedInSynchronized_RecordsSite() throws Exception {
+        // given
+        monitor.start();
+
+        // when
+        Thread.ofVirtual().start(VirtualThreadPinningMonitorTest::sleepWhileHoldingMonitor).join();
+
+        // then
+        Timer timer = awaitTimer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.getId().getTag("kind")).isEqualTo("monitor");
+        assertThat(timer.getId().getTag("site"))
+                .startsWith(VirtualThreadPinningMonitorTest.class.getName());
+    }
+
+    @Test
+    @DisplayName("synchronized 밖에서 블로킹한 가상 스레드는 기록하지 않는다")
+    void unpinnedSleep_NotRecorded() throws Exception {
+        // given
+        monitor.start();
+
+        // when
+        Thread.ofVirtual().start(VirtualThreadPinningMonitorTest::sleep).join();
+        Thread.sleep(1500);
+
+        // then
+        assertThat(meterRegistry.find("jvm.threads.virtual.pinned").timer()).isNull();
+    }
+
+    private static void sleepWhileHoldingMonitor() {
+        Object lock = new Object();
+        synchronized (lock) {
+            sleep();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // RecordingStream은 약 1초 주기로 이벤트를 전달
+    private Timer awaitTimer() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            Timer timer = meterRegistry.find("jvm.threads.virtual.pinned").timer();
+            if (timer != null) {
+                return timer;
+            }
+            Thread.sleep(100);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.early_express.payment_service.support.toss;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시뮬레이터 응답 지연 분포
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    // 표준정규분포 99 백분위수 z값
+    double Z_99 = 2.326;
+
+    /**
+     * 이번 요청에 적용할 지연 시간 (ms)
+     */
+    long sampleMillis();
+
+    /**
+     * 지연 없음
+     */
+    static LatencyDistribution none() {
+        return () -> 0;
+    }
+
+    /**
+     * 고정 지연
+     */
+    static LatencyDistribution fixed(long millis) {
+        return () -> millis;
+    }
+
+    /**
+     * 균등 분포 [minMillis, maxMillis]
+     */
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+    }
+
+    /**
+     * 로그정규 분포 (실제 PG 응답처럼 긴 꼬리)
+     *
+     * @param medianMillis 중앙값 (p50)
+     * @param p99Millis 99 백분위수
+     */
+    static LatencyDistribution logNormal(long medianMillis, long p99Millis) {
+        if (medianMillis <= 0 || p99Millis < medianMillis) {
+            throw new IllegalArgumentException("0 < median <= p99 이어야 합니다.");
+        }
+        double mu = Math.log(medianMillis);
+        double sigma = Math.log((double) p99Millis / medianMillis) / Z_99;
+
+        return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+}
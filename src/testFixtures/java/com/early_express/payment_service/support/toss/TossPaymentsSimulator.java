@@ -0,0 +1,494 @@
+package com.early_express.payment_service.support.toss;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Toss Payments 호환 로컬 시뮬레이터
+ * 실제 Toss를 호출하지 않고 결제 검증/환불 부하 테스트와 장애 주입 테스트를 하기 위한 임베디드 HTTP 서버
+ *
+ * - GET  /v1/payments/{paymentKey}         결제 조회
+ * - POST /v1/payments/{paymentKey}/cancel  결제 취소 (전액/부분, Idempotency-Key 지원)
+ *
+ * 장애 주입
+ * - latency(): 지연 분포 (고정/균등/로그정규)
+ * - errorRate(): 무작위 500 (FAILED_INTERNAL_SYSTEM_PROCESSING) 비율
+ * - injectBurst(): 다음 N건을 지정 상태 코드로 실패 (예: 409, 500 연속 응답)
+ * - throttle(): 초당 최대 요청 수, 초과 시 429
+ *
+ * 사용: 테스트에서는 start(0) 후 client.toss-payments.url을 getBaseUrl()로 지정,
+ * 단독 실행은 ./gradlew runTossSimulator -Pport=18080
+ */
+public class TossPaymentsSimulator implements AutoCloseable {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final String PAYMENTS_PATH = "/v1/payments/";
+    private static final String CANCEL_SUFFIX = "/cancel";
+    private static final BigDecimal DEFAULT_AMOUNT = BigDecimal.valueOf(10_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, SimulatedPayment> payments = new ConcurrentHashMap<>();
+    private final Map<String, SimulatedResponse> idempotentResponses = new ConcurrentHashMap<>();
+    private final Map<Endpoint, AtomicLong> requestCounts = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Burst> bursts = new ConcurrentHashMap<>();
+
+    private volatile LatencyDistribution latency = LatencyDistribution.none();
+    private volatile double errorRate;
+    private volatile boolean autoCreatePayments = true;
+    private volatile int maxRequestsPerSecond;
+
+    private final AtomicLong throttleWindowSecond = new AtomicLong();
+    private final AtomicInteger throttleWindowCount = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public TossPaymentsSimulator() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            requestCounts.put(endpoint, new AtomicLong());
+        }
+    }
+
+    // ===== 실행 =====
+
+    /**
+     * 시뮬레이터 시작
+     *
+     * @param port 포트 (0이면 임의 포트)
+     */
+    public TossPaymentsSimulator start(int port) {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Toss 시뮬레이터 시작 실패 - port: " + port, e);
+        }
+
+        // 지연 주입 중 블로킹되어도 처리량이 제한되지 않도록 가상 스레드 사용
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(PAYMENTS_PATH, this::handle);
+        server.start();
+        return this;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    // ===== 설정 =====
+
+    public TossPaymentsSimulator latency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * 무작위 500 응답 비율 (0.0 ~ 1.0)
+     */
+    public TossPaymentsSimulator errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * 초당 최대 요청 수 (0이면 제한 없음), 초과 시 429
+     */
+    public TossPaymentsSimulator throttle(int maxRequestsPerSecond) {
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        return this;
+    }
+
+    /**
+     * 등록되지 않은 결제 키 조회 시 기본 금액의 완료 결제를 자동 생성할지 여부 (기본 true)
+     */
+    public TossPaymentsSimulator autoCreatePayments(boolean autoCreatePayments) {
+        this.autoCreatePayments = autoCreatePayments;
+        return this;
+    }
+
+    /**
+     * 다음 count건의 요청을 지정한 상태 코드로 실패시킴
+     *
+     * @param endpoint 대상 API
+     * @param status HTTP 상태 코드 (예: 409, 500)
+     * @param code Toss 에러 코드 (예: ALREADY_CANCELED_PAYMENT, FAILED_INTERNAL_SYSTEM_PROCESSING)
+     * @param count 실패시킬 요청 수
+     */
+    public TossPaymentsSimulator injectBurst(Endpoint endpoint, int status, String code, int count) {
+        bursts.put(endpoint, new Burst(status, code, new AtomicInteger(count)));
+        return this;
+    }
+
+    /**
+     * 완료 상태의 결제 등록
+     */
+    public TossPaymentsSimulator registerPayment(String paymentKey, BigDecimal amount) {
+        payments.put(paymentKey, SimulatedPayment.done(paymentKey, amount));
+        return this;
+    }
+
+    /**
+     * 장애 주입 설정과 통계 초기화 (등록된 결제는 유지)
+     */
+    public void resetFaults() {
+        latency = LatencyDistribution.none();
+        errorRate = 0;
+        maxRequestsPerSecond = 0;
+        bursts.clear();
+        requestCounts.values().forEach(count -> count.set(0));
+    }
+
+    /**
+     * 전체 초기화
+     */
+    public void reset() {
+        resetFaults();
+        payments.clear();
+        idempotentResponses.clear();
+        autoCreatePayments = true;
+    }
+
+    /**
+     * API별 수신 요청 수 (장애 주입으로 실패한 요청 포함)
+     */
+    public long requestCount(Endpoint endpoint) {
+        return requestCounts.get(endpoint).get();
+    }
+
+    /**
+     * 결제 잔여 금액 (취소 가능 금액)
+     */
+    public BigDecimal balanceAmount(String paymentKey) {
+        SimulatedPayment payment = payments.get(paymentKey);
+        return payment == null ? null : payment.balanceAmount;
+    }
+
+    // ===== 요청 처리 =====
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+
+            Endpoint endpoint;
+            String paymentKey;
+            if ("POST".equals(method) && path.endsWith(CANCEL_SUFFIX)) {
+                endpoint = Endpoint.CANCEL_PAYMENT;
+                paymentKey = path.substring(PAYMENTS_PATH.length(), path.length() - CANCEL_SUFFIX.length());
+            } else if ("GET".equals(method)) {
+                endpoint = Endpoint.GET_PAYMENT;
+                paymentKey = path.substring(PAYMENTS_PATH.length());
+            } else {
+                write(exchange, error(404, "NOT_FOUND", "지원하지 않는 API입니다."));
+                return;
+            }
+
+            requestCounts.get(endpoint).incrementAndGet();
+            byte[] body = exchange.getRequestBody().readAllBytes();
+
+            sleep(latency.sampleMillis());
+
+            SimulatedResponse fault = injectFault(endpoint);
+            if (fault != null) {
+                write(exchange, fault);
+                return;
+            }
+
+            SimulatedResponse response = switch (endpoint) {
+                case GET_PAYMENT -> getPayment(paymentKey);
+                case CANCEL_PAYMENT -> cancelPayment(
+                        paymentKey,
+                        exchange.getRequestHeaders().getFirst(IDEMPOTENCY_KEY_HEADER),
+                        body
+                );
+            };
+            write(exchange, response);
+        }
+    }
+
+    private SimulatedResponse injectFault(Endpoint endpoint) {
+        if (isThrottled()) {
+            return error(429, "TOO_MANY_REQUESTS", "요청이 너무 많습니다.");
+        }
+
+        Burst burst = bursts.get(endpoint);
+        if (burst != null && burst.remaining.getAndDecrement() > 0) {
+            return error(burst.status, burst.code, "시뮬레이터 장애 주입 (burst)");
+        }
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            return error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "시뮬레이터 장애 주입 (error-rate)");
+        }
+        return null;
+    }
+
+    private boolean isThrottled() {
+        int limit = maxRequestsPerSecond;
+        if (limit <= 0) {
+            return false;
+        }
+
+        long second = System.currentTimeMillis() / 1000;
+        long windowSecond = throttleWindowSecond.get();
+        if (second != windowSecond && throttleWindowSecond.compareAndSet(windowSecond, second)) {
+            throttleWindowCount.set(0);
+        }
+        return throttleWindowCount.incrementAndGet() > limit;
+    }
+
+    private SimulatedResponse getPayment(String paymentKey) {
+        SimulatedPayment payment = autoCreatePayments
+                ? payments.computeIfAbsent(paymentKey, key -> SimulatedPayment.done(key, DEFAULT_AMOUNT))
+                : payments.get(paymentKey);
+
+        if (payment == null) {
+            return error(404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다.");
+        }
+
+        synchronized (payment) {
+            return new SimulatedResponse(200, toJson(payment));
+        }
+    }
+
+    private SimulatedResponse cancelPayment(String paymentKey, String idempotencyKey, byte[] body) {
+        if (idempotencyKey != null) {
+            SimulatedResponse previous = idempotentResponses.get(idempotencyKey);
+            if (previous != null) {
+                return previous;
+            }
+        }
+
+        SimulatedPayment payment = payments.get(paymentKey);
+        if (payment == null) {
+            return error(404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다.");
+        }
+
+        JsonNode request = readTree(body);
+        String cancelReason = request.path("cancelReason").asText(null);
+        BigDecimal requestedAmount = request.hasNonNull("cancelAmount")
+                ? request.get("cancelAmount").decimalValue()
+                : null;
+
+        SimulatedResponse response;
+        synchronized (payment) {
+            // 동시에 같은 멱등키로 들어온 요청은 먼저 처리된 결과를 반환
+            if (idempotencyKey != null && idempotentResponses.containsKey(idempotencyKey)) {
+                return idempotentResponses.get(idempotencyKey);
+            }
+
+            response = applyCancel(payment, cancelReason, requestedAmount);
+
+            if (idempotencyKey != null) {
+                idempotentResponses.put(idempotencyKey, response);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * payment 잠금 보유 상태에서 호출
+     */
+    private SimulatedResponse applyCancel(SimulatedPayment payment, String cancelReason, BigDecimal requestedAmount) {
+        if (payment.balanceAmount.signum() == 0) {
+            return error(409, "ALREADY_CANCELED_PAYMENT", "이미 취소된 결제 입니다.");
+        }
+
+        BigDecimal cancelAmount = requestedAmount != null ? requestedAmount : payment.balanceAmount;
+        if (cancelAmount.signum() <= 0 || cancelAmount.compareTo(payment.balanceAmount) > 0) {
+            return error(400, "INVALID_REFUND_AMOUNT", "취소 금액이 취소 가능 금액을 초과합니다.");
+        }
+
+        payment.balanceAmount = payment.balanceAmount.subtract(cancelAmount);
+        payment.status = payment.balanceAmount.signum() == 0 ? "CANCELED" : "PARTIAL_CANCELED";
+        payment.cancels.add(new SimulatedCancel(
+                cancelAmount,
+                cancelReason,
+                now(),
+                "sim-cancel-" + UUID.randomUUID()
+        ));
+
+        return new SimulatedResponse(200, toJson(payment));
+    }
+
+    // ===== JSON =====
+
+    private byte[] toJson(SimulatedPayment payment) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("paymentKey", payment.paymentKey);
+        node.put("orderId", payment.orderId);
+        node.put("status", payment.status);
+        node.put("totalAmount", payment.totalAmount);
+        node.put("balanceAmount", payment.balanceAmount);
+        node.put("method", "카드");
+        node.put("transactionKey", payment.transactionKey);
+        node.put("requestedAt", payment.requestedAt.toString());
+        node.put("approvedAt", payment.approvedAt.toString());
+
+        ArrayNode cancels = node.putArray("cancels");
+        for (SimulatedCancel cancel : payment.cancels) {
+            ObjectNode cancelNode = cancels.addObject();
+            cancelNode.put("cancelAmount", cancel.cancelAmount);
+            cancelNode.put("cancelReason", cancel.cancelReason);
+            cancelNode.put("canceledAt", cancel.canceledAt.toString());
+            cancelNode.put("transactionKey", cancel.transactionKey);
+        }
+        return writeBytes(node);
+    }
+
+    private SimulatedResponse error(int status, String code, String message) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("code", code);
+        node.put("message", message);
+        return new SimulatedResponse(status, writeBytes(node));
+    }
+
+    private JsonNode readTree(byte[] body) {
+        if (body.length == 0) {
+            return objectMapper.createObjectNode();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+
+    private byte[] writeBytes(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void write(HttpExchange exchange, SimulatedResponse response) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, response.body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response.body);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Toss DTO가 LocalDateTime이므로 오프셋 없는 형식으로 응답
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    /**
+     * 단독 실행 (부하 테스트 대상)
+     * 인자: [port] (기본 18080)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+
+        TossPaymentsSimulator simulator = new TossPaymentsSimulator()
+                .latency(LatencyDistribution.logNormal(
+                        Long.getLong("toss.simulator.latency.median-ms", 80),
+                        Long.getLong("toss.simulator.latency.p99-ms", 600)))
+                .errorRate(Double.parseDouble(System.getProperty("toss.simulator.error-rate", "0")))
+                .throttle(Integer.getInteger("toss.simulator.max-rps", 0))
+                .start(port);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::close));
+        System.out.println("Toss Payments 시뮬레이터 실행 중 - " + simulator.getBaseUrl());
+        Thread.currentThread().join();
+    }
+
+    // ===== 내부 타입 =====
+
+    public enum Endpoint {
+        GET_PAYMENT, CANCEL_PAYMENT
+    }
+
+    private record Burst(int status, String code, AtomicInteger remaining) {
+    }
+
+    private record SimulatedResponse(int status, byte[] body) {
+    }
+
+    private record SimulatedCancel(
+            BigDecimal cancelAmount,
+            String cancelReason,
+            LocalDateTime canceledAt,
+            String transactionKey) {
+    }
+
+    private static class SimulatedPayment {
+
+        private final String paymentKey;
+        private final String orderId;
+        private final BigDecimal totalAmount;
+        private final String transactionKey;
+        private final LocalDateTime requestedAt;
+        private final LocalDateTime approvedAt;
+        private final List<SimulatedCancel> cancels = new ArrayList<>();
+        private BigDecimal balanceAmount;
+        private String status;
+
+        private SimulatedPayment(String paymentKey, BigDecimal totalAmount) {
+            LocalDateTime approvedAt = now();
+
+            this.paymentKey = paymentKey;
+            this.orderId = "sim-order-" + paymentKey;
+            this.totalAmount = totalAmount;
+            this.balanceAmount = totalAmount;
+            this.transactionKey = "sim-tx-" + UUID.randomUUID();
+            this.requestedAt = approvedAt.minusSeconds(1);
+            this.approvedAt = approvedAt;
+            this.status = "DONE";
+        }
+
+        private static SimulatedPayment done(String paymentKey, BigDecimal totalAmount) {
+            return new SimulatedPayment(paymentKey, totalAmount);
+        }
+    }
+}